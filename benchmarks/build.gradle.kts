@@ -0,0 +1,44 @@
+val edcGroup: String by project
+val edcVersion: String by project
+val mockitoVersion: String by project
+val postgresVersion: String by project
+val testcontainersVersion: String by project
+
+plugins {
+    `java-library`
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+dependencies {
+    jmh(project(":extensions:wrapper:wrapper"))
+    jmh(project(":extensions:wrapper:wrapper-common-mappers"))
+    jmh(project(":utils:catalog-parser"))
+    jmh(project(":utils:json-and-jsonld-utils"))
+    jmh(project(":extensions:policy-referring-connector"))
+    jmh(project(":extensions:policy-time-interval"))
+    jmh(project(":extensions:postgres-flyway"))
+    jmh("${edcGroup}:json-ld:${edcVersion}")
+    jmh("${edcGroup}:transform-core:${edcVersion}")
+    jmh("${edcGroup}:control-plane-sql:${edcVersion}")
+    jmh("${edcGroup}:sql-pool-apache-commons:${edcVersion}")
+    // Previous markdown rendering compared against in MarkdownToTextConverterBenchmark, includes Jsoup
+    jmh("com.vladsch.flexmark:flexmark-all:0.64.8")
+    jmh("org.postgresql:postgresql:${postgresVersion}")
+    jmh("org.testcontainers:postgresql:${testcontainersVersion}")
+    jmh("org.mockito:mockito-core:${mockitoVersion}")
+}
+
+jmh {
+    // Run with ./gradlew :benchmarks:jmh
+    // Filter with e.g. ./gradlew :benchmarks:jmh -PjmhIncludes=DspDataOfferBuilderBenchmark
+    if (project.hasProperty("jmhIncludes")) {
+        includes.set(listOf(project.property("jmhIncludes").toString()))
+    }
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    // The largest catalogs are held in memory as JSON-LD
+    jvmArgs.set(listOf("-Xmx4g"))
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+}
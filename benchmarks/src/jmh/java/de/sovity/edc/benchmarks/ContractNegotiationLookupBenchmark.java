@@ -0,0 +1,244 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.benchmarks;
+
+import de.sovity.edc.ext.wrapper.api.ui.pages.contract_agreements.services.ContractNegotiationIdCache;
+import de.sovity.edc.ext.wrapper.api.ui.pages.contract_agreements.services.ContractNegotiationUtils;
+import de.sovity.edc.ext.wrapper.api.ui.pages.dashboard.services.SelfDescriptionService;
+import de.sovity.edc.extension.postgresql.connection.MigrationDataSources;
+import de.sovity.edc.extension.postgresql.migration.DatabaseMigrationManager;
+import de.sovity.edc.extension.postgresql.migration.FlywayService;
+import de.sovity.edc.extension.postgresql.migration.MigrationChecksumMarker;
+import org.eclipse.edc.connector.contract.spi.negotiation.store.ContractNegotiationStore;
+import org.eclipse.edc.connector.contract.spi.types.agreement.ContractAgreement;
+import org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiation;
+import org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiationStates;
+import org.eclipse.edc.connector.contract.spi.types.offer.ContractOffer;
+import org.eclipse.edc.connector.spi.contractnegotiation.ContractNegotiationService;
+import org.eclipse.edc.connector.store.sql.contractnegotiation.store.SqlContractNegotiationStore;
+import org.eclipse.edc.connector.store.sql.contractnegotiation.store.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.service.spi.result.ServiceResult;
+import org.eclipse.edc.spi.monitor.ConsoleMonitor;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.system.configuration.ConfigFactory;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.sql.datasource.ConnectionPoolDataSource;
+import org.eclipse.edc.sql.pool.commons.CommonsConnectionPool;
+import org.eclipse.edc.sql.pool.commons.CommonsConnectionPoolConfig;
+import org.eclipse.edc.transaction.datasource.spi.DefaultDataSourceRegistry;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.postgresql.ds.PGSimpleDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Looks up contract negotiations by contract agreement ID via
+ * {@link ContractNegotiationUtils#findByContractAgreementIdOrThrow(String)}, backed by the EDC SQL contract negotiation
+ * store on a PostgreSQL database migrated by the Postgres Flyway extension.
+ * <ul>
+ *     <li>{@code none}: Without the {@code contract_negotiation_agreement_id_idx} index and without the cache.</li>
+ *     <li>{@code index}: With the index, without the cache.</li>
+ *     <li>{@code cache}: With the index and a warm {@link ContractNegotiationIdCache}, so lookups go by negotiation
+ *     ID.</li>
+ * </ul>
+ * The {@link ContractNegotiationService} only wraps the store in transactions, so it is replaced by a delegate to the
+ * store. Requires Docker.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ContractNegotiationLookupBenchmark {
+    private static final String DATASOURCE_NAME = "default";
+    private static final List<String> DATASOURCE_NAMES = List.of(
+            "asset",
+            "contractdefinition",
+            "policy",
+            "contractnegotiation",
+            "transferprocess",
+            "dataplaneinstance",
+            DATASOURCE_NAME
+    );
+
+    @Param({"100000"})
+    private int negotiations;
+
+    @Param({"none", "index", "cache"})
+    private String lookup;
+
+    private PostgreSQLContainer<?> container;
+    private CommonsConnectionPool connectionPool;
+    private ContractNegotiationUtils contractNegotiationUtils;
+
+    @Setup
+    public void setup() throws SQLException {
+        container = new PostgreSQLContainer<>("postgres:15-alpine");
+        container.start();
+        migrate();
+
+        var jdbcDataSource = new PGSimpleDataSource();
+        jdbcDataSource.setUrl(container.getJdbcUrl());
+        jdbcDataSource.setUser(container.getUsername());
+        jdbcDataSource.setPassword(container.getPassword());
+        connectionPool = new CommonsConnectionPool(
+                () -> getConnection(jdbcDataSource),
+                CommonsConnectionPoolConfig.Builder.newInstance().build()
+        );
+        var dataSourceRegistry = new DefaultDataSourceRegistry();
+        dataSourceRegistry.register(DATASOURCE_NAME, new ConnectionPoolDataSource(connectionPool));
+
+        var store = new SqlContractNegotiationStore(
+                dataSourceRegistry,
+                DATASOURCE_NAME,
+                new NoopTransactionContext(),
+                new TypeManager().getMapper(),
+                new PostgresDialectStatements(),
+                "benchmark",
+                Clock.systemUTC()
+        );
+        store.save(negotiation(0));
+        copyNegotiation();
+
+        var contractNegotiationIdCache = new ContractNegotiationIdCache(store, lookup.equals("cache") ? negotiations : 0);
+        if (lookup.equals("cache")) {
+            for (int i = 1; i <= negotiations; i++) {
+                contractNegotiationIdCache.put("agreement-" + i, "negotiation-" + i);
+            }
+        }
+
+        contractNegotiationUtils = new ContractNegotiationUtils(
+                contractNegotiationService(store),
+                mock(SelfDescriptionService.class),
+                contractNegotiationIdCache
+        );
+    }
+
+    @TearDown
+    public void tearDown() {
+        connectionPool.close();
+        container.stop();
+    }
+
+    @Benchmark
+    public ContractNegotiation findByContractAgreementId() {
+        var agreementId = "agreement-" + ThreadLocalRandom.current().nextInt(1, negotiations + 1);
+        return contractNegotiationUtils.findByContractAgreementIdOrThrow(agreementId);
+    }
+
+    private void migrate() {
+        var properties = new HashMap<String, String>();
+        DATASOURCE_NAMES.forEach(datasourceName -> {
+            properties.put("edc.datasource.%s.url".formatted(datasourceName), container.getJdbcUrl());
+            properties.put("edc.datasource.%s.user".formatted(datasourceName), container.getUsername());
+            properties.put("edc.datasource.%s.password".formatted(datasourceName), container.getPassword());
+        });
+        var monitor = new ConsoleMonitor();
+        try (var migrationDataSources = new MigrationDataSources()) {
+            var flywayService = new FlywayService(monitor, false, false, false, migrationDataSources, new MigrationChecksumMarker(), false);
+            new DatabaseMigrationManager(ConfigFactory.fromMap(properties), flywayService, monitor, false).migrateAllDataSources();
+        }
+    }
+
+    /**
+     * Copies the negotiation stored via the SQL store with new IDs, which is much faster than storing each one and
+     * does not depend on the table's columns.
+     */
+    private void copyNegotiation() throws SQLException {
+        try (var connection = DriverManager.getConnection(container.getJdbcUrl(), container.getUsername(), container.getPassword());
+             var statement = connection.createStatement()) {
+            statement.execute("""
+                    INSERT INTO edc_contract_agreement
+                    SELECT (jsonb_populate_record(a, jsonb_build_object('agr_id', 'agreement-' || i))).*
+                    FROM edc_contract_agreement a, generate_series(1, %1$d) i
+                    WHERE a.agr_id = 'agreement-0';
+                    INSERT INTO edc_contract_negotiation
+                    SELECT (jsonb_populate_record(n, jsonb_build_object(
+                        'id', 'negotiation-' || i,
+                        'correlation_id', 'correlation-' || i,
+                        'agreement_id', 'agreement-' || i
+                    ))).*
+                    FROM edc_contract_negotiation n, generate_series(1, %1$d) i
+                    WHERE n.id = 'negotiation-0';
+                    """.formatted(negotiations));
+            if (lookup.equals("none")) {
+                statement.execute("DROP INDEX contract_negotiation_agreement_id_idx");
+            }
+            statement.execute("ANALYZE");
+        }
+    }
+
+    private static ContractNegotiationService contractNegotiationService(ContractNegotiationStore store) {
+        var contractNegotiationService = mock(ContractNegotiationService.class);
+        when(contractNegotiationService.findbyId(anyString())).thenAnswer(invocation -> store.findById(invocation.getArgument(0)));
+        when(contractNegotiationService.query(any(QuerySpec.class))).thenAnswer(invocation -> {
+            // Collected, so the store's connection is released like in a transaction of the actual service
+            try (var negotiations = store.queryNegotiations(invocation.getArgument(0))) {
+                return ServiceResult.success(negotiations.toList().stream());
+            }
+        });
+        return contractNegotiationService;
+    }
+
+    private static ContractNegotiation negotiation(int i) {
+        var policy = Policy.Builder.newInstance().build();
+        return ContractNegotiation.Builder.newInstance()
+                .id("negotiation-" + i)
+                .correlationId("correlation-" + i)
+                .type(ContractNegotiation.Type.CONSUMER)
+                .state(ContractNegotiationStates.FINALIZED.code())
+                .counterPartyId("provider")
+                .counterPartyAddress("https://provider.example.com/api/dsp")
+                .protocol("dataspace-protocol-http")
+                .contractAgreement(ContractAgreement.Builder.newInstance()
+                        .id("agreement-" + i)
+                        .providerId("provider")
+                        .consumerId("consumer")
+                        .assetId("asset-" + i)
+                        .policy(policy)
+                        .build())
+                .contractOffer(ContractOffer.Builder.newInstance().id("offer-" + i).assetId("asset-" + i).policy(policy).build())
+                .build();
+    }
+
+    private static Connection getConnection(PGSimpleDataSource dataSource) {
+        try {
+            return dataSource.getConnection();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
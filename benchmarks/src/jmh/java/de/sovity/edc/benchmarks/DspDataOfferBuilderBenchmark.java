@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.benchmarks;
+
+import de.sovity.edc.benchmarks.fixtures.CatalogFixtures;
+import de.sovity.edc.utils.catalog.mapper.DspDataOfferBuilder;
+import de.sovity.edc.utils.catalog.model.DspCatalog;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.jsonld.TitaniumJsonLd;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Expands and maps whole DSP catalogs with MobilityDCAT-AP datasets and three-constraint contract offers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DspDataOfferBuilderBenchmark {
+    private static final String ENDPOINT = "https://provider.example.com/api/dsp";
+
+    @Param({"1000", "10000", "50000"})
+    private int datasets;
+
+    private DspDataOfferBuilder dataOfferBuilder;
+    private JsonObject catalog;
+
+    @Setup
+    public void setup() {
+        dataOfferBuilder = new DspDataOfferBuilder(new TitaniumJsonLd(mock(Monitor.class)));
+        catalog = CatalogFixtures.catalog(datasets, 3);
+    }
+
+    @Benchmark
+    public DspCatalog buildDataOffers() {
+        return dataOfferBuilder.buildDataOffers(ENDPOINT, catalog);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.benchmarks;
+
+import com.apicatalog.jsonld.JsonLd;
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.document.JsonDocument;
+import de.sovity.edc.benchmarks.fixtures.AssetFixtures;
+import de.sovity.edc.ext.wrapper.api.common.mappers.utils.AssetJsonLdUtils;
+import de.sovity.edc.ext.wrapper.api.common.mappers.utils.EdcPropertyUtils;
+import de.sovity.edc.ext.wrapper.api.common.mappers.utils.MarkdownToTextConverter;
+import de.sovity.edc.ext.wrapper.api.common.mappers.utils.TextUtils;
+import de.sovity.edc.ext.wrapper.api.common.mappers.utils.UiAssetMapper;
+import de.sovity.edc.utils.jsonld.JsonLdUtils;
+import de.sovity.edc.utils.jsonld.vocab.Prop;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.jsonld.TitaniumJsonLd;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Compacts an expanded MobilityDCAT-AP asset as done for every UI asset, and expands the keys of a custom transfer
+ * request as done for every custom transfer.
+ * <p>
+ * The {@code legacy} benchmarks replicate the previous implementation, which called Titanium with fresh options on every
+ * call, expanded twice in {@code expandKeysOnly} and compacted each UI asset's JSON-LD, properties and private
+ * properties separately.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonLdUtilsBenchmark {
+    private static final JsonDocument LEGACY_EMPTY_CONTEXT_DOCUMENT = JsonDocument.of(Json.createObjectBuilder()
+            .add(Prop.CONTEXT, Json.createObjectBuilder())
+            .build());
+
+    private JsonObject expandedAssetJsonLd;
+    private JsonObject transferRequestJsonLd;
+
+    @Setup
+    public void setup() {
+        var uiAssetMapper = new UiAssetMapper(
+                new EdcPropertyUtils(),
+                new AssetJsonLdUtils(),
+                new MarkdownToTextConverter(),
+                new TextUtils(),
+                endpoint -> false);
+        var assetJsonLd = uiAssetMapper.buildAssetJsonLd(AssetFixtures.mobilityAsset(1), "Example Mobility GmbH");
+        expandedAssetJsonLd = new TitaniumJsonLd(mock(Monitor.class)).expand(assetJsonLd).getContent();
+
+        transferRequestJsonLd = Json.createObjectBuilder()
+                .add(Prop.CONTEXT, Json.createObjectBuilder().add(Prop.Edc.CTX_ALIAS, Prop.Edc.CTX))
+                .add(Prop.TYPE, "edc:TransferRequest")
+                .add("edc:dataDestination", Json.createObjectBuilder()
+                        .add("edc:type", "HttpData")
+                        .add("edc:baseUrl", "https://consumer.example.com/sink"))
+                .add("edc:privateProperties", Json.createObjectBuilder()
+                        .add("edc:receiverHttpEndpoint", "https://consumer.example.com/pull-backend")
+                        .add("http://unknown/custom-prop", "value"))
+                .build();
+    }
+
+    @Benchmark
+    public JsonObject tryCompact() {
+        return JsonLdUtils.tryCompact(expandedAssetJsonLd);
+    }
+
+    @Benchmark
+    public JsonObject expandKeysOnly() {
+        return JsonLdUtils.expandKeysOnly(transferRequestJsonLd);
+    }
+
+    @Benchmark
+    public JsonObject perAssetCompaction() {
+        var compacted = JsonLdUtils.tryCompact(expandedAssetJsonLd);
+        JsonLdUtils.object(compacted, Prop.Edc.PROPERTIES);
+        return JsonLdUtils.object(compacted, Prop.Edc.PRIVATE_PROPERTIES);
+    }
+
+    @Benchmark
+    public JsonObject tryCompactLegacy() throws JsonLdError {
+        return legacyCompact(expandedAssetJsonLd);
+    }
+
+    @Benchmark
+    public JsonObject expandKeysOnlyLegacy() throws JsonLdError {
+        var expanded = JsonLd.expand(JsonDocument.of(transferRequestJsonLd)).get();
+        return JsonLd.compact(JsonDocument.of(expanded), LEGACY_EMPTY_CONTEXT_DOCUMENT).get();
+    }
+
+    @Benchmark
+    public JsonObject perAssetCompactionLegacy() throws JsonLdError {
+        legacyCompact(expandedAssetJsonLd);
+        legacyCompact(JsonLdUtils.object(expandedAssetJsonLd, Prop.Edc.PROPERTIES));
+        return legacyCompact(JsonLdUtils.object(expandedAssetJsonLd, Prop.Edc.PRIVATE_PROPERTIES));
+    }
+
+    private static JsonObject legacyCompact(JsonObject json) throws JsonLdError {
+        return JsonLd.compact(JsonDocument.of(json), LEGACY_EMPTY_CONTEXT_DOCUMENT).get();
+    }
+}
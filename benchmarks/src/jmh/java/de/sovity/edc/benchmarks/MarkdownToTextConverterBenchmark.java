@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.benchmarks;
+
+import com.vladsch.flexmark.html.HtmlRenderer;
+import com.vladsch.flexmark.parser.Parser;
+import com.vladsch.flexmark.util.data.MutableDataSet;
+import de.sovity.edc.ext.wrapper.api.common.mappers.utils.MarkdownToTextConverter;
+import org.jsoup.Jsoup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the short description extraction against the previous render-to-HTML-and-parse-with-Jsoup approach.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MarkdownToTextConverterBenchmark {
+    private static final int SHORT_DESCRIPTION_MAX_CHARACTERS = 300;
+
+    @Param({"1", "20", "200"})
+    private int sections;
+
+    private String markdown;
+    private MarkdownToTextConverter converter;
+
+    @Setup
+    public void setup() {
+        var section = """
+                ## Section title
+
+                Lorem ipsum dolor sit amet, **consectetur** adipiscing elit, sed do eiusmod tempor incididunt ut labore
+                et dolore magna aliqua. See [the documentation](https://example.com/docs) or `inline code`.
+
+                - First item
+                - Second item with ![an image](https://example.com/image.png)
+
+                ```json
+                {"key": "value"}
+                ```
+
+                """;
+        markdown = "# Asset Description\n\n" + section.repeat(sections);
+        converter = new MarkdownToTextConverter();
+    }
+
+    @Benchmark
+    public String extractShortDescription() {
+        return converter.extractText(markdown, SHORT_DESCRIPTION_MAX_CHARACTERS);
+    }
+
+    @Benchmark
+    public String extractFullText() {
+        return converter.extractText(markdown);
+    }
+
+    @Benchmark
+    public String renderHtmlAndParseWithJsoup() {
+        var options = new MutableDataSet();
+        var parser = Parser.builder(options).build();
+        var renderer = HtmlRenderer.builder(options).build();
+        var html = renderer.render(parser.parse(markdown));
+        var text = Jsoup.parse(html).text();
+        return text.substring(0, Math.min(SHORT_DESCRIPTION_MAX_CHARACTERS, text.length()));
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.benchmarks;
+
+import de.sovity.edc.extension.policy.PolicyEvaluationTimeFunction;
+import org.eclipse.edc.policy.engine.spi.PolicyContextImpl;
+import org.eclipse.edc.policy.model.Operator;
+import org.eclipse.edc.policy.model.Permission;
+import org.eclipse.edc.spi.monitor.ConsoleMonitor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Evaluates the time constraints of a whole catalog within one policy context, compared against the previous
+ * parse-and-compare on every evaluation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PolicyEvaluationTimeFunctionBenchmark {
+    private static final int POLICIES = 20;
+
+    @Param({"1000", "10000"})
+    private int offers;
+
+    private List<String> rightValues;
+    private PolicyEvaluationTimeFunction function;
+    private Permission permission;
+
+    @Setup
+    public void setup() {
+        var base = OffsetDateTime.parse("2030-01-01T00:00:00.000+01:00");
+        rightValues = IntStream.range(0, offers)
+                .mapToObj(offer -> base.plusDays(offer % POLICIES).toString())
+                .toList();
+        function = new PolicyEvaluationTimeFunction(new ConsoleMonitor());
+        permission = Permission.Builder.newInstance().build();
+    }
+
+    @Benchmark
+    public int evaluateCatalogCached() {
+        var context = PolicyContextImpl.Builder.newInstance().build();
+        var allowed = 0;
+        for (var rightValue : rightValues) {
+            if (function.evaluate(Operator.LT, rightValue, permission, context)) {
+                allowed++;
+            }
+        }
+        return allowed;
+    }
+
+    @Benchmark
+    public int evaluateCatalogParseEachTime() {
+        var allowed = 0;
+        for (var rightValue : rightValues) {
+            var policyDate = OffsetDateTime.parse(rightValue);
+            var nowDate = OffsetDateTime.now();
+            if (nowDate.isBefore(policyDate)) {
+                allowed++;
+            }
+        }
+        return allowed;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.benchmarks;
+
+import de.sovity.edc.benchmarks.fixtures.PolicyFixtures;
+import de.sovity.edc.ext.wrapper.api.common.mappers.OperatorMapper;
+import de.sovity.edc.ext.wrapper.api.common.mappers.PolicyMapper;
+import de.sovity.edc.ext.wrapper.api.common.mappers.utils.AtomicConstraintMapper;
+import de.sovity.edc.ext.wrapper.api.common.mappers.utils.ConstraintExtractor;
+import de.sovity.edc.ext.wrapper.api.common.mappers.utils.LiteralMapper;
+import de.sovity.edc.ext.wrapper.api.common.mappers.utils.PolicyValidator;
+import de.sovity.edc.ext.wrapper.api.common.model.UiPolicy;
+import de.sovity.edc.ext.wrapper.api.common.model.UiPolicyCreateRequest;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.core.transform.TypeTransformerRegistryImpl;
+import org.eclipse.edc.core.transform.transformer.from.JsonObjectFromPolicyTransformer;
+import org.eclipse.edc.core.transform.transformer.to.JsonObjectToActionTransformer;
+import org.eclipse.edc.core.transform.transformer.to.JsonObjectToConstraintTransformer;
+import org.eclipse.edc.core.transform.transformer.to.JsonObjectToDutyTransformer;
+import org.eclipse.edc.core.transform.transformer.to.JsonObjectToOperatorTransformer;
+import org.eclipse.edc.core.transform.transformer.to.JsonObjectToPermissionTransformer;
+import org.eclipse.edc.core.transform.transformer.to.JsonObjectToPolicyTransformer;
+import org.eclipse.edc.core.transform.transformer.to.JsonObjectToProhibitionTransformer;
+import org.eclipse.edc.core.transform.transformer.to.JsonValueToGenericTypeTransformer;
+import org.eclipse.edc.jsonld.TitaniumJsonLd;
+import org.eclipse.edc.jsonld.util.JacksonJsonLd;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Maps multi-constraint policies between the UI model, the Core EDC {@link Policy} and ODRL JSON-LD, using the Core
+ * EDC's policy transformers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PolicyMapperBenchmark {
+    @Param({"1", "10", "50"})
+    private int constraints;
+
+    private PolicyMapper policyMapper;
+    private UiPolicyCreateRequest createRequest;
+    private Policy policy;
+    private JsonObject expandedPolicyJsonLd;
+
+    @Setup
+    public void setup() {
+        var objectMapper = JacksonJsonLd.createObjectMapper();
+        var typeTransformerRegistry = new TypeTransformerRegistryImpl();
+        typeTransformerRegistry.register(new JsonObjectFromPolicyTransformer(Json.createBuilderFactory(Map.of())));
+        typeTransformerRegistry.register(new JsonObjectToPolicyTransformer());
+        typeTransformerRegistry.register(new JsonObjectToPermissionTransformer());
+        typeTransformerRegistry.register(new JsonObjectToProhibitionTransformer());
+        typeTransformerRegistry.register(new JsonObjectToDutyTransformer());
+        typeTransformerRegistry.register(new JsonObjectToActionTransformer());
+        typeTransformerRegistry.register(new JsonObjectToConstraintTransformer());
+        typeTransformerRegistry.register(new JsonObjectToOperatorTransformer());
+        typeTransformerRegistry.register(new JsonValueToGenericTypeTransformer(objectMapper));
+
+        var atomicConstraintMapper = new AtomicConstraintMapper(new LiteralMapper(objectMapper), new OperatorMapper());
+        var constraintExtractor = new ConstraintExtractor(new PolicyValidator(), atomicConstraintMapper);
+        policyMapper = new PolicyMapper(constraintExtractor, atomicConstraintMapper, typeTransformerRegistry);
+
+        createRequest = PolicyFixtures.multiConstraintPolicy(constraints);
+        policy = policyMapper.buildPolicy(createRequest);
+
+        var jsonLd = new TitaniumJsonLd(mock(Monitor.class));
+        expandedPolicyJsonLd = jsonLd.expand(policyMapper.buildPolicyJsonLd(policy)).getContent();
+    }
+
+    @Benchmark
+    public UiPolicy buildUiPolicy() {
+        return policyMapper.buildUiPolicy(policy);
+    }
+
+    @Benchmark
+    public Policy buildPolicyFromCreateRequest() {
+        return policyMapper.buildPolicy(createRequest);
+    }
+
+    @Benchmark
+    public Policy buildPolicyFromJsonLd() {
+        return policyMapper.buildPolicy(expandedPolicyJsonLd);
+    }
+}
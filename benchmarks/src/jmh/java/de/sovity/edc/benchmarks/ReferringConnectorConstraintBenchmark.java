@@ -0,0 +1,113 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.benchmarks;
+
+import de.sovity.edc.extension.policy.functions.ReferringConnectorConstraintCache;
+import org.eclipse.edc.policy.model.Operator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Evaluates the referring connector constraints of a whole catalog, compiled and cached versus the previous
+ * split-and-search on every evaluation.
+ * <p>
+ * The offers share a limited number of policies, as in a catalog built from few contract definitions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReferringConnectorConstraintBenchmark {
+    private static final int POLICIES = 50;
+
+    @Param({"1000", "10000"})
+    private int offers;
+
+    @Param({"20"})
+    private int connectorsPerPolicy;
+
+    private List<Object> rightValues;
+    private List<Operator> operators;
+    private String claim;
+    private ReferringConnectorConstraintCache cache;
+
+    @Setup
+    public void setup() {
+        var policyRightValues = new ArrayList<Object>();
+        var policyOperators = new ArrayList<Operator>();
+        for (int policy = 0; policy < POLICIES; policy++) {
+            var connectors = IntStream.range(0, connectorsPerPolicy)
+                    .mapToObj(connector -> "https://connector-" + connector + ".example.com/api/dsp")
+                    .toList();
+            var isEq = policy % 2 == 0;
+            policyRightValues.add(isEq ? String.join(",", connectors) : connectors);
+            policyOperators.add(isEq ? Operator.EQ : Operator.IN);
+        }
+
+        rightValues = IntStream.range(0, offers).mapToObj(offer -> policyRightValues.get(offer % POLICIES))
+                .collect(Collectors.toList());
+        operators = IntStream.range(0, offers).mapToObj(offer -> policyOperators.get(offer % POLICIES))
+                .collect(Collectors.toList());
+        // Worst case for the linear search
+        claim = "https://connector-" + (connectorsPerPolicy - 1) + ".example.com/api/dsp";
+        cache = new ReferringConnectorConstraintCache();
+    }
+
+    @Benchmark
+    public int evaluateCatalogCompiled() {
+        var allowed = 0;
+        for (int i = 0; i < offers; i++) {
+            if (cache.isAllowedReferringConnector(claim, rightValues.get(i), operators.get(i))) {
+                allowed++;
+            }
+        }
+        return allowed;
+    }
+
+    @Benchmark
+    public int evaluateCatalogSplitAndSearch() {
+        var allowed = 0;
+        for (int i = 0; i < offers; i++) {
+            if (splitAndSearch(claim, rightValues.get(i), operators.get(i))) {
+                allowed++;
+            }
+        }
+        return allowed;
+    }
+
+    private static boolean splitAndSearch(String referringConnectorClaim, Object referringConnector, Operator operator) {
+        if (operator == Operator.IN) {
+            var referringConnectorList = (List<?>) referringConnector;
+            return referringConnectorList.contains(referringConnectorClaim);
+        } else if (operator == Operator.EQ) {
+            if (referringConnector instanceof String referringConnectorString) {
+                return Arrays.asList(referringConnectorString.split(",")).contains(referringConnectorClaim);
+            }
+        }
+        return false;
+    }
+}
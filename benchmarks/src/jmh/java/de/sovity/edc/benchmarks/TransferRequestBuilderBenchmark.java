@@ -0,0 +1,138 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.benchmarks;
+
+import de.sovity.edc.ext.wrapper.api.common.mappers.utils.EdcPropertyUtils;
+import de.sovity.edc.ext.wrapper.api.ui.model.InitiateCustomTransferRequest;
+import de.sovity.edc.ext.wrapper.api.ui.model.InitiateTransferRequest;
+import de.sovity.edc.ext.wrapper.api.ui.pages.contract_agreements.services.ContractAgreementUtils;
+import de.sovity.edc.ext.wrapper.api.ui.pages.contract_agreements.services.ContractNegotiationUtils;
+import de.sovity.edc.ext.wrapper.api.ui.pages.contract_agreements.services.TransferRequestBuilder;
+import de.sovity.edc.utils.JsonUtils;
+import de.sovity.edc.utils.jsonld.vocab.Prop;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.connector.contract.spi.types.agreement.ContractAgreement;
+import org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiation;
+import org.eclipse.edc.connector.contract.spi.types.offer.ContractOffer;
+import org.eclipse.edc.connector.transfer.spi.types.TransferRequest;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.protocol.dsp.spi.types.HttpMessageProtocol;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Builds transfer requests for a consuming contract agreement.
+ * <p>
+ * Agreement and negotiation lookups and the Core EDC's JSON-LD to {@link TransferRequest} transformer are stubbed,
+ * so only the wrapper's own request handling, e.g. the JSON-LD key expansion of custom transfer requests, is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransferRequestBuilderBenchmark {
+    private static final String CONTRACT_ID = "contract-agreement-1";
+    private static final String ASSET_ID = "urn:artifact:traffic-flow-00001";
+
+    private TransferRequestBuilder transferRequestBuilder;
+    private InitiateTransferRequest transferRequest;
+    private InitiateCustomTransferRequest customTransferRequest;
+
+    @Setup
+    public void setup() {
+        var policy = Policy.Builder.newInstance().build();
+        var agreement = ContractAgreement.Builder.newInstance()
+                .id(CONTRACT_ID)
+                .providerId("provider")
+                .consumerId("consumer")
+                .assetId(ASSET_ID)
+                .policy(policy)
+                .build();
+        var negotiation = ContractNegotiation.Builder.newInstance()
+                .id("contract-negotiation-1")
+                .type(ContractNegotiation.Type.CONSUMER)
+                .counterPartyId("provider")
+                .counterPartyAddress("https://provider.example.com/api/dsp")
+                .protocol(HttpMessageProtocol.DATASPACE_PROTOCOL_HTTP)
+                .contractAgreement(agreement)
+                .contractOffer(ContractOffer.Builder.newInstance().id("contract-offer-1").assetId(ASSET_ID).policy(policy).build())
+                .build();
+
+        var contractAgreementUtils = mock(ContractAgreementUtils.class);
+        when(contractAgreementUtils.findByIdOrThrow(CONTRACT_ID)).thenReturn(agreement);
+        var contractNegotiationUtils = mock(ContractNegotiationUtils.class);
+        when(contractNegotiationUtils.findByContractAgreementIdOrThrow(CONTRACT_ID)).thenReturn(negotiation);
+
+        var typeTransformerRegistry = mock(TypeTransformerRegistry.class);
+        var builtTransferRequest = TransferRequest.Builder.newInstance()
+                .id("transfer-request-1")
+                .protocol(HttpMessageProtocol.DATASPACE_PROTOCOL_HTTP)
+                .connectorAddress(negotiation.getCounterPartyAddress())
+                .connectorId(negotiation.getCounterPartyId())
+                .contractId(CONTRACT_ID)
+                .assetId(ASSET_ID)
+                .dataDestination(DataAddress.Builder.newInstance().type("HttpData").build())
+                .build();
+        when(typeTransformerRegistry.transform(any(JsonObject.class), eq(TransferRequest.class)))
+                .thenReturn(Result.success(builtTransferRequest));
+
+        transferRequestBuilder = new TransferRequestBuilder(
+                contractAgreementUtils,
+                contractNegotiationUtils,
+                new EdcPropertyUtils(),
+                typeTransformerRegistry);
+
+        transferRequest = new InitiateTransferRequest(
+                CONTRACT_ID,
+                Map.of("type", "HttpData", "baseUrl", "https://consumer.example.com/sink"),
+                Map.of("privateProperty", "privateValue"));
+
+        var customRequestJson = Json.createObjectBuilder()
+                .add(Prop.Edc.DATA_DESTINATION, Json.createObjectBuilder()
+                        .add(Prop.Edc.TYPE, "HttpData")
+                        .add(Prop.Edc.BASE_URL, "https://consumer.example.com/sink"))
+                .add(Prop.Edc.PRIVATE_PROPERTIES, Json.createObjectBuilder()
+                        .add(Prop.Edc.RECEIVER_HTTP_ENDPOINT, "https://consumer.example.com/pull-backend")
+                        .add("http://unknown/custom-prop", "value"))
+                .build();
+        customTransferRequest = new InitiateCustomTransferRequest(CONTRACT_ID, JsonUtils.toJson(customRequestJson));
+    }
+
+    @Benchmark
+    public TransferRequest buildTransferRequest() {
+        return transferRequestBuilder.buildCustomTransferRequest(transferRequest);
+    }
+
+    @Benchmark
+    public TransferRequest buildCustomTransferRequest() {
+        return transferRequestBuilder.buildCustomTransferRequest(customTransferRequest);
+    }
+}
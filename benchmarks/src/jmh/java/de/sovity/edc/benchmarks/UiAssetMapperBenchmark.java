@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.benchmarks;
+
+import de.sovity.edc.benchmarks.fixtures.AssetFixtures;
+import de.sovity.edc.ext.wrapper.api.common.mappers.utils.AssetJsonLdUtils;
+import de.sovity.edc.ext.wrapper.api.common.mappers.utils.EdcPropertyUtils;
+import de.sovity.edc.ext.wrapper.api.common.mappers.utils.MarkdownToTextConverter;
+import de.sovity.edc.ext.wrapper.api.common.mappers.utils.TextUtils;
+import de.sovity.edc.ext.wrapper.api.common.mappers.utils.UiAssetMapper;
+import de.sovity.edc.ext.wrapper.api.common.model.UiAsset;
+import de.sovity.edc.ext.wrapper.api.common.model.UiAssetCreateRequest;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.jsonld.TitaniumJsonLd;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Maps a MobilityDCAT-AP rich asset from the UI create request to JSON-LD and from expanded JSON-LD to the UI model.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UiAssetMapperBenchmark {
+    private static final String ENDPOINT = "https://provider.example.com/api/dsp";
+    private static final String PARTICIPANT_ID = "provider";
+
+    private UiAssetMapper uiAssetMapper;
+    private UiAssetCreateRequest createRequest;
+    private JsonObject expandedAssetJsonLd;
+
+    @Setup
+    public void setup() {
+        uiAssetMapper = new UiAssetMapper(
+                new EdcPropertyUtils(),
+                new AssetJsonLdUtils(),
+                new MarkdownToTextConverter(),
+                new TextUtils(),
+                ENDPOINT::equals);
+        createRequest = AssetFixtures.mobilityAsset(1);
+
+        var jsonLd = new TitaniumJsonLd(mock(Monitor.class));
+        var assetJsonLd = uiAssetMapper.buildAssetJsonLd(createRequest, "Example Mobility GmbH");
+        expandedAssetJsonLd = jsonLd.expand(assetJsonLd).getContent();
+    }
+
+    @Benchmark
+    public UiAsset buildUiAsset() {
+        return uiAssetMapper.buildUiAsset(expandedAssetJsonLd, ENDPOINT, PARTICIPANT_ID);
+    }
+
+    @Benchmark
+    public JsonObject buildAssetJsonLd() {
+        return uiAssetMapper.buildAssetJsonLd(createRequest, "Example Mobility GmbH");
+    }
+}
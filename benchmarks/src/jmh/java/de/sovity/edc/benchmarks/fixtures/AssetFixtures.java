@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.benchmarks.fixtures;
+
+import de.sovity.edc.ext.wrapper.api.common.model.UiAssetCreateRequest;
+import de.sovity.edc.utils.jsonld.vocab.Prop;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates assets with all MobilityDCAT-AP and MDS fields filled, as created via the EDC UI.
+ * <p>
+ * Values only depend on the index, so runs are reproducible.
+ */
+public class AssetFixtures {
+    private static final String DESCRIPTION_SECTION = """
+            ## Data Quality
+
+            The **%s** dataset is updated every 15 minutes from roadside sensors. See
+            [the documentation](https://data-source.example.com/docs) for the `GeoJSON` schema.
+
+            - Coverage: federal motorways and major roads
+            - Georeferencing: OpenLR
+
+            """;
+
+    private AssetFixtures() {
+    }
+
+    public static UiAssetCreateRequest mobilityAsset(int index) {
+        var id = "urn:artifact:traffic-flow-%05d".formatted(index);
+
+        var request = new UiAssetCreateRequest();
+        request.setId(id);
+        request.setTitle("Traffic Flow Data %d".formatted(index));
+        request.setLanguage("https://w3id.org/idsa/code/EN");
+        request.setDescription("# Traffic Flow %d\n\n".formatted(index) + DESCRIPTION_SECTION.formatted(id).repeat(3));
+        request.setPublisherHomepage("https://data-source.example.com/about");
+        request.setLicenseUrl("https://data-source.example.com/license");
+        request.setVersion("1.%d".formatted(index % 10));
+        request.setKeywords(List.of("traffic", "mobility", "road-%d".formatted(index % 50), "sensor"));
+        request.setMediaType("application/geo+json");
+        request.setLandingPageUrl("https://data-source.example.com/datasets/%d".formatted(index));
+        request.setDataCategory("Traffic Information");
+        request.setDataSubcategory("Traffic Flow Information");
+        request.setDataModel("DATEX II");
+        request.setGeoReferenceMethod("OpenLR");
+        request.setTransportMode("Road");
+        request.setSovereignLegalName("Example Mobility GmbH");
+        request.setGeoLocation("50.7753, 6.0839");
+        request.setNutsLocation(List.of("DE", "DEA", "DEA2"));
+        request.setDataSampleUrls(List.of("https://data-source.example.com/samples/%d.json".formatted(index)));
+        request.setReferenceFileUrls(List.of(
+                "https://data-source.example.com/reference/schema.json",
+                "https://data-source.example.com/reference/openlr.pdf"));
+        request.setReferenceFilesDescription("Schema and georeferencing documentation");
+        request.setConditionsForUse("Attribution required");
+        request.setDataUpdateFrequency("every 15 minutes");
+        request.setTemporalCoverageFrom(LocalDate.of(2023, 1, 1));
+        request.setTemporalCoverageToInclusive(LocalDate.of(2024, 12, 31));
+        request.setDataAddressProperties(Map.of(
+                Prop.Edc.TYPE, "HttpData",
+                Prop.Edc.BASE_URL, "https://data-source.example.com/api/traffic-flow/%d".formatted(index),
+                Prop.Edc.METHOD, "GET",
+                Prop.Edc.PROXY_PATH, "true",
+                Prop.Edc.PROXY_QUERY_PARAMS, "true"));
+        request.setAdditionalProperties(Map.of("http://unknown/region-code", "R%03d".formatted(index % 400)));
+        request.setAdditionalJsonProperties(Map.of("http://unknown/bounding-box",
+                "{\"http://unknown/north\": 50.9, \"http://unknown/south\": 50.6}"));
+        request.setPrivateProperties(Map.of("http://unknown/internal-owner", "team-%d".formatted(index % 7)));
+        request.setPrivateJsonProperties(Map.of());
+        return request;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.benchmarks.fixtures;
+
+import de.sovity.edc.utils.jsonld.vocab.Prop;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+
+/**
+ * Generates DSP catalog responses as returned by the Core EDC, with MobilityDCAT-AP dataset properties and a
+ * multi-constraint contract offer per dataset.
+ */
+public class CatalogFixtures {
+    private CatalogFixtures() {
+    }
+
+    public static JsonObject catalog(int datasets, int constraintsPerPolicy) {
+        var datasetArray = Json.createArrayBuilder();
+        for (int i = 0; i < datasets; i++) {
+            datasetArray.add(dataset(i, constraintsPerPolicy));
+        }
+
+        return Json.createObjectBuilder()
+                .add(Prop.ID, "catalog-" + datasets)
+                .add(Prop.TYPE, "dcat:Catalog")
+                .add("dcat:dataset", datasetArray)
+                .add("dcat:service", Json.createObjectBuilder()
+                        .add(Prop.ID, "data-service")
+                        .add(Prop.TYPE, "dcat:DataService")
+                        .add("dct:terms", "connector")
+                        .add("dct:endpointUrl", "https://provider.example.com/api/dsp"))
+                .add("edc:participantId", "provider")
+                .add(Prop.CONTEXT, Json.createObjectBuilder()
+                        .add("dct", "https://purl.org/dc/terms/")
+                        .add("edc", Prop.Edc.CTX)
+                        .add("dcat", Prop.Dcat.CTX_WRONG_BUT_USED_BY_CORE_EDC)
+                        .add("odrl", Prop.Odrl.CTX)
+                        .add("dspace", "https://w3id.org/dspace/v0.8/"))
+                .build();
+    }
+
+    private static JsonObject dataset(int index, int constraintsPerPolicy) {
+        var asset = AssetFixtures.mobilityAsset(index);
+        return Json.createObjectBuilder()
+                .add(Prop.ID, asset.getId())
+                .add(Prop.TYPE, "dcat:Dataset")
+                .add("odrl:hasPolicy", PolicyFixtures.odrlPolicy("policy-" + index, asset.getId(), constraintsPerPolicy))
+                .add("dcat:distribution", Json.createArrayBuilder()
+                        .add(Json.createObjectBuilder()
+                                .add(Prop.TYPE, "dcat:Distribution")
+                                .add("dct:format", Json.createObjectBuilder().add(Prop.ID, "HttpData-PULL"))))
+                .add(Prop.Edc.ID, asset.getId())
+                .add(Prop.Dcterms.TITLE, asset.getTitle())
+                .add(Prop.Dcterms.DESCRIPTION, asset.getDescription())
+                .add(Prop.Dcterms.LANGUAGE, asset.getLanguage())
+                .add(Prop.Dcterms.LICENSE, asset.getLicenseUrl())
+                .add(Prop.Dcterms.CREATOR, Json.createObjectBuilder().add(Prop.Foaf.NAME, asset.getSovereignLegalName()))
+                .add(Prop.Dcat.VERSION, asset.getVersion())
+                .add(Prop.Dcat.MEDIATYPE, asset.getMediaType())
+                .add(Prop.Dcat.LANDING_PAGE, asset.getLandingPageUrl())
+                .add(Prop.Dcat.KEYWORDS, Json.createArrayBuilder(asset.getKeywords()))
+                .add(Prop.Mobility.DATA_CATEGORY, asset.getDataCategory())
+                .add(Prop.Mobility.DATA_SUBCATEGORY, asset.getDataSubcategory())
+                .add(Prop.Mobility.DATA_MODEL, asset.getDataModel())
+                .add(Prop.Mobility.GEO_REFERENCE_METHOD, asset.getGeoReferenceMethod())
+                .add(Prop.Mobility.TRANSPORT_MODE, asset.getTransportMode())
+                .add(Prop.MdsDcatExt.NUTS_LOCATION, Json.createArrayBuilder(asset.getNutsLocation()))
+                .add(Prop.MdsDcatExt.DATA_UPDATE_FREQUENCY, asset.getDataUpdateFrequency())
+                .add(Prop.MdsDcatExt.TEMPORAL_COVERAGE_FROM, asset.getTemporalCoverageFrom().toString())
+                .build();
+    }
+}
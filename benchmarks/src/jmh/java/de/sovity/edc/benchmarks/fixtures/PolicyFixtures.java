@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.benchmarks.fixtures;
+
+import de.sovity.edc.ext.wrapper.api.common.model.OperatorDto;
+import de.sovity.edc.ext.wrapper.api.common.model.UiPolicyConstraint;
+import de.sovity.edc.ext.wrapper.api.common.model.UiPolicyCreateRequest;
+import de.sovity.edc.ext.wrapper.api.common.model.UiPolicyLiteral;
+import de.sovity.edc.utils.jsonld.vocab.Prop;
+import jakarta.json.Json;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Generates policies with multiple constraints, cycling through the constraint kinds used by the EDC UI:
+ * referring connector equality, referring connector lists, evaluation time ranges and JSON literals.
+ */
+public class PolicyFixtures {
+    private static final String REFERRING_CONNECTOR = "REFERRING_CONNECTOR";
+    private static final String POLICY_EVALUATION_TIME = "POLICY_EVALUATION_TIME";
+
+    private PolicyFixtures() {
+    }
+
+    public static UiPolicyCreateRequest multiConstraintPolicy(int constraints) {
+        return new UiPolicyCreateRequest(IntStream.range(0, constraints)
+                .mapToObj(PolicyFixtures::constraint)
+                .toList());
+    }
+
+    /**
+     * ODRL policy in the compacted form the Core EDC returns in DSP catalogs.
+     *
+     * @param policyId policy ID
+     * @param target asset ID
+     * @param constraints number of constraints
+     * @return ODRL policy JSON-LD
+     */
+    public static JsonObject odrlPolicy(String policyId, String target, int constraints) {
+        var constraintArray = Json.createArrayBuilder();
+        IntStream.range(0, constraints).forEach(i -> constraintArray.add(odrlConstraint(i)));
+
+        return Json.createObjectBuilder()
+                .add(Prop.ID, policyId)
+                .add(Prop.TYPE, "odrl:Set")
+                .add("odrl:permission", Json.createObjectBuilder()
+                        .add("odrl:target", target)
+                        .add("odrl:action", Json.createObjectBuilder().add("odrl:type", "USE"))
+                        .add("odrl:constraint", Json.createObjectBuilder()
+                                .add(Prop.TYPE, "odrl:LogicalConstraint")
+                                .add("odrl:and", constraintArray)))
+                .add("odrl:prohibition", Json.createArrayBuilder())
+                .add("odrl:obligation", Json.createArrayBuilder())
+                .add("odrl:target", target)
+                .build();
+    }
+
+    private static UiPolicyConstraint constraint(int index) {
+        return switch (index % 4) {
+            case 0 -> new UiPolicyConstraint(REFERRING_CONNECTOR, OperatorDto.EQ,
+                    UiPolicyLiteral.ofString(connectorId(index)));
+            case 1 -> new UiPolicyConstraint(REFERRING_CONNECTOR, OperatorDto.IN,
+                    UiPolicyLiteral.ofStringList(connectorIds(index, 10)));
+            case 2 -> new UiPolicyConstraint(POLICY_EVALUATION_TIME, OperatorDto.GEQ,
+                    UiPolicyLiteral.ofString("2024-01-01T00:00:00.000+01:00"));
+            default -> new UiPolicyConstraint(POLICY_EVALUATION_TIME, OperatorDto.LT,
+                    UiPolicyLiteral.ofJson("{\"@value\": \"2030-01-01T00:00:00.000+01:00\"}"));
+        };
+    }
+
+    private static JsonObject odrlConstraint(int index) {
+        var builder = Json.createObjectBuilder();
+        switch (index % 3) {
+            case 0 -> builder.add("odrl:leftOperand", REFERRING_CONNECTOR)
+                    .add("odrl:operator", Json.createObjectBuilder().add(Prop.ID, "odrl:eq"))
+                    .add("odrl:rightOperand", connectorId(index));
+            case 1 -> builder.add("odrl:leftOperand", REFERRING_CONNECTOR)
+                    .add("odrl:operator", Json.createObjectBuilder().add(Prop.ID, "odrl:isAnyOf"))
+                    .add("odrl:rightOperand", stringArray(connectorIds(index, 10)));
+            default -> builder.add("odrl:leftOperand", POLICY_EVALUATION_TIME)
+                    .add("odrl:operator", Json.createObjectBuilder().add(Prop.ID, "odrl:gteq"))
+                    .add("odrl:rightOperand", "2024-01-01T00:00:00.000+01:00");
+        }
+        return builder.build();
+    }
+
+    private static List<String> connectorIds(int index, int count) {
+        return IntStream.range(0, count).mapToObj(i -> connectorId(index * count + i)).toList();
+    }
+
+    private static String connectorId(int index) {
+        return "BPNL%08dCONN".formatted(index);
+    }
+
+    private static JsonArrayBuilder stringArray(List<String> strings) {
+        var array = Json.createArrayBuilder();
+        strings.forEach(array::add);
+        return array;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.extension.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ClassLoaderMetrics;
+import io.micrometer.core.instrument.binder.jvm.JvmGcMetrics;
+import io.micrometer.core.instrument.binder.jvm.JvmMemoryMetrics;
+import io.micrometer.core.instrument.binder.jvm.JvmThreadMetrics;
+import io.micrometer.core.instrument.binder.system.ProcessorMetrics;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+/**
+ * Provides a Micrometer {@link MeterRegistry} for other extensions to record metrics with, and exports it via a
+ * Prometheus scrape endpoint.
+ */
+@Provides(MeterRegistry.class)
+public class MicrometerMetricsExtension implements ServiceExtension {
+    public static final String EXTENSION_NAME = "Micrometer Metrics";
+
+    @Setting
+    public static final String METRICS_PROMETHEUS_ENABLED = "edc.metrics.prometheus.enabled";
+
+    @Setting
+    public static final String METRICS_PROMETHEUS_PORT = "edc.metrics.prometheus.port";
+
+    @Setting
+    public static final String METRICS_PROMETHEUS_PATH = "edc.metrics.prometheus.path";
+
+    private PrometheusScrapeServer scrapeServer;
+    private JvmGcMetrics jvmGcMetrics;
+
+    @Override
+    public String name() {
+        return EXTENSION_NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        var config = context.getConfig();
+        var registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+
+        new ClassLoaderMetrics().bindTo(registry);
+        new JvmMemoryMetrics().bindTo(registry);
+        new JvmThreadMetrics().bindTo(registry);
+        new ProcessorMetrics().bindTo(registry);
+        jvmGcMetrics = new JvmGcMetrics();
+        jvmGcMetrics.bindTo(registry);
+
+        context.registerService(MeterRegistry.class, registry);
+
+        if (config.getBoolean(METRICS_PROMETHEUS_ENABLED, true)) {
+            scrapeServer = new PrometheusScrapeServer(
+                    registry,
+                    config.getInteger(METRICS_PROMETHEUS_PORT, 9464),
+                    config.getString(METRICS_PROMETHEUS_PATH, "/metrics")
+            );
+        }
+    }
+
+    @Override
+    public void start() {
+        if (scrapeServer != null) {
+            scrapeServer.start();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (scrapeServer != null) {
+            scrapeServer.stop();
+        }
+        jvmGcMetrics.close();
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.extension.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+
+/**
+ * Serves the Prometheus scrape endpoint on its own port, so it is not exposed with the EDC's APIs and needs no API key.
+ */
+public class PrometheusScrapeServer {
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final PrometheusMeterRegistry registry;
+    private final int port;
+    private final String path;
+
+    private HttpServer server;
+
+    public PrometheusScrapeServer(PrometheusMeterRegistry registry, int port, String path) {
+        this.registry = registry;
+        this.port = port;
+        this.path = path;
+    }
+
+    public void start() {
+        try {
+            server = HttpServer.create(new InetSocketAddress(port), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open the Prometheus scrape endpoint on port %d".formatted(port), e);
+        }
+        server.createContext(path, this::handle);
+        server.setExecutor(Executors.newSingleThreadExecutor(runnable -> {
+            var thread = new Thread(runnable, "prometheus-scrape");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        server.start();
+    }
+
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    /**
+     * Port the server is bound to, e.g. if it was started with port 0.
+     *
+     * @return port
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            var body = registry.scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+        }
+    }
+}
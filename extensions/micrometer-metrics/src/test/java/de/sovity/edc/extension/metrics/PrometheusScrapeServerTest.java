@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.extension.metrics;
+
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrometheusScrapeServerTest {
+    PrometheusMeterRegistry registry;
+    PrometheusScrapeServer scrapeServer;
+
+    @BeforeEach
+    void setUp() {
+        registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        scrapeServer = new PrometheusScrapeServer(registry, 0, "/metrics");
+        scrapeServer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scrapeServer.stop();
+    }
+
+    @Test
+    void testScrape() throws IOException, InterruptedException {
+        // arrange
+        registry.counter("edc.test.requests", "endpoint", "UiResource.getTransferHistoryPage").increment(3);
+
+        // act
+        var response = get("/metrics");
+
+        // assert
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Type")).hasValueSatisfying(it -> assertThat(it).startsWith("text/plain"));
+        assertThat(response.body()).contains("edc_test_requests_total{endpoint=\"UiResource.getTransferHistoryPage\",} 3.0");
+    }
+
+    @Test
+    void testOtherPathsAreNotServed() throws IOException, InterruptedException {
+        // act
+        var response = get("/api");
+
+        // assert
+        assertThat(response.statusCode()).isEqualTo(404);
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        var request = HttpRequest.newBuilder(URI.create("http://localhost:%d%s".formatted(scrapeServer.getPort(), path))).GET().build();
+        return HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
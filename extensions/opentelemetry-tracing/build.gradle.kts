@@ -0,0 +1,38 @@
+val edcVersion: String by project
+val edcGroup: String by project
+val openTelemetryVersion: String by project
+val mockitoVersion: String by project
+val jupiterVersion: String by project
+val assertj: String by project
+
+plugins {
+    `java-library`
+    `maven-publish`
+}
+
+dependencies {
+    api("${edcGroup}:core-spi:${edcVersion}")
+    api("io.opentelemetry:opentelemetry-api:${openTelemetryVersion}")
+    implementation("io.opentelemetry:opentelemetry-sdk:${openTelemetryVersion}")
+    implementation("io.opentelemetry:opentelemetry-exporter-otlp:${openTelemetryVersion}")
+
+    testImplementation("org.mockito:mockito-core:${mockitoVersion}")
+    testImplementation("org.assertj:assertj-core:${assertj}")
+    testImplementation("org.junit.jupiter:junit-jupiter-api:${jupiterVersion}")
+    testRuntimeOnly("org.junit.jupiter:junit-jupiter-engine:${jupiterVersion}")
+}
+
+tasks.withType<Test> {
+    useJUnitPlatform()
+}
+
+val sovityEdcExtensionGroup: String by project
+group = sovityEdcExtensionGroup
+
+publishing {
+    publications {
+        create<MavenPublication>(project.name) {
+            from(components["java"])
+        }
+    }
+}
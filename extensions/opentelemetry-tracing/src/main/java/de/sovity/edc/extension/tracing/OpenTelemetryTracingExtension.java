@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.extension.tracing;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.exporter.otlp.http.trace.OtlpHttpSpanExporter;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.configuration.Config;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Provides an {@link OpenTelemetry} instance for other extensions to create spans with, exporting them to an OTLP
+ * endpoint or a local file.
+ * <p>
+ * With the default exporter {@code none}, no {@link OpenTelemetry} is registered and instrumented code skips tracing
+ * altogether.
+ */
+@Provides(OpenTelemetry.class)
+public class OpenTelemetryTracingExtension implements ServiceExtension {
+    public static final String EXTENSION_NAME = "OpenTelemetry Tracing";
+
+    @Setting
+    public static final String TRACING_EXPORTER = "edc.tracing.exporter";
+
+    @Setting
+    public static final String TRACING_OTLP_ENDPOINT = "edc.tracing.otlp.endpoint";
+
+    @Setting
+    public static final String TRACING_FILE_PATH = "edc.tracing.file.path";
+
+    @Setting
+    public static final String TRACING_SERVICE_NAME = "edc.tracing.service-name";
+
+    @Setting
+    public static final String TRACING_SAMPLE_RATIO = "edc.tracing.sample-ratio";
+
+    private static final AttributeKey<String> SERVICE_NAME = AttributeKey.stringKey("service.name");
+
+    private OpenTelemetrySdk openTelemetry;
+
+    @Override
+    public String name() {
+        return EXTENSION_NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        var config = context.getConfig();
+        var spanExporter = buildSpanExporter(config);
+        if (spanExporter == null) {
+            return;
+        }
+
+        var tracerProvider = SdkTracerProvider.builder()
+                .setResource(Resource.getDefault().merge(Resource.create(
+                        Attributes.of(SERVICE_NAME, config.getString(TRACING_SERVICE_NAME, "edc")))))
+                .setSampler(Sampler.parentBased(Sampler.traceIdRatioBased(
+                        Double.parseDouble(config.getString(TRACING_SAMPLE_RATIO, "1.0")))))
+                .addSpanProcessor(BatchSpanProcessor.builder(spanExporter).build())
+                .build();
+        openTelemetry = OpenTelemetrySdk.builder().setTracerProvider(tracerProvider).build();
+
+        context.registerService(OpenTelemetry.class, openTelemetry);
+    }
+
+    @Override
+    public void shutdown() {
+        if (openTelemetry != null) {
+            // Exports the remaining spans
+            openTelemetry.getSdkTracerProvider().close();
+        }
+    }
+
+    private SpanExporter buildSpanExporter(Config config) {
+        var exporter = config.getString(TRACING_EXPORTER, "none").toLowerCase(Locale.ROOT);
+        return switch (exporter) {
+            case "none" -> null;
+            case "otlp" -> OtlpHttpSpanExporter.builder()
+                    .setEndpoint(config.getString(TRACING_OTLP_ENDPOINT, "http://localhost:4318/v1/traces"))
+                    .build();
+            case "file" -> new FileSpanExporter(Path.of(config.getString(TRACING_FILE_PATH, "traces.jsonl")));
+            default -> throw new EdcException("Unknown %s '%s', expected 'none', 'otlp' or 'file'.".formatted(TRACING_EXPORTER, exporter));
+        };
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.extension.tracing;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileSpanExporterTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testSpansAreWrittenAsJsonLines() throws IOException {
+        // arrange
+        var file = tempDir.resolve("traces/traces.jsonl");
+        var tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(new FileSpanExporter(file)))
+                .build();
+        var tracer = tracerProvider.get("test");
+
+        // act
+        var parent = tracer.spanBuilder("UiResource.initiateContractNegotiation").startSpan();
+        try (var scope = parent.makeCurrent()) {
+            tracer.spanBuilder("contractNegotiationService.initiateNegotiation")
+                    .setAttribute("edc.connector.endpoint", "https://other-connector/api/dsp")
+                    .startSpan()
+                    .end();
+        } finally {
+            parent.end();
+        }
+        tracerProvider.close();
+
+        // assert
+        var lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0))
+                .contains("\"name\":\"contractNegotiationService.initiateNegotiation\"")
+                .contains("\"parentSpanId\":\"%s\"".formatted(parent.getSpanContext().getSpanId()))
+                .contains("\"edc.connector.endpoint\":\"https://other-connector/api/dsp\"");
+        assertThat(lines.get(1))
+                .contains("\"name\":\"UiResource.initiateContractNegotiation\"")
+                .contains("\"parentSpanId\":null");
+        assertThat(Span.current().getSpanContext().isValid()).isFalse();
+    }
+}
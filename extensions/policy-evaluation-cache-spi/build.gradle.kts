@@ -0,0 +1,22 @@
+val edcVersion: String by project
+val edcGroup: String by project
+
+plugins {
+    `java-library`
+    `maven-publish`
+}
+
+dependencies {
+    api("${edcGroup}:policy-engine-spi:${edcVersion}")
+}
+
+val sovityEdcExtensionGroup: String by project
+group = sovityEdcExtensionGroup
+
+publishing {
+    publications {
+        create<MavenPublication>(project.name) {
+            from(components["java"])
+        }
+    }
+}
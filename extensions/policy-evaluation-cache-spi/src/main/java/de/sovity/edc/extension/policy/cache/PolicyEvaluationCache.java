@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.extension.policy.cache;
+
+import org.eclipse.edc.policy.engine.spi.AtomicConstraintFunction;
+import org.eclipse.edc.policy.model.Rule;
+
+import java.util.Set;
+
+/**
+ * Caches constraint function results.
+ * <p>
+ * Provided by the Policy Evaluation Cache extension. Policy functions must not require this service, so they still
+ * work if the extension is not present.
+ */
+public interface PolicyEvaluationCache {
+
+    /**
+     * Wraps a constraint function that only depends on the constraint and the given claims of the participant.
+     * <p>
+     * Claims that differ per token, e.g. {@code iat}, {@code exp} or {@code jti}, must not be listed, as every request
+     * would miss the cache.
+     *
+     * @param functionKey left operand the function is registered for
+     * @param claims names of the participant's claims the function reads
+     * @param function function to cache
+     * @param <R> rule type
+     * @return caching function, or the function itself if the cache is disabled
+     */
+    <R extends Rule> AtomicConstraintFunction<R> wrap(
+            String functionKey,
+            Set<String> claims,
+            AtomicConstraintFunction<R> function
+    );
+
+    /**
+     * Wraps a constraint function that depends on the constraint, the given claims of the participant and the current
+     * time.
+     * <p>
+     * A result may be outdated by at most one time bucket.
+     *
+     * @param functionKey left operand the function is registered for
+     * @param claims names of the participant's claims the function reads
+     * @param function function to cache
+     * @param <R> rule type
+     * @return caching function, or the function itself if the cache or the caching of time-based functions is
+     *         disabled
+     */
+    <R extends Rule> AtomicConstraintFunction<R> wrapTimeBased(
+            String functionKey,
+            Set<String> claims,
+            AtomicConstraintFunction<R> function
+    );
+}
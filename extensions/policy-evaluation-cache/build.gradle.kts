@@ -0,0 +1,38 @@
+val edcVersion: String by project
+val edcGroup: String by project
+val micrometerVersion: String by project
+val mockitoVersion: String by project
+val jupiterVersion: String by project
+val assertj: String by project
+
+plugins {
+    `java-library`
+    `maven-publish`
+}
+
+dependencies {
+    api("${edcGroup}:core-spi:${edcVersion}")
+    api("${edcGroup}:policy-engine-spi:${edcVersion}")
+    api(project(":extensions:policy-evaluation-cache-spi"))
+    implementation("io.micrometer:micrometer-core:${micrometerVersion}")
+
+    testImplementation("org.mockito:mockito-core:${mockitoVersion}")
+    testImplementation("org.assertj:assertj-core:${assertj}")
+    testImplementation("org.junit.jupiter:junit-jupiter-api:${jupiterVersion}")
+    testRuntimeOnly("org.junit.jupiter:junit-jupiter-engine:${jupiterVersion}")
+}
+
+tasks.withType<Test> {
+    useJUnitPlatform()
+}
+
+val sovityEdcExtensionGroup: String by project
+group = sovityEdcExtensionGroup
+
+publishing {
+    publications {
+        create<MavenPublication>(project.name) {
+            from(components["java"])
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.extension.policy.cache;
+
+import org.eclipse.edc.policy.engine.spi.AtomicConstraintFunction;
+import org.eclipse.edc.policy.engine.spi.PolicyContext;
+import org.eclipse.edc.policy.model.Operator;
+import org.eclipse.edc.policy.model.Rule;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Short-lived in-memory cache of constraint function results, so repeated catalog requests of the same participant do
+ * not re-evaluate identical constraints.
+ * <p>
+ * Results are keyed by function key, operator, right value, the claims of the participant the function reads and, for
+ * time-based functions, a time bucket. Only functions whose result depends on nothing else may be wrapped, in
+ * particular not on the rule or other claims. Evaluations of contexts with problems and evaluations that report problems are never
+ * cached, so problems are still reported.
+ */
+public class InMemoryPolicyEvaluationCache implements PolicyEvaluationCache {
+    private final long ttlMillis;
+    private final long timeBucketMillis;
+    private final Clock clock;
+
+    /**
+     * Access-ordered for LRU eviction, guarded by itself.
+     */
+    private final Map<CacheKey, Entry> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    record CacheKey(
+            String functionKey,
+            Operator operator,
+            Object rightValue,
+            Map<String, Object> claims,
+            long timeBucket
+    ) {
+    }
+
+    record Entry(boolean result, long expiresAtMillis) {
+    }
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param ttl how long results are cached, {@link Duration#ZERO} disables the cache
+     * @param maxSize maximum number of cached results
+     * @param timeBucket granularity of the time for time-based functions, results are re-evaluated at the latest
+     *                   when the time bucket changes
+     * @param clock clock
+     */
+    public InMemoryPolicyEvaluationCache(Duration ttl, int maxSize, Duration timeBucket, Clock clock) {
+        this.ttlMillis = ttl.toMillis();
+        this.timeBucketMillis = timeBucket.toMillis();
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    @Override
+    public <R extends Rule> AtomicConstraintFunction<R> wrap(
+            String functionKey,
+            Set<String> claims,
+            AtomicConstraintFunction<R> function
+    ) {
+        return wrap(functionKey, claims, function, 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The time is only considered at the configured time bucket granularity.
+     */
+    @Override
+    public <R extends Rule> AtomicConstraintFunction<R> wrapTimeBased(
+            String functionKey,
+            Set<String> claims,
+            AtomicConstraintFunction<R> function
+    ) {
+        if (timeBucketMillis <= 0) {
+            // Results would be cached regardless of the time
+            return function;
+        }
+        return wrap(functionKey, claims, function, timeBucketMillis);
+    }
+
+    private <R extends Rule> AtomicConstraintFunction<R> wrap(
+            String functionKey,
+            Set<String> claims,
+            AtomicConstraintFunction<R> function,
+            long bucketMillis
+    ) {
+        if (ttlMillis <= 0) {
+            return function;
+        }
+
+        return (operator, rightValue, rule, context) -> {
+            var key = buildKey(functionKey, operator, rightValue, claims, context, bucketMillis);
+            if (key == null) {
+                return function.evaluate(operator, rightValue, rule, context);
+            }
+
+            var cached = getEntry(key);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return cached.result();
+            }
+
+            misses.incrementAndGet();
+            var result = function.evaluate(operator, rightValue, rule, context);
+            if (!context.hasProblems()) {
+                putEntry(key, new Entry(result, clock.millis() + ttlMillis));
+            }
+            return result;
+        };
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * @return hits / (hits + misses), 0 if nothing has been evaluated yet
+     */
+    public double getHitRate() {
+        var hitCount = hits.get();
+        var total = hitCount + misses.get();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private CacheKey buildKey(
+            String functionKey,
+            Operator operator,
+            Object rightValue,
+            Set<String> claims,
+            PolicyContext context,
+            long bucketMillis
+    ) {
+        if (context.hasProblems()) {
+            return null;
+        }
+
+        var claimValues = new HashMap<String, Object>();
+        if (!claims.isEmpty()) {
+            var participantAgent = context.getParticipantAgent();
+            if (participantAgent == null) {
+                return null;
+            }
+            // Missing claims are keyed as null, which a Map.of(...) would not allow
+            claims.forEach(claim -> claimValues.put(claim, participantAgent.getClaims().get(claim)));
+        }
+
+        var timeBucket = bucketMillis <= 0 ? 0 : clock.millis() / bucketMillis;
+        return new CacheKey(functionKey, operator, rightValue, claimValues, timeBucket);
+    }
+
+    private Entry getEntry(CacheKey key) {
+        synchronized (entries) {
+            var entry = entries.get(key);
+            if (entry != null && entry.expiresAtMillis() <= clock.millis()) {
+                entries.remove(key);
+                return null;
+            }
+            return entry;
+        }
+    }
+
+    private void putEntry(CacheKey key, Entry entry) {
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.extension.policy.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Provides the {@link PolicyEvaluationCache} used by the policy functions of this repository.
+ * <p>
+ * The cache is disabled unless a TTL is configured.
+ */
+@Provides(PolicyEvaluationCache.class)
+public class PolicyEvaluationCacheExtension implements ServiceExtension {
+    public static final String EXTENSION_NAME = "Policy Evaluation Cache";
+
+    @Setting
+    public static final String POLICY_EVALUATION_CACHE_TTL_SECONDS = "edc.policy.evaluation-cache.ttl.seconds";
+
+    @Setting
+    public static final String POLICY_EVALUATION_CACHE_MAX_SIZE = "edc.policy.evaluation-cache.max-size";
+
+    @Setting
+    public static final String POLICY_EVALUATION_CACHE_TIME_BUCKET_SECONDS = "edc.policy.evaluation-cache.time-bucket.seconds";
+
+    @Inject
+    private Clock clock;
+
+    @Inject(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Override
+    public String name() {
+        return EXTENSION_NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        var config = context.getConfig();
+        var cache = new InMemoryPolicyEvaluationCache(
+                Duration.ofSeconds(config.getLong(POLICY_EVALUATION_CACHE_TTL_SECONDS, 0L)),
+                config.getInteger(POLICY_EVALUATION_CACHE_MAX_SIZE, 10_000),
+                Duration.ofSeconds(config.getLong(POLICY_EVALUATION_CACHE_TIME_BUCKET_SECONDS, 10L)),
+                clock
+        );
+        context.registerService(PolicyEvaluationCache.class, cache);
+
+        if (meterRegistry != null) {
+            new PolicyEvaluationCacheMetrics(cache).bindTo(meterRegistry);
+        }
+    }
+}
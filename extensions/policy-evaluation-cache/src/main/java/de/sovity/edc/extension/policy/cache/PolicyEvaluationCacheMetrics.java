@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.extension.policy.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Exposes the hits, misses, hit rate and size of an {@link InMemoryPolicyEvaluationCache}.
+ */
+public class PolicyEvaluationCacheMetrics implements MeterBinder {
+    public static final String HITS = "edc.policy.evaluation.cache.hits";
+    public static final String MISSES = "edc.policy.evaluation.cache.misses";
+    public static final String HIT_RATE = "edc.policy.evaluation.cache.hit.rate";
+    public static final String SIZE = "edc.policy.evaluation.cache.size";
+
+    private final InMemoryPolicyEvaluationCache cache;
+
+    public PolicyEvaluationCacheMetrics(InMemoryPolicyEvaluationCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(HITS, cache, InMemoryPolicyEvaluationCache::getHits)
+                .description("Constraint function results served from the policy evaluation cache")
+                .register(registry);
+        FunctionCounter.builder(MISSES, cache, InMemoryPolicyEvaluationCache::getMisses)
+                .description("Constraint function results evaluated on a policy evaluation cache miss")
+                .register(registry);
+        Gauge.builder(HIT_RATE, cache, InMemoryPolicyEvaluationCache::getHitRate)
+                .description("Hit rate of the policy evaluation cache since startup")
+                .register(registry);
+        Gauge.builder(SIZE, cache, InMemoryPolicyEvaluationCache::size)
+                .description("Cached constraint function results")
+                .register(registry);
+    }
+}
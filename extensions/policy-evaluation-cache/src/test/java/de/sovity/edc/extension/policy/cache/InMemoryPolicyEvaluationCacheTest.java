@@ -0,0 +1,173 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.extension.policy.cache;
+
+import org.eclipse.edc.policy.engine.spi.AtomicConstraintFunction;
+import org.eclipse.edc.policy.engine.spi.PolicyContext;
+import org.eclipse.edc.policy.model.Operator;
+import org.eclipse.edc.policy.model.Permission;
+import org.eclipse.edc.spi.agent.ParticipantAgent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InMemoryPolicyEvaluationCacheTest {
+    private static final Set<String> CLAIMS = Set.of("referringConnector");
+
+    Clock clock;
+    InMemoryPolicyEvaluationCache cache;
+    AtomicInteger evaluations;
+    AtomicConstraintFunction<Permission> function;
+
+    @BeforeEach
+    void setUp() {
+        clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L);
+        cache = new InMemoryPolicyEvaluationCache(Duration.ofSeconds(30), 100, Duration.ofSeconds(10), clock);
+        evaluations = new AtomicInteger();
+        function = (operator, rightValue, rule, context) -> {
+            evaluations.incrementAndGet();
+            return "allowed".equals(rightValue);
+        };
+    }
+
+    @Test
+    void testIdenticalConstraintsAreEvaluatedOnce() {
+        // arrange
+        var cached = cache.wrap("KEY", CLAIMS, function);
+        var context = context("https://partner");
+
+        // act
+        var first = cached.evaluate(Operator.EQ, "allowed", null, context);
+        var second = cached.evaluate(Operator.EQ, "allowed", null, context("https://partner"));
+        var otherParticipant = cached.evaluate(Operator.EQ, "allowed", null, context("https://other"));
+        var otherRightValue = cached.evaluate(Operator.EQ, "denied", null, context);
+
+        // assert
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(otherParticipant).isTrue();
+        assertThat(otherRightValue).isFalse();
+        assertThat(evaluations).hasValue(3);
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getMisses()).isEqualTo(3);
+        assertThat(cache.getHitRate()).isEqualTo(0.25);
+    }
+
+    @Test
+    void testOnlyDeclaredClaimsAreKeyed() {
+        // arrange
+        var cached = cache.wrap("KEY", CLAIMS, function);
+
+        // act
+        cached.evaluate(Operator.EQ, "allowed", null, context(Map.of("referringConnector", "https://partner", "jti", "1", "iat", 1)));
+        cached.evaluate(Operator.EQ, "allowed", null, context(Map.of("referringConnector", "https://partner", "jti", "2", "iat", 2)));
+        cached.evaluate(Operator.EQ, "allowed", null, context(Map.of("jti", "3")));
+
+        // assert
+        assertThat(evaluations).hasValue(2);
+        assertThat(cache.getHits()).isEqualTo(1);
+    }
+
+    @Test
+    void testWithoutClaimsParticipantIsNotRequired() {
+        // arrange
+        var cached = cache.wrapTimeBased("KEY", Set.of(), function);
+
+        // act
+        cached.evaluate(Operator.EQ, "allowed", null, mock(PolicyContext.class));
+        cached.evaluate(Operator.EQ, "allowed", null, context("https://other"));
+
+        // assert
+        assertThat(evaluations).hasValue(1);
+    }
+
+    @Test
+    void testExpiry() {
+        // arrange
+        var cached = cache.wrap("KEY", CLAIMS, function);
+        cached.evaluate(Operator.EQ, "allowed", null, context("https://partner"));
+        when(clock.millis()).thenReturn(30_000L);
+
+        // act
+        cached.evaluate(Operator.EQ, "allowed", null, context("https://partner"));
+
+        // assert
+        assertThat(evaluations).hasValue(2);
+    }
+
+    @Test
+    void testTimeBucket() {
+        // arrange
+        var cached = cache.wrapTimeBased("KEY", Set.of(), function);
+        cached.evaluate(Operator.EQ, "allowed", null, context("https://partner"));
+
+        // act
+        when(clock.millis()).thenReturn(9_999L);
+        cached.evaluate(Operator.EQ, "allowed", null, context("https://partner"));
+        when(clock.millis()).thenReturn(10_000L);
+        cached.evaluate(Operator.EQ, "allowed", null, context("https://partner"));
+
+        // assert
+        assertThat(evaluations).hasValue(2);
+    }
+
+    @Test
+    void testContextsWithProblemsAreNotCached() {
+        // arrange
+        var cached = cache.wrap("KEY", CLAIMS, function);
+        var context = context("https://partner");
+        when(context.hasProblems()).thenReturn(true);
+
+        // act
+        cached.evaluate(Operator.EQ, "allowed", null, context);
+        cached.evaluate(Operator.EQ, "allowed", null, context);
+
+        // assert
+        assertThat(evaluations).hasValue(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void testDisabled() {
+        // arrange
+        var disabled = new InMemoryPolicyEvaluationCache(Duration.ZERO, 100, Duration.ofSeconds(10), clock);
+
+        // act
+        var cached = disabled.wrap("KEY", CLAIMS, function);
+
+        // assert
+        assertThat(cached).isSameAs(function);
+    }
+
+    private PolicyContext context(String referringConnector) {
+        return context(Map.of("referringConnector", referringConnector));
+    }
+
+    private PolicyContext context(Map<String, Object> claims) {
+        var context = mock(PolicyContext.class);
+        when(context.getParticipantAgent()).thenReturn(new ParticipantAgent(claims, Map.of()));
+        return context;
+    }
+}
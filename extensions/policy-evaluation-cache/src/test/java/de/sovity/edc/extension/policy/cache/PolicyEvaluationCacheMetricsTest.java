@@ -0,0 +1,62 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.extension.policy.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.edc.policy.engine.spi.AtomicConstraintFunction;
+import org.eclipse.edc.policy.engine.spi.PolicyContext;
+import org.eclipse.edc.policy.model.Operator;
+import org.eclipse.edc.policy.model.Permission;
+import org.eclipse.edc.spi.agent.ParticipantAgent;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PolicyEvaluationCacheMetricsTest {
+
+    @Test
+    void testMetrics() {
+        // arrange
+        var clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L);
+        var cache = new InMemoryPolicyEvaluationCache(Duration.ofSeconds(30), 100, Duration.ofSeconds(10), clock);
+        var registry = new SimpleMeterRegistry();
+        new PolicyEvaluationCacheMetrics(cache).bindTo(registry);
+
+        AtomicConstraintFunction<Permission> function = (operator, rightValue, rule, context) -> true;
+        var cached = cache.wrap("KEY", Set.of("referringConnector"), function);
+        var context = mock(PolicyContext.class);
+        when(context.getParticipantAgent()).thenReturn(new ParticipantAgent(Map.of("referringConnector", "https://partner"), Map.of()));
+
+        // act
+        cached.evaluate(Operator.EQ, "a", null, context);
+        cached.evaluate(Operator.EQ, "a", null, context);
+        cached.evaluate(Operator.EQ, "a", null, context);
+        cached.evaluate(Operator.EQ, "b", null, context);
+
+        // assert
+        assertThat(registry.get(PolicyEvaluationCacheMetrics.HITS).functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get(PolicyEvaluationCacheMetrics.MISSES).functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get(PolicyEvaluationCacheMetrics.HIT_RATE).gauge().value()).isEqualTo(0.5);
+        assertThat(registry.get(PolicyEvaluationCacheMetrics.SIZE).gauge().value()).isEqualTo(2);
+    }
+}
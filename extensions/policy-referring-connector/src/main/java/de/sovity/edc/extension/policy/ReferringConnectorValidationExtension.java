@@ -24,6 +24,7 @@
 
 package de.sovity.edc.extension.policy;
 
+import de.sovity.edc.extension.policy.functions.ReferringConnectorConstraintCache;
 import de.sovity.edc.extension.policy.functions.ReferringConnectorDutyFunction;
 import de.sovity.edc.extension.policy.functions.ReferringConnectorPermissionFunction;
 import de.sovity.edc.extension.policy.functions.ReferringConnectorProhibitionFunction;
@@ -98,10 +99,11 @@ public class ReferringConnectorValidationExtension implements ServiceExtension {
     @Override
     public void initialize(ServiceExtensionContext context) {
         final var monitor = context.getMonitor();
+        final var constraintCache = new ReferringConnectorConstraintCache();
 
-        final var dutyFunction = new ReferringConnectorDutyFunction(monitor);
-        final var permissionFunction = new ReferringConnectorPermissionFunction(monitor);
-        final var prohibitionFunction = new ReferringConnectorProhibitionFunction(monitor);
+        final var dutyFunction = new ReferringConnectorDutyFunction(monitor, constraintCache);
+        final var permissionFunction = new ReferringConnectorPermissionFunction(monitor, constraintCache);
+        final var prohibitionFunction = new ReferringConnectorProhibitionFunction(monitor, constraintCache);
 
         ruleBindingRegistry.bind("USE", ALL_SCOPES);
         ruleBindingRegistry.bind(REFERRING_CONNECTOR_CONSTRAINT_KEY, ALL_SCOPES);
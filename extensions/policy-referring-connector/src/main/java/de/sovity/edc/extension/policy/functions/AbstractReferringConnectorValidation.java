@@ -28,8 +28,8 @@ import org.eclipse.edc.policy.engine.spi.PolicyContext;
 import org.eclipse.edc.policy.model.Operator;
 import org.eclipse.edc.spi.monitor.Monitor;
 
-import java.util.Arrays;
-import java.util.List;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -42,10 +42,21 @@ public abstract class AbstractReferringConnectorValidation {
     private static final String FAIL_EVALUATION_BECAUSE_UNSUPPORTED_OPERATOR =
             "Failing evaluation because of invalid referring connector constraint. Unsupported operator: '%s'";
 
+    private static final String FAIL_EVALUATION_BECAUSE_RIGHT_VALUE_NULL =
+            String.format(FAIL_EVALUATION_BECAUSE_RIGHT_VALUE_NOT_STRING, "null");
+    private static final Map<Operator, String> FAIL_EVALUATION_BECAUSE_UNSUPPORTED_OPERATOR_MESSAGES =
+            buildUnsupportedOperatorMessages();
+
     private final Monitor monitor;
+    private final ReferringConnectorConstraintCache constraintCache;
 
     protected AbstractReferringConnectorValidation(Monitor monitor) {
+        this(monitor, new ReferringConnectorConstraintCache());
+    }
+
+    protected AbstractReferringConnectorValidation(Monitor monitor, ReferringConnectorConstraintCache constraintCache) {
         this.monitor = Objects.requireNonNull(monitor);
+        this.constraintCache = Objects.requireNonNull(constraintCache);
     }
 
     private static final String REFERRING_CONNECTOR_CLAIM = "referringConnector";
@@ -60,12 +71,9 @@ public abstract class AbstractReferringConnectorValidation {
      */
     protected boolean evaluate(final Operator operator, final Object rightValue, final PolicyContext policyContext) {
         if (policyContext.hasProblems() && !policyContext.getProblems().isEmpty()) {
-            var problems = String.join(", ", policyContext.getProblems());
-            var message =
-                    String.format(
-                            "ReferringConnectorValidation: Rejecting PolicyContext with problems. Problems: %s",
-                            problems);
-            monitor.debug(message);
+            monitor.debug(() -> String.format(
+                    "ReferringConnectorValidation: Rejecting PolicyContext with problems. Problems: %s",
+                    String.join(", ", policyContext.getProblems())));
             return false;
         }
 
@@ -89,7 +97,7 @@ public abstract class AbstractReferringConnectorValidation {
         if (operator == Operator.EQ || operator == Operator.IN) {
             return isReferringConnector(referringConnectorClaim, rightValue, policyContext, operator);
         } else {
-            final var message = String.format(FAIL_EVALUATION_BECAUSE_UNSUPPORTED_OPERATOR, operator);
+            final var message = FAIL_EVALUATION_BECAUSE_UNSUPPORTED_OPERATOR_MESSAGES.get(operator);
             monitor.warning(message);
             policyContext.reportProblem(message);
             return false;
@@ -107,9 +115,8 @@ public abstract class AbstractReferringConnectorValidation {
             String referringConnectorClaim, Object referringConnector, PolicyContext policyContext, Operator operator) {
         //no right value set in policy
         if (referringConnector == null) {
-            final var message = String.format(FAIL_EVALUATION_BECAUSE_RIGHT_VALUE_NOT_STRING, "null");
-            monitor.warning(message);
-            policyContext.reportProblem(message);
+            monitor.warning(FAIL_EVALUATION_BECAUSE_RIGHT_VALUE_NULL);
+            policyContext.reportProblem(FAIL_EVALUATION_BECAUSE_RIGHT_VALUE_NULL);
             return false;
         }
 
@@ -124,17 +131,17 @@ public abstract class AbstractReferringConnectorValidation {
      * @param referringConnector object of rightValue of constraint
      * @return true if claim equals the referringConnector
      */
-    private static boolean isAllowedReferringConnector(
+    private boolean isAllowedReferringConnector(
             String referringConnectorClaim, Object referringConnector, Operator operator) {
-        if (operator == Operator.IN) {
-            var referringConnectorList = (List<?>) referringConnector;
-            return referringConnectorList.contains(referringConnectorClaim);
-        } else if (operator == Operator.EQ) {
-            //support comma separated lists here as well
-            if (referringConnector instanceof String referringConnectorString) {
-                return Arrays.asList(referringConnectorString.split(",")).contains(referringConnectorClaim);
-            }
+        //supports comma separated lists for EQ as well
+        return constraintCache.isAllowedReferringConnector(referringConnectorClaim, referringConnector, operator);
+    }
+
+    private static Map<Operator, String> buildUnsupportedOperatorMessages() {
+        var messages = new EnumMap<Operator, String>(Operator.class);
+        for (var operator : Operator.values()) {
+            messages.put(operator, String.format(FAIL_EVALUATION_BECAUSE_UNSUPPORTED_OPERATOR, operator));
         }
-        return false;
+        return messages;
     }
 }
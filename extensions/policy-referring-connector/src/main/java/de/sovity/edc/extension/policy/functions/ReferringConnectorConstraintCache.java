@@ -0,0 +1,100 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.extension.policy.functions;
+
+import org.eclipse.edc.policy.model.Operator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Compiles referring connector right values into immutable hash sets, so evaluating a constraint is a single
+ * {@link Set#contains(Object)} without allocations.
+ * <ul>
+ *     <li>Comma separated strings of the {@link Operator#EQ} operator are keyed by the string.</li>
+ *     <li>Lists of the {@link Operator#IN} operator are keyed by a copy of the list. Hashing the list on lookup is
+ *     linear, but does not allocate, and policies re-read from the stores as new objects still hit the cache.</li>
+ * </ul>
+ * Both maps are cleared once they exceed max-size, which bounds the memory while policies are re-read from the
+ * stores.
+ */
+public class ReferringConnectorConstraintCache {
+    public static final int DEFAULT_MAX_SIZE = 10_000;
+
+    private final int maxSize;
+    private final Map<String, Set<String>> commaSeparatedValues = new ConcurrentHashMap<>();
+    private final Map<List<?>, Set<String>> listValues = new ConcurrentHashMap<>();
+
+    public ReferringConnectorConstraintCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public ReferringConnectorConstraintCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Evaluates if the claim is an allowed referring connector.
+     *
+     * @param referringConnectorClaim of the participant
+     * @param rightValue right value of the constraint, a comma separated string for EQ or a list for IN
+     * @param operator EQ or IN
+     * @return true if the claim is contained in the right value
+     */
+    public boolean isAllowedReferringConnector(String referringConnectorClaim, Object rightValue, Operator operator) {
+        if (operator == Operator.IN && rightValue instanceof Collection<?> list) {
+            return getCompiledList(list).contains(referringConnectorClaim);
+        } else if (operator == Operator.EQ && rightValue instanceof String commaSeparated) {
+            return getCompiledCommaSeparated(commaSeparated).contains(referringConnectorClaim);
+        }
+        return false;
+    }
+
+    private Set<String> getCompiledCommaSeparated(String commaSeparated) {
+        var compiled = commaSeparatedValues.get(commaSeparated);
+        if (compiled == null) {
+            compiled = Set.copyOf(Arrays.asList(commaSeparated.split(",")));
+            if (commaSeparatedValues.size() >= maxSize) {
+                commaSeparatedValues.clear();
+            }
+            commaSeparatedValues.put(commaSeparated, compiled);
+        }
+        return compiled;
+    }
+
+    private Set<String> getCompiledList(Collection<?> values) {
+        var list = values instanceof List<?> it ? it : new ArrayList<>(values);
+        var compiled = listValues.get(list);
+        if (compiled == null) {
+            compiled = list.stream()
+                    .filter(String.class::isInstance)
+                    .map(String.class::cast)
+                    .collect(Collectors.toUnmodifiableSet());
+            if (listValues.size() >= maxSize) {
+                listValues.clear();
+            }
+            // Copied, so later modifications of the policy cannot change cached keys
+            listValues.put(Collections.unmodifiableList(new ArrayList<>(list)), compiled);
+        }
+        return compiled;
+    }
+}
@@ -38,6 +38,10 @@ public class ReferringConnectorDutyFunction extends AbstractReferringConnectorVa
         super(monitor);
     }
 
+    public ReferringConnectorDutyFunction(Monitor monitor, ReferringConnectorConstraintCache constraintCache) {
+        super(monitor, constraintCache);
+    }
+
     @Override
     public boolean evaluate(Operator operator, Object rightValue, Duty rule, PolicyContext context) {
         return evaluate(operator, rightValue, context);
@@ -38,6 +38,10 @@ public class ReferringConnectorPermissionFunction extends AbstractReferringConne
         super(monitor);
     }
 
+    public ReferringConnectorPermissionFunction(Monitor monitor, ReferringConnectorConstraintCache constraintCache) {
+        super(monitor, constraintCache);
+    }
+
     @Override
     public boolean evaluate(Operator operator, Object rightValue, Permission rule, PolicyContext context) {
         return evaluate(operator, rightValue, context);
@@ -38,6 +38,10 @@ public class ReferringConnectorProhibitionFunction extends AbstractReferringConn
         super(monitor);
     }
 
+    public ReferringConnectorProhibitionFunction(Monitor monitor, ReferringConnectorConstraintCache constraintCache) {
+        super(monitor, constraintCache);
+    }
+
     @Override
     public boolean evaluate(Operator operator, Object rightValue, Prohibition rule, PolicyContext context) {
         return evaluate(operator, rightValue, context);
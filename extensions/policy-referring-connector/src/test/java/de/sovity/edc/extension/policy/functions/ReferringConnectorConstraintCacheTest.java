@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.extension.policy.functions;
+
+import org.eclipse.edc.policy.model.Operator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReferringConnectorConstraintCacheTest {
+
+    @Test
+    void testCommaSeparatedEq() {
+        var cache = new ReferringConnectorConstraintCache();
+
+        assertTrue(cache.isAllowedReferringConnector("http://b", "http://a,http://b", Operator.EQ));
+        assertTrue(cache.isAllowedReferringConnector("http://a", "http://a,http://b", Operator.EQ));
+        assertFalse(cache.isAllowedReferringConnector("http://c", "http://a,http://b", Operator.EQ));
+        assertFalse(cache.isAllowedReferringConnector("http://a", "http://a,http://a/b", Operator.IN));
+    }
+
+    @Test
+    void testListIn() {
+        var cache = new ReferringConnectorConstraintCache();
+        var rightValue = List.of(1, "http://a", "http://a");
+
+        assertTrue(cache.isAllowedReferringConnector("http://a", rightValue, Operator.IN));
+        assertTrue(cache.isAllowedReferringConnector("http://a", Set.of("http://a"), Operator.IN));
+        assertFalse(cache.isAllowedReferringConnector("1", rightValue, Operator.IN));
+        assertFalse(cache.isAllowedReferringConnector("http://a", rightValue, Operator.EQ));
+    }
+
+    @Test
+    void testEqualListsShareCompiledValues() {
+        var cache = new ReferringConnectorConstraintCache();
+        var rightValue = new ArrayList<Object>(List.of("http://a"));
+
+        assertTrue(cache.isAllowedReferringConnector("http://a", rightValue, Operator.IN));
+        // Policies re-read from a store are new, but equal objects
+        assertTrue(cache.isAllowedReferringConnector("http://a", List.of("http://a"), Operator.IN));
+        // Modifying the evaluated list does not affect the cached values
+        rightValue.set(0, "http://b");
+        assertTrue(cache.isAllowedReferringConnector("http://b", rightValue, Operator.IN));
+        assertFalse(cache.isAllowedReferringConnector("http://b", List.of("http://a"), Operator.IN));
+    }
+
+    @Test
+    void testStillCorrectWhenFull() {
+        var cache = new ReferringConnectorConstraintCache(2);
+
+        for (int i = 0; i < 10; i++) {
+            var connector = "http://connector-" + i;
+            assertTrue(cache.isAllowedReferringConnector(connector, "http://other," + connector, Operator.EQ));
+            assertTrue(cache.isAllowedReferringConnector(connector, List.of(connector), Operator.IN));
+            assertFalse(cache.isAllowedReferringConnector("http://unknown", "http://other," + connector, Operator.EQ));
+        }
+    }
+}
@@ -1,5 +1,8 @@
 val edcVersion: String by project
 val edcGroup: String by project
+val mockitoVersion: String by project
+val jupiterVersion: String by project
+val assertj: String by project
 
 plugins {
     `java-library`
@@ -9,7 +12,16 @@ plugins {
 dependencies {
     api("${edcGroup}:auth-spi:${edcVersion}")
     api("${edcGroup}:policy-engine-spi:${edcVersion}")
+    implementation(project(":extensions:policy-evaluation-cache-spi"))
     testImplementation("${edcGroup}:junit:${edcVersion}")
+
+    testImplementation("org.mockito:mockito-core:${mockitoVersion}")
+    testImplementation("org.junit.jupiter:junit-jupiter-api:${jupiterVersion}")
+    testImplementation("org.assertj:assertj-core:${assertj}")
+}
+
+tasks.withType<Test> {
+    useJUnitPlatform()
 }
 
 val sovityEdcExtensionGroup: String by project
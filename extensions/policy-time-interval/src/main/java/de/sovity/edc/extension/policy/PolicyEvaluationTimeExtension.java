@@ -14,6 +14,8 @@
 
 package de.sovity.edc.extension.policy;
 
+import de.sovity.edc.extension.policy.cache.PolicyEvaluationCache;
+import org.eclipse.edc.policy.engine.spi.AtomicConstraintFunction;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
 import org.eclipse.edc.policy.engine.spi.RuleBindingRegistry;
 import org.eclipse.edc.policy.model.Permission;
@@ -21,6 +23,9 @@ import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
+import java.time.Clock;
+import java.util.Set;
+
 import static org.eclipse.edc.policy.engine.spi.PolicyEngine.ALL_SCOPES;
 
 public class PolicyEvaluationTimeExtension implements ServiceExtension {
@@ -34,6 +39,12 @@ public class PolicyEvaluationTimeExtension implements ServiceExtension {
     @Inject
     private PolicyEngine policyEngine;
 
+    @Inject
+    private Clock clock;
+
+    @Inject(required = false)
+    private PolicyEvaluationCache policyEvaluationCache;
+
     @Override
     public String name() {
         return EXTENSION_NAME;
@@ -45,10 +56,16 @@ public class PolicyEvaluationTimeExtension implements ServiceExtension {
 
         ruleBindingRegistry.bind("USE", ALL_SCOPES);
         ruleBindingRegistry.bind(KEY_POLICY_EVALUATION_TIME, ALL_SCOPES);
+
+        AtomicConstraintFunction<Permission> function = new PolicyEvaluationTimeFunction(monitor, clock);
+        if (policyEvaluationCache != null) {
+            // Only depends on the time, not on the participant
+            function = policyEvaluationCache.wrapTimeBased(KEY_POLICY_EVALUATION_TIME, Set.of(), function);
+        }
         policyEngine.registerFunction(
                 ALL_SCOPES,
                 Permission.class,
                 KEY_POLICY_EVALUATION_TIME,
-                new PolicyEvaluationTimeFunction(monitor));
+                function);
     }
 }
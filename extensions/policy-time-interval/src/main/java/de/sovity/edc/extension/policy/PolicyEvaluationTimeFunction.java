@@ -20,33 +20,95 @@ import org.eclipse.edc.policy.model.Operator;
 import org.eclipse.edc.policy.model.Permission;
 import org.eclipse.edc.spi.monitor.Monitor;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Compares the policy evaluation time against a date right value.
+ * <p>
+ * Right values are parsed once and cached as instants, which keep their sub-millisecond precision. The current time is
+ * sampled once per {@link PolicyContext}, so all constraints of one evaluated policy are evaluated against the same
+ * instant. The policy engine creates a new context per policy, so e.g. the offers of a catalog may see different
+ * instants.
+ */
 public class PolicyEvaluationTimeFunction implements AtomicConstraintFunction<Permission> {
+    private static final int MAX_CACHED_RIGHT_VALUES = 10_000;
+
     private final Monitor monitor;
+    private final Clock clock;
+
+    /**
+     * Parsed right values, empty for unparseable ones. Cleared when full.
+     */
+    private final Map<String, Optional<Instant>> parsedRightValues = new ConcurrentHashMap<>();
+
+    record EvaluationTime(Instant instant) {
+    }
 
     public PolicyEvaluationTimeFunction(Monitor monitor) {
+        this(monitor, Clock.systemUTC());
+    }
+
+    public PolicyEvaluationTimeFunction(Monitor monitor, Clock clock) {
         this.monitor = monitor;
+        this.clock = clock;
     }
 
     @Override
     public boolean evaluate(Operator operator, Object rightValue, Permission rule, PolicyContext context) {
-        try {
-            var policyDate = OffsetDateTime.parse((String) rightValue);
-            var nowDate = OffsetDateTime.now();
-            return switch (operator) {
-                case LT -> nowDate.isBefore(policyDate);
-                case LEQ -> nowDate.isBefore(policyDate) || nowDate.equals(policyDate);
-                case GT -> nowDate.isAfter(policyDate);
-                case GEQ -> nowDate.isAfter(policyDate) || nowDate.equals(policyDate);
-                case EQ -> nowDate.equals(policyDate);
-                case NEQ -> !nowDate.equals(policyDate);
-                default -> false;
-            };
-        } catch (DateTimeParseException e) {
+        var policyDate = parseRightValue(rightValue);
+        if (policyDate.isEmpty()) {
             monitor.severe("Failed to parse right value of constraint to date.");
             return false;
         }
+
+        var comparison = getEvaluationTime(context).compareTo(policyDate.get());
+        return switch (operator) {
+            case LT -> comparison < 0;
+            case LEQ -> comparison <= 0;
+            case GT -> comparison > 0;
+            case GEQ -> comparison >= 0;
+            case EQ -> comparison == 0;
+            case NEQ -> comparison != 0;
+            default -> false;
+        };
+    }
+
+    private Instant getEvaluationTime(PolicyContext context) {
+        var evaluationTime = context.getContextData(EvaluationTime.class);
+        if (evaluationTime == null) {
+            evaluationTime = new EvaluationTime(clock.instant());
+            context.putContextData(EvaluationTime.class, evaluationTime);
+        }
+        return evaluationTime.instant();
+    }
+
+    private Optional<Instant> parseRightValue(Object rightValue) {
+        if (!(rightValue instanceof String string)) {
+            return Optional.empty();
+        }
+
+        var parsed = parsedRightValues.get(string);
+        if (parsed == null) {
+            parsed = parse(string);
+            if (parsedRightValues.size() >= MAX_CACHED_RIGHT_VALUES) {
+                parsedRightValues.clear();
+            }
+            parsedRightValues.put(string, parsed);
+        }
+        return parsed;
+    }
+
+    private static Optional<Instant> parse(String rightValue) {
+        try {
+            return Optional.of(OffsetDateTime.parse(rightValue).toInstant());
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
     }
 }
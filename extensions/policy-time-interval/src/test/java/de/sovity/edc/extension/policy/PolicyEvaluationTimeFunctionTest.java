@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.extension.policy;
+
+import org.eclipse.edc.policy.engine.spi.PolicyContext;
+import org.eclipse.edc.policy.model.Operator;
+import org.eclipse.edc.policy.model.Permission;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PolicyEvaluationTimeFunctionTest {
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00.000500Z");
+
+    Monitor monitor;
+    Clock clock;
+    PolicyEvaluationTimeFunction function;
+
+    @BeforeEach
+    void setUp() {
+        monitor = mock(Monitor.class);
+        clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(NOW);
+        function = new PolicyEvaluationTimeFunction(monitor, clock);
+    }
+
+    @Test
+    void testComparisons() {
+        assertThat(evaluate(Operator.LT, "2024-01-01T00:00:01Z")).isTrue();
+        assertThat(evaluate(Operator.LT, "2023-12-31T23:59:59Z")).isFalse();
+        assertThat(evaluate(Operator.LEQ, "2024-01-01T00:00:00.000500Z")).isTrue();
+        assertThat(evaluate(Operator.GT, "2023-12-31T23:59:59Z")).isTrue();
+        assertThat(evaluate(Operator.GT, "2024-01-01T00:00:01Z")).isFalse();
+        assertThat(evaluate(Operator.GEQ, "2024-01-01T00:00:00.000500Z")).isTrue();
+        assertThat(evaluate(Operator.IN, "2024-01-01T00:00:00.000500Z")).isFalse();
+    }
+
+    @Test
+    void testEqualityKeepsSubMillisecondPrecision() {
+        // Same millisecond, but half a millisecond before the evaluation time
+        var sameMillisecond = "2024-01-01T00:00:00.000Z";
+
+        assertThat(evaluate(Operator.EQ, sameMillisecond)).isFalse();
+        assertThat(evaluate(Operator.NEQ, sameMillisecond)).isTrue();
+        assertThat(evaluate(Operator.GT, sameMillisecond)).isTrue();
+        assertThat(evaluate(Operator.LEQ, sameMillisecond)).isFalse();
+    }
+
+    @Test
+    void testEqualityIgnoresOffset() {
+        var sameInstant = "2024-01-01T01:00:00.000500+01:00";
+
+        assertThat(evaluate(Operator.EQ, sameInstant)).isTrue();
+        assertThat(evaluate(Operator.NEQ, sameInstant)).isFalse();
+    }
+
+    @Test
+    void testNonStringRightValue() {
+        assertThat(evaluate(Operator.LT, 1_704_067_200_000L)).isFalse();
+        assertThat(evaluate(Operator.NEQ, List.of("2024-01-01T00:00:01Z"))).isFalse();
+        assertThat(evaluate(Operator.NEQ, null)).isFalse();
+        verify(monitor, times(3)).severe(anyString());
+    }
+
+    @Test
+    void testUnparseableRightValue() {
+        assertThat(evaluate(Operator.NEQ, "not a date")).isFalse();
+        assertThat(evaluate(Operator.NEQ, "2024-01-01")).isFalse();
+        verify(monitor, times(2)).severe(anyString());
+    }
+
+    @Test
+    void testClockIsSampledOncePerContext() {
+        // arrange
+        var context = policyContext();
+        var later = NOW.plusSeconds(2);
+
+        // act
+        var first = function.evaluate(Operator.LT, "2024-01-01T00:00:01Z", Permission.Builder.newInstance().build(), context);
+        when(clock.instant()).thenReturn(later);
+        var sameContext = function.evaluate(Operator.LT, "2024-01-01T00:00:01Z", Permission.Builder.newInstance().build(), context);
+        var newContext = function.evaluate(Operator.LT, "2024-01-01T00:00:01Z", Permission.Builder.newInstance().build(), policyContext());
+
+        // assert
+        assertThat(first).isTrue();
+        assertThat(sameContext).isTrue();
+        assertThat(newContext).isFalse();
+    }
+
+    private boolean evaluate(Operator operator, Object rightValue) {
+        return function.evaluate(operator, rightValue, Permission.Builder.newInstance().build(), policyContext());
+    }
+
+    /**
+     * Policy context keeping its context data like the policy engine's.
+     */
+    private static PolicyContext policyContext() {
+        var contextData = new HashMap<Class<?>, Object>();
+        var context = mock(PolicyContext.class);
+        when(context.getContextData(any())).thenAnswer(invocation -> contextData.get(invocation.getArgument(0)));
+        doAnswer(invocation -> contextData.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(context).putContextData(any(Class.class), any());
+        return context;
+    }
+}
@@ -3,6 +3,9 @@ val edcGroup: String by project
 val flywayVersion: String by project
 val postgresVersion: String by project
 val lombokVersion: String by project
+val micrometerVersion: String by project
+val mockitoVersion: String by project
+val assertj: String by project
 
 plugins {
     `java-library`
@@ -25,8 +28,44 @@ dependencies {
     implementation("org.postgresql:postgresql:${postgresVersion}")
 
     implementation("org.flywaydb:flyway-core:${flywayVersion}")
+    implementation("io.micrometer:micrometer-core:${micrometerVersion}")
 
+    testAnnotationProcessor("org.projectlombok:lombok:${lombokVersion}")
+    testCompileOnly("org.projectlombok:lombok:${lombokVersion}")
     testImplementation("${edcGroup}:junit:${edcVersion}")
+    testImplementation(project(":utils:test-connector-remote"))
+    testImplementation("org.assertj:assertj-core:${assertj}")
+    testImplementation("org.mockito:mockito-core:${mockitoVersion}")
+}
+
+// Checksum of each bundled migration location, compared against the database on startup to skip up-to-date datasources
+val generateMigrationChecksums by tasks.registering {
+    val migrationDir = layout.projectDirectory.dir("src/main/resources/migration")
+    val outputDir = layout.buildDirectory.dir("generated/migration-checksums")
+    inputs.dir(migrationDir)
+    outputs.dir(outputDir)
+    doLast {
+        val checksumDir = outputDir.get().dir("migration").asFile
+        checksumDir.mkdirs()
+        migrationDir.asFile.listFiles()!!.filter { it.isDirectory }.forEach { location ->
+            val digest = java.security.MessageDigest.getInstance("SHA-256")
+            location.walkTopDown()
+                .filter { it.isFile }
+                .sortedBy { it.relativeTo(location).invariantSeparatorsPath }
+                .forEach {
+                    digest.update(it.relativeTo(location).invariantSeparatorsPath.toByteArray())
+                    digest.update(it.readBytes())
+                }
+            val checksum = java.util.HexFormat.of().formatHex(digest.digest())
+            File(checksumDir, "${location.name}.sha256").writeText(checksum)
+        }
+    }
+}
+
+sourceSets {
+    main {
+        resources.srcDir(generateMigrationChecksums)
+    }
 }
 
 val sovityEdcExtensionGroup: String by project
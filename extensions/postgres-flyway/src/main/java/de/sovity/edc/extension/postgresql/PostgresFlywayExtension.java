@@ -14,12 +14,27 @@
 
 package de.sovity.edc.extension.postgresql;
 
+import de.sovity.edc.extension.postgresql.connection.DriverManagerConnectionFactory;
+import de.sovity.edc.extension.postgresql.connection.JdbcConnectionProperties;
+import de.sovity.edc.extension.postgresql.connection.MigrationDataSources;
 import de.sovity.edc.extension.postgresql.migration.DatabaseMigrationManager;
 import de.sovity.edc.extension.postgresql.migration.FlywayService;
+import de.sovity.edc.extension.postgresql.migration.MigrationChecksumMarker;
+import de.sovity.edc.extension.postgresql.retention.TransferProcessRetentionJob;
+import de.sovity.edc.extension.postgresql.retention.TransferProcessRetentionMetrics;
+import de.sovity.edc.extension.postgresql.retention.TransferProcessRetentionSettings;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provides;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.configuration.Config;
 
+import java.time.Clock;
+import java.time.Duration;
+
+@Provides(TransferProcessRetentionMetrics.class)
 public class PostgresFlywayExtension implements ServiceExtension {
 
 
@@ -29,6 +44,31 @@ public class PostgresFlywayExtension implements ServiceExtension {
     public static final String FLYWAY_CLEAN_ENABLED = "edc.flyway.clean.enable";
     @Setting
     public static final String FLYWAY_CLEAN = "edc.flyway.clean";
+    @Setting
+    public static final String FLYWAY_PARALLEL_MIGRATIONS = "edc.flyway.parallel-migrations";
+    @Setting
+    public static final String FLYWAY_SKIP_UNCHANGED_MIGRATIONS = "edc.flyway.skip-unchanged-migrations";
+
+    @Setting
+    public static final String TRANSFER_RETENTION_MAX_ROWS = "edc.transfer.retention.max-rows";
+    @Setting
+    public static final String TRANSFER_RETENTION_MAX_AGE_DAYS = "edc.transfer.retention.max-age.days";
+    @Setting
+    public static final String TRANSFER_RETENTION_INTERVAL_SECONDS = "edc.transfer.retention.interval.seconds";
+    @Setting
+    public static final String TRANSFER_RETENTION_BATCH_SIZE = "edc.transfer.retention.batch-size";
+    @Setting
+    public static final String TRANSFER_RETENTION_MAX_BATCHES_PER_RUN = "edc.transfer.retention.max-batches-per-run";
+    @Setting
+    public static final String TRANSFER_RETENTION_ARCHIVE = "edc.transfer.retention.archive";
+
+    private static final String DEFAULT_DATASOURCE = "default";
+
+    @Inject(required = false)
+    private MeterRegistry meterRegistry;
+
+    private TransferProcessRetentionJob transferProcessRetentionJob;
+    private Duration transferProcessRetentionInterval;
 
     @Override
     public String name() {
@@ -37,14 +77,59 @@ public class PostgresFlywayExtension implements ServiceExtension {
 
     @Override
     public void initialize(ServiceExtensionContext context) {
-        var flywayService = new FlywayService(
+        try (var migrationDataSources = new MigrationDataSources()) {
+            var flywayService = new FlywayService(
+                    context.getMonitor(),
+                    context.getSetting(EDC_DATASOURCE_REPAIR_SETTING, false),
+                    context.getSetting(FLYWAY_CLEAN_ENABLED, false),
+                    context.getSetting(FLYWAY_CLEAN, false),
+                    migrationDataSources,
+                    new MigrationChecksumMarker(),
+                    context.getSetting(FLYWAY_SKIP_UNCHANGED_MIGRATIONS, true)
+            );
+            var migrationManager = new DatabaseMigrationManager(
+                    context.getConfig(),
+                    flywayService,
+                    context.getMonitor(),
+                    context.getSetting(FLYWAY_PARALLEL_MIGRATIONS, true)
+            );
+            migrationManager.migrateAllDataSources();
+        }
+
+        var config = context.getConfig();
+        var retentionMetrics = new TransferProcessRetentionMetrics();
+        context.registerService(TransferProcessRetentionMetrics.class, retentionMetrics);
+        if (meterRegistry != null) {
+            retentionMetrics.bindTo(meterRegistry);
+        }
+        transferProcessRetentionJob = new TransferProcessRetentionJob(
+                new DriverManagerConnectionFactory(new JdbcConnectionProperties(config, DEFAULT_DATASOURCE)),
+                buildRetentionSettings(config),
+                retentionMetrics,
                 context.getMonitor(),
-                context.getSetting(EDC_DATASOURCE_REPAIR_SETTING, false),
-                context.getSetting(FLYWAY_CLEAN_ENABLED, false),
-                context.getSetting(FLYWAY_CLEAN, false)
+                Clock.systemUTC()
+        );
+        transferProcessRetentionInterval = Duration.ofSeconds(config.getLong(TRANSFER_RETENTION_INTERVAL_SECONDS, 60L));
+    }
+
+    @Override
+    public void start() {
+        transferProcessRetentionJob.start(transferProcessRetentionInterval);
+    }
+
+    @Override
+    public void shutdown() {
+        transferProcessRetentionJob.stop();
+    }
+
+    private TransferProcessRetentionSettings buildRetentionSettings(Config config) {
+        return new TransferProcessRetentionSettings(
+                config.getLong(TRANSFER_RETENTION_MAX_ROWS, 3000L),
+                Duration.ofDays(config.getLong(TRANSFER_RETENTION_MAX_AGE_DAYS, 0L)),
+                config.getInteger(TRANSFER_RETENTION_BATCH_SIZE, 500),
+                config.getInteger(TRANSFER_RETENTION_MAX_BATCHES_PER_RUN, 100),
+                config.getBoolean(TRANSFER_RETENTION_ARCHIVE, false)
         );
-        var migrationManager = new DatabaseMigrationManager(context.getConfig(), flywayService);
-        migrationManager.migrateAllDataSources();
     }
 
 }
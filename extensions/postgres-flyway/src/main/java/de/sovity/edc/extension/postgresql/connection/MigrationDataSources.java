@@ -0,0 +1,60 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.extension.postgresql.connection;
+
+import org.eclipse.edc.sql.datasource.ConnectionPoolDataSource;
+import org.eclipse.edc.sql.pool.commons.CommonsConnectionPool;
+import org.eclipse.edc.sql.pool.commons.CommonsConnectionPoolConfig;
+
+import java.util.HashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+
+/**
+ * Shares one {@link CommonsConnectionPool} between all datasources with the same JDBC URL and user, so migrating
+ * multiple datasources of the same database does not open a new connection for every Flyway operation.
+ * <p>
+ * The pools only live for the migration phase and are closed once all migrations are done.
+ */
+public class MigrationDataSources implements AutoCloseable {
+    private static final int MAX_IDLE_CONNECTIONS = 4;
+    private static final int MAX_TOTAL_CONNECTIONS = 8;
+
+    record PoolKey(String jdbcUrl, String user) {
+    }
+
+    /**
+     * Guarded by this.
+     */
+    private final Map<PoolKey, CommonsConnectionPool> connectionPools = new HashMap<>();
+
+    public synchronized DataSource getDataSource(JdbcConnectionProperties jdbcConnectionProperties) {
+        var key = new PoolKey(jdbcConnectionProperties.getJdbcUrl(), jdbcConnectionProperties.getUser());
+        var connectionPool = connectionPools.computeIfAbsent(key, it -> new CommonsConnectionPool(
+                new DriverManagerConnectionFactory(jdbcConnectionProperties),
+                CommonsConnectionPoolConfig.Builder.newInstance()
+                        .maxIdleConnections(MAX_IDLE_CONNECTIONS)
+                        .maxTotalConnections(MAX_TOTAL_CONNECTIONS)
+                        .build()
+        ));
+        return new ConnectionPoolDataSource(connectionPool);
+    }
+
+    @Override
+    public synchronized void close() {
+        connectionPools.values().forEach(CommonsConnectionPool::close);
+        connectionPools.clear();
+    }
+}
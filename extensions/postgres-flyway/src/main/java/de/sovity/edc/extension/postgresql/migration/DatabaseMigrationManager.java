@@ -16,10 +16,20 @@ package de.sovity.edc.extension.postgresql.migration;
 
 import de.sovity.edc.extension.postgresql.connection.JdbcConnectionProperties;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
 import org.eclipse.edc.spi.system.configuration.Config;
 
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 public class DatabaseMigrationManager {
     @Setting
@@ -29,34 +39,85 @@ public class DatabaseMigrationManager {
 
     private final Config config;
     private final FlywayService flywayService;
+    private final Monitor monitor;
+    private final boolean parallel;
 
-    private final List<String> dataSourceNames = List.of(
-            // Pre EDC 0 legacy migrations
+    // Pre EDC 0 legacy migrations, the actual DB migrations of the default datasource run after them
+    private final List<String> legacyDataSourceNames = List.of(
             "asset",
             "contractdefinition",
             "policy",
             "contractnegotiation",
             "transferprocess",
-            "dataplaneinstance",
-
-            // Actual DB migrations
-            "default"
+            "dataplaneinstance"
     );
 
-    public DatabaseMigrationManager(Config config, FlywayService flywayService) {
+    private final Map<String, Long> durationMillisByDataSource = new ConcurrentHashMap<>();
+
+    public DatabaseMigrationManager(Config config, FlywayService flywayService, Monitor monitor, boolean parallel) {
         this.config = config;
         this.flywayService = flywayService;
+        this.monitor = monitor;
+        this.parallel = parallel;
     }
 
     public void migrateAllDataSources() {
+        var start = System.nanoTime();
         flywayService.cleanDatabase(DEFAULT_DATASOURCE, new JdbcConnectionProperties(config, DEFAULT_DATASOURCE));
-        for (String datasourceName : dataSourceNames) {
-            var jdbcConnectionProperties = new JdbcConnectionProperties(config, datasourceName);
-            List<String> additionalMigrationLocations = getAdditionalFlywayMigrationLocations(datasourceName);
-            flywayService.migrateDatabase(datasourceName, jdbcConnectionProperties, additionalMigrationLocations);
+        migrateLegacyDataSources();
+        migrateDataSource(DEFAULT_DATASOURCE);
+        logTimings(millisSince(start));
+    }
+
+    /**
+     * Legacy datasources pointing at the same JDBC URL are migrated one after another in the original order, as
+     * their migrations share tables such as {@code edc_lease}. Datasources of different databases or schemas are
+     * independent and migrated in parallel.
+     */
+    private void migrateLegacyDataSources() {
+        var groups = legacyDataSourceNames.stream().collect(Collectors.groupingBy(
+                datasourceName -> new JdbcConnectionProperties(config, datasourceName).getJdbcUrl(),
+                LinkedHashMap::new,
+                Collectors.toList()
+        ));
+
+        if (!parallel || groups.size() <= 1) {
+            legacyDataSourceNames.forEach(this::migrateDataSource);
+            return;
+        }
+
+        var executor = Executors.newFixedThreadPool(groups.size());
+        try {
+            var futures = groups.values().stream()
+                    .map(datasourceNames -> executor.submit(() -> datasourceNames.forEach(this::migrateDataSource)))
+                    .toList();
+            futures.forEach(DatabaseMigrationManager::await);
+        } finally {
+            executor.shutdownNow();
         }
     }
 
+    private void migrateDataSource(String datasourceName) {
+        var start = System.nanoTime();
+        var jdbcConnectionProperties = new JdbcConnectionProperties(config, datasourceName);
+        List<String> additionalMigrationLocations = getAdditionalFlywayMigrationLocations(datasourceName);
+        flywayService.migrateDatabase(datasourceName, jdbcConnectionProperties, additionalMigrationLocations);
+        durationMillisByDataSource.put(datasourceName, millisSince(start));
+    }
+
+    private void logTimings(long totalMillis) {
+        var timings = legacyDataSourceNames.stream()
+                .map(datasourceName -> "%s=%dms".formatted(datasourceName, durationMillisByDataSource.get(datasourceName)))
+                .collect(Collectors.joining(", "));
+        monitor.info("Flyway migrations took %dms (%s, %s=%dms, parallel=%s)".formatted(
+                totalMillis,
+                timings,
+                DEFAULT_DATASOURCE,
+                durationMillisByDataSource.get(DEFAULT_DATASOURCE),
+                parallel
+        ));
+    }
+
     public List<String> getAdditionalFlywayMigrationLocations(String datasourceName) {
         // Only the default data has configurable additional migration scripts
         if (!datasourceName.equals(DEFAULT_DATASOURCE)) {
@@ -69,4 +130,22 @@ public class DatabaseMigrationManager {
                 .filter(it -> !it.isEmpty())
                 .toList();
     }
+
+    private static void await(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EdcPersistenceException("Interrupted while migrating datasources.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new EdcPersistenceException("Failed to migrate datasources.", e.getCause());
+        }
+    }
+
+    private static long millisSince(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
 }
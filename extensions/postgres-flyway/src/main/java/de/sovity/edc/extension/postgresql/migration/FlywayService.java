@@ -14,12 +14,11 @@
 
 package de.sovity.edc.extension.postgresql.migration;
 
-import de.sovity.edc.extension.postgresql.connection.DriverManagerConnectionFactory;
 import de.sovity.edc.extension.postgresql.connection.JdbcConnectionProperties;
+import de.sovity.edc.extension.postgresql.connection.MigrationDataSources;
 import lombok.RequiredArgsConstructor;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.persistence.EdcPersistenceException;
-import org.eclipse.edc.sql.datasource.ConnectionFactoryDataSource;
 import org.flywaydb.core.Flyway;
 import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.api.MigrationVersion;
@@ -39,6 +38,9 @@ public class FlywayService {
     private final boolean tryRepairOnFailedMigration;
     private final boolean cleanEnabled;
     private final boolean clean;
+    private final MigrationDataSources migrationDataSources;
+    private final MigrationChecksumMarker migrationChecksumMarker;
+    private final boolean skipUnchangedMigrations;
 
     public void cleanDatabase(String datasourceName, JdbcConnectionProperties jdbcConnectionProperties) {
         if (clean) {
@@ -53,10 +55,14 @@ public class FlywayService {
             JdbcConnectionProperties jdbcConnectionProperties,
             List<String> additionalMigrationLocations
     ) {
+        var checksum = getChecksumForSkipping(datasourceName, additionalMigrationLocations);
+        var dataSource = migrationDataSources.getDataSource(jdbcConnectionProperties);
+        if (checksum != null && migrationChecksumMarker.isUpToDate(dataSource, datasourceName, checksum)) {
+            monitor.info("Migrations of datasource %s are unchanged, skipping Flyway.".formatted(datasourceName));
+            return;
+        }
+
         var flyway = setupFlyway(datasourceName, jdbcConnectionProperties, additionalMigrationLocations);
-        flyway.info().getInfoResult().migrations.stream()
-                .map(migration -> "Found migration: %s".formatted(migration.filepath))
-                .forEach(monitor::info);
 
         try {
             var migrateResult = flyway.migrate();
@@ -69,6 +75,32 @@ public class FlywayService {
                         .formatted(datasourceName), e);
             }
         }
+
+        if (checksum != null) {
+            markUpToDate(datasourceName, dataSource, checksum);
+        }
+    }
+
+    /**
+     * Additional migration locations are not covered by the bundled checksums, so datasources using them always run
+     * Flyway.
+     *
+     * @return checksum of the bundled migrations or null if Flyway must run
+     */
+    private String getChecksumForSkipping(String datasourceName, List<String> additionalMigrationLocations) {
+        if (!skipUnchangedMigrations || clean || !additionalMigrationLocations.isEmpty()) {
+            return null;
+        }
+        return migrationChecksumMarker.getBundledChecksum(datasourceName);
+    }
+
+    private void markUpToDate(String datasourceName, DataSource dataSource, String checksum) {
+        try {
+            migrationChecksumMarker.markUpToDate(dataSource, datasourceName, checksum);
+        } catch (EdcPersistenceException e) {
+            // Only costs the fast path on the next start
+            monitor.warning("Failed to store migration checksum of datasource %s".formatted(datasourceName), e);
+        }
     }
 
     private void repairAndRetryMigration(String datasourceName, Flyway flyway) {
@@ -102,7 +134,7 @@ public class FlywayService {
             JdbcConnectionProperties jdbcConnectionProperties,
             List<String> additionalMigrationLocations
     ) {
-        var dataSource = getDataSource(jdbcConnectionProperties);
+        var dataSource = migrationDataSources.getDataSource(jdbcConnectionProperties);
         var migrationTableName = String.format("flyway_schema_history_%s", datasourceName);
         var migrationLocations = new ArrayList<String>();
         migrationLocations.add(String.join("/", MIGRATION_LOCATION_BASE, datasourceName));
@@ -119,12 +151,12 @@ public class FlywayService {
                 .load();
     }
 
-    private DataSource getDataSource(JdbcConnectionProperties jdbcConnectionProperties) {
-        var connectionFactory = new DriverManagerConnectionFactory(jdbcConnectionProperties);
-        return new ConnectionFactoryDataSource(connectionFactory);
-    }
-
     private void handleFlywayMigrationResult(String datasourceName, MigrateResult migrateResult) {
+        // Logged from the result instead of a separate flyway.info() call, which would scan the schema history again
+        migrateResult.migrations.stream()
+                .map(migration -> "Executed migration for datasource %s: %s".formatted(datasourceName, migration.filepath))
+                .forEach(monitor::info);
+
         if (migrateResult.migrationsExecuted > 0) {
             monitor.info(String.format(
                     "Successfully migrated database for datasource %s " +
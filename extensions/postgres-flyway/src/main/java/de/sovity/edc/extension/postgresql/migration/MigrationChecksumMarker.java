@@ -0,0 +1,123 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.extension.postgresql.migration;
+
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+
+/**
+ * Remembers the checksums of the bundled migrations a datasource was successfully migrated with, so warm restarts can
+ * skip Flyway's classpath scan, validation and migration if nothing changed.
+ * <p>
+ * The checksums are generated at build time by the {@code generateMigrationChecksums} Gradle task. The
+ * {@code edc_flyway_migration_checksum} table is created by a migration of the default datasource, so datasources
+ * migrated before it on the first start, or living in another database, run Flyway until the table exists.
+ * <p>
+ * Each checksum is stored as its own row and never overwritten. During a rolling upgrade, an older replica marking its
+ * checksum therefore does not make the newer replicas run Flyway again.
+ */
+public class MigrationChecksumMarker {
+    private static final String CHECKSUM_RESOURCE = "/migration/%s.sha256";
+
+    private static final String TABLE_EXISTS = "select to_regclass('edc_flyway_migration_checksum')";
+
+    private static final String SELECT_CHECKSUM = """
+            select 1 from edc_flyway_migration_checksum
+            where datasource_name = ? and checksum = ?
+            """;
+
+    private static final String INSERT_CHECKSUM = """
+            insert into edc_flyway_migration_checksum (datasource_name, checksum, migrated_at)
+            values (?, ?, ?)
+            on conflict (datasource_name, checksum) do nothing
+            """;
+
+    /**
+     * Returns the checksum of the bundled migrations of a datasource.
+     *
+     * @param datasourceName datasource name
+     * @return checksum or null if none was generated, e.g. when running from an IDE
+     */
+    public String getBundledChecksum(String datasourceName) {
+        try (InputStream resource = getClass().getResourceAsStream(CHECKSUM_RESOURCE.formatted(datasourceName))) {
+            return resource == null ? null : new String(resource.readAllBytes(), StandardCharsets.UTF_8).trim();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Checks whether the datasource was successfully migrated with the given checksum before.
+     *
+     * @param dataSource     data source
+     * @param datasourceName datasource name
+     * @param checksum       checksum of the bundled migrations
+     * @return whether a marker for the checksum exists, false if there is none yet
+     */
+    public boolean isUpToDate(DataSource dataSource, String datasourceName, String checksum) {
+        try (var connection = dataSource.getConnection()) {
+            if (!tableExists(connection)) {
+                return false;
+            }
+
+            try (var statement = connection.prepareStatement(SELECT_CHECKSUM)) {
+                statement.setString(1, datasourceName);
+                statement.setString(2, checksum);
+                try (var resultSet = statement.executeQuery()) {
+                    return resultSet.next();
+                }
+            }
+        } catch (SQLException e) {
+            throw new EdcPersistenceException("Failed to read migration checksum of '%s'".formatted(datasourceName), e);
+        }
+    }
+
+    /**
+     * Stores the checksum after a successful migration. Does nothing if the marker table does not exist yet.
+     *
+     * @param dataSource     data source
+     * @param datasourceName datasource name
+     * @param checksum       checksum of the bundled migrations
+     */
+    public void markUpToDate(DataSource dataSource, String datasourceName, String checksum) {
+        try (var connection = dataSource.getConnection()) {
+            if (!tableExists(connection)) {
+                return;
+            }
+
+            try (var statement = connection.prepareStatement(INSERT_CHECKSUM)) {
+                statement.setString(1, datasourceName);
+                statement.setString(2, checksum);
+                statement.setLong(3, System.currentTimeMillis());
+                statement.executeUpdate();
+            }
+        } catch (SQLException e) {
+            throw new EdcPersistenceException("Failed to store migration checksum of '%s'".formatted(datasourceName), e);
+        }
+    }
+
+    private static boolean tableExists(Connection connection) throws SQLException {
+        try (var statement = connection.prepareStatement(TABLE_EXISTS);
+             var resultSet = statement.executeQuery()) {
+            return resultSet.next() && resultSet.getString(1) != null;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.extension.postgresql.retention;
+
+import lombok.RequiredArgsConstructor;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.sql.ConnectionFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically purges old transfer processes according to the {@link TransferProcessRetentionSettings}.
+ * <p>
+ * Rows are deleted oldest first in bounded batches, each in its own transaction. Rows locked by concurrent
+ * transactions are skipped and picked up by a later run, so neither inserts nor the transfer process state machine
+ * ever wait for the purge. Data requests are removed by their {@code ON DELETE CASCADE}.
+ */
+@RequiredArgsConstructor
+public class TransferProcessRetentionJob {
+    private static final String SELECT_ROWS_CUTOFF = """
+            select created_at from edc_transfer_process
+            order by created_at desc
+            offset ? limit 1
+            """;
+
+    private static final String SELECT_OLDEST = "select min(created_at) from edc_transfer_process";
+
+    private static final String DELETE_BATCH = """
+            delete from edc_transfer_process
+            where transferprocess_id in (
+                select transferprocess_id from edc_transfer_process
+                where created_at < ?
+                order by created_at
+                limit ?
+                for update skip locked
+            )
+            """;
+
+    // All parts of the statement share one snapshot, so the cascade-deleted data requests can still be joined
+    private static final String DELETE_AND_ARCHIVE_BATCH = """
+            with purged as (
+                %s
+                returning transferprocess_id, type, state, created_at, updated_at, error_detail
+            )
+            insert into edc_transfer_process_history (transferprocess_id, type, state, created_at, updated_at,
+                    error_detail, asset_id, contract_id, connector_id, purged_at)
+            select p.transferprocess_id, p.type, p.state, p.created_at, p.updated_at,
+                    p.error_detail, d.asset_id, d.contract_id, d.connector_id, ?
+            from purged p
+            left join edc_data_request d on d.transfer_process_id = p.transferprocess_id
+            on conflict do nothing
+            """.formatted(DELETE_BATCH);
+
+    private final ConnectionFactory connectionFactory;
+    private final TransferProcessRetentionSettings settings;
+    private final TransferProcessRetentionMetrics metrics;
+    private final Monitor monitor;
+    private final Clock clock;
+
+    private ScheduledExecutorService executor;
+
+    /**
+     * Schedules the purge.
+     *
+     * @param interval delay between two runs, a non-positive value disables the job
+     */
+    public void start(Duration interval) {
+        if (!settings.isEnabled() || interval.toMillis() <= 0) {
+            monitor.info("Transfer process retention is disabled.");
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor();
+        executor.scheduleWithFixedDelay(this::runSafely, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Purges all transfer processes beyond the retention limits, at most {@code maxBatchesPerRun} batches.
+     *
+     * @return number of purged transfer processes
+     * @throws SQLException on database errors
+     */
+    public long run() throws SQLException {
+        try (var connection = connectionFactory.create()) {
+            connection.setAutoCommit(true);
+
+            var cutoff = getCutoff(connection);
+            long purged = 0;
+            if (cutoff != null) {
+                for (int i = 0; i < settings.maxBatchesPerRun(); i++) {
+                    var batch = purgeBatch(connection, cutoff);
+                    purged += batch;
+                    if (batch < settings.batchSize()) {
+                        break;
+                    }
+                }
+            }
+
+            metrics.recordRun(purged, getLag(connection, cutoff), clock.millis());
+            if (purged > 0) {
+                monitor.debug("Purged %d transfer processes.".formatted(purged));
+            }
+            return purged;
+        }
+    }
+
+    private void runSafely() {
+        try {
+            run();
+        } catch (Exception e) {
+            monitor.warning("Failed to purge old transfer processes.", e);
+        }
+    }
+
+    /**
+     * Exclusive {@code created_at} upper bound of the rows to be purged.
+     *
+     * @return epoch millis or null if nothing needs to be purged
+     */
+    private Long getCutoff(Connection connection) throws SQLException {
+        Long cutoff = null;
+
+        if (settings.maxAge().toMillis() > 0) {
+            cutoff = clock.millis() - settings.maxAge().toMillis();
+        }
+
+        if (settings.maxRows() > 0) {
+            // Backwards scan of transfer_process_created_at_idx, cheap compared to count(*)
+            try (var statement = connection.prepareStatement(SELECT_ROWS_CUTOFF)) {
+                statement.setLong(1, settings.maxRows());
+                try (var resultSet = statement.executeQuery()) {
+                    if (resultSet.next()) {
+                        var newestExcessRow = resultSet.getLong(1);
+                        cutoff = cutoff == null ? newestExcessRow + 1 : Math.max(cutoff, newestExcessRow + 1);
+                    }
+                }
+            }
+        }
+
+        return cutoff;
+    }
+
+    private int purgeBatch(Connection connection, long cutoff) throws SQLException {
+        var sql = settings.archive() ? DELETE_AND_ARCHIVE_BATCH : DELETE_BATCH;
+        try (var statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, cutoff);
+            statement.setInt(2, settings.batchSize());
+            if (settings.archive()) {
+                statement.setLong(3, clock.millis());
+            }
+            return statement.executeUpdate();
+        }
+    }
+
+    private long getLag(Connection connection, Long cutoff) throws SQLException {
+        if (cutoff == null) {
+            return 0;
+        }
+
+        try (var statement = connection.prepareStatement(SELECT_OLDEST); var resultSet = statement.executeQuery()) {
+            if (!resultSet.next()) {
+                return 0;
+            }
+            var oldest = resultSet.getLong(1);
+            return resultSet.wasNull() ? 0 : Math.max(0, cutoff - oldest);
+        }
+    }
+}
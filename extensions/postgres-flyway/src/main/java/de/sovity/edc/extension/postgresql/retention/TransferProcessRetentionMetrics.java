@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.extension.postgresql.retention;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Metrics of the {@link TransferProcessRetentionJob}, registered as a service and bound to the {@link MeterRegistry}
+ * if the Micrometer Metrics extension is present.
+ */
+public class TransferProcessRetentionMetrics implements MeterBinder {
+    public static final String ROWS_PURGED = "edc.transfer.retention.rows.purged";
+    public static final String ROWS_PURGED_LAST_RUN = "edc.transfer.retention.rows.purged.last.run";
+    public static final String LAG = "edc.transfer.retention.lag";
+    public static final String LAST_RUN = "edc.transfer.retention.last.run";
+
+    private final AtomicLong rowsPurgedTotal = new AtomicLong();
+    private final AtomicLong rowsPurgedLastRun = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final AtomicLong lastRunAtMillis = new AtomicLong();
+
+    /**
+     * @return number of transfer processes purged since startup
+     */
+    public long getRowsPurgedTotal() {
+        return rowsPurgedTotal.get();
+    }
+
+    /**
+     * @return number of transfer processes purged by the last run
+     */
+    public long getRowsPurgedLastRun() {
+        return rowsPurgedLastRun.get();
+    }
+
+    /**
+     * @return how far the oldest remaining transfer process lies behind the retention cutoff after the last run,
+     * 0 if the retention is fully enforced
+     */
+    public long getLagMillis() {
+        return lagMillis.get();
+    }
+
+    /**
+     * @return epoch millis of the last completed run, 0 if the job has not completed a run yet
+     */
+    public long getLastRunAtMillis() {
+        return lastRunAtMillis.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(ROWS_PURGED, rowsPurgedTotal, AtomicLong::get)
+                .description("Transfer processes purged by the retention job since startup")
+                .register(registry);
+        Gauge.builder(ROWS_PURGED_LAST_RUN, rowsPurgedLastRun, AtomicLong::get)
+                .description("Transfer processes purged by the last run of the retention job")
+                .register(registry);
+        Gauge.builder(LAG, lagMillis, AtomicLong::get)
+                .description("How far the oldest transfer process lies behind the retention cutoff")
+                .baseUnit("milliseconds")
+                .register(registry);
+        Gauge.builder(LAST_RUN, lastRunAtMillis, AtomicLong::get)
+                .description("Epoch millis of the last completed run of the retention job")
+                .register(registry);
+    }
+
+    void recordRun(long rowsPurged, long lag, long runAtMillis) {
+        rowsPurgedTotal.addAndGet(rowsPurged);
+        rowsPurgedLastRun.set(rowsPurged);
+        lagMillis.set(lag);
+        lastRunAtMillis.set(runAtMillis);
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.extension.postgresql.retention;
+
+import java.time.Duration;
+
+/**
+ * Retention limits of the {@code edc_transfer_process} table.
+ *
+ * @param maxRows          number of newest transfer processes to keep, 0 for no limit
+ * @param maxAge           maximum age of transfer processes, {@link Duration#ZERO} for no limit
+ * @param batchSize        number of rows deleted per transaction
+ * @param maxBatchesPerRun maximum number of batches per run, limits the work of a single run after long downtimes
+ * @param archive          whether purged transfer processes should be summarized in
+ *                         {@code edc_transfer_process_history}
+ */
+public record TransferProcessRetentionSettings(
+        long maxRows,
+        Duration maxAge,
+        int batchSize,
+        int maxBatchesPerRun,
+        boolean archive
+) {
+    public boolean isEnabled() {
+        return maxRows > 0 || maxAge.toMillis() > 0;
+    }
+}
@@ -0,0 +1,4 @@
+-- Required for fast lookups of a contract agreement's negotiation, e.g. "contractAgreement.id" criteria.
+-- Postgres does not index foreign key columns, so the join from edc_contract_agreement scanned all negotiations.
+create index if not exists contract_negotiation_agreement_id_idx
+    on edc_contract_negotiation (agreement_id);
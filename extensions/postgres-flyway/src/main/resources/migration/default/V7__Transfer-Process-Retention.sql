@@ -0,0 +1,24 @@
+-- Transfer process retention is now enforced by the scheduled TransferProcessRetentionJob
+-- The per-row trigger ran a sort + limit delete on every insert, serializing concurrent inserts
+drop trigger if exists delete_old_rows on edc_transfer_process;
+drop function if exists transfer_process_delete_old_rows();
+
+-- Compact summary of purged transfer processes, only filled if edc.transfer.retention.archive is enabled
+create table if not exists edc_transfer_process_history
+(
+    transferprocess_id varchar not null
+        constraint transfer_process_history_pk
+            primary key,
+    type               varchar not null,
+    state              integer not null,
+    created_at         bigint  not null,
+    updated_at         bigint  not null,
+    error_detail       varchar,
+    asset_id           varchar,
+    contract_id        varchar,
+    connector_id       varchar,
+    purged_at          bigint  not null
+);
+
+create index if not exists transfer_process_history_purged_at_idx
+    on edc_transfer_process_history (purged_at);
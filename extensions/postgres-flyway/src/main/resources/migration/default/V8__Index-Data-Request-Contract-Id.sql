@@ -0,0 +1,4 @@
+-- Required for counting and previewing a contract agreement's transfer processes, e.g. "dataRequest.contractId"
+-- criteria, without scanning all data requests.
+create index if not exists data_request_contract_id_idx
+    on edc_data_request (contract_id);
@@ -0,0 +1,11 @@
+-- Checksums of the bundled migrations each datasource was successfully migrated with, see MigrationChecksumMarker.
+-- One row per checksum, so replicas of different versions during a rolling upgrade never overwrite each other's
+-- markers.
+create table if not exists edc_flyway_migration_checksum
+(
+    datasource_name varchar not null,
+    checksum        varchar not null,
+    migrated_at     bigint  not null,
+    constraint flyway_migration_checksum_pk
+        primary key (datasource_name, checksum)
+);
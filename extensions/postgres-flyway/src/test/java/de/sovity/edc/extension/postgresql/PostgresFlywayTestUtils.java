@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.extension.postgresql;
+
+import de.sovity.edc.extension.e2e.db.TestDatabase;
+import de.sovity.edc.extension.postgresql.connection.MigrationDataSources;
+import de.sovity.edc.extension.postgresql.migration.DatabaseMigrationManager;
+import de.sovity.edc.extension.postgresql.migration.FlywayService;
+import de.sovity.edc.extension.postgresql.migration.MigrationChecksumMarker;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.configuration.Config;
+import org.eclipse.edc.spi.system.configuration.ConfigFactory;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostgresFlywayTestUtils {
+    public static final List<String> DATASOURCE_NAMES = List.of(
+            "asset",
+            "contractdefinition",
+            "policy",
+            "contractnegotiation",
+            "transferprocess",
+            "dataplaneinstance",
+            "default"
+    );
+
+    /**
+     * Config with all datasources pointing at the given test database.
+     *
+     * @param testDatabase test database
+     * @return config
+     */
+    public static Config datasourceConfig(TestDatabase testDatabase) {
+        var credentials = testDatabase.getJdbcCredentials();
+        var properties = new HashMap<String, String>();
+        DATASOURCE_NAMES.forEach(datasourceName -> {
+            properties.put("edc.datasource.%s.url".formatted(datasourceName), credentials.jdbcUrl());
+            properties.put("edc.datasource.%s.user".formatted(datasourceName), credentials.jdbcUser());
+            properties.put("edc.datasource.%s.password".formatted(datasourceName), credentials.jdbcPassword());
+        });
+        return ConfigFactory.fromMap(properties);
+    }
+
+    /**
+     * Runs all migrations the same way the {@link PostgresFlywayExtension} does.
+     *
+     * @param testDatabase test database
+     */
+    public static void migrate(TestDatabase testDatabase) {
+        try (var migrationDataSources = new MigrationDataSources()) {
+            var monitor = mock(Monitor.class);
+            var flywayService = new FlywayService(monitor, false, false, false, migrationDataSources, new MigrationChecksumMarker(), false);
+            new DatabaseMigrationManager(datasourceConfig(testDatabase), flywayService, monitor, false).migrateAllDataSources();
+        }
+    }
+
+    public static Connection connect(TestDatabase testDatabase) throws SQLException {
+        var credentials = testDatabase.getJdbcCredentials();
+        return DriverManager.getConnection(credentials.jdbcUrl(), credentials.jdbcUser(), credentials.jdbcPassword());
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.extension.postgresql.migration;
+
+import de.sovity.edc.extension.postgresql.connection.JdbcConnectionProperties;
+import lombok.SneakyThrows;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.configuration.Config;
+import org.eclipse.edc.spi.system.configuration.ConfigFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+
+class DatabaseMigrationManagerTest {
+    private static final List<String> DATASOURCE_NAMES = List.of(
+            "asset",
+            "contractdefinition",
+            "policy",
+            "contractnegotiation",
+            "transferprocess",
+            "dataplaneinstance",
+            "default"
+    );
+    private static final String OTHER_JDBC_URL = "jdbc:postgresql://other-db:5432/edc";
+
+    FlywayService flywayService;
+    List<String> migrated;
+    Map<String, Thread> threads;
+
+    @BeforeEach
+    void setUp() {
+        flywayService = mock(FlywayService.class);
+        migrated = new CopyOnWriteArrayList<>();
+        threads = new ConcurrentHashMap<>();
+        doAnswer(invocation -> {
+            record(invocation.getArgument(0));
+            return null;
+        }).when(flywayService).migrateDatabase(anyString(), any(), anyList());
+    }
+
+    @Test
+    void testSameJdbcUrlIsMigratedSequentially() {
+        // arrange
+        var config = config(datasourceProperties(Map.of()));
+
+        // act
+        new DatabaseMigrationManager(config, flywayService, mock(Monitor.class), true).migrateAllDataSources();
+
+        // assert
+        assertThat(migrated).containsExactlyElementsOf(DATASOURCE_NAMES);
+        assertThat(threads.values()).containsOnly(Thread.currentThread());
+    }
+
+    @Test
+    void testDifferentJdbcUrlsAreMigratedInParallel() {
+        // arrange
+        var config = config(datasourceProperties(Map.of("policy", OTHER_JDBC_URL)));
+        var bothGroupsStarted = new CountDownLatch(2);
+        doAnswer(invocation -> {
+            String datasourceName = invocation.getArgument(0);
+            if (datasourceName.equals("asset") || datasourceName.equals("policy")) {
+                // Only completes if the other group is migrated at the same time
+                bothGroupsStarted.countDown();
+                assertThat(await(bothGroupsStarted)).isTrue();
+            }
+            record(datasourceName);
+            return null;
+        }).when(flywayService).migrateDatabase(anyString(), any(), anyList());
+
+        // act
+        new DatabaseMigrationManager(config, flywayService, mock(Monitor.class), true).migrateAllDataSources();
+
+        // assert
+        assertThat(threads.get("policy")).isNotSameAs(threads.get("asset"));
+        assertThat(threads.get("contractdefinition")).isSameAs(threads.get("asset"));
+        assertThat(threads.get("dataplaneinstance")).isSameAs(threads.get("asset"));
+        assertThat(migrated.stream().filter(it -> !it.equals("policy")).toList()).containsExactly(
+                "asset",
+                "contractdefinition",
+                "contractnegotiation",
+                "transferprocess",
+                "dataplaneinstance",
+                "default"
+        );
+        assertThat(migrated.get(migrated.size() - 1)).isEqualTo("default");
+        assertThat(threads.get("default")).isSameAs(Thread.currentThread());
+    }
+
+    @Test
+    void testParallelDisabledFallsBackToSequential() {
+        // arrange
+        var config = config(datasourceProperties(Map.of("policy", OTHER_JDBC_URL)));
+
+        // act
+        new DatabaseMigrationManager(config, flywayService, mock(Monitor.class), false).migrateAllDataSources();
+
+        // assert
+        assertThat(migrated).containsExactlyElementsOf(DATASOURCE_NAMES);
+        assertThat(threads.values()).containsOnly(Thread.currentThread());
+    }
+
+    @Test
+    void testDatabaseIsCleanedFirst() {
+        // arrange
+        var config = config(datasourceProperties(Map.of()));
+
+        // act
+        new DatabaseMigrationManager(config, flywayService, mock(Monitor.class), true).migrateAllDataSources();
+
+        // assert
+        var inOrder = inOrder(flywayService);
+        inOrder.verify(flywayService).cleanDatabase(eq("default"), any(JdbcConnectionProperties.class));
+        inOrder.verify(flywayService).migrateDatabase(eq("asset"), any(), anyList());
+    }
+
+    @Test
+    void testAdditionalMigrationLocationsOnlyApplyToDefault() {
+        // arrange
+        var properties = datasourceProperties(Map.of());
+        properties.put(DatabaseMigrationManager.EDC_FLYWAY_ADDITIONAL_MIGRATION_LOCATIONS, " classpath:a , ,classpath:b");
+        var migrationManager = new DatabaseMigrationManager(config(properties), flywayService, mock(Monitor.class), true);
+
+        // act
+        var defaultLocations = migrationManager.getAdditionalFlywayMigrationLocations("default");
+        var legacyLocations = migrationManager.getAdditionalFlywayMigrationLocations("asset");
+
+        // assert
+        assertThat(defaultLocations).containsExactly("classpath:a", "classpath:b");
+        assertThat(legacyLocations).isEmpty();
+    }
+
+    private void record(String datasourceName) {
+        migrated.add(datasourceName);
+        threads.put(datasourceName, Thread.currentThread());
+    }
+
+    /**
+     * All datasources point at the same database unless their JDBC URL is overridden.
+     */
+    private static Map<String, String> datasourceProperties(Map<String, String> jdbcUrlOverrides) {
+        var properties = new HashMap<String, String>();
+        DATASOURCE_NAMES.forEach(datasourceName -> {
+            var jdbcUrl = jdbcUrlOverrides.getOrDefault(datasourceName, "jdbc:postgresql://db:5432/edc");
+            properties.put("edc.datasource.%s.url".formatted(datasourceName), jdbcUrl);
+            properties.put("edc.datasource.%s.user".formatted(datasourceName), "edc");
+            properties.put("edc.datasource.%s.password".formatted(datasourceName), "edc");
+        });
+        return properties;
+    }
+
+    private static Config config(Map<String, String> properties) {
+        return ConfigFactory.fromMap(properties);
+    }
+
+    @SneakyThrows
+    private static boolean await(CountDownLatch latch) {
+        return latch.await(5, TimeUnit.SECONDS);
+    }
+}
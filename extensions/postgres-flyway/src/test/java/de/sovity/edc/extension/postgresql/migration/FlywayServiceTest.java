@@ -0,0 +1,202 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.extension.postgresql.migration;
+
+import de.sovity.edc.extension.e2e.db.TestDatabase;
+import de.sovity.edc.extension.e2e.db.TestDatabaseFactory;
+import de.sovity.edc.extension.postgresql.PostgresFlywayTestUtils;
+import de.sovity.edc.extension.postgresql.connection.JdbcConnectionProperties;
+import de.sovity.edc.extension.postgresql.connection.MigrationDataSources;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class FlywayServiceTest {
+    private static final String DATASOURCE = "default";
+    private static final String SKIPPED = "Migrations of datasource default are unchanged, skipping Flyway.";
+
+    @RegisterExtension
+    static final TestDatabase DATABASE = TestDatabaseFactory.getTestDatabase(2);
+
+    Monitor monitor;
+    MigrationDataSources migrationDataSources;
+    MigrationChecksumMarker migrationChecksumMarker;
+    JdbcConnectionProperties jdbcConnectionProperties;
+    String checksum;
+
+    @BeforeAll
+    static void migrate() {
+        PostgresFlywayTestUtils.migrate(DATABASE);
+    }
+
+    @BeforeEach
+    void setUp() {
+        monitor = mock(Monitor.class);
+        migrationDataSources = new MigrationDataSources();
+        migrationChecksumMarker = spy(new MigrationChecksumMarker());
+        jdbcConnectionProperties = new JdbcConnectionProperties(PostgresFlywayTestUtils.datasourceConfig(DATABASE), DATASOURCE);
+
+        // Unique per test, as markers are never overwritten
+        checksum = UUID.randomUUID().toString();
+        doReturn(checksum).when(migrationChecksumMarker).getBundledChecksum(DATASOURCE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        migrationDataSources.close();
+    }
+
+    @Test
+    void testUnchangedMigrationsAreSkipped() {
+        // arrange
+        var flywayService = flywayService(false, true);
+
+        // act
+        flywayService.migrateDatabase(DATASOURCE, jdbcConnectionProperties, List.of());
+        flywayService.migrateDatabase(DATASOURCE, jdbcConnectionProperties, List.of());
+
+        // assert
+        verify(monitor, times(1)).info(SKIPPED);
+        verify(migrationChecksumMarker, times(1)).markUpToDate(any(), anyString(), anyString());
+    }
+
+    @Test
+    void testOlderReplicaDoesNotInvalidateNewerChecksum() {
+        // arrange
+        var flywayService = flywayService(false, true);
+        var dataSource = migrationDataSources.getDataSource(jdbcConnectionProperties);
+        flywayService.migrateDatabase(DATASOURCE, jdbcConnectionProperties, List.of());
+
+        // act
+        // An older replica starting during a rolling upgrade stores its own checksum
+        var olderChecksum = UUID.randomUUID().toString();
+        doReturn(olderChecksum).when(migrationChecksumMarker).getBundledChecksum(DATASOURCE);
+        flywayService.migrateDatabase(DATASOURCE, jdbcConnectionProperties, List.of());
+
+        // assert
+        assertThat(migrationChecksumMarker.isUpToDate(dataSource, DATASOURCE, checksum)).isTrue();
+        assertThat(migrationChecksumMarker.isUpToDate(dataSource, DATASOURCE, olderChecksum)).isTrue();
+    }
+
+    @Test
+    void testSkippingDisabled() {
+        // arrange
+        var flywayService = flywayService(false, false);
+
+        // act
+        flywayService.migrateDatabase(DATASOURCE, jdbcConnectionProperties, List.of());
+        flywayService.migrateDatabase(DATASOURCE, jdbcConnectionProperties, List.of());
+
+        // assert
+        verify(monitor, never()).info(SKIPPED);
+        verify(migrationChecksumMarker, never()).markUpToDate(any(), anyString(), anyString());
+    }
+
+    @Test
+    void testCleanAlwaysRunsFlyway() {
+        // arrange
+        var flywayService = flywayService(true, true);
+
+        // act
+        flywayService.migrateDatabase(DATASOURCE, jdbcConnectionProperties, List.of());
+
+        // assert
+        verify(migrationChecksumMarker, never()).getBundledChecksum(anyString());
+        verify(migrationChecksumMarker, never()).isUpToDate(any(), anyString(), anyString());
+        verify(migrationChecksumMarker, never()).markUpToDate(any(), anyString(), anyString());
+    }
+
+    @Test
+    void testAdditionalMigrationLocationsAlwaysRunFlyway() throws SQLException {
+        // arrange
+        var flywayService = flywayService(false, true);
+        flywayService.migrateDatabase(DATASOURCE, jdbcConnectionProperties, List.of());
+
+        // act
+        try {
+            flywayService.migrateDatabase(DATASOURCE, jdbcConnectionProperties, List.of("classpath:db/additional-test"));
+        } finally {
+            // Would fail the validation of the other tests' migrations as a missing migration
+            forgetAdditionalMigration();
+        }
+
+        // assert
+        verify(monitor, never()).info(SKIPPED);
+        assertThat(tableExists("additional_location_test")).isTrue();
+    }
+
+    @Test
+    void testMissingChecksumResourceRunsFlyway() {
+        // arrange
+        doReturn(null).when(migrationChecksumMarker).getBundledChecksum(DATASOURCE);
+        var flywayService = flywayService(false, true);
+
+        // act
+        flywayService.migrateDatabase(DATASOURCE, jdbcConnectionProperties, List.of());
+        flywayService.migrateDatabase(DATASOURCE, jdbcConnectionProperties, List.of());
+
+        // assert
+        verify(monitor, never()).info(SKIPPED);
+        verify(migrationChecksumMarker, never()).isUpToDate(any(), anyString(), anyString());
+        assertThat(new MigrationChecksumMarker().getBundledChecksum("does-not-exist")).isNull();
+    }
+
+    private FlywayService flywayService(boolean clean, boolean skipUnchangedMigrations) {
+        return new FlywayService(
+                monitor,
+                false,
+                clean,
+                clean,
+                migrationDataSources,
+                migrationChecksumMarker,
+                skipUnchangedMigrations
+        );
+    }
+
+    private void forgetAdditionalMigration() throws SQLException {
+        try (var connection = PostgresFlywayTestUtils.connect(DATABASE);
+             var statement = connection.prepareStatement("delete from flyway_schema_history_default where script = ?")) {
+            statement.setString(1, "R__Additional_Location_Test.sql");
+            statement.executeUpdate();
+        }
+    }
+
+    private boolean tableExists(String table) throws SQLException {
+        try (var connection = PostgresFlywayTestUtils.connect(DATABASE);
+             var statement = connection.prepareStatement("select to_regclass(?)")) {
+            statement.setString(1, table);
+            try (var resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getString(1) != null;
+            }
+        }
+    }
+}
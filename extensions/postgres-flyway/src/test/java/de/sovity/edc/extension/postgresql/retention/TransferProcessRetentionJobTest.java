@@ -0,0 +1,227 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.extension.postgresql.retention;
+
+import de.sovity.edc.extension.e2e.db.TestDatabase;
+import de.sovity.edc.extension.e2e.db.TestDatabaseFactory;
+import de.sovity.edc.extension.postgresql.PostgresFlywayTestUtils;
+import de.sovity.edc.extension.postgresql.connection.DriverManagerConnectionFactory;
+import de.sovity.edc.extension.postgresql.connection.JdbcConnectionProperties;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class TransferProcessRetentionJobTest {
+    private static final long NOW = Instant.parse("2024-01-31T00:00:00Z").toEpochMilli();
+    private static final long DAY = Duration.ofDays(1).toMillis();
+
+    @RegisterExtension
+    static final TestDatabase DATABASE = TestDatabaseFactory.getTestDatabase(1);
+
+    TransferProcessRetentionMetrics metrics;
+
+    @BeforeAll
+    static void migrate() {
+        PostgresFlywayTestUtils.migrate(DATABASE);
+    }
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        metrics = new TransferProcessRetentionMetrics();
+        try (var connection = PostgresFlywayTestUtils.connect(DATABASE); var statement = connection.createStatement()) {
+            statement.execute("delete from edc_transfer_process");
+            statement.execute("delete from edc_transfer_process_history");
+        }
+    }
+
+    @Test
+    void testMaxRows() throws SQLException {
+        // arrange
+        insertTransferProcesses(10);
+        var job = job(new TransferProcessRetentionSettings(4, Duration.ZERO, 500, 100, false));
+
+        // act
+        var purged = job.run();
+
+        // assert
+        assertThat(purged).isEqualTo(6);
+        assertThat(remainingIds()).containsExactly("tp-6", "tp-7", "tp-8", "tp-9");
+        assertThat(count("edc_data_request")).isEqualTo(4);
+        assertThat(metrics.getRowsPurgedTotal()).isEqualTo(6);
+        assertThat(metrics.getLagMillis()).isZero();
+        assertThat(metrics.getLastRunAtMillis()).isEqualTo(NOW);
+    }
+
+    @Test
+    void testMaxAge() throws SQLException {
+        // arrange
+        insertTransferProcesses(10);
+        // tp-i was created i days after NOW - 10 days, so tp-0 to tp-2 are older than 7 days
+        var job = job(new TransferProcessRetentionSettings(0, Duration.ofDays(7), 500, 100, false));
+
+        // act
+        var purged = job.run();
+
+        // assert
+        assertThat(purged).isEqualTo(3);
+        assertThat(remainingIds()).first().isEqualTo("tp-3");
+    }
+
+    @Test
+    void testBatches() throws SQLException {
+        // arrange
+        insertTransferProcesses(10);
+        var job = job(new TransferProcessRetentionSettings(1, Duration.ZERO, 2, 3, false));
+
+        // act
+        var firstRun = job.run();
+        var firstRunLag = metrics.getLagMillis();
+        var secondRun = job.run();
+
+        // assert
+        // At most 3 batches of 2 rows per run, the oldest rows first
+        assertThat(firstRun).isEqualTo(6);
+        assertThat(firstRunLag).isEqualTo(2 * DAY + 1);
+        assertThat(secondRun).isEqualTo(3);
+        assertThat(remainingIds()).containsExactly("tp-9");
+        assertThat(metrics.getRowsPurgedTotal()).isEqualTo(9);
+        assertThat(metrics.getRowsPurgedLastRun()).isEqualTo(3);
+        assertThat(metrics.getLagMillis()).isZero();
+    }
+
+    @Test
+    void testArchive() throws SQLException {
+        // arrange
+        insertTransferProcesses(3);
+        var job = job(new TransferProcessRetentionSettings(1, Duration.ZERO, 500, 100, true));
+
+        // act
+        var purged = job.run();
+
+        // assert
+        assertThat(purged).isEqualTo(2);
+        try (var connection = PostgresFlywayTestUtils.connect(DATABASE);
+             var statement = connection.prepareStatement("""
+                     select transferprocess_id, state, asset_id, contract_id, connector_id, purged_at
+                     from edc_transfer_process_history order by transferprocess_id
+                     """);
+             var resultSet = statement.executeQuery()) {
+            assertThat(resultSet.next()).isTrue();
+            assertThat(resultSet.getString("transferprocess_id")).isEqualTo("tp-0");
+            assertThat(resultSet.getInt("state")).isEqualTo(800);
+            // Joined from the data request that was deleted by the same statement's cascade
+            assertThat(resultSet.getString("asset_id")).isEqualTo("asset-0");
+            assertThat(resultSet.getString("contract_id")).isEqualTo("contract-0");
+            assertThat(resultSet.getString("connector_id")).isEqualTo("connector-0");
+            assertThat(resultSet.getLong("purged_at")).isEqualTo(NOW);
+            assertThat(resultSet.next()).isTrue();
+            assertThat(resultSet.getString("transferprocess_id")).isEqualTo("tp-1");
+            assertThat(resultSet.next()).isFalse();
+        }
+        assertThat(remainingIds()).containsExactly("tp-2");
+    }
+
+    @Test
+    void testDisabledLimitsPurgeNothing() throws SQLException {
+        // arrange
+        insertTransferProcesses(3);
+        var job = job(new TransferProcessRetentionSettings(0, Duration.ZERO, 500, 100, false));
+
+        // act
+        var purged = job.run();
+
+        // assert
+        assertThat(purged).isZero();
+        assertThat(remainingIds()).hasSize(3);
+    }
+
+    private TransferProcessRetentionJob job(TransferProcessRetentionSettings settings) {
+        var config = PostgresFlywayTestUtils.datasourceConfig(DATABASE);
+        return new TransferProcessRetentionJob(
+                new DriverManagerConnectionFactory(new JdbcConnectionProperties(config, "default")),
+                settings,
+                metrics,
+                mock(Monitor.class),
+                Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC)
+        );
+    }
+
+    /**
+     * Inserts transfer processes tp-0 to tp-(n-1), created one day apart, the newest one day before now.
+     */
+    private void insertTransferProcesses(int n) throws SQLException {
+        try (var connection = PostgresFlywayTestUtils.connect(DATABASE);
+             var transferProcess = connection.prepareStatement("""
+                     insert into edc_transfer_process (transferprocess_id, type, state, created_at, updated_at)
+                     values (?, 'CONSUMER', 800, ?, ?)
+                     """);
+             var dataRequest = connection.prepareStatement("""
+                     insert into edc_data_request (datarequest_id, process_id, connector_address, protocol,
+                             connector_id, asset_id, contract_id, data_destination, transfer_process_id)
+                     values (?, ?, 'http://connector', 'dataspace-protocol-http', ?, ?, ?, '{}'::json, ?)
+                     """)) {
+            for (int i = 0; i < n; i++) {
+                var id = "tp-" + i;
+                var createdAt = NOW - (n - i) * DAY;
+                transferProcess.setString(1, id);
+                transferProcess.setLong(2, createdAt);
+                transferProcess.setLong(3, createdAt);
+                transferProcess.executeUpdate();
+
+                dataRequest.setString(1, "dr-" + i);
+                dataRequest.setString(2, id);
+                dataRequest.setString(3, "connector-" + i);
+                dataRequest.setString(4, "asset-" + i);
+                dataRequest.setString(5, "contract-" + i);
+                dataRequest.setString(6, id);
+                dataRequest.executeUpdate();
+            }
+        }
+    }
+
+    private List<String> remainingIds() throws SQLException {
+        try (var connection = PostgresFlywayTestUtils.connect(DATABASE);
+             var statement = connection.prepareStatement("select transferprocess_id from edc_transfer_process order by created_at");
+             var resultSet = statement.executeQuery()) {
+            var ids = new ArrayList<String>();
+            while (resultSet.next()) {
+                ids.add(resultSet.getString(1));
+            }
+            return ids;
+        }
+    }
+
+    private long count(String table) throws SQLException {
+        try (var connection = PostgresFlywayTestUtils.connect(DATABASE);
+             var statement = connection.prepareStatement("select count(*) from " + table);
+             var resultSet = statement.executeQuery()) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
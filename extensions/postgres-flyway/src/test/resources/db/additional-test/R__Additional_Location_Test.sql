@@ -0,0 +1,4 @@
+create table if not exists additional_location_test
+(
+    id varchar not null primary key
+);
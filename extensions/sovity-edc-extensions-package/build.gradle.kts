@@ -12,6 +12,7 @@ dependencies {
     api(project(":extensions:policy-referring-connector"))
     api(project(":extensions:policy-time-interval"))
     api(project(":extensions:policy-always-true"))
+    api(project(":extensions:policy-evaluation-cache"))
 
     // API Extensions
     api(project(":extensions:edc-ui-config"))
@@ -19,7 +19,9 @@ import de.sovity.edc.ext.wrapper.api.common.model.UiAsset;
 import de.sovity.edc.ext.wrapper.api.common.model.UiAssetCreateRequest;
 import de.sovity.edc.ext.wrapper.api.common.model.UiAssetEditMetadataRequest;
 import de.sovity.edc.ext.wrapper.api.ui.model.AssetPage;
+import de.sovity.edc.ext.wrapper.api.ui.model.ContractAgreementDirection;
 import de.sovity.edc.ext.wrapper.api.ui.model.ContractAgreementPage;
+import de.sovity.edc.ext.wrapper.api.ui.model.ContractAgreementTransferProcessPage;
 import de.sovity.edc.ext.wrapper.api.ui.model.ContractDefinitionPage;
 import de.sovity.edc.ext.wrapper.api.ui.model.ContractDefinitionRequest;
 import de.sovity.edc.ext.wrapper.api.ui.model.ContractNegotiationRequest;
@@ -27,14 +29,25 @@ import de.sovity.edc.ext.wrapper.api.ui.model.DashboardPage;
 import de.sovity.edc.ext.wrapper.api.ui.model.IdResponseDto;
 import de.sovity.edc.ext.wrapper.api.ui.model.InitiateCustomTransferRequest;
 import de.sovity.edc.ext.wrapper.api.ui.model.InitiateTransferRequest;
+import de.sovity.edc.ext.wrapper.api.ui.model.MultiCatalogPage;
+import de.sovity.edc.ext.wrapper.api.ui.model.PagedAssetPage;
+import de.sovity.edc.ext.wrapper.api.ui.model.PagedContractAgreementPage;
+import de.sovity.edc.ext.wrapper.api.ui.model.PagedContractDefinitionPage;
+import de.sovity.edc.ext.wrapper.api.ui.model.PagedPolicyDefinitionPage;
+import de.sovity.edc.ext.wrapper.api.ui.model.PagedTransferHistoryPage;
 import de.sovity.edc.ext.wrapper.api.ui.model.PolicyDefinitionPage;
+import de.sovity.edc.ext.wrapper.api.ui.model.PolicyDefinitionSortProperty;
 import de.sovity.edc.ext.wrapper.api.ui.model.TransferHistoryPage;
+import de.sovity.edc.ext.wrapper.api.ui.model.TransferHistorySortProperty;
+import de.sovity.edc.ext.wrapper.api.ui.model.TransferProcessSimplifiedState;
 import de.sovity.edc.ext.wrapper.api.ui.model.UiContractNegotiation;
 import de.sovity.edc.ext.wrapper.api.ui.model.UiDataOffer;
+import de.sovity.edc.ext.wrapper.api.ui.model.UiSortOrder;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.PUT;
@@ -45,6 +58,7 @@ import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 
 import java.util.List;
+import java.util.Map;
 
 @Path("wrapper/ui")
 @Tag(name = "UI", description = "EDC UI API Endpoints")
@@ -62,6 +76,22 @@ interface UiResource {
     @Operation(description = "Collect all data for Asset Page")
     AssetPage getAssetPage();
 
+    @GET
+    @Path("pages/asset-page/assets")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(description = "Collect a single page of the Asset Page, searched and filtered server-side. The search text is matched against the asset ID, title, description and keywords.")
+    PagedAssetPage getPagedAssetPage(
+            @QueryParam("offset") @DefaultValue("0") int offset,
+            @QueryParam("limit") @DefaultValue("20") int limit,
+            @QueryParam("searchText") String searchText,
+            @QueryParam("dataCategory") String dataCategory,
+            @QueryParam("dataSubcategory") String dataSubcategory,
+            @QueryParam("dataModel") String dataModel,
+            @QueryParam("transportMode") String transportMode,
+            @QueryParam("geoReferenceMethod") String geoReferenceMethod,
+            @QueryParam("language") String language
+    );
+
     @POST
     @Path("pages/asset-page/assets")
     @Produces(MediaType.APPLICATION_JSON)
@@ -88,6 +118,18 @@ interface UiResource {
     @Operation(description = "Collect all data for Policy Definition Page")
     PolicyDefinitionPage getPolicyDefinitionPage();
 
+    @GET
+    @Path("pages/policy-page/policy-definitions")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(description = "Collect a single page of the Policy Definition Page, sorted server-side. The search text is matched against the Policy Definition ID.")
+    PagedPolicyDefinitionPage getPagedPolicyDefinitionPage(
+            @QueryParam("offset") @DefaultValue("0") int offset,
+            @QueryParam("limit") @DefaultValue("50") int limit,
+            @QueryParam("sortBy") PolicyDefinitionSortProperty sortBy,
+            @QueryParam("sortOrder") UiSortOrder sortOrder,
+            @QueryParam("searchText") String searchText
+    );
+
     @POST
     @Path("pages/policy-page/policy-definitions")
     @Consumes(MediaType.APPLICATION_JSON)
@@ -107,6 +149,16 @@ interface UiResource {
     @Operation(description = "Collect all data for Contract Definition Page")
     ContractDefinitionPage getContractDefinitionPage();
 
+    @GET
+    @Path("pages/contract-definition-page/contract-definitions")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(description = "Collect a single page of the Contract Definition Page, sorted by creation date. Each entry contains the number of assets its asset selector currently matches.")
+    PagedContractDefinitionPage getPagedContractDefinitionPage(
+            @QueryParam("offset") @DefaultValue("0") int offset,
+            @QueryParam("limit") @DefaultValue("50") int limit,
+            @QueryParam("sortOrder") UiSortOrder sortOrder
+    );
+
     @POST
     @Path("pages/contract-definition-page/contract-definitions")
     @Produces(MediaType.APPLICATION_JSON)
@@ -123,8 +175,20 @@ interface UiResource {
     @GET
     @Path("pages/catalog-page/data-offers")
     @Produces(MediaType.APPLICATION_JSON)
-    @Operation(description = "Fetch a connector's data offers")
-    List<UiDataOffer> getCatalogPageDataOffers(@QueryParam("connectorEndpoint") String connectorEndpoint);
+    @Operation(description = "Fetch a connector's data offers. Catalogs are cached per connector endpoint unless a refresh is forced.")
+    List<UiDataOffer> getCatalogPageDataOffers(
+            @QueryParam("connectorEndpoint") String connectorEndpoint,
+            @QueryParam("forceRefresh") @DefaultValue("false") boolean forceRefresh
+    );
+
+    @GET
+    @Path("pages/catalog-page/multi-data-offers")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(description = "Fetch and merge the data offers of multiple connectors concurrently. Connectors that fail or time out are reported individually.")
+    MultiCatalogPage getCatalogPageMultiDataOffers(
+            @QueryParam("connectorEndpoint") List<String> connectorEndpoints,
+            @QueryParam("forceRefresh") @DefaultValue("false") boolean forceRefresh
+    );
 
     @POST
     @Path("pages/catalog-page/contract-negotiations")
@@ -145,6 +209,26 @@ interface UiResource {
     @Operation(description = "Collect all data for the Contract Agreement Page")
     ContractAgreementPage getContractAgreementPage();
 
+    @GET
+    @Path("pages/contract-agreement-page/contract-agreements")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(description = "Collect a single page of the Contract Agreement Page, sorted by contract signing date. Each card only contains a preview of its Transfer Processes.")
+    PagedContractAgreementPage getPagedContractAgreementPage(
+            @QueryParam("offset") @DefaultValue("0") int offset,
+            @QueryParam("limit") @DefaultValue("50") int limit,
+            @QueryParam("sortOrder") UiSortOrder sortOrder
+    );
+
+    @GET
+    @Path("pages/contract-agreement-page/contract-agreements/{contractAgreementId}/transfer-processes")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(description = "Collect a single page of a Contract Agreement's Transfer Processes")
+    ContractAgreementTransferProcessPage getContractAgreementTransferProcesses(
+            @PathParam("contractAgreementId") String contractAgreementId,
+            @QueryParam("offset") @DefaultValue("0") int offset,
+            @QueryParam("limit") @DefaultValue("50") int limit
+    );
+
     @POST
     @Path("pages/contract-agreement-page/transfers")
     @Consumes(MediaType.APPLICATION_JSON)
@@ -165,9 +249,29 @@ interface UiResource {
     @Operation(description = "Collect all data for the Transfer History Page")
     TransferHistoryPage getTransferHistoryPage();
 
+    @GET
+    @Path("pages/transfer-history-page/transfer-processes")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(description = "Collect a single page of the Transfer History Page, sorted and filtered server-side")
+    PagedTransferHistoryPage getPagedTransferHistoryPage(
+            @QueryParam("offset") @DefaultValue("0") int offset,
+            @QueryParam("limit") @DefaultValue("50") int limit,
+            @QueryParam("sortBy") TransferHistorySortProperty sortBy,
+            @QueryParam("sortOrder") UiSortOrder sortOrder,
+            @QueryParam("direction") ContractAgreementDirection direction,
+            @QueryParam("state") TransferProcessSimplifiedState state,
+            @QueryParam("counterPartyParticipantId") String counterPartyParticipantId
+    );
+
     @GET
     @Path("pages/transfer-history-page/transfer-processes/{transferProcessId}/asset")
     @Produces(MediaType.APPLICATION_JSON)
     @Operation(description = "Queries a transfer process' asset")
     UiAsset getTransferProcessAsset(@PathParam("transferProcessId") String transferProcessId);
+
+    @GET
+    @Path("pages/transfer-history-page/transfer-processes/assets")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(description = "Queries the assets of multiple transfer processes at once, e.g. for all rows of a Transfer History Page. Returns the assets by transfer process ID.")
+    Map<String, UiAsset> getTransferProcessAssets(@QueryParam("transferProcessId") List<String> transferProcessIds);
 }
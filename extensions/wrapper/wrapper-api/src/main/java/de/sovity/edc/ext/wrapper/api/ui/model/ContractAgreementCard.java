@@ -57,6 +57,9 @@ public class ContractAgreementCard {
     @Schema(description = "Contract Policy", requiredMode = Schema.RequiredMode.REQUIRED)
     private UiPolicy contractPolicy;
 
-    @Schema(description = "Contract Agreement's Transfer Processes", requiredMode = Schema.RequiredMode.REQUIRED)
+    @Schema(description = "Contract Agreement's Transfer Processes. Might only contain the most recently updated ones, see transferProcessCount.", requiredMode = Schema.RequiredMode.REQUIRED)
     private List<ContractAgreementTransferProcess> transferProcesses;
+
+    @Schema(description = "Total number of the Contract Agreement's Transfer Processes", requiredMode = Schema.RequiredMode.REQUIRED)
+    private long transferProcessCount;
 }
@@ -34,4 +34,8 @@ public class ContractDefinitionEntry {
 
     @Schema(description = "Criteria for the contract", requiredMode = Schema.RequiredMode.REQUIRED)
     private List<UiCriterion> assetSelector;
+
+    @Schema(description = "Number of assets currently matched by the asset selector. Only set on the paged " +
+            "Contract Definition Page and only if the asset selector's operators are supported.")
+    private Long numMatchingAssets;
 }
@@ -0,0 +1,39 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.ext.wrapper.api.ui.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+@Schema(description = "Catalog fetch result of a single connector endpoint")
+public class MultiCatalogEndpointResult {
+    @Schema(description = "Connector Endpoint", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String connectorEndpoint;
+
+    @Schema(description = "Fetch Status", requiredMode = Schema.RequiredMode.REQUIRED)
+    private MultiCatalogEndpointStatus status;
+
+    @Schema(description = "Number of Data Offers", requiredMode = Schema.RequiredMode.REQUIRED)
+    private int numDataOffers;
+
+    @Schema(description = "Time taken to fetch the catalog in milliseconds", requiredMode = Schema.RequiredMode.REQUIRED)
+    private long latencyMillis;
+
+    @Schema(description = "Error message, if the catalog could not be fetched")
+    private String errorMessage;
+}
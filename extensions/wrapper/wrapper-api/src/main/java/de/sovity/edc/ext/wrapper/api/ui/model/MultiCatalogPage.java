@@ -0,0 +1,32 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.ext.wrapper.api.ui.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@Schema(description = "Merged Data Offers of multiple connectors, including partial results if some connectors failed")
+public class MultiCatalogPage {
+    @Schema(description = "Data Offers of all connectors that responded in time", requiredMode = Schema.RequiredMode.REQUIRED)
+    private List<UiDataOffer> dataOffers;
+
+    @Schema(description = "Result per requested connector endpoint, in request order", requiredMode = Schema.RequiredMode.REQUIRED)
+    private List<MultiCatalogEndpointResult> endpoints;
+}
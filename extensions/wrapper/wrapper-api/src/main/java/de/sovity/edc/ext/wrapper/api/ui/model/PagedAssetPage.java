@@ -0,0 +1,33 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.ext.wrapper.api.ui.model;
+
+import de.sovity.edc.ext.wrapper.api.common.model.UiAsset;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@Schema(description = "A single page of the Asset Page, searched and filtered server-side")
+public class PagedAssetPage {
+    @Schema(description = "Assets, newest first", requiredMode = Schema.RequiredMode.REQUIRED)
+    private List<UiAsset> assets;
+
+    @Schema(description = "Pagination", requiredMode = Schema.RequiredMode.REQUIRED)
+    private UiPagination pagination;
+}
@@ -0,0 +1,32 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.ext.wrapper.api.ui.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@Schema(description = "A single page of the Contract Definition Page, including the number of assets matched by each asset selector")
+public class PagedContractDefinitionPage {
+    @Schema(description = "Contract Definitions", requiredMode = Schema.RequiredMode.REQUIRED)
+    private List<ContractDefinitionEntry> contractDefinitions;
+
+    @Schema(description = "Pagination", requiredMode = Schema.RequiredMode.REQUIRED)
+    private UiPagination pagination;
+}
@@ -0,0 +1,23 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.ext.wrapper.api.ui.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Sortable properties of the Policy Definition Page", enumAsRef = true)
+public enum PolicyDefinitionSortProperty {
+    CREATED_DATE,
+    POLICY_DEFINITION_ID
+}
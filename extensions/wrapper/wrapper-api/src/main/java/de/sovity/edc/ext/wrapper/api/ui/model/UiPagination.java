@@ -0,0 +1,33 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.ext.wrapper.api.ui.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+@Schema(description = "Pagination information of a paged result")
+public class UiPagination {
+    @Schema(description = "Index of the first returned entry", requiredMode = Schema.RequiredMode.REQUIRED)
+    private int offset;
+
+    @Schema(description = "Requested maximum number of entries", requiredMode = Schema.RequiredMode.REQUIRED)
+    private int limit;
+
+    @Schema(description = "Whether there are further entries after this page", requiredMode = Schema.RequiredMode.REQUIRED)
+    private boolean hasMore;
+}
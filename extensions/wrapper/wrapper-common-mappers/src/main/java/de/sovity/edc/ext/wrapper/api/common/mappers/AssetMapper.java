@@ -1,6 +1,7 @@
 package de.sovity.edc.ext.wrapper.api.common.mappers;
 
 import de.sovity.edc.ext.wrapper.api.common.mappers.utils.FailedMappingException;
+import de.sovity.edc.ext.wrapper.api.common.mappers.utils.UiAssetCache;
 import de.sovity.edc.ext.wrapper.api.common.mappers.utils.UiAssetMapper;
 import de.sovity.edc.ext.wrapper.api.common.model.UiAsset;
 import de.sovity.edc.ext.wrapper.api.common.model.UiAssetCreateRequest;
@@ -21,10 +22,13 @@ public class AssetMapper {
     private final TypeTransformerRegistry typeTransformerRegistry;
     private final UiAssetMapper uiAssetMapper;
     private final JsonLd jsonLd;
+    private final UiAssetCache uiAssetCache;
 
     public UiAsset buildUiAsset(Asset asset, String connectorEndpoint, String participantId) {
-        var assetJsonLd = buildAssetJsonLd(asset);
-        return buildUiAsset(assetJsonLd, connectorEndpoint, participantId);
+        return uiAssetCache.computeIfAbsent(asset, connectorEndpoint, participantId, () -> {
+            var assetJsonLd = buildAssetJsonLd(asset);
+            return buildUiAsset(assetJsonLd, connectorEndpoint, participantId);
+        });
     }
 
     public UiAsset buildUiAsset(JsonObject assetJsonLd, String connectorEndpoint, String participantId) {
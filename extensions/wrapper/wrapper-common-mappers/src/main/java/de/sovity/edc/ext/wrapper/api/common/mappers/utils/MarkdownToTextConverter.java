@@ -13,18 +13,141 @@
 
 package de.sovity.edc.ext.wrapper.api.common.mappers.utils;
 
-import com.vladsch.flexmark.html.HtmlRenderer;
+import com.vladsch.flexmark.ast.AutoLink;
+import com.vladsch.flexmark.ast.Code;
+import com.vladsch.flexmark.ast.FencedCodeBlock;
+import com.vladsch.flexmark.ast.HardLineBreak;
+import com.vladsch.flexmark.ast.HtmlBlock;
+import com.vladsch.flexmark.ast.HtmlEntity;
+import com.vladsch.flexmark.ast.HtmlInline;
+import com.vladsch.flexmark.ast.Image;
+import com.vladsch.flexmark.ast.ImageRef;
+import com.vladsch.flexmark.ast.IndentedCodeBlock;
+import com.vladsch.flexmark.ast.MailLink;
+import com.vladsch.flexmark.ast.Reference;
+import com.vladsch.flexmark.ast.SoftLineBreak;
+import com.vladsch.flexmark.ast.Text;
 import com.vladsch.flexmark.parser.Parser;
-import com.vladsch.flexmark.util.data.MutableDataSet;
+import com.vladsch.flexmark.util.ast.Block;
+import com.vladsch.flexmark.util.ast.Node;
 import org.jsoup.Jsoup;
 
+/**
+ * Extracts the plain text of a markdown document, e.g. for the short description of an asset.
+ * <p>
+ * The text is collected directly from the markdown AST instead of rendering HTML and parsing it again.
+ * Whitespace is normalized the same way Jsoup's {@code Element#text()} would: blocks and line breaks are
+ * separated by a single space and the result is trimmed.
+ */
 public class MarkdownToTextConverter {
+    /**
+     * Flexmark parsers are immutable after being built and can be shared between threads.
+     */
+    private static final Parser PARSER = Parser.builder().build();
+
     public String extractText(String markdown) {
-        var options = new MutableDataSet();
-        var parser = Parser.builder(options).build();
-        var renderer = HtmlRenderer.builder(options).build();
-        var document = parser.parse(markdown);
-        var html = renderer.render(document);
-        return Jsoup.parse(html).text();
+        return extractText(markdown, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Extracts the plain text of a markdown document, stopping once {@code maxCharacters} characters were collected.
+     *
+     * @param markdown markdown
+     * @param maxCharacters maximum length of the returned text
+     * @return plain text, at most {@code maxCharacters} long
+     */
+    public String extractText(String markdown, int maxCharacters) {
+        var document = PARSER.parse(markdown);
+        var collector = new TextCollector(maxCharacters);
+        collectChildren(document, collector);
+        return collector.build();
+    }
+
+    private void collectChildren(Node parent, TextCollector collector) {
+        for (var node = parent.getFirstChild(); node != null && !collector.isFull(); node = node.getNext()) {
+            collect(node, collector);
+        }
+    }
+
+    private void collect(Node node, TextCollector collector) {
+        if (node instanceof Image || node instanceof ImageRef || node instanceof Reference) {
+            // Rendered as attributes or not at all, so they never contributed to the text
+            return;
+        }
+
+        if (node instanceof Text || node instanceof HtmlEntity) {
+            collector.append(node.getChars().unescape());
+        } else if (node instanceof Code code) {
+            collector.append(code.getText().toString());
+        } else if (node instanceof FencedCodeBlock codeBlock) {
+            collector.append(codeBlock.getContentChars().toString());
+        } else if (node instanceof IndentedCodeBlock codeBlock) {
+            collector.append(codeBlock.getContentChars().toString());
+        } else if (node instanceof AutoLink link) {
+            collector.append(link.getText().toString());
+        } else if (node instanceof MailLink link) {
+            collector.append(link.getText().toString());
+        } else if (node instanceof HtmlBlock || node instanceof HtmlInline) {
+            collector.append(Jsoup.parse(node.getChars().toString()).text());
+        } else if (node instanceof SoftLineBreak || node instanceof HardLineBreak) {
+            collector.appendSeparator();
+        } else {
+            collectChildren(node, collector);
+        }
+
+        if (node instanceof Block) {
+            collector.appendSeparator();
+        }
+    }
+
+    /**
+     * Appends text while collapsing whitespace runs into single spaces and dropping leading whitespace.
+     */
+    private static class TextCollector {
+        private final StringBuilder text = new StringBuilder();
+        private final int maxCharacters;
+        private boolean pendingSeparator = false;
+
+        TextCollector(int maxCharacters) {
+            this.maxCharacters = Math.max(0, maxCharacters);
+        }
+
+        boolean isFull() {
+            return text.length() >= maxCharacters;
+        }
+
+        void appendSeparator() {
+            pendingSeparator = true;
+        }
+
+        void append(String value) {
+            for (int i = 0; i < value.length() && !isFull(); i++) {
+                var c = value.charAt(i);
+                if (isWhitespace(c)) {
+                    pendingSeparator = true;
+                    continue;
+                }
+
+                if (pendingSeparator && !text.isEmpty()) {
+                    text.append(' ');
+                    if (isFull()) {
+                        return;
+                    }
+                }
+                pendingSeparator = false;
+                text.append(c);
+            }
+        }
+
+        String build() {
+            return text.toString();
+        }
+
+        /**
+         * Same characters as Jsoup's {@code StringUtil.isActuallyWhitespace}.
+         */
+        private static boolean isWhitespace(char c) {
+            return c == ' ' || c == '\t' || c == '\n' || c == '\f' || c == '\r' || c == 160;
+        }
     }
 }
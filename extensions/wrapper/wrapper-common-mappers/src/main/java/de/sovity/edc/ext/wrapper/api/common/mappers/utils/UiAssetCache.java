@@ -0,0 +1,206 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.ext.wrapper.api.common.mappers.utils;
+
+import de.sovity.edc.ext.wrapper.api.common.model.UiAsset;
+import org.eclipse.edc.connector.asset.spi.event.AssetDeleted;
+import org.eclipse.edc.connector.asset.spi.event.AssetUpdated;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.spi.types.domain.asset.Asset;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded LRU cache for {@link UiAsset}s built from {@link Asset}s.
+ * <p>
+ * Entries are keyed by the asset id and copies of its properties, so edited assets are not served from
+ * the cache. The creation date is not part of the key, as the placeholder assets built for consumed
+ * assets get a new one every time. Entries are additionally evicted on {@link AssetUpdated} and
+ * {@link AssetDeleted} events to free up space early.
+ * <p>
+ * The cache is bounded by the estimated size of the cached {@link UiAsset}s in characters rather than
+ * by the number of entries, as asset descriptions and JSON-LD can vary a lot in size.
+ * <p>
+ * {@link UiAsset}s are mutable, so the cache stores and returns copies. Callers modifying a returned
+ * {@link UiAsset}, e.g. while building a page, do not change the cached one.
+ */
+public class UiAssetCache implements EventSubscriber {
+    private final long maxWeight;
+    private final LinkedHashMap<CacheKey, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight = 0;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param maxWeight maximum estimated size of all cached {@link UiAsset}s in characters, 0 disables the cache
+     */
+    public UiAssetCache(long maxWeight) {
+        this.maxWeight = maxWeight;
+    }
+
+    private record CacheKey(
+            String assetId,
+            Map<String, Object> properties,
+            Map<String, Object> privateProperties,
+            String connectorEndpoint,
+            String participantId
+    ) {
+    }
+
+    private record CacheEntry(UiAsset uiAsset, long weight) {
+    }
+
+    /**
+     * Hit / miss statistics of the cache.
+     *
+     * @param hits      number of lookups served from the cache
+     * @param misses    number of lookups that had to build the {@link UiAsset}
+     * @param evictions number of entries evicted due to size constraints or invalidation
+     * @param size      number of cached entries
+     * @param weight    estimated size of all cached entries in characters
+     */
+    public record Stats(long hits, long misses, long evictions, int size, long weight) {
+    }
+
+    /**
+     * Returns the cached {@link UiAsset} or builds and caches it.
+     *
+     * @param asset             asset
+     * @param connectorEndpoint connector endpoint the asset is offered on
+     * @param participantId     participant id of the connector the asset is offered on
+     * @param builder           builds the {@link UiAsset} on cache misses
+     * @return {@link UiAsset}, a copy of the cached one
+     */
+    public UiAsset computeIfAbsent(Asset asset, String connectorEndpoint, String participantId, Supplier<UiAsset> builder) {
+        if (maxWeight <= 0) {
+            misses.incrementAndGet();
+            return builder.get();
+        }
+
+        // Copied, so later modifications of the asset cannot change cached keys
+        var key = new CacheKey(
+                asset.getId(),
+                new HashMap<>(asset.getProperties()),
+                new HashMap<>(asset.getPrivateProperties()),
+                connectorEndpoint,
+                participantId
+        );
+
+        var cached = get(key);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return copy(cached);
+        }
+
+        // Built outside the lock, concurrent misses for the same asset build it twice, which is fine
+        misses.incrementAndGet();
+        var uiAsset = builder.get();
+        put(key, copy(uiAsset));
+        return uiAsset;
+    }
+
+    public synchronized void invalidate(String assetId) {
+        var iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            var entry = iterator.next();
+            if (entry.getKey().assetId().equals(assetId)) {
+                weight -= entry.getValue().weight();
+                evictions.incrementAndGet();
+                iterator.remove();
+            }
+        }
+    }
+
+    public synchronized Stats getStats() {
+        return new Stats(hits.get(), misses.get(), evictions.get(), entries.size(), weight);
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> event) {
+        var payload = event.getPayload();
+        if (payload instanceof AssetUpdated assetUpdated) {
+            invalidate(assetUpdated.getAssetId());
+        } else if (payload instanceof AssetDeleted assetDeleted) {
+            invalidate(assetDeleted.getAssetId());
+        }
+    }
+
+    private synchronized UiAsset get(CacheKey key) {
+        var entry = entries.get(key);
+        return entry == null ? null : entry.uiAsset();
+    }
+
+    private synchronized void put(CacheKey key, UiAsset uiAsset) {
+        var entryWeight = estimateWeight(uiAsset);
+        if (entryWeight > maxWeight) {
+            return;
+        }
+
+        var previous = entries.put(key, new CacheEntry(uiAsset, entryWeight));
+        if (previous != null) {
+            weight -= previous.weight();
+        }
+        weight += entryWeight;
+
+        var iterator = entries.values().iterator();
+        while (weight > maxWeight && iterator.hasNext()) {
+            weight -= iterator.next().weight();
+            evictions.incrementAndGet();
+            iterator.remove();
+        }
+    }
+
+    private UiAsset copy(UiAsset uiAsset) {
+        return uiAsset.toBuilder()
+                .keywords(copy(uiAsset.getKeywords()))
+                .nutsLocation(copy(uiAsset.getNutsLocation()))
+                .dataSampleUrls(copy(uiAsset.getDataSampleUrls()))
+                .referenceFileUrls(copy(uiAsset.getReferenceFileUrls()))
+                .additionalProperties(copy(uiAsset.getAdditionalProperties()))
+                .additionalJsonProperties(copy(uiAsset.getAdditionalJsonProperties()))
+                .privateProperties(copy(uiAsset.getPrivateProperties()))
+                .privateJsonProperties(copy(uiAsset.getPrivateJsonProperties()))
+                .build();
+    }
+
+    private <T> List<T> copy(List<T> list) {
+        return list == null ? null : new ArrayList<>(list);
+    }
+
+    private <K, V> Map<K, V> copy(Map<K, V> map) {
+        return map == null ? null : new LinkedHashMap<>(map);
+    }
+
+    private long estimateWeight(UiAsset uiAsset) {
+        // The JSON-LD and the description make up most of a UiAsset, the key's properties are about as large as the JSON-LD
+        return 256L + 2 * length(uiAsset.getAssetJsonLd()) + length(uiAsset.getDescription()) + length(uiAsset.getDescriptionShortText());
+    }
+
+    private long length(String string) {
+        return string == null ? 0 : string.length();
+    }
+}
@@ -41,6 +41,8 @@ import static org.apache.commons.lang3.StringUtils.isBlank;
 
 @RequiredArgsConstructor
 public class UiAssetMapper {
+    private static final int SHORT_DESCRIPTION_MAX_CHARACTERS = 300;
+
     private final EdcPropertyUtils edcPropertyUtils;
     private final AssetJsonLdUtils assetJsonLdUtils;
     private final MarkdownToTextConverter markdownToTextConverter;
@@ -50,8 +52,11 @@ public class UiAssetMapper {
     public UiAsset buildUiAsset(JsonObject assetJsonLd, String connectorEndpoint, String participantId) {
         var properties = JsonLdUtils.object(assetJsonLd, Prop.Edc.PROPERTIES);
 
+        // Compacted once per asset, the compacted (private) properties are taken from it
+        var compactedAssetJsonLd = JsonLdUtils.tryCompact(assetJsonLd);
+
         var uiAsset = new UiAsset();
-        uiAsset.setAssetJsonLd(JsonUtils.toJson(JsonLdUtils.tryCompact(assetJsonLd)));
+        uiAsset.setAssetJsonLd(JsonUtils.toJson(compactedAssetJsonLd));
 
         var id = assetJsonLdUtils.getId(assetJsonLd);
         var title = assetJsonLdUtils.getTitle(assetJsonLd);
@@ -102,7 +107,7 @@ public class UiAssetMapper {
 
         // Additional / Remaining Properties
         // TODO: diff nested objects
-        JsonObject remaining = removeHandledProperties(properties, List.of(
+        JsonObject remaining = removeHandledProperties(JsonLdUtils.object(compactedAssetJsonLd, Prop.Edc.PROPERTIES), List.of(
                 // Implicitly handled / should be skipped if found
                 Prop.ID,
                 Prop.TYPE,
@@ -146,7 +151,7 @@ public class UiAssetMapper {
         uiAsset.setAdditionalJsonProperties(getJsonProperties(remaining));
 
         // Private Properties
-        var privateProperties = JsonLdUtils.tryCompact(getPrivateProperties(assetJsonLd));
+        var privateProperties = getCompactedPrivateProperties(assetJsonLd, compactedAssetJsonLd);
         uiAsset.setPrivateProperties(getStringProperties(privateProperties));
         uiAsset.setPrivateJsonProperties(getJsonProperties(privateProperties));
 
@@ -276,8 +281,8 @@ public class UiAssetMapper {
         );
     }
 
-    private JsonObject removeHandledProperties(JsonObject properties, List<String> handledProperties) {
-        var remaining = Json.createObjectBuilder(JsonLdUtils.tryCompact(properties));
+    private JsonObject removeHandledProperties(JsonObject compactedProperties, List<String> handledProperties) {
+        var remaining = Json.createObjectBuilder(compactedProperties);
         handledProperties.forEach(remaining::remove);
         return remaining.build();
     }
@@ -294,12 +299,13 @@ public class UiAssetMapper {
                 ));
     }
 
-    private JsonObject getPrivateProperties(JsonObject assetJsonLd) {
+    private JsonObject getCompactedPrivateProperties(JsonObject assetJsonLd, JsonObject compactedAssetJsonLd) {
         if (assetJsonLd.containsKey(Prop.Edc.PRIVATE_PROPERTIES)) {
-            return JsonLdUtils.object(assetJsonLd, Prop.Edc.PRIVATE_PROPERTIES);
+            return JsonLdUtils.object(compactedAssetJsonLd, Prop.Edc.PRIVATE_PROPERTIES);
         } else if (assetJsonLd.containsKey("privateProperties")) {
             // Tests claim this path exists
-            return JsonLdUtils.object(assetJsonLd, "privateProperties");
+            // Not an IRI, so it is dropped when compacting the asset and needs to be compacted separately
+            return JsonLdUtils.tryCompact(JsonLdUtils.object(assetJsonLd, "privateProperties"));
         } else {
             return JsonValue.EMPTY_JSON_OBJECT;
         }
@@ -310,7 +316,7 @@ public class UiAssetMapper {
             return null;
         }
 
-        var text = markdownToTextConverter.extractText(description);
-        return textUtils.abbreviate(text, 300);
+        var text = markdownToTextConverter.extractText(description, SHORT_DESCRIPTION_MAX_CHARACTERS);
+        return textUtils.abbreviate(text, SHORT_DESCRIPTION_MAX_CHARACTERS);
     }
 }
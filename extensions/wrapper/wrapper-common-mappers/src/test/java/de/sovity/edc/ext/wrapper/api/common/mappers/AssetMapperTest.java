@@ -4,6 +4,7 @@ import de.sovity.edc.ext.wrapper.api.common.mappers.utils.AssetJsonLdUtils;
 import de.sovity.edc.ext.wrapper.api.common.mappers.utils.EdcPropertyUtils;
 import de.sovity.edc.ext.wrapper.api.common.mappers.utils.MarkdownToTextConverter;
 import de.sovity.edc.ext.wrapper.api.common.mappers.utils.TextUtils;
+import de.sovity.edc.ext.wrapper.api.common.mappers.utils.UiAssetCache;
 import de.sovity.edc.ext.wrapper.api.common.mappers.utils.UiAssetMapper;
 import de.sovity.edc.utils.JsonUtils;
 import de.sovity.edc.utils.jsonld.vocab.Prop;
@@ -35,7 +36,7 @@ class AssetMapperTest {
         var jsonLd = new TitaniumJsonLd(mock(Monitor.class));
         var typeTransformerRegistry = mock(TypeTransformerRegistry.class);
         var uiAssetBuilder = new UiAssetMapper(new EdcPropertyUtils(), new AssetJsonLdUtils(), new MarkdownToTextConverter(), new TextUtils(), x -> endpoint.equals(x));
-        assetMapper = new AssetMapper(typeTransformerRegistry, uiAssetBuilder, jsonLd);
+        assetMapper = new AssetMapper(typeTransformerRegistry, uiAssetBuilder, jsonLd, new UiAssetCache(0));
     }
 
     @Test
@@ -0,0 +1,70 @@
+package de.sovity.edc.ext.wrapper.api.common.mappers.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MarkdownToTextConverterTest {
+    private final MarkdownToTextConverter converter = new MarkdownToTextConverter();
+
+    @Test
+    void testBlocksAndInlines() {
+        // arrange
+        var markdown = """
+                # Title
+
+                Some **bold** and _emphasized_ text
+                spanning lines with `code` and a [link](https://example.com).
+
+                - item 1
+                - item 2 ![image alt](https://example.com/image.png)
+
+                ```
+                fenced
+                  code
+                ```
+                """;
+
+        // act
+        var actual = converter.extractText(markdown);
+
+        // assert
+        assertThat(actual).isEqualTo("Title Some bold and emphasized text spanning lines with code and a link. item 1 item 2 fenced code");
+    }
+
+    @Test
+    void testEscapesAndEntities() {
+        // act
+        var actual = converter.extractText("Tom \\*and\\* Jerry &amp; friends &copy;");
+
+        // assert
+        assertThat(actual).isEqualTo("Tom *and* Jerry & friends ©");
+    }
+
+    @Test
+    void testInlineHtml() {
+        // act
+        var actual = converter.extractText("A <b>bold</b> claim\n\n<div>Block <i>html</i></div>");
+
+        // assert
+        assertThat(actual).isEqualTo("A bold claim Block html");
+    }
+
+    @Test
+    void testMaxCharacters() {
+        // arrange
+        var markdown = "# Heading\n\n" + "word ".repeat(1000);
+
+        // act
+        var actual = converter.extractText(markdown, 20);
+
+        // assert
+        assertThat(actual).isEqualTo("Heading word word wo");
+    }
+
+    @Test
+    void testEmpty() {
+        assertThat(converter.extractText("")).isEmpty();
+        assertThat(converter.extractText("  \n\n  ")).isEmpty();
+    }
+}
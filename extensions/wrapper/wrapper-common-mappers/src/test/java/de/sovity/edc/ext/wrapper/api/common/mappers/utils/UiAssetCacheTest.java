@@ -0,0 +1,157 @@
+package de.sovity.edc.ext.wrapper.api.common.mappers.utils;
+
+import de.sovity.edc.ext.wrapper.api.common.model.UiAsset;
+import org.eclipse.edc.connector.asset.spi.event.AssetUpdated;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.types.domain.asset.Asset;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UiAssetCacheTest {
+    private static final String ENDPOINT = "https://my-connector/api/dsp";
+    private static final String PARTICIPANT_ID = "my-connector";
+
+    @Test
+    void testHitsAndMisses() {
+        // arrange
+        var cache = new UiAssetCache(1_000_000);
+        var builds = new AtomicInteger();
+        var asset = asset("asset-1", "Title");
+
+        // act
+        var first = cache.computeIfAbsent(asset, ENDPOINT, PARTICIPANT_ID, () -> uiAsset(builds));
+        var second = cache.computeIfAbsent(asset("asset-1", "Title"), ENDPOINT, PARTICIPANT_ID, () -> uiAsset(builds));
+        cache.computeIfAbsent(asset("asset-1", "Edited Title"), ENDPOINT, PARTICIPANT_ID, () -> uiAsset(builds));
+        cache.computeIfAbsent(asset, "https://other-connector/api/dsp", PARTICIPANT_ID, () -> uiAsset(builds));
+
+        // assert
+        assertThat(second).isNotSameAs(first).usingRecursiveComparison().isEqualTo(first);
+        assertThat(builds).hasValue(3);
+        assertThat(cache.getStats().hits()).isEqualTo(1);
+        assertThat(cache.getStats().misses()).isEqualTo(3);
+        assertThat(cache.getStats().size()).isEqualTo(3);
+    }
+
+    @Test
+    void testModifyingReturnedAssetsDoesNotChangeCachedAsset() {
+        // arrange
+        var cache = new UiAssetCache(1_000_000);
+        var builds = new AtomicInteger();
+        var asset = asset("asset-1", "Title");
+
+        // act
+        var built = cache.computeIfAbsent(asset, ENDPOINT, PARTICIPANT_ID, () -> uiAsset(builds));
+        built.setTitle("Modified");
+        built.getKeywords().add("modified");
+
+        var hit = cache.computeIfAbsent(asset, ENDPOINT, PARTICIPANT_ID, () -> uiAsset(builds));
+        hit.setIsOwnConnector(true);
+        hit.getAdditionalProperties().put("modified", "true");
+
+        var actual = cache.computeIfAbsent(asset, ENDPOINT, PARTICIPANT_ID, () -> uiAsset(builds));
+
+        // assert
+        assertThat(builds).hasValue(1);
+        assertThat(actual.getTitle()).isEqualTo("Title");
+        assertThat(actual.getKeywords()).containsExactly("keyword");
+        assertThat(actual.getIsOwnConnector()).isFalse();
+        assertThat(actual.getAdditionalProperties()).containsOnlyKeys("key");
+    }
+
+    @Test
+    void testPropertiesWithEqualHashCodesAreDistinguished() {
+        // arrange
+        var cache = new UiAssetCache(1_000_000);
+        var builds = new AtomicInteger();
+        assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+
+        // act
+        var first = cache.computeIfAbsent(asset("asset-1", "Aa"), ENDPOINT, PARTICIPANT_ID, () -> uiAsset(builds));
+        var second = cache.computeIfAbsent(asset("asset-1", "BB"), ENDPOINT, PARTICIPANT_ID, () -> uiAsset(builds));
+
+        // assert
+        assertThat(second).isNotSameAs(first);
+        assertThat(builds).hasValue(2);
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsedBySize() {
+        // arrange
+        var cache = new UiAssetCache(2 * 256 + 50);
+        var builds = new AtomicInteger();
+
+        // act
+        cache.computeIfAbsent(asset("asset-1", "A"), ENDPOINT, PARTICIPANT_ID, () -> uiAsset(builds));
+        cache.computeIfAbsent(asset("asset-2", "B"), ENDPOINT, PARTICIPANT_ID, () -> uiAsset(builds));
+        cache.computeIfAbsent(asset("asset-1", "A"), ENDPOINT, PARTICIPANT_ID, () -> uiAsset(builds));
+        cache.computeIfAbsent(asset("asset-3", "C"), ENDPOINT, PARTICIPANT_ID, () -> uiAsset(builds));
+        cache.computeIfAbsent(asset("asset-1", "A"), ENDPOINT, PARTICIPANT_ID, () -> uiAsset(builds));
+        cache.computeIfAbsent(asset("asset-2", "B"), ENDPOINT, PARTICIPANT_ID, () -> uiAsset(builds));
+
+        // assert
+        assertThat(builds).hasValue(4);
+        assertThat(cache.getStats().size()).isEqualTo(2);
+        assertThat(cache.getStats().evictions()).isEqualTo(2);
+    }
+
+    @Test
+    void testInvalidateOnAssetUpdated() {
+        // arrange
+        var cache = new UiAssetCache(1_000_000);
+        var builds = new AtomicInteger();
+        cache.computeIfAbsent(asset("asset-1", "A"), ENDPOINT, PARTICIPANT_ID, () -> uiAsset(builds));
+
+        var assetUpdated = mock(AssetUpdated.class);
+        when(assetUpdated.getAssetId()).thenReturn("asset-1");
+        @SuppressWarnings("unchecked")
+        EventEnvelope<AssetUpdated> envelope = mock(EventEnvelope.class);
+        when(envelope.getPayload()).thenReturn(assetUpdated);
+
+        // act
+        cache.on(envelope);
+        cache.computeIfAbsent(asset("asset-1", "A"), ENDPOINT, PARTICIPANT_ID, () -> uiAsset(builds));
+
+        // assert
+        assertThat(builds).hasValue(2);
+        assertThat(cache.getStats().size()).isEqualTo(1);
+    }
+
+    @Test
+    void testDisabled() {
+        // arrange
+        var cache = new UiAssetCache(0);
+        var builds = new AtomicInteger();
+
+        // act
+        cache.computeIfAbsent(asset("asset-1", "A"), ENDPOINT, PARTICIPANT_ID, () -> uiAsset(builds));
+        cache.computeIfAbsent(asset("asset-1", "A"), ENDPOINT, PARTICIPANT_ID, () -> uiAsset(builds));
+
+        // assert
+        assertThat(builds).hasValue(2);
+        assertThat(cache.getStats().size()).isZero();
+    }
+
+    private Asset asset(String id, String title) {
+        return Asset.Builder.newInstance().id(id).property("title", title).build();
+    }
+
+    private UiAsset uiAsset(AtomicInteger builds) {
+        builds.incrementAndGet();
+        return UiAsset.builder()
+                .assetId("asset-1")
+                .title("Title")
+                .isOwnConnector(false)
+                .keywords(new ArrayList<>(List.of("keyword")))
+                .additionalProperties(new HashMap<>(Map.of("key", "value")))
+                .build();
+    }
+}
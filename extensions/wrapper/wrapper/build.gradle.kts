@@ -4,6 +4,8 @@ val restAssured: String by project
 val assertj: String by project
 val mockitoVersion: String by project
 val lombokVersion: String by project
+val micrometerVersion: String by project
+val openTelemetryVersion: String by project
 val jettyVersion: String by project
 val jettyGroup: String by project
 
@@ -28,7 +30,11 @@ dependencies {
     api("${edcGroup}:core-spi:${edcVersion}")
     api("${edcGroup}:policy-definition-api:${edcVersion}")
     api("${edcGroup}:transfer-process-api:${edcVersion}")
+    implementation("${edcGroup}:transaction-spi:${edcVersion}")
+    implementation("${edcGroup}:transaction-datasource-spi:${edcVersion}")
     implementation("org.apache.commons:commons-lang3:3.13.0")
+    implementation("io.micrometer:micrometer-core:${micrometerVersion}")
+    implementation("io.opentelemetry:opentelemetry-api:${openTelemetryVersion}")
 
     testAnnotationProcessor("org.projectlombok:lombok:${lombokVersion}")
     testCompileOnly("org.projectlombok:lombok:${lombokVersion}")
@@ -61,6 +67,7 @@ dependencies {
     testImplementation("${edcGroup}:dsp-api-configuration:${edcVersion}")
     testImplementation("${edcGroup}:data-plane-selector-core:${edcVersion}")
 
+    testImplementation("io.opentelemetry:opentelemetry-sdk-testing:${openTelemetryVersion}")
     testImplementation("io.rest-assured:rest-assured:${restAssured}")
     testImplementation("org.mockito:mockito-core:${mockitoVersion}")
     testImplementation("org.assertj:assertj-core:${assertj}")
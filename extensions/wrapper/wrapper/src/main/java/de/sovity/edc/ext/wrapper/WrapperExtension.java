@@ -17,6 +17,8 @@ package de.sovity.edc.ext.wrapper;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.opentelemetry.api.OpenTelemetry;
 import org.eclipse.edc.connector.api.management.configuration.ManagementApiConfiguration;
 import org.eclipse.edc.connector.api.management.configuration.transform.ManagementApiTypeTransformerRegistry;
 import org.eclipse.edc.connector.contract.spi.negotiation.store.ContractNegotiationStore;
@@ -33,16 +35,48 @@ import org.eclipse.edc.connector.transfer.spi.store.TransferProcessStore;
 import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.CoreConstants;
 import org.eclipse.edc.spi.asset.AssetIndex;
+import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.eclipse.edc.web.spi.WebService;
 
 public class WrapperExtension implements ServiceExtension {
 
     public static final String EXTENSION_NAME = "WrapperExtension";
+
+    @Setting
+    public static final String DASHBOARD_RECONCILIATION_INTERVAL_SECONDS = "edc.wrapper.dashboard.reconciliation.interval.seconds";
+
+    @Setting
+    public static final String UI_ASSET_CACHE_MAX_SIZE = "edc.wrapper.ui-asset-cache.max-size";
+
+    @Setting
+    public static final String UI_POLICY_CACHE_MAX_SIZE = "edc.wrapper.ui-policy-cache.max-size";
+
+    @Setting
+    public static final String CONTRACT_NEGOTIATION_ID_CACHE_MAX_SIZE = "edc.wrapper.contract-negotiation-id-cache.max-size";
+
+    @Setting
+    public static final String CATALOG_CACHE_TTL_SECONDS = "edc.wrapper.catalog-cache.ttl.seconds";
+
+    @Setting
+    public static final String CATALOG_CACHE_STALE_WHILE_REVALIDATE_SECONDS = "edc.wrapper.catalog-cache.stale-while-revalidate.seconds";
+
+    @Setting
+    public static final String CATALOG_CACHE_MAX_SIZE = "edc.wrapper.catalog-cache.max-size";
+
+    @Setting
+    public static final String CATALOG_FAN_OUT_THREADS = "edc.wrapper.catalog-fan-out.threads";
+
+    @Setting
+    public static final String CATALOG_FAN_OUT_TIMEOUT_SECONDS = "edc.wrapper.catalog-fan-out.timeout.seconds";
+
     @Inject
     private AssetIndex assetIndex;
     @Inject
@@ -79,6 +113,19 @@ public class WrapperExtension implements ServiceExtension {
     private CatalogService catalogService;
     @Inject
     private JsonLd jsonLd;
+    @Inject
+    private EventRouter eventRouter;
+    @Inject(required = false)
+    private DataSourceRegistry dataSourceRegistry;
+    @Inject(required = false)
+    private TransactionContext transactionContext;
+    @Inject(required = false)
+    private MeterRegistry meterRegistry;
+    @Inject(required = false)
+    private OpenTelemetry openTelemetry;
+
+    private WrapperExtensionContext wrapperExtensionContext;
+    private long dashboardReconciliationIntervalSeconds;
 
     @Override
     public String name() {
@@ -90,7 +137,7 @@ public class WrapperExtension implements ServiceExtension {
         var objectMapper = typeManager.getMapper(CoreConstants.JSON_LD);
         fixObjectMapperDateSerialization(objectMapper);
 
-        var wrapperExtensionContext = WrapperExtensionContextBuilder.buildContext(
+        wrapperExtensionContext = WrapperExtensionContextBuilder.buildContext(
                 assetIndex,
                 assetService,
                 catalogService,
@@ -100,12 +147,17 @@ public class WrapperExtension implements ServiceExtension {
                 contractDefinitionStore,
                 contractNegotiationService,
                 contractNegotiationStore,
+                dataSourceRegistry,
+                eventRouter,
                 jsonLd,
+                meterRegistry,
                 context.getMonitor(),
                 objectMapper,
+                openTelemetry,
                 policyDefinitionService,
                 policyDefinitionStore,
                 policyEngine,
+                transactionContext,
                 transferProcessService,
                 transferProcessStore,
                 typeTransformerRegistry
@@ -115,6 +167,20 @@ public class WrapperExtension implements ServiceExtension {
 
         wrapperExtensionContext.jaxRsResources().forEach(resource ->
                 webService.registerResource(dataManagementApiConfiguration.getContextAlias(), resource));
+
+        dashboardReconciliationIntervalSeconds = context.getConfig().getLong(DASHBOARD_RECONCILIATION_INTERVAL_SECONDS, 300L);
+    }
+
+    @Override
+    public void start() {
+        wrapperExtensionContext.dashboardCounterService().startReconciliation(dashboardReconciliationIntervalSeconds);
+    }
+
+    @Override
+    public void shutdown() {
+        wrapperExtensionContext.dashboardCounterService().stopReconciliation();
+        wrapperExtensionContext.catalogCache().shutdown();
+        wrapperExtensionContext.multiCatalogApiService().shutdown();
     }
 
     private void fixObjectMapperDateSerialization(ObjectMapper objectMapper) {
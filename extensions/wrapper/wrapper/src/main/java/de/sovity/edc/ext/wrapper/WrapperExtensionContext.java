@@ -14,6 +14,9 @@
 
 package de.sovity.edc.ext.wrapper;
 
+import de.sovity.edc.ext.wrapper.api.ui.pages.catalog.CatalogCache;
+import de.sovity.edc.ext.wrapper.api.ui.pages.catalog.MultiCatalogApiService;
+import de.sovity.edc.ext.wrapper.api.ui.pages.dashboard.services.DashboardCounterService;
 import de.sovity.edc.ext.wrapper.api.ui.pages.dashboard.services.SelfDescriptionService;
 
 import java.util.List;
@@ -26,9 +29,15 @@ import java.util.List;
  *                               APIs supported by our EDC API Client that don't have their own
  *                               extension should land here.
  * @param selfDescriptionService Required here for validation on start-up
+ * @param dashboardCounterService Required here to schedule the counter reconciliation
+ * @param catalogCache           Required here to stop the background refreshes on shutdown
+ * @param multiCatalogApiService Required here to stop the catalog fan-out executor on shutdown
  */
 public record WrapperExtensionContext(
         List<Object> jaxRsResources,
-        SelfDescriptionService selfDescriptionService
+        SelfDescriptionService selfDescriptionService,
+        DashboardCounterService dashboardCounterService,
+        CatalogCache catalogCache,
+        MultiCatalogApiService multiCatalogApiService
 ) {
 }
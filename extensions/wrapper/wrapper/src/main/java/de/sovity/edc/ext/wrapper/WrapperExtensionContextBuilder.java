@@ -26,46 +26,79 @@ import de.sovity.edc.ext.wrapper.api.common.mappers.utils.LiteralMapper;
 import de.sovity.edc.ext.wrapper.api.common.mappers.utils.MarkdownToTextConverter;
 import de.sovity.edc.ext.wrapper.api.common.mappers.utils.PolicyValidator;
 import de.sovity.edc.ext.wrapper.api.common.mappers.utils.TextUtils;
+import de.sovity.edc.ext.wrapper.api.common.mappers.utils.UiAssetCache;
 import de.sovity.edc.ext.wrapper.api.common.mappers.utils.UiAssetMapper;
 import de.sovity.edc.ext.wrapper.api.ui.UiResourceImpl;
 import de.sovity.edc.ext.wrapper.api.ui.pages.asset.AssetApiService;
 import de.sovity.edc.ext.wrapper.api.ui.pages.asset.AssetBuilder;
 import de.sovity.edc.ext.wrapper.api.ui.pages.asset.AssetIdValidator;
+import de.sovity.edc.ext.wrapper.api.ui.pages.asset.AssetSearchMatcher;
 import de.sovity.edc.ext.wrapper.api.ui.pages.catalog.CatalogApiService;
+import de.sovity.edc.ext.wrapper.api.ui.pages.catalog.CatalogCache;
+import de.sovity.edc.ext.wrapper.api.ui.pages.catalog.MultiCatalogApiService;
 import de.sovity.edc.ext.wrapper.api.ui.pages.contract_agreements.ContractAgreementPageApiService;
 import de.sovity.edc.ext.wrapper.api.ui.pages.contract_agreements.ContractAgreementTransferApiService;
 import de.sovity.edc.ext.wrapper.api.ui.pages.contract_agreements.services.ContractAgreementDataFetcher;
 import de.sovity.edc.ext.wrapper.api.ui.pages.contract_agreements.services.ContractAgreementPageCardBuilder;
 import de.sovity.edc.ext.wrapper.api.ui.pages.contract_agreements.services.ContractAgreementUtils;
+import de.sovity.edc.ext.wrapper.api.ui.pages.contract_agreements.services.ContractNegotiationIdCache;
 import de.sovity.edc.ext.wrapper.api.ui.pages.contract_agreements.services.ContractNegotiationUtils;
+import de.sovity.edc.ext.wrapper.api.ui.pages.contract_agreements.services.InMemoryTransferProcessCounter;
+import de.sovity.edc.ext.wrapper.api.ui.pages.contract_agreements.services.PostgresTransferProcessCounter;
+import de.sovity.edc.ext.wrapper.api.ui.pages.contract_agreements.services.TransferProcessCounter;
 import de.sovity.edc.ext.wrapper.api.ui.pages.contract_agreements.services.TransferRequestBuilder;
+import de.sovity.edc.ext.wrapper.api.ui.pages.contract_definitions.AssetSelectorMatchCounter;
 import de.sovity.edc.ext.wrapper.api.ui.pages.contract_definitions.ContractDefinitionApiService;
 import de.sovity.edc.ext.wrapper.api.ui.pages.contract_definitions.ContractDefinitionBuilder;
 import de.sovity.edc.ext.wrapper.api.ui.pages.contract_definitions.CriterionLiteralMapper;
 import de.sovity.edc.ext.wrapper.api.ui.pages.contract_definitions.CriterionMapper;
 import de.sovity.edc.ext.wrapper.api.ui.pages.contract_definitions.CriterionOperatorMapper;
+import de.sovity.edc.ext.wrapper.api.ui.pages.contract_definitions.InMemoryAssetSelectorMatchCounter;
+import de.sovity.edc.ext.wrapper.api.ui.pages.contract_definitions.PostgresAssetSelectorMatchCounter;
 import de.sovity.edc.ext.wrapper.api.ui.pages.contract_negotiations.ContractNegotiationApiService;
 import de.sovity.edc.ext.wrapper.api.ui.pages.contract_negotiations.ContractNegotiationBuilder;
 import de.sovity.edc.ext.wrapper.api.ui.pages.contract_negotiations.ContractNegotiationStateService;
 import de.sovity.edc.ext.wrapper.api.ui.pages.contract_negotiations.ContractOfferMapper;
 import de.sovity.edc.ext.wrapper.api.ui.pages.dashboard.DashboardPageApiService;
 import de.sovity.edc.ext.wrapper.api.ui.pages.dashboard.services.DapsConfigService;
+import de.sovity.edc.ext.wrapper.api.ui.pages.dashboard.services.DashboardAggregator;
+import de.sovity.edc.ext.wrapper.api.ui.pages.dashboard.services.DashboardCounterService;
 import de.sovity.edc.ext.wrapper.api.ui.pages.dashboard.services.DashboardDataFetcher;
+import de.sovity.edc.ext.wrapper.api.ui.pages.dashboard.services.InMemoryDashboardAggregator;
 import de.sovity.edc.ext.wrapper.api.ui.pages.dashboard.services.MiwConfigService;
 import de.sovity.edc.ext.wrapper.api.ui.pages.dashboard.services.OwnConnectorEndpointServiceImpl;
+import de.sovity.edc.ext.wrapper.api.ui.pages.dashboard.services.PostgresDashboardAggregator;
 import de.sovity.edc.ext.wrapper.api.ui.pages.dashboard.services.SelfDescriptionService;
 import de.sovity.edc.ext.wrapper.api.ui.pages.policy.PolicyDefinitionApiService;
+import de.sovity.edc.ext.wrapper.api.ui.pages.policy.UiPolicyCache;
 import de.sovity.edc.ext.wrapper.api.ui.pages.transferhistory.TransferHistoryPageApiService;
 import de.sovity.edc.ext.wrapper.api.ui.pages.transferhistory.TransferHistoryPageAssetFetcherService;
 import de.sovity.edc.ext.wrapper.api.ui.pages.transferhistory.TransferProcessStateService;
 import de.sovity.edc.ext.wrapper.api.usecase.UseCaseResourceImpl;
+import de.sovity.edc.ext.wrapper.api.usecase.services.InMemoryKpiAggregator;
+import de.sovity.edc.ext.wrapper.api.usecase.services.KpiAggregator;
 import de.sovity.edc.ext.wrapper.api.usecase.services.KpiApiService;
+import de.sovity.edc.ext.wrapper.api.usecase.services.PostgresKpiAggregator;
 import de.sovity.edc.ext.wrapper.api.usecase.services.SupportedPolicyApiService;
+import de.sovity.edc.ext.wrapper.metrics.WrapperMetrics;
+import de.sovity.edc.ext.wrapper.metrics.WrapperMetricsFilter;
+import de.sovity.edc.ext.wrapper.tracing.WrapperTracing;
+import de.sovity.edc.ext.wrapper.tracing.WrapperTracingFilter;
 import de.sovity.edc.utils.catalog.DspCatalogService;
+import de.sovity.edc.utils.catalog.mapper.DspCatalogStreamParser;
 import de.sovity.edc.utils.catalog.mapper.DspDataOfferBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.opentelemetry.api.OpenTelemetry;
 import lombok.NoArgsConstructor;
+import org.eclipse.edc.connector.asset.spi.event.AssetCreated;
+import org.eclipse.edc.connector.asset.spi.event.AssetDeleted;
+import org.eclipse.edc.connector.asset.spi.event.AssetUpdated;
+import org.eclipse.edc.connector.contract.spi.event.contractnegotiation.ContractNegotiationAgreed;
+import org.eclipse.edc.connector.contract.spi.event.contractnegotiation.ContractNegotiationFinalized;
 import org.eclipse.edc.connector.contract.spi.negotiation.store.ContractNegotiationStore;
 import org.eclipse.edc.connector.contract.spi.offer.store.ContractDefinitionStore;
+import org.eclipse.edc.connector.policy.spi.event.PolicyDefinitionDeleted;
+import org.eclipse.edc.connector.policy.spi.event.PolicyDefinitionUpdated;
 import org.eclipse.edc.connector.policy.spi.store.PolicyDefinitionStore;
 import org.eclipse.edc.connector.spi.asset.AssetService;
 import org.eclipse.edc.connector.spi.catalog.CatalogService;
@@ -74,16 +107,23 @@ import org.eclipse.edc.connector.spi.contractdefinition.ContractDefinitionServic
 import org.eclipse.edc.connector.spi.contractnegotiation.ContractNegotiationService;
 import org.eclipse.edc.connector.spi.policydefinition.PolicyDefinitionService;
 import org.eclipse.edc.connector.spi.transferprocess.TransferProcessService;
+import org.eclipse.edc.connector.transfer.spi.event.TransferProcessEvent;
 import org.eclipse.edc.connector.transfer.spi.store.TransferProcessStore;
 import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.spi.asset.AssetIndex;
+import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.system.configuration.Config;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executors;
 
 
 /**
@@ -107,16 +147,72 @@ public class WrapperExtensionContextBuilder {
             ContractDefinitionStore contractDefinitionStore,
             ContractNegotiationService contractNegotiationService,
             ContractNegotiationStore contractNegotiationStore,
+            DataSourceRegistry dataSourceRegistry,
+            EventRouter eventRouter,
             JsonLd jsonLd,
+            MeterRegistry meterRegistry,
             Monitor monitor,
             ObjectMapper objectMapper,
+            OpenTelemetry openTelemetry,
             PolicyDefinitionService policyDefinitionService,
             PolicyDefinitionStore policyDefinitionStore,
             PolicyEngine policyEngine,
+            TransactionContext transactionContext,
             TransferProcessService transferProcessService,
             TransferProcessStore transferProcessStore,
             TypeTransformerRegistry typeTransformerRegistry
     ) {
+        // Metrics: services and stores are instrumented before anything uses them
+        var wrapperMetrics = new WrapperMetrics(meterRegistry, monitor);
+        assetIndex = wrapperMetrics.instrumentStore(AssetIndex.class, assetIndex, "assetIndex");
+        assetService = wrapperMetrics.instrumentStore(AssetService.class, assetService, "assetService");
+        contractAgreementService = wrapperMetrics.instrumentStore(
+                ContractAgreementService.class, contractAgreementService, "contractAgreementService");
+        contractDefinitionService = wrapperMetrics.instrumentStore(
+                ContractDefinitionService.class, contractDefinitionService, "contractDefinitionService");
+        contractDefinitionStore = wrapperMetrics.instrumentStore(
+                ContractDefinitionStore.class, contractDefinitionStore, "contractDefinitionStore");
+        contractNegotiationService = wrapperMetrics.instrumentStore(
+                ContractNegotiationService.class, contractNegotiationService, "contractNegotiationService");
+        contractNegotiationStore = wrapperMetrics.instrumentStore(
+                ContractNegotiationStore.class, contractNegotiationStore, "contractNegotiationStore");
+        policyDefinitionService = wrapperMetrics.instrumentStore(
+                PolicyDefinitionService.class, policyDefinitionService, "policyDefinitionService");
+        policyDefinitionStore = wrapperMetrics.instrumentStore(
+                PolicyDefinitionStore.class, policyDefinitionStore, "policyDefinitionStore");
+        transferProcessService = wrapperMetrics.instrumentStore(
+                TransferProcessService.class, transferProcessService, "transferProcessService");
+        transferProcessStore = wrapperMetrics.instrumentStore(
+                TransferProcessStore.class, transferProcessStore, "transferProcessStore");
+        jsonLd = wrapperMetrics.instrumentJsonLd(JsonLd.class, jsonLd);
+
+        // Tracing: spans around services, stores, JSON-LD and type transformations
+        var wrapperTracing = new WrapperTracing(openTelemetry);
+        assetIndex = wrapperTracing.instrument(AssetIndex.class, assetIndex, "assetIndex");
+        assetService = wrapperTracing.instrument(AssetService.class, assetService, "assetService");
+        catalogService = wrapperTracing.instrument(CatalogService.class, catalogService, "catalogService");
+        contractAgreementService = wrapperTracing.instrument(
+                ContractAgreementService.class, contractAgreementService, "contractAgreementService");
+        contractDefinitionService = wrapperTracing.instrument(
+                ContractDefinitionService.class, contractDefinitionService, "contractDefinitionService");
+        contractDefinitionStore = wrapperTracing.instrument(
+                ContractDefinitionStore.class, contractDefinitionStore, "contractDefinitionStore");
+        contractNegotiationService = wrapperTracing.instrument(
+                ContractNegotiationService.class, contractNegotiationService, "contractNegotiationService");
+        contractNegotiationStore = wrapperTracing.instrument(
+                ContractNegotiationStore.class, contractNegotiationStore, "contractNegotiationStore");
+        policyDefinitionService = wrapperTracing.instrument(
+                PolicyDefinitionService.class, policyDefinitionService, "policyDefinitionService");
+        policyDefinitionStore = wrapperTracing.instrument(
+                PolicyDefinitionStore.class, policyDefinitionStore, "policyDefinitionStore");
+        transferProcessService = wrapperTracing.instrument(
+                TransferProcessService.class, transferProcessService, "transferProcessService");
+        transferProcessStore = wrapperTracing.instrument(
+                TransferProcessStore.class, transferProcessStore, "transferProcessStore");
+        jsonLd = wrapperTracing.instrument(JsonLd.class, jsonLd, "jsonLd");
+        typeTransformerRegistry = wrapperTracing.instrument(
+                TypeTransformerRegistry.class, typeTransformerRegistry, "typeTransformerRegistry");
+
         // UI API
         var operatorMapper = new OperatorMapper();
         var criterionOperatorMapper = new CriterionOperatorMapper();
@@ -137,11 +233,22 @@ public class WrapperExtensionContextBuilder {
         var selfDescriptionService = new SelfDescriptionService(config, monitor);
         var ownConnectorEndpointService = new OwnConnectorEndpointServiceImpl(selfDescriptionService);
         var uiAssetMapper = new UiAssetMapper(edcPropertyUtils, assetJsonLdUtils, markdownToTextConverter, textUtils, ownConnectorEndpointService);
-        var assetMapper = new AssetMapper(typeTransformerRegistry, uiAssetMapper, jsonLd);
+        var uiAssetCache = new UiAssetCache(config.getLong(WrapperExtension.UI_ASSET_CACHE_MAX_SIZE, 10_000_000L));
+        wrapperMetrics.bindUiAssetCache(uiAssetCache);
+        eventRouter.register(AssetUpdated.class, uiAssetCache);
+        eventRouter.register(AssetDeleted.class, uiAssetCache);
+        var assetMapper = new AssetMapper(typeTransformerRegistry, uiAssetMapper, jsonLd, uiAssetCache);
         var transferProcessStateService = new TransferProcessStateService();
+        var contractNegotiationIdCache = new ContractNegotiationIdCache(
+                contractNegotiationStore,
+                config.getInteger(WrapperExtension.CONTRACT_NEGOTIATION_ID_CACHE_MAX_SIZE, 100_000)
+        );
+        eventRouter.register(ContractNegotiationAgreed.class, contractNegotiationIdCache);
+        eventRouter.register(ContractNegotiationFinalized.class, contractNegotiationIdCache);
         var contractNegotiationUtils = new ContractNegotiationUtils(
                 contractNegotiationService,
-                selfDescriptionService
+                selfDescriptionService,
+                contractNegotiationIdCache
         );
         var contractAgreementPageCardBuilder = new ContractAgreementPageCardBuilder(
                 policyMapper,
@@ -149,21 +256,35 @@ public class WrapperExtensionContextBuilder {
                 assetMapper,
                 contractNegotiationUtils
         );
+        var transferProcessCounter = buildTransferProcessCounter(
+                config,
+                dataSourceRegistry,
+                transactionContext,
+                transferProcessService
+        );
         var contractAgreementDataFetcher = new ContractAgreementDataFetcher(
                 contractAgreementService,
                 contractNegotiationStore,
                 transferProcessService,
-                assetIndex
+                assetIndex,
+                transferProcessCounter
         );
         var contractAgreementApiService = new ContractAgreementPageApiService(
                 contractAgreementDataFetcher,
                 contractAgreementPageCardBuilder
         );
         var contactDefinitionBuilder = new ContractDefinitionBuilder(criterionMapper);
+        var assetSelectorMatchCounter = buildAssetSelectorMatchCounter(
+                assetIndex,
+                config,
+                dataSourceRegistry,
+                transactionContext
+        );
         var contractDefinitionApiService = new ContractDefinitionApiService(
                 contractDefinitionService,
                 criterionMapper,
-                contactDefinitionBuilder);
+                contactDefinitionBuilder,
+                assetSelectorMatchCounter);
         var transferHistoryPageApiService = new TransferHistoryPageApiService(
                 assetService,
                 contractAgreementService,
@@ -190,7 +311,8 @@ public class WrapperExtensionContextBuilder {
                 assetService,
                 assetMapper,
                 assetBuilder,
-                selfDescriptionService
+                selfDescriptionService,
+                new AssetSearchMatcher()
         );
         var transferRequestBuilder = new TransferRequestBuilder(
                 contractAgreementUtils,
@@ -200,18 +322,42 @@ public class WrapperExtensionContextBuilder {
         );
         var contractAgreementTransferApiService = new ContractAgreementTransferApiService(
                 transferRequestBuilder,
-                transferProcessService
+                transferProcessService,
+                wrapperTracing
         );
+        var uiPolicyCache = new UiPolicyCache(config.getInteger(WrapperExtension.UI_POLICY_CACHE_MAX_SIZE, 10_000));
+        wrapperMetrics.bindUiPolicyCache(uiPolicyCache);
+        eventRouter.register(PolicyDefinitionUpdated.class, uiPolicyCache);
+        eventRouter.register(PolicyDefinitionDeleted.class, uiPolicyCache);
         var policyDefinitionApiService = new PolicyDefinitionApiService(
                 policyDefinitionService,
-                policyMapper
+                policyMapper,
+                uiPolicyCache
         );
         var dataOfferBuilder = new DspDataOfferBuilder(jsonLd);
-        var dspCatalogService = new DspCatalogService(catalogService, dataOfferBuilder);
+        var dspCatalogStreamParser = new DspCatalogStreamParser(jsonLd, dataOfferBuilder);
+        var dspCatalogService = new DspCatalogService(catalogService, dspCatalogStreamParser);
+        var catalogCache = new CatalogCache(
+                Duration.ofSeconds(config.getLong(WrapperExtension.CATALOG_CACHE_TTL_SECONDS, 0L)),
+                Duration.ofSeconds(config.getLong(WrapperExtension.CATALOG_CACHE_STALE_WHILE_REVALIDATE_SECONDS, 300L)),
+                config.getInteger(WrapperExtension.CATALOG_CACHE_MAX_SIZE, 100),
+                monitor
+        );
+        wrapperMetrics.bindCatalogCache(catalogCache);
         var catalogApiService = new CatalogApiService(
                 assetMapper,
                 policyMapper,
-                dspCatalogService
+                dspCatalogService,
+                catalogCache,
+                wrapperMetrics,
+                wrapperTracing
+        );
+        var catalogFanOutExecutor = Executors.newFixedThreadPool(config.getInteger(WrapperExtension.CATALOG_FAN_OUT_THREADS, 8));
+        var multiCatalogApiService = new MultiCatalogApiService(
+                catalogApiService,
+                wrapperTracing.propagating(catalogFanOutExecutor),
+                Duration.ofSeconds(config.getLong(WrapperExtension.CATALOG_FAN_OUT_TIMEOUT_SECONDS, 10L)),
+                monitor
         );
         var contractOfferMapper = new ContractOfferMapper(policyMapper);
         var contractNegotiationBuilder = new ContractNegotiationBuilder(contractOfferMapper);
@@ -219,20 +365,35 @@ public class WrapperExtensionContextBuilder {
         var contractNegotiationApiService = new ContractNegotiationApiService(
                 contractNegotiationService,
                 contractNegotiationBuilder,
-                contractNegotiationStateService
+                contractNegotiationStateService,
+                wrapperTracing
         );
         var miwConfigBuilder = new MiwConfigService(config);
         var dapsConfigBuilder = new DapsConfigService(config);
         var dashboardDataFetcher = new DashboardDataFetcher(
-                contractNegotiationStore,
-                transferProcessService,
-                assetIndex,
                 policyDefinitionService,
                 contractDefinitionService
         );
+        var dashboardAggregator = buildDashboardAggregator(
+                assetIndex,
+                config,
+                contractNegotiationStore,
+                dataSourceRegistry,
+                transactionContext,
+                transferProcessService
+        );
+        var dashboardCounterService = new DashboardCounterService(
+                dashboardAggregator,
+                transferProcessStateService,
+                monitor
+        );
+        eventRouter.register(TransferProcessEvent.class, dashboardCounterService);
+        eventRouter.register(ContractNegotiationFinalized.class, dashboardCounterService);
+        eventRouter.register(AssetCreated.class, dashboardCounterService);
+        eventRouter.register(AssetDeleted.class, dashboardCounterService);
         var dashboardApiService = new DashboardPageApiService(
                 dashboardDataFetcher,
-                transferProcessStateService,
+                dashboardCounterService,
                 dapsConfigBuilder,
                 miwConfigBuilder,
                 selfDescriptionService
@@ -245,20 +406,24 @@ public class WrapperExtensionContextBuilder {
                 assetApiService,
                 policyDefinitionApiService,
                 catalogApiService,
+                multiCatalogApiService,
                 contractDefinitionApiService,
                 contractNegotiationApiService,
                 dashboardApiService
         );
 
         // Use Case API
-        var kpiApiService = new KpiApiService(
+        var kpiAggregator = buildKpiAggregator(
                 assetIndex,
-                policyDefinitionStore,
-                contractDefinitionStore,
-                transferProcessStore,
+                config,
                 contractAgreementService,
-                transferProcessStateService
+                contractDefinitionStore,
+                dataSourceRegistry,
+                policyDefinitionStore,
+                transactionContext,
+                transferProcessStore
         );
+        var kpiApiService = new KpiApiService(kpiAggregator, transferProcessStateService);
         var supportedPolicyApiService = new SupportedPolicyApiService(policyEngine);
         var useCaseResource = new UseCaseResourceImpl(
                 kpiApiService,
@@ -266,9 +431,84 @@ public class WrapperExtensionContextBuilder {
         );
 
         // Collect all JAX-RS resources
-        return new WrapperExtensionContext(List.of(
+        var jaxRsResources = new ArrayList<Object>(List.of(
                 uiResource,
                 useCaseResource
-        ), selfDescriptionService);
+        ));
+        if (wrapperMetrics.isEnabled()) {
+            jaxRsResources.add(new WrapperMetricsFilter(wrapperMetrics));
+        }
+        if (wrapperTracing.isEnabled()) {
+            jaxRsResources.add(new WrapperTracingFilter(wrapperTracing));
+        }
+        return new WrapperExtensionContext(jaxRsResources, selfDescriptionService, dashboardCounterService, catalogCache, multiCatalogApiService);
+    }
+
+    private static KpiAggregator buildKpiAggregator(
+            AssetIndex assetIndex,
+            Config config,
+            ContractAgreementService contractAgreementService,
+            ContractDefinitionStore contractDefinitionStore,
+            DataSourceRegistry dataSourceRegistry,
+            PolicyDefinitionStore policyDefinitionStore,
+            TransactionContext transactionContext,
+            TransferProcessStore transferProcessStore
+    ) {
+        var inMemoryKpiAggregator = new InMemoryKpiAggregator(
+                assetIndex,
+                policyDefinitionStore,
+                contractDefinitionStore,
+                transferProcessStore,
+                contractAgreementService
+        );
+        if (dataSourceRegistry == null || transactionContext == null) {
+            return inMemoryKpiAggregator;
+        }
+        return new PostgresKpiAggregator(dataSourceRegistry, transactionContext, config, inMemoryKpiAggregator);
+    }
+
+    private static DashboardAggregator buildDashboardAggregator(
+            AssetIndex assetIndex,
+            Config config,
+            ContractNegotiationStore contractNegotiationStore,
+            DataSourceRegistry dataSourceRegistry,
+            TransactionContext transactionContext,
+            TransferProcessService transferProcessService
+    ) {
+        var inMemoryDashboardAggregator = new InMemoryDashboardAggregator(
+                contractNegotiationStore,
+                transferProcessService,
+                assetIndex
+        );
+        if (dataSourceRegistry == null || transactionContext == null) {
+            return inMemoryDashboardAggregator;
+        }
+        return new PostgresDashboardAggregator(dataSourceRegistry, transactionContext, config, inMemoryDashboardAggregator);
+    }
+
+    private static TransferProcessCounter buildTransferProcessCounter(
+            Config config,
+            DataSourceRegistry dataSourceRegistry,
+            TransactionContext transactionContext,
+            TransferProcessService transferProcessService
+    ) {
+        var inMemoryTransferProcessCounter = new InMemoryTransferProcessCounter(transferProcessService);
+        if (dataSourceRegistry == null || transactionContext == null) {
+            return inMemoryTransferProcessCounter;
+        }
+        return new PostgresTransferProcessCounter(dataSourceRegistry, transactionContext, config, inMemoryTransferProcessCounter);
+    }
+
+    private static AssetSelectorMatchCounter buildAssetSelectorMatchCounter(
+            AssetIndex assetIndex,
+            Config config,
+            DataSourceRegistry dataSourceRegistry,
+            TransactionContext transactionContext
+    ) {
+        var inMemoryAssetSelectorMatchCounter = new InMemoryAssetSelectorMatchCounter(assetIndex);
+        if (dataSourceRegistry == null || transactionContext == null) {
+            return inMemoryAssetSelectorMatchCounter;
+        }
+        return new PostgresAssetSelectorMatchCounter(dataSourceRegistry, transactionContext, config, inMemoryAssetSelectorMatchCounter);
     }
 }
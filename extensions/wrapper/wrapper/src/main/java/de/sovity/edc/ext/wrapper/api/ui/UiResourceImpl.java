@@ -19,7 +19,9 @@ import de.sovity.edc.ext.wrapper.api.common.model.UiAsset;
 import de.sovity.edc.ext.wrapper.api.common.model.UiAssetCreateRequest;
 import de.sovity.edc.ext.wrapper.api.common.model.UiAssetEditMetadataRequest;
 import de.sovity.edc.ext.wrapper.api.ui.model.AssetPage;
+import de.sovity.edc.ext.wrapper.api.ui.model.ContractAgreementDirection;
 import de.sovity.edc.ext.wrapper.api.ui.model.ContractAgreementPage;
+import de.sovity.edc.ext.wrapper.api.ui.model.ContractAgreementTransferProcessPage;
 import de.sovity.edc.ext.wrapper.api.ui.model.InitiateCustomTransferRequest;
 import de.sovity.edc.ext.wrapper.api.ui.model.ContractDefinitionPage;
 import de.sovity.edc.ext.wrapper.api.ui.model.ContractDefinitionRequest;
@@ -27,12 +29,23 @@ import de.sovity.edc.ext.wrapper.api.ui.model.ContractNegotiationRequest;
 import de.sovity.edc.ext.wrapper.api.ui.model.DashboardPage;
 import de.sovity.edc.ext.wrapper.api.ui.model.IdResponseDto;
 import de.sovity.edc.ext.wrapper.api.ui.model.InitiateTransferRequest;
+import de.sovity.edc.ext.wrapper.api.ui.model.MultiCatalogPage;
+import de.sovity.edc.ext.wrapper.api.ui.model.PagedAssetPage;
+import de.sovity.edc.ext.wrapper.api.ui.model.PagedContractAgreementPage;
+import de.sovity.edc.ext.wrapper.api.ui.model.PagedContractDefinitionPage;
+import de.sovity.edc.ext.wrapper.api.ui.model.PagedPolicyDefinitionPage;
+import de.sovity.edc.ext.wrapper.api.ui.model.PagedTransferHistoryPage;
 import de.sovity.edc.ext.wrapper.api.ui.model.PolicyDefinitionPage;
+import de.sovity.edc.ext.wrapper.api.ui.model.PolicyDefinitionSortProperty;
 import de.sovity.edc.ext.wrapper.api.ui.model.TransferHistoryPage;
+import de.sovity.edc.ext.wrapper.api.ui.model.TransferHistorySortProperty;
+import de.sovity.edc.ext.wrapper.api.ui.model.TransferProcessSimplifiedState;
 import de.sovity.edc.ext.wrapper.api.ui.model.UiContractNegotiation;
 import de.sovity.edc.ext.wrapper.api.ui.model.UiDataOffer;
+import de.sovity.edc.ext.wrapper.api.ui.model.UiSortOrder;
 import de.sovity.edc.ext.wrapper.api.ui.pages.asset.AssetApiService;
 import de.sovity.edc.ext.wrapper.api.ui.pages.catalog.CatalogApiService;
+import de.sovity.edc.ext.wrapper.api.ui.pages.catalog.MultiCatalogApiService;
 import de.sovity.edc.ext.wrapper.api.ui.pages.contract_agreements.ContractAgreementPageApiService;
 import de.sovity.edc.ext.wrapper.api.ui.pages.contract_agreements.ContractAgreementTransferApiService;
 import de.sovity.edc.ext.wrapper.api.ui.pages.contract_definitions.ContractDefinitionApiService;
@@ -44,6 +57,7 @@ import de.sovity.edc.ext.wrapper.api.ui.pages.transferhistory.TransferHistoryPag
 import lombok.RequiredArgsConstructor;
 
 import java.util.List;
+import java.util.Map;
 
 @SuppressWarnings("java:S6539") // This class is so large so the generated API Clients can have one UiApi
 @RequiredArgsConstructor
@@ -56,6 +70,7 @@ public class UiResourceImpl implements UiResource {
     private final AssetApiService assetApiService;
     private final PolicyDefinitionApiService policyDefinitionApiService;
     private final CatalogApiService catalogApiService;
+    private final MultiCatalogApiService multiCatalogApiService;
     private final ContractDefinitionApiService contractDefinitionApiService;
     private final ContractNegotiationApiService contractNegotiationApiService;
     private final DashboardPageApiService dashboardPageApiService;
@@ -70,6 +85,31 @@ public class UiResourceImpl implements UiResource {
         return new AssetPage(assetApiService.getAssets());
     }
 
+    @Override
+    public PagedAssetPage getPagedAssetPage(
+            int offset,
+            int limit,
+            String searchText,
+            String dataCategory,
+            String dataSubcategory,
+            String dataModel,
+            String transportMode,
+            String geoReferenceMethod,
+            String language
+    ) {
+        return assetApiService.getPagedAssets(
+                offset,
+                limit,
+                searchText,
+                dataCategory,
+                dataSubcategory,
+                dataModel,
+                transportMode,
+                geoReferenceMethod,
+                language
+        );
+    }
+
     @Override
     public IdResponseDto createAsset(UiAssetCreateRequest uiAssetCreateRequest) {
         return assetApiService.createAsset(uiAssetCreateRequest);
@@ -90,6 +130,17 @@ public class UiResourceImpl implements UiResource {
         return new PolicyDefinitionPage(policyDefinitionApiService.getPolicyDefinitions());
     }
 
+    @Override
+    public PagedPolicyDefinitionPage getPagedPolicyDefinitionPage(
+            int offset,
+            int limit,
+            PolicyDefinitionSortProperty sortBy,
+            UiSortOrder sortOrder,
+            String searchText
+    ) {
+        return policyDefinitionApiService.getPagedPolicyDefinitions(offset, limit, sortBy, sortOrder, searchText);
+    }
+
     @Override
     public IdResponseDto createPolicyDefinition(PolicyDefinitionCreateRequest policyDefinitionDtoDto) {
         return policyDefinitionApiService.createPolicyDefinition(policyDefinitionDtoDto);
@@ -105,6 +156,11 @@ public class UiResourceImpl implements UiResource {
         return new ContractDefinitionPage(contractDefinitionApiService.getContractDefinitions());
     }
 
+    @Override
+    public PagedContractDefinitionPage getPagedContractDefinitionPage(int offset, int limit, UiSortOrder sortOrder) {
+        return contractDefinitionApiService.getPagedContractDefinitions(offset, limit, sortOrder);
+    }
+
     @Override
     public IdResponseDto createContractDefinition(ContractDefinitionRequest contractDefinitionRequest) {
         return contractDefinitionApiService.createContractDefinition(contractDefinitionRequest);
@@ -116,8 +172,13 @@ public class UiResourceImpl implements UiResource {
     }
 
     @Override
-    public List<UiDataOffer> getCatalogPageDataOffers(String connectorEndpoint) {
-        return catalogApiService.fetchDataOffers(connectorEndpoint);
+    public List<UiDataOffer> getCatalogPageDataOffers(String connectorEndpoint, boolean forceRefresh) {
+        return catalogApiService.fetchDataOffers(connectorEndpoint, forceRefresh);
+    }
+
+    @Override
+    public MultiCatalogPage getCatalogPageMultiDataOffers(List<String> connectorEndpoints, boolean forceRefresh) {
+        return multiCatalogApiService.fetchDataOffers(connectorEndpoints, forceRefresh);
     }
 
     @Override
@@ -135,6 +196,16 @@ public class UiResourceImpl implements UiResource {
         return contractAgreementApiService.contractAgreementPage();
     }
 
+    @Override
+    public PagedContractAgreementPage getPagedContractAgreementPage(int offset, int limit, UiSortOrder sortOrder) {
+        return contractAgreementApiService.pagedContractAgreementPage(offset, limit, sortOrder);
+    }
+
+    @Override
+    public ContractAgreementTransferProcessPage getContractAgreementTransferProcesses(String contractAgreementId, int offset, int limit) {
+        return contractAgreementApiService.contractAgreementTransferProcesses(contractAgreementId, offset, limit);
+    }
+
     @Override
     public IdResponseDto initiateTransfer(InitiateTransferRequest request) {
         return contractAgreementTransferApiService.initiateTransfer(request);
@@ -150,8 +221,27 @@ public class UiResourceImpl implements UiResource {
         return new TransferHistoryPage(transferHistoryPageApiService.getTransferHistoryEntries());
     }
 
+    @Override
+    public PagedTransferHistoryPage getPagedTransferHistoryPage(
+            int offset,
+            int limit,
+            TransferHistorySortProperty sortBy,
+            UiSortOrder sortOrder,
+            ContractAgreementDirection direction,
+            TransferProcessSimplifiedState state,
+            String counterPartyParticipantId
+    ) {
+        return transferHistoryPageApiService.getPagedTransferHistoryEntries(
+                offset, limit, sortBy, sortOrder, direction, state, counterPartyParticipantId);
+    }
+
     @Override
     public UiAsset getTransferProcessAsset(String transferProcessId) {
         return transferHistoryPageAssetFetcherService.getAssetForTransferHistoryPage(transferProcessId);
     }
+
+    @Override
+    public Map<String, UiAsset> getTransferProcessAssets(List<String> transferProcessIds) {
+        return transferHistoryPageAssetFetcherService.getAssetsForTransferHistoryPage(transferProcessIds);
+    }
 }
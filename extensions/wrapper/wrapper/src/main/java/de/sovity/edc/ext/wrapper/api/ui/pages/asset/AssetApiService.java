@@ -20,23 +20,32 @@ import de.sovity.edc.ext.wrapper.api.common.model.UiAsset;
 import de.sovity.edc.ext.wrapper.api.common.model.UiAssetCreateRequest;
 import de.sovity.edc.ext.wrapper.api.common.model.UiAssetEditMetadataRequest;
 import de.sovity.edc.ext.wrapper.api.ui.model.IdResponseDto;
+import de.sovity.edc.ext.wrapper.api.ui.model.PagedAssetPage;
+import de.sovity.edc.ext.wrapper.api.ui.model.UiPagination;
 import de.sovity.edc.ext.wrapper.api.ui.pages.dashboard.services.SelfDescriptionService;
+import de.sovity.edc.utils.jsonld.vocab.Prop;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
 import org.eclipse.edc.connector.spi.asset.AssetService;
+import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.types.domain.asset.Asset;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 
 @RequiredArgsConstructor
 public class AssetApiService {
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final AssetService assetService;
     private final AssetMapper assetMapper;
     private final AssetBuilder assetBuilder;
     private final SelfDescriptionService selfDescriptionService;
+    private final AssetSearchMatcher assetSearchMatcher;
 
     public List<UiAsset> getAssets() {
         var assets = getAllAssets();
@@ -47,6 +56,57 @@ public class AssetApiService {
                 .toList();
     }
 
+    public PagedAssetPage getPagedAssets(
+            int offset,
+            int limit,
+            String searchText,
+            String dataCategory,
+            String dataSubcategory,
+            String dataModel,
+            String transportMode,
+            String geoReferenceMethod,
+            String language
+    ) {
+        offset = Math.max(offset, 0);
+        limit = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+
+        var filter = new ArrayList<Criterion>();
+        addEqualsCriterion(filter, Prop.Mobility.DATA_CATEGORY, dataCategory);
+        addEqualsCriterion(filter, Prop.Mobility.DATA_SUBCATEGORY, dataSubcategory);
+        addEqualsCriterion(filter, Prop.Mobility.DATA_MODEL, dataModel);
+        addEqualsCriterion(filter, Prop.Mobility.TRANSPORT_MODE, transportMode);
+        addEqualsCriterion(filter, Prop.Mobility.GEO_REFERENCE_METHOD, geoReferenceMethod);
+        addEqualsCriterion(filter, Prop.Dcterms.LANGUAGE, language);
+
+        // Criteria are AND-ed and the asset index can't sort by creation date, so the full-text search and the
+        // ordering are applied to the raw assets. Only the requested page is mapped to UI assets.
+        var querySpec = QuerySpec.Builder.newInstance()
+                .limit(Integer.MAX_VALUE)
+                .filter(filter)
+                .build();
+        List<Asset> matches;
+        try (var assets = assetService.query(querySpec).orElseThrow(ServiceException::new)) {
+            matches = assets.filter(assetSearchMatcher.buildPredicate(searchText)).toList();
+        }
+
+        // Query one more entry than requested to find out whether there is a next page
+        var page = matches.stream()
+                .sorted(Comparator.comparing(Asset::getCreatedAt).reversed())
+                .skip(offset)
+                .limit(limit + 1L)
+                .toList();
+        var hasMore = page.size() > limit;
+        var pageAssets = hasMore ? page.subList(0, limit) : page;
+
+        var connectorEndpoint = selfDescriptionService.getConnectorEndpoint();
+        var participantId = selfDescriptionService.getParticipantId();
+        var uiAssets = pageAssets.stream()
+                .map(asset -> assetMapper.buildUiAsset(asset, connectorEndpoint, participantId))
+                .toList();
+
+        return new PagedAssetPage(uiAssets, new UiPagination(offset, limit, hasMore));
+    }
+
     @NotNull
     public IdResponseDto createAsset(UiAssetCreateRequest request) {
         var asset = assetBuilder.fromCreateRequest(request);
@@ -68,6 +128,12 @@ public class AssetApiService {
         return new IdResponseDto(response.getId());
     }
 
+    private void addEqualsCriterion(List<Criterion> filter, String property, String value) {
+        if (StringUtils.isNotBlank(value)) {
+            filter.add(new Criterion(property, "=", value));
+        }
+    }
+
     private List<Asset> getAllAssets() {
         return assetService.query(QuerySpec.max()).orElseThrow(ServiceException::new).toList();
     }
@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.ext.wrapper.api.ui.pages.asset;
+
+import de.sovity.edc.utils.jsonld.vocab.Prop;
+import org.apache.commons.lang3.StringUtils;
+import org.eclipse.edc.spi.types.domain.asset.Asset;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Full-text search over the raw properties of an {@link Asset}, so assets can be searched without mapping them.
+ * <p>
+ * All whitespace separated terms must be contained, case-insensitively, in either the asset ID, title, description or
+ * keywords.
+ */
+public class AssetSearchMatcher {
+    private static final List<String> SEARCHED_PROPERTIES = List.of(
+            Prop.Dcterms.TITLE,
+            Prop.Dcterms.DESCRIPTION,
+            Prop.Dcat.KEYWORDS
+    );
+
+    public Predicate<Asset> buildPredicate(String searchText) {
+        if (StringUtils.isBlank(searchText)) {
+            return asset -> true;
+        }
+
+        var terms = Arrays.stream(searchText.trim().toLowerCase(Locale.ROOT).split("\\s+")).toList();
+        return asset -> {
+            var text = searchableText(asset);
+            return terms.stream().allMatch(text::contains);
+        };
+    }
+
+    private String searchableText(Asset asset) {
+        var text = new StringBuilder(asset.getId() == null ? "" : asset.getId());
+        for (var property : SEARCHED_PROPERTIES) {
+            appendText(text, asset.getProperty(property));
+        }
+        return text.toString().toLowerCase(Locale.ROOT);
+    }
+
+    private void appendText(StringBuilder text, Object value) {
+        if (value == null) {
+            return;
+        }
+
+        if (value instanceof Collection<?> collection) {
+            collection.forEach(element -> appendText(text, element));
+        } else if (value instanceof Map<?, ?> map) {
+            // JSON-LD value objects, e.g. {"@value": "...", "@language": "en"}
+            map.values().forEach(element -> appendText(text, element));
+        } else {
+            text.append('\n').append(value);
+        }
+    }
+}
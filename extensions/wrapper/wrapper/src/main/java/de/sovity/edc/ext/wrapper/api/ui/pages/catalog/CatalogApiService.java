@@ -20,11 +20,14 @@ import de.sovity.edc.ext.wrapper.api.common.model.UiAsset;
 import de.sovity.edc.ext.wrapper.api.common.model.UiPolicy;
 import de.sovity.edc.ext.wrapper.api.ui.model.UiContractOffer;
 import de.sovity.edc.ext.wrapper.api.ui.model.UiDataOffer;
+import de.sovity.edc.ext.wrapper.metrics.WrapperMetrics;
+import de.sovity.edc.ext.wrapper.tracing.WrapperTracing;
 import de.sovity.edc.utils.catalog.DspCatalogService;
 import de.sovity.edc.utils.catalog.model.DspContractOffer;
 import de.sovity.edc.utils.catalog.model.DspDataOffer;
 import lombok.RequiredArgsConstructor;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -32,15 +35,32 @@ public class CatalogApiService {
     private final AssetMapper assetMapper;
     private final PolicyMapper policyMapper;
     private final DspCatalogService dspCatalogService;
+    private final CatalogCache catalogCache;
+    private final WrapperMetrics wrapperMetrics;
+    private final WrapperTracing wrapperTracing;
 
-    public List<UiDataOffer> fetchDataOffers(String connectorEndpoint) {
-        var dspCatalog = dspCatalogService.fetchDataOffers(connectorEndpoint);
-        var endpoint = dspCatalog.getEndpoint();
-        var participantId = dspCatalog.getParticipantId();
+    public List<UiDataOffer> fetchDataOffers(String connectorEndpoint, boolean forceRefresh) {
+        return catalogCache.get(connectorEndpoint, forceRefresh, this::fetchDataOffers);
+    }
+
+    private List<UiDataOffer> fetchDataOffers(String connectorEndpoint) {
+        return wrapperTracing.inSpan(
+                "CatalogApiService.fetchDataOffers",
+                "edc.connector.endpoint",
+                connectorEndpoint,
+                () -> wrapperMetrics.timeCatalogFetch(() -> fetchAndMapDataOffers(connectorEndpoint))
+        );
+    }
+
+    private List<UiDataOffer> fetchAndMapDataOffers(String connectorEndpoint) {
+        try (var dataOffers = dspCatalogService.streamDataOffers(connectorEndpoint)) {
+            var endpoint = dataOffers.getEndpoint();
+            var participantId = dataOffers.getParticipantId();
 
-        return dspCatalog.getDataOffers().stream()
-                .map(dataOffer -> buildDataOffer(dataOffer, endpoint, participantId))
-                .toList();
+            var result = new ArrayList<UiDataOffer>();
+            dataOffers.forEachRemaining(dataOffer -> result.add(buildDataOffer(dataOffer, endpoint, participantId)));
+            return result;
+        }
     }
 
     private UiDataOffer buildDataOffer(DspDataOffer dataOffer, String endpoint, String participantId) {
@@ -0,0 +1,261 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.ext.wrapper.api.ui.pages.catalog;
+
+import de.sovity.edc.ext.wrapper.api.ui.model.UiDataOffer;
+import org.eclipse.edc.spi.monitor.Monitor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Per-endpoint cache of fetched and mapped catalogs.
+ * <ul>
+ *     <li>Entries younger than the TTL are returned as-is.</li>
+ *     <li>Entries younger than TTL + stale-while-revalidate are returned as-is, but trigger a background refresh.</li>
+ *     <li>Older entries, missing entries and forced refreshes are fetched synchronously.</li>
+ *     <li>Concurrent fetches for the same endpoint share a single catalog request. Forced refreshes never join a
+ *     request that is already running, as it might have started before the data offers changed.</li>
+ *     <li>The least recently used endpoints are evicted once more than max-size endpoints are cached.</li>
+ * </ul>
+ * Failed fetches are never cached, and a fetch never replaces the result of a fetch that started later.
+ */
+public class CatalogCache {
+    private static final int REFRESH_THREADS = 2;
+
+    private final long ttlMillis;
+    private final long staleWhileRevalidateMillis;
+    private final Monitor monitor;
+    private final Clock clock;
+    private final ExecutorService refreshExecutor;
+
+    /**
+     * Access-ordered for LRU eviction, guarded by itself.
+     */
+    private final Map<String, Entry> entries;
+    private final Map<String, CompletableFuture<List<UiDataOffer>>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong staleHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * @param fetchedAtMillis start of the fetch, so the TTL never exceeds the age of the data offers
+     */
+    record Entry(List<UiDataOffer> dataOffers, long fetchedAtMillis) {
+    }
+
+    public CatalogCache(Duration ttl, Duration staleWhileRevalidate, int maxSize, Monitor monitor) {
+        this(ttl, staleWhileRevalidate, maxSize, monitor, Clock.systemUTC(), Executors.newFixedThreadPool(REFRESH_THREADS));
+    }
+
+    CatalogCache(Duration ttl, Duration staleWhileRevalidate, int maxSize, Monitor monitor, Clock clock, ExecutorService refreshExecutor) {
+        this.ttlMillis = ttl.toMillis();
+        this.staleWhileRevalidateMillis = staleWhileRevalidate.toMillis();
+        this.monitor = monitor;
+        this.clock = clock;
+        this.refreshExecutor = refreshExecutor;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached data offers of a connector, fetching them if required.
+     *
+     * @param endpoint connector endpoint
+     * @param forceRefresh skip the cache and fetch the catalog
+     * @param fetcher fetches and maps the catalog of an endpoint
+     * @return data offers
+     */
+    public List<UiDataOffer> get(String endpoint, boolean forceRefresh, Function<String, List<UiDataOffer>> fetcher) {
+        if (ttlMillis <= 0) {
+            return fetcher.apply(endpoint);
+        }
+
+        if (!forceRefresh) {
+            var entry = getEntry(endpoint);
+            if (entry != null) {
+                var age = clock.millis() - entry.fetchedAtMillis();
+                if (age < ttlMillis) {
+                    hits.incrementAndGet();
+                    return entry.dataOffers();
+                }
+                if (age < ttlMillis + staleWhileRevalidateMillis) {
+                    staleHits.incrementAndGet();
+                    refreshInBackground(endpoint, fetcher);
+                    return entry.dataOffers();
+                }
+            }
+        }
+
+        misses.incrementAndGet();
+        return fetch(endpoint, forceRefresh, fetcher);
+    }
+
+    /**
+     * @return requests served from fresh entries
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return requests served from stale entries while refreshing them in the background
+     */
+    public long getStaleHits() {
+        return staleHits.get();
+    }
+
+    /**
+     * @return requests that fetched the catalog or joined a running fetch, including forced refreshes
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private List<UiDataOffer> fetch(String endpoint, boolean forceRefresh, Function<String, List<UiDataOffer>> fetcher) {
+        var future = new CompletableFuture<List<UiDataOffer>>();
+        if (forceRefresh) {
+            // Later callers join this fetch instead of the one already running
+            inFlight.put(endpoint, future);
+        } else {
+            var existing = inFlight.putIfAbsent(endpoint, future);
+            if (existing != null) {
+                return join(existing);
+            }
+        }
+
+        return load(endpoint, future, fetcher);
+    }
+
+    /**
+     * Registers the refresh as in-flight before submitting it, so a burst of stale hits only submits one refresh.
+     */
+    private void refreshInBackground(String endpoint, Function<String, List<UiDataOffer>> fetcher) {
+        var future = new CompletableFuture<List<UiDataOffer>>();
+        if (inFlight.putIfAbsent(endpoint, future) != null) {
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refresh(endpoint, future, fetcher);
+                } catch (Exception e) {
+                    monitor.warning("Failed to refresh cached catalog of %s".formatted(endpoint), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Shutting down, callers that joined the refresh must not wait forever
+            future.completeExceptionally(e);
+            inFlight.remove(endpoint, future);
+        }
+    }
+
+    private void refresh(
+            String endpoint,
+            CompletableFuture<List<UiDataOffer>> future,
+            Function<String, List<UiDataOffer>> fetcher
+    ) {
+        // A stale hit that read the entry just before a previous refresh finished might have submitted this refresh
+        var entry = getEntry(endpoint);
+        if (entry != null && clock.millis() - entry.fetchedAtMillis() < ttlMillis) {
+            future.complete(entry.dataOffers());
+            inFlight.remove(endpoint, future);
+            return;
+        }
+
+        load(endpoint, future, fetcher);
+    }
+
+    /**
+     * Fetches the catalog for a fetch registered as in-flight and completes it.
+     */
+    private List<UiDataOffer> load(
+            String endpoint,
+            CompletableFuture<List<UiDataOffer>> future,
+            Function<String, List<UiDataOffer>> fetcher
+    ) {
+        try {
+            var fetchedAtMillis = clock.millis();
+            var dataOffers = List.copyOf(fetcher.apply(endpoint));
+            putEntryIfNewer(endpoint, new Entry(dataOffers, fetchedAtMillis));
+            future.complete(dataOffers);
+            return dataOffers;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(endpoint, future);
+        }
+    }
+
+    private Entry getEntry(String endpoint) {
+        synchronized (entries) {
+            return entries.get(endpoint);
+        }
+    }
+
+    private void putEntryIfNewer(String endpoint, Entry entry) {
+        synchronized (entries) {
+            var existing = entries.get(endpoint);
+            if (existing == null || existing.fetchedAtMillis() <= entry.fetchedAtMillis()) {
+                entries.put(endpoint, entry);
+            }
+        }
+    }
+
+    /**
+     * Waits for a fetch of another thread. Unlike {@link CompletableFuture#join()}, the wait can be interrupted, e.g.
+     * when a fan-out catalog request times out.
+     */
+    private static List<UiDataOffer> join(CompletableFuture<List<UiDataOffer>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a catalog request.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
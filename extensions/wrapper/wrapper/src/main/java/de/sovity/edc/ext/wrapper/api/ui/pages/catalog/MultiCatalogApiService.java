@@ -0,0 +1,135 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.ext.wrapper.api.ui.pages.catalog;
+
+import de.sovity.edc.ext.wrapper.api.ui.model.MultiCatalogEndpointResult;
+import de.sovity.edc.ext.wrapper.api.ui.model.MultiCatalogEndpointStatus;
+import de.sovity.edc.ext.wrapper.api.ui.model.MultiCatalogPage;
+import de.sovity.edc.ext.wrapper.api.ui.model.UiDataOffer;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.eclipse.edc.spi.monitor.Monitor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fetches the catalogs of multiple connectors concurrently.
+ * <p>
+ * Each catalog is fetched on a bounded executor and may take at most the configured timeout, measured from the
+ * start of its own fetch, so connectors queued behind others on the executor still get their full timeout. The total
+ * latency is that of the slowest connector instead of the sum of all, as long as there are enough threads.
+ * Connectors that fail or time out are reported per endpoint while the other connectors' Data Offers are still
+ * returned. Fetches that time out are interrupted.
+ */
+@RequiredArgsConstructor
+public class MultiCatalogApiService {
+    private final CatalogApiService catalogApiService;
+    private final ExecutorService fanOutExecutor;
+    private final Duration timeout;
+    private final Monitor monitor;
+
+    record FetchResult(List<UiDataOffer> dataOffers, MultiCatalogEndpointResult endpointResult) {
+    }
+
+    public MultiCatalogPage fetchDataOffers(List<String> connectorEndpoints, boolean forceRefresh) {
+        var endpoints = connectorEndpoints == null ? List.<String>of() : connectorEndpoints.stream()
+                .filter(StringUtils::isNotBlank)
+                .distinct()
+                .toList();
+
+        var futures = endpoints.stream()
+                .map(endpoint -> fetchAsync(endpoint, forceRefresh))
+                .toList();
+
+        var dataOffers = new ArrayList<UiDataOffer>();
+        var endpointResults = new ArrayList<MultiCatalogEndpointResult>();
+        for (var future : futures) {
+            var result = await(future);
+            dataOffers.addAll(result.dataOffers());
+            endpointResults.add(result.endpointResult());
+        }
+
+        return new MultiCatalogPage(dataOffers, endpointResults);
+    }
+
+    public void shutdown() {
+        fanOutExecutor.shutdownNow();
+    }
+
+    private CompletableFuture<FetchResult> fetchAsync(String endpoint, boolean forceRefresh) {
+        var result = new CompletableFuture<FetchResult>();
+        var timedOut = timedOut(endpoint);
+
+        var task = fanOutExecutor.submit(() -> {
+            // The deadline starts once the fetch starts, not while the task is queued
+            result.completeOnTimeout(timedOut, timeout.toMillis(), TimeUnit.MILLISECONDS);
+            result.complete(fetch(endpoint, forceRefresh));
+        });
+
+        result.thenAccept(fetchResult -> {
+            if (fetchResult == timedOut) {
+                task.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private FetchResult fetch(String endpoint, boolean forceRefresh) {
+        var start = System.nanoTime();
+        try {
+            var dataOffers = catalogApiService.fetchDataOffers(endpoint, forceRefresh);
+            var endpointResult = new MultiCatalogEndpointResult(endpoint, MultiCatalogEndpointStatus.OK, dataOffers.size(), millisSince(start), null);
+            return new FetchResult(dataOffers, endpointResult);
+        } catch (Exception e) {
+            if (e instanceof InterruptedException || Thread.currentThread().isInterrupted()) {
+                // Timed out, the result has already been reported
+                Thread.currentThread().interrupt();
+                return timedOut(endpoint);
+            }
+            monitor.warning("Failed to fetch catalog of %s".formatted(endpoint), e);
+            var message = StringUtils.defaultIfBlank(e.getMessage(), e.getClass().getSimpleName());
+            var endpointResult = new MultiCatalogEndpointResult(endpoint, MultiCatalogEndpointStatus.ERROR, 0, millisSince(start), message);
+            return new FetchResult(List.of(), endpointResult);
+        }
+    }
+
+    private FetchResult timedOut(String endpoint) {
+        var message = "Catalog request timed out after %d ms.".formatted(timeout.toMillis());
+        var endpointResult = new MultiCatalogEndpointResult(endpoint, MultiCatalogEndpointStatus.TIMEOUT, 0, timeout.toMillis(), message);
+        return new FetchResult(List.of(), endpointResult);
+    }
+
+    private FetchResult await(CompletableFuture<FetchResult> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while fetching catalogs.", e);
+        } catch (ExecutionException e) {
+            // Not expected, fetch(...) handles all exceptions
+            throw new IllegalStateException("Failed to fetch catalogs.", e.getCause());
+        }
+    }
+
+    private static long millisSince(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+}
@@ -16,15 +16,24 @@ package de.sovity.edc.ext.wrapper.api.ui.pages.contract_agreements;
 
 import de.sovity.edc.ext.wrapper.api.ui.model.ContractAgreementCard;
 import de.sovity.edc.ext.wrapper.api.ui.model.ContractAgreementPage;
+import de.sovity.edc.ext.wrapper.api.ui.model.ContractAgreementTransferProcessPage;
+import de.sovity.edc.ext.wrapper.api.ui.model.PagedContractAgreementPage;
+import de.sovity.edc.ext.wrapper.api.ui.model.UiPagination;
+import de.sovity.edc.ext.wrapper.api.ui.model.UiSortOrder;
 import de.sovity.edc.ext.wrapper.api.ui.pages.contract_agreements.services.ContractAgreementDataFetcher;
 import de.sovity.edc.ext.wrapper.api.ui.pages.contract_agreements.services.ContractAgreementPageCardBuilder;
 import lombok.RequiredArgsConstructor;
+import org.eclipse.edc.spi.query.SortOrder;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Comparator;
+import java.util.Set;
 
 @RequiredArgsConstructor
 public class ContractAgreementPageApiService {
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int TRANSFER_PROCESS_PREVIEW_SIZE = 5;
+
     private final ContractAgreementDataFetcher contractAgreementDataFetcher;
     private final ContractAgreementPageCardBuilder contractAgreementPageCardBuilder;
 
@@ -34,10 +43,71 @@ public class ContractAgreementPageApiService {
 
         var cards = agreements.stream()
                 .map(agreement -> contractAgreementPageCardBuilder.buildContractAgreementCard(
-                        agreement.agreement(), agreement.negotiation(), agreement.asset(), agreement.transfers()))
+                        agreement.agreement(), agreement.negotiation(), agreement.asset(), agreement.transfers(),
+                        agreement.transferCount()))
                 .sorted(Comparator.comparing(ContractAgreementCard::getContractSigningDate).reversed())
                 .toList();
 
         return new ContractAgreementPage(cards);
     }
+
+    /**
+     * Builds a single page of the contract agreement page.
+     * <p>
+     * The cards only contain the most recently updated transfer processes,
+     * the full list can be fetched with {@link #contractAgreementTransferProcesses(String, int, int)}.
+     *
+     * @param offset    number of contract agreements to skip
+     * @param limit     maximum number of contract agreements
+     * @param sortOrder sort order of the contract signing date, defaults to {@link UiSortOrder#DESC}
+     * @return {@link PagedContractAgreementPage}
+     */
+    @NotNull
+    public PagedContractAgreementPage pagedContractAgreementPage(int offset, int limit, UiSortOrder sortOrder) {
+        offset = Math.max(offset, 0);
+        limit = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        var storeSortOrder = sortOrder == UiSortOrder.ASC ? SortOrder.ASC : SortOrder.DESC;
+
+        // Query one more agreement than requested to find out whether there is a next page
+        var agreements = contractAgreementDataFetcher.getContractAgreements(
+                offset, limit + 1, storeSortOrder, TRANSFER_PROCESS_PREVIEW_SIZE);
+        var agreementIds = agreements.stream().map(it -> it.agreement().getId()).distinct().toList();
+        var hasMore = agreementIds.size() > limit;
+        var pageAgreementIds = Set.copyOf(agreementIds.subList(0, Math.min(limit, agreementIds.size())));
+
+        var comparator = Comparator.comparing(ContractAgreementCard::getContractSigningDate);
+        var cards = agreements.stream()
+                .filter(agreement -> pageAgreementIds.contains(agreement.agreement().getId()))
+                .map(agreement -> contractAgreementPageCardBuilder.buildContractAgreementCard(
+                        agreement.agreement(), agreement.negotiation(), agreement.asset(), agreement.transfers(),
+                        agreement.transferCount()))
+                .sorted(storeSortOrder == SortOrder.ASC ? comparator : comparator.reversed())
+                .toList();
+
+        return new PagedContractAgreementPage(cards, new UiPagination(offset, limit, hasMore));
+    }
+
+    /**
+     * Fetches a single page of a contract agreement's transfer processes, most recently updated first.
+     *
+     * @param contractAgreementId contract agreement id
+     * @param offset              number of transfer processes to skip
+     * @param limit               maximum number of transfer processes
+     * @return {@link ContractAgreementTransferProcessPage}
+     */
+    @NotNull
+    public ContractAgreementTransferProcessPage contractAgreementTransferProcesses(String contractAgreementId, int offset, int limit) {
+        offset = Math.max(offset, 0);
+        limit = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+
+        var transferProcesses = contractAgreementDataFetcher.getTransferProcesses(contractAgreementId, offset, limit + 1);
+        var hasMore = transferProcesses.size() > limit;
+
+        var entries = transferProcesses.stream()
+                .limit(limit)
+                .map(contractAgreementPageCardBuilder::buildContractAgreementTransfer)
+                .toList();
+
+        return new ContractAgreementTransferProcessPage(entries, new UiPagination(offset, limit, hasMore));
+    }
 }
@@ -18,6 +18,7 @@ import de.sovity.edc.ext.wrapper.api.ui.model.InitiateCustomTransferRequest;
 import de.sovity.edc.ext.wrapper.api.ui.model.IdResponseDto;
 import de.sovity.edc.ext.wrapper.api.ui.model.InitiateTransferRequest;
 import de.sovity.edc.ext.wrapper.api.ui.pages.contract_agreements.services.TransferRequestBuilder;
+import de.sovity.edc.ext.wrapper.tracing.WrapperTracing;
 import lombok.RequiredArgsConstructor;
 import org.eclipse.edc.connector.spi.transferprocess.TransferProcessService;
 import org.eclipse.edc.connector.transfer.spi.types.TransferProcess;
@@ -30,16 +31,27 @@ import static org.eclipse.edc.web.spi.exception.ServiceResultHandler.exceptionMa
 public class ContractAgreementTransferApiService {
     private final TransferRequestBuilder transferRequestBuilder;
     private final TransferProcessService transferProcessService;
+    private final WrapperTracing wrapperTracing;
 
     @NotNull
     public IdResponseDto initiateTransfer(InitiateTransferRequest request) {
-        var transferRequest = transferRequestBuilder.buildCustomTransferRequest(request);
+        var transferRequest = wrapperTracing.inSpan(
+                "TransferRequestBuilder.buildCustomTransferRequest",
+                "edc.contract_agreement.id",
+                request.getContractAgreementId(),
+                () -> transferRequestBuilder.buildCustomTransferRequest(request)
+        );
         return initiate(transferRequest);
     }
 
     @NotNull
     public IdResponseDto initiateCustomTransfer(InitiateCustomTransferRequest request) {
-        var transferRequest = transferRequestBuilder.buildCustomTransferRequest(request);
+        var transferRequest = wrapperTracing.inSpan(
+                "TransferRequestBuilder.buildCustomTransferRequest",
+                "edc.contract_agreement.id",
+                request.getContractAgreementId(),
+                () -> transferRequestBuilder.buildCustomTransferRequest(request)
+        );
         return initiate(transferRequest);
     }
 
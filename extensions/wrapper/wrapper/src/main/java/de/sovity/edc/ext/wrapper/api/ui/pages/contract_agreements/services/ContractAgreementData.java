@@ -25,16 +25,18 @@ import java.util.List;
 /**
  * Data for a contract agreement as required by the contract agreement page.
  *
- * @param agreement   contract agreement
- * @param negotiation contract negotiation
- * @param asset       asset
- * @param transfers   transfer processes
+ * @param agreement     contract agreement
+ * @param negotiation   contract negotiation
+ * @param asset         asset
+ * @param transfers     transfer processes, only the most recently updated ones on paged requests
+ * @param transferCount total number of transfer processes
  */
 public record ContractAgreementData(
         ContractAgreement agreement,
         ContractNegotiation negotiation,
         Asset asset,
-        List<TransferProcess> transfers
+        List<TransferProcess> transfers,
+        long transferCount
 ) {
 
 }
@@ -24,14 +24,18 @@ import org.eclipse.edc.connector.spi.contractagreement.ContractAgreementService;
 import org.eclipse.edc.connector.spi.transferprocess.TransferProcessService;
 import org.eclipse.edc.connector.transfer.spi.types.TransferProcess;
 import org.eclipse.edc.spi.asset.AssetIndex;
+import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
 import org.eclipse.edc.spi.types.domain.asset.Asset;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
 import java.util.Map;
 
+import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toMap;
 
 @RequiredArgsConstructor
 public class ContractAgreementDataFetcher {
@@ -39,9 +43,11 @@ public class ContractAgreementDataFetcher {
     private final ContractNegotiationStore contractNegotiationStore;
     private final TransferProcessService transferProcessService;
     private final AssetIndex assetIndex;
+    private final TransferProcessCounter transferProcessCounter;
 
     /**
-     * Fetches all contract agreements as {@link ContractAgreementData}s.
+     * Fetches all contract agreements as {@link ContractAgreementData}s with all their transfer processes, most
+     * recently updated first.
      *
      * @return {@link ContractAgreementData}s
      */
@@ -57,17 +63,117 @@ public class ContractAgreementDataFetcher {
         var transfers = getAllTransferProcesses().stream()
                 .collect(groupingBy(it -> it.getDataRequest().getContractId()));
 
+        var transferCounts = transfers.entrySet().stream()
+                .collect(toMap(Map.Entry::getKey, it -> (long) it.getValue().size()));
+
+        return buildContractAgreementData(agreements, negotiations, assets, transfers, transferCounts);
+    }
+
+    /**
+     * Fetches a page of contract agreements as {@link ContractAgreementData}s.
+     * <p>
+     * Sorting and paging is done by the store, the negotiations and assets are only fetched for the agreements of the
+     * page. Of the transfer processes, only the most recently updated ones are fetched with one query per agreement,
+     * the total is counted by the {@link TransferProcessCounter}.
+     *
+     * @param offset                           number of agreements to skip
+     * @param limit                            maximum number of agreements
+     * @param sortOrder                        sort order of the contract signing date
+     * @param maxTransferProcessesPerAgreement maximum number of transfer processes fetched per agreement
+     * @return {@link ContractAgreementData}s, one per contract agreement and negotiation
+     */
+    @NotNull
+    public List<ContractAgreementData> getContractAgreements(
+            int offset,
+            int limit,
+            SortOrder sortOrder,
+            int maxTransferProcessesPerAgreement
+    ) {
+        var querySpec = QuerySpec.Builder.newInstance()
+                .offset(offset)
+                .limit(limit)
+                .sortField("contractSigningDate")
+                .sortOrder(sortOrder)
+                .build();
+        var agreements = contractAgreementService.query(querySpec).orElseThrow(ServiceException::new).toList();
+        if (agreements.isEmpty()) {
+            return List.of();
+        }
+
+        var agreementIds = agreements.stream().map(ContractAgreement::getId).toList();
+
+        var negotiations = contractNegotiationStore.queryNegotiations(filterIn("contractAgreement.id", agreementIds))
+                .filter(it -> it.getContractAgreement() != null)
+                .collect(groupingBy(it -> it.getContractAgreement().getId()));
+
+        // Consuming agreements only show the asset id, so only the provided assets need to be fetched
+        var providedAssetIds = negotiations.values().stream()
+                .flatMap(List::stream)
+                .filter(it -> it.getType() == ContractNegotiation.Type.PROVIDER)
+                .map(it -> it.getContractAgreement().getAssetId())
+                .distinct()
+                .toList();
+        var assets = providedAssetIds.isEmpty()
+                ? Map.<String, Asset>of()
+                : MapUtils.associateBy(assetIndex.queryAssets(filterIn(Asset.PROPERTY_ID, providedAssetIds)).toList(), Asset::getId);
+
+        var transferCounts = transferProcessCounter.countByContractAgreementId(agreementIds);
+
+        // Agreements without transfer processes need no query
+        var transfers = agreementIds.stream()
+                .filter(transferCounts::containsKey)
+                .collect(toMap(identity(), it -> getTransferProcesses(it, 0, maxTransferProcessesPerAgreement)));
+
+        return buildContractAgreementData(agreements, negotiations, assets, transfers, transferCounts);
+    }
+
+    /**
+     * Fetches a page of a contract agreement's transfer processes, most recently updated first.
+     *
+     * @param contractAgreementId contract agreement id
+     * @param offset              number of transfer processes to skip
+     * @param limit               maximum number of transfer processes
+     * @return {@link TransferProcess}es
+     */
+    @NotNull
+    public List<TransferProcess> getTransferProcesses(String contractAgreementId, int offset, int limit) {
+        var querySpec = QuerySpec.Builder.newInstance()
+                .filter(List.of(new Criterion("dataRequest.contractId", "=", contractAgreementId)))
+                .offset(offset)
+                .limit(limit)
+                .sortField("updatedAt")
+                .sortOrder(SortOrder.DESC)
+                .build();
+        return transferProcessService.query(querySpec).orElseThrow(ServiceException::new).toList();
+    }
+
+    @NotNull
+    private List<ContractAgreementData> buildContractAgreementData(
+            List<ContractAgreement> agreements,
+            Map<String, List<ContractNegotiation>> negotiations,
+            Map<String, Asset> assets,
+            Map<String, List<TransferProcess>> transfers,
+            Map<String, Long> transferCounts
+    ) {
         // A ContractAgreement has multiple ContractNegotiations when doing a loopback consumption
         return agreements.stream()
                 .flatMap(agreement -> negotiations.getOrDefault(agreement.getId(), List.of()).stream()
                         .map(negotiation -> {
                             var asset = getAsset(agreement, negotiation, assets);
                             var contractTransfers = transfers.getOrDefault(agreement.getId(), List.of());
-                            return new ContractAgreementData(agreement, negotiation, asset, contractTransfers);
+                            var transferCount = transferCounts.getOrDefault(agreement.getId(), 0L);
+                            return new ContractAgreementData(agreement, negotiation, asset, contractTransfers, transferCount);
                         }))
                 .toList();
     }
 
+    private QuerySpec filterIn(String property, List<String> values) {
+        return QuerySpec.Builder.newInstance()
+                .filter(List.of(new Criterion(property, "in", values)))
+                .limit(Integer.MAX_VALUE)
+                .build();
+    }
+
     private Asset getAsset(ContractAgreement agreement, ContractNegotiation negotiation, Map<String, Asset> assets) {
         var assetId = agreement.getAssetId();
 
@@ -99,6 +205,11 @@ public class ContractAgreementDataFetcher {
 
     @NotNull
     private List<TransferProcess> getAllTransferProcesses() {
-        return transferProcessService.query(QuerySpec.max()).orElseThrow(ServiceException::new).toList();
+        var querySpec = QuerySpec.Builder.newInstance()
+                .limit(Integer.MAX_VALUE)
+                .sortField("updatedAt")
+                .sortOrder(SortOrder.DESC)
+                .build();
+        return transferProcessService.query(querySpec).orElseThrow(ServiceException::new).toList();
     }
 }
@@ -29,7 +29,6 @@ import org.eclipse.edc.connector.transfer.spi.types.TransferProcess;
 import org.eclipse.edc.spi.types.domain.asset.Asset;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Comparator;
 import java.util.List;
 
 import static de.sovity.edc.ext.wrapper.utils.EdcDateUtils.utcMillisToOffsetDateTime;
@@ -48,7 +47,8 @@ public class ContractAgreementPageCardBuilder {
             @NonNull ContractAgreement agreement,
             @NonNull ContractNegotiation negotiation,
             @NonNull Asset asset,
-            @NonNull List<TransferProcess> transferProcesses
+            @NonNull List<TransferProcess> transferProcesses,
+            long transferProcessCount
     ) {
         var assetParticipantId = contractNegotiationUtils.getProviderParticipantId(negotiation);
         var assetConnectorEndpoint = contractNegotiationUtils.getProviderConnectorEndpoint(negotiation);
@@ -63,6 +63,7 @@ public class ContractAgreementPageCardBuilder {
         card.setAsset(assetMapper.buildUiAsset(asset, assetConnectorEndpoint, assetParticipantId));
         card.setContractPolicy(policyMapper.buildUiPolicy(agreement.getPolicy()));
         card.setTransferProcesses(buildTransferProcesses(transferProcesses));
+        card.setTransferProcessCount(transferProcessCount);
         return card;
     }
 
@@ -70,15 +71,14 @@ public class ContractAgreementPageCardBuilder {
     private List<ContractAgreementTransferProcess> buildTransferProcesses(
             @NonNull List<TransferProcess> transferProcessEntities
     ) {
+        // Already sorted by the store, most recently updated first
         return transferProcessEntities.stream()
                 .map(this::buildContractAgreementTransfer)
-                .sorted(Comparator.comparing(ContractAgreementTransferProcess::getLastUpdatedDate)
-                        .reversed())
                 .toList();
     }
 
     @NotNull
-    private ContractAgreementTransferProcess buildContractAgreementTransfer(
+    public ContractAgreementTransferProcess buildContractAgreementTransfer(
             TransferProcess transferProcessEntity) {
         var transferProcess = new ContractAgreementTransferProcess();
         transferProcess.setTransferProcessId(transferProcessEntity.getId());
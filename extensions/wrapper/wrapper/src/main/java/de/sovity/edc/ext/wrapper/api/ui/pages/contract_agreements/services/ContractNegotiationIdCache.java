@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.ext.wrapper.api.ui.pages.contract_agreements.services;
+
+import org.eclipse.edc.connector.contract.spi.event.contractnegotiation.ContractNegotiationAgreed;
+import org.eclipse.edc.connector.contract.spi.event.contractnegotiation.ContractNegotiationEvent;
+import org.eclipse.edc.connector.contract.spi.event.contractnegotiation.ContractNegotiationFinalized;
+import org.eclipse.edc.connector.contract.spi.negotiation.store.ContractNegotiationStore;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded LRU cache from contract agreement ids to the ids of the contract negotiations that produced them.
+ * <p>
+ * An agreement never moves to another negotiation, so entries never become stale. The cache is populated from
+ * {@link ContractNegotiationAgreed} and {@link ContractNegotiationFinalized} events and by
+ * {@link ContractNegotiationUtils} after falling back to querying by agreement id.
+ */
+public class ContractNegotiationIdCache implements EventSubscriber {
+    private final ContractNegotiationStore contractNegotiationStore;
+    private final int maxSize;
+
+    /**
+     * Access-ordered for LRU eviction, guarded by this.
+     */
+    private final Map<String, String> negotiationIdsByAgreementId;
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param contractNegotiationStore store to look up negotiations of received events
+     * @param maxSize                  maximum number of cached agreement ids, 0 disables the cache
+     */
+    public ContractNegotiationIdCache(ContractNegotiationStore contractNegotiationStore, int maxSize) {
+        this.contractNegotiationStore = contractNegotiationStore;
+        this.maxSize = maxSize;
+        this.negotiationIdsByAgreementId = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached id of the contract negotiation of a contract agreement.
+     *
+     * @param contractAgreementId contract agreement id
+     * @return contract negotiation id or null if not cached
+     */
+    public synchronized String getNegotiationId(String contractAgreementId) {
+        return negotiationIdsByAgreementId.get(contractAgreementId);
+    }
+
+    public synchronized void put(String contractAgreementId, String contractNegotiationId) {
+        if (maxSize <= 0 || contractAgreementId == null || contractNegotiationId == null) {
+            return;
+        }
+        negotiationIdsByAgreementId.put(contractAgreementId, contractNegotiationId);
+    }
+
+    public synchronized int size() {
+        return negotiationIdsByAgreementId.size();
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> event) {
+        if (maxSize <= 0) {
+            return;
+        }
+
+        var payload = event.getPayload();
+        if (payload instanceof ContractNegotiationAgreed || payload instanceof ContractNegotiationFinalized) {
+            var negotiationId = ((ContractNegotiationEvent) payload).getContractNegotiationId();
+            var negotiation = contractNegotiationStore.findById(negotiationId);
+            if (negotiation != null && negotiation.getContractAgreement() != null) {
+                put(negotiation.getContractAgreement().getId(), negotiation.getId());
+            }
+        }
+    }
+}
@@ -30,15 +30,27 @@ public class ContractNegotiationUtils {
 
     private final ContractNegotiationService contractNegotiationService;
     private final SelfDescriptionService selfDescriptionService;
+    private final ContractNegotiationIdCache contractNegotiationIdCache;
 
     public ContractNegotiation findByContractAgreementIdOrThrow(String contractAgreementId) {
+        // Agreements never move to another negotiation, so a cached negotiation id saves the query by agreement id
+        var negotiationId = contractNegotiationIdCache.getNegotiationId(contractAgreementId);
+        if (negotiationId != null) {
+            var negotiation = contractNegotiationService.findbyId(negotiationId);
+            if (negotiation != null) {
+                return negotiation;
+            }
+        }
+
         var querySpec = QuerySpec.Builder.newInstance()
                 .filter(List.of(new Criterion("contractAgreement.id", "=", contractAgreementId)))
                 .build();
-        return contractNegotiationService.query(querySpec).orElseThrow(ServiceException::new)
+        var negotiation = contractNegotiationService.query(querySpec).orElseThrow(ServiceException::new)
                 .findFirst()
                 .orElseThrow(() -> new EdcException("Could not fetch contractNegotiation for " +
                         "contractAgreement"));
+        contractNegotiationIdCache.put(contractAgreementId, negotiation.getId());
+        return negotiation;
     }
 
     /**
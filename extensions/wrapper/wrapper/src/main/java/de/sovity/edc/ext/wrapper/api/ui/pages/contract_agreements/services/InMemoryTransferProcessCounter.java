@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.ext.wrapper.api.ui.pages.contract_agreements.services;
+
+import de.sovity.edc.ext.wrapper.api.ServiceException;
+import lombok.RequiredArgsConstructor;
+import org.eclipse.edc.connector.spi.transferprocess.TransferProcessService;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
+
+import java.util.List;
+import java.util.Map;
+
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+
+/**
+ * {@link TransferProcessCounter} that streams over the transfer processes of the given contract agreements and counts
+ * them without collecting them, e.g. for the in-memory stores.
+ */
+@RequiredArgsConstructor
+public class InMemoryTransferProcessCounter implements TransferProcessCounter {
+    private final TransferProcessService transferProcessService;
+
+    @Override
+    public Map<String, Long> countByContractAgreementId(List<String> contractAgreementIds) {
+        if (contractAgreementIds.isEmpty()) {
+            return Map.of();
+        }
+
+        var querySpec = QuerySpec.Builder.newInstance()
+                .filter(List.of(new Criterion("dataRequest.contractId", "in", contractAgreementIds)))
+                .limit(Integer.MAX_VALUE)
+                .build();
+        return transferProcessService.query(querySpec)
+                .orElseThrow(ServiceException::new)
+                .collect(groupingBy(it -> it.getDataRequest().getContractId(), counting()));
+    }
+}
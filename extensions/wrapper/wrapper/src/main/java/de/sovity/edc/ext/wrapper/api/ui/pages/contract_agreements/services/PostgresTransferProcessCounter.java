@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.ext.wrapper.api.ui.pages.contract_agreements.services;
+
+import lombok.RequiredArgsConstructor;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.spi.system.configuration.Config;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link TransferProcessCounter} that counts the transfer processes of all given contract agreements with a single
+ * {@code COUNT(*)} / {@code GROUP BY} query on {@code edc_data_request}.
+ * <p>
+ * Falls back to the given {@link TransferProcessCounter} if the EDC SQL transfer process store's datasource is not
+ * registered, e.g. when running with the in-memory stores.
+ */
+@RequiredArgsConstructor
+public class PostgresTransferProcessCounter implements TransferProcessCounter {
+    private static final String SQL = "SELECT contract_id, COUNT(*) FROM edc_data_request " +
+            "WHERE contract_id = ANY (?) GROUP BY contract_id";
+
+    private final DataSourceRegistry dataSourceRegistry;
+    private final TransactionContext transactionContext;
+    private final Config config;
+    private final TransferProcessCounter fallback;
+
+    @Override
+    public Map<String, Long> countByContractAgreementId(List<String> contractAgreementIds) {
+        if (contractAgreementIds.isEmpty()) {
+            return Map.of();
+        }
+
+        var dataSourceName = config.getString("edc.datasource.transferprocess.name", DataSourceRegistry.DEFAULT_DATASOURCE);
+        var dataSource = dataSourceRegistry.resolve(dataSourceName);
+        if (dataSource == null) {
+            return fallback.countByContractAgreementId(contractAgreementIds);
+        }
+
+        return transactionContext.execute(() -> {
+            try (var connection = dataSource.getConnection();
+                 var statement = connection.prepareStatement(SQL)) {
+                statement.setArray(1, connection.createArrayOf("varchar", contractAgreementIds.toArray()));
+
+                var counts = new HashMap<String, Long>();
+                try (var resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        counts.put(resultSet.getString(1), resultSet.getLong(2));
+                    }
+                }
+                return counts;
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.ext.wrapper.api.ui.pages.contract_agreements.services;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Counts the transfer processes of contract agreements without loading them.
+ */
+public interface TransferProcessCounter {
+
+    /**
+     * Counts the transfer processes of the given contract agreements.
+     *
+     * @param contractAgreementIds contract agreement ids
+     * @return number of transfer processes by contract agreement id, agreements without transfer processes may be
+     *         missing
+     */
+    Map<String, Long> countByContractAgreementId(List<String> contractAgreementIds);
+}
@@ -0,0 +1,37 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.ext.wrapper.api.ui.pages.contract_definitions;
+
+import org.eclipse.edc.connector.contract.spi.types.offer.ContractDefinition;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Counts the assets matched by the assets selectors of multiple contract definitions at once.
+ * <p>
+ * Supports the operators of the EDC asset index: {@code =}, {@code in} and {@code like}. Contract definitions
+ * with other operators in their assets selector are not counted.
+ */
+public interface AssetSelectorMatchCounter {
+
+    /**
+     * Counts the assets matched by each contract definition's assets selector.
+     *
+     * @param contractDefinitions contract definitions
+     * @return number of matching assets by contract definition id
+     */
+    Map<String, Long> countMatchingAssets(List<ContractDefinition> contractDefinitions);
+}
@@ -18,10 +18,14 @@ import de.sovity.edc.ext.wrapper.api.ServiceException;
 import de.sovity.edc.ext.wrapper.api.ui.model.ContractDefinitionEntry;
 import de.sovity.edc.ext.wrapper.api.ui.model.ContractDefinitionRequest;
 import de.sovity.edc.ext.wrapper.api.ui.model.IdResponseDto;
+import de.sovity.edc.ext.wrapper.api.ui.model.PagedContractDefinitionPage;
+import de.sovity.edc.ext.wrapper.api.ui.model.UiPagination;
+import de.sovity.edc.ext.wrapper.api.ui.model.UiSortOrder;
 import lombok.RequiredArgsConstructor;
 import org.eclipse.edc.connector.contract.spi.types.offer.ContractDefinition;
 import org.eclipse.edc.connector.spi.contractdefinition.ContractDefinitionService;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Comparator;
@@ -30,9 +34,12 @@ import java.util.List;
 
 @RequiredArgsConstructor
 public class ContractDefinitionApiService {
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final ContractDefinitionService contractDefinitionService;
     private final CriterionMapper criterionMapper;
     private final ContractDefinitionBuilder contractDefinitionBuilder;
+    private final AssetSelectorMatchCounter assetSelectorMatchCounter;
 
     public List<ContractDefinitionEntry> getContractDefinitions() {
         var definitions = getAllContractDefinitions();
@@ -42,6 +49,42 @@ public class ContractDefinitionApiService {
                 .toList();
     }
 
+    /**
+     * Fetches a single page of contract definitions, sorted by creation date, and counts the assets matched by
+     * their assets selectors in one batch.
+     *
+     * @param offset    number of contract definitions to skip
+     * @param limit     page size, at most {@value #MAX_PAGE_SIZE}
+     * @param sortOrder sort order, defaults to {@link UiSortOrder#DESC}
+     * @return {@link PagedContractDefinitionPage}
+     */
+    @NotNull
+    public PagedContractDefinitionPage getPagedContractDefinitions(int offset, int limit, UiSortOrder sortOrder) {
+        offset = Math.max(offset, 0);
+        limit = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+
+        // Query one more entry than requested to find out whether there is a next page
+        var querySpec = QuerySpec.Builder.newInstance()
+                .offset(offset)
+                .limit(limit + 1)
+                .sortField("createdAt")
+                .sortOrder(sortOrder == UiSortOrder.ASC ? SortOrder.ASC : SortOrder.DESC)
+                .build();
+        var definitions = contractDefinitionService.query(querySpec).orElseThrow(ServiceException::new).toList();
+
+        var hasMore = definitions.size() > limit;
+        var page = hasMore ? definitions.subList(0, limit) : definitions;
+
+        var numMatchingAssets = assetSelectorMatchCounter.countMatchingAssets(page);
+        var entries = page.stream().map(definition -> {
+            var entry = buildContractDefinitionEntry(definition);
+            entry.setNumMatchingAssets(numMatchingAssets.get(definition.getId()));
+            return entry;
+        }).toList();
+
+        return new PagedContractDefinitionPage(entries, new UiPagination(offset, limit, hasMore));
+    }
+
     @NotNull
     private ContractDefinitionEntry buildContractDefinitionEntry(ContractDefinition definition) {
         var entry = new ContractDefinitionEntry();
@@ -0,0 +1,144 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.ext.wrapper.api.ui.pages.contract_definitions;
+
+import lombok.RequiredArgsConstructor;
+import org.eclipse.edc.connector.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.spi.asset.AssetIndex;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.types.domain.asset.Asset;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * {@link AssetSelectorMatchCounter} for asset indexes that can't aggregate, e.g. the in-memory asset index.
+ * <p>
+ * Streams over all assets once and evaluates all assets selectors against each asset.
+ */
+@RequiredArgsConstructor
+public class InMemoryAssetSelectorMatchCounter implements AssetSelectorMatchCounter {
+    private final AssetIndex assetIndex;
+
+    private record Selector(String contractDefinitionId, Predicate<Asset> predicate) {
+    }
+
+    @Override
+    public Map<String, Long> countMatchingAssets(List<ContractDefinition> contractDefinitions) {
+        var selectors = new ArrayList<Selector>();
+        for (var contractDefinition : contractDefinitions) {
+            var predicate = buildPredicate(contractDefinition.getAssetsSelector());
+            if (predicate != null) {
+                selectors.add(new Selector(contractDefinition.getId(), predicate));
+            }
+        }
+        if (selectors.isEmpty()) {
+            return Map.of();
+        }
+
+        var counts = new long[selectors.size()];
+        try (var assets = assetIndex.queryAssets(QuerySpec.max())) {
+            assets.forEach(asset -> {
+                for (int i = 0; i < counts.length; i++) {
+                    if (selectors.get(i).predicate().test(asset)) {
+                        counts[i]++;
+                    }
+                }
+            });
+        }
+
+        var result = new HashMap<String, Long>();
+        for (int i = 0; i < counts.length; i++) {
+            result.put(selectors.get(i).contractDefinitionId(), counts[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Builds a predicate for an assets selector.
+     *
+     * @param assetsSelector criteria, all of which must match
+     * @return predicate or null if an operator is not supported
+     */
+    private Predicate<Asset> buildPredicate(List<Criterion> assetsSelector) {
+        Predicate<Asset> predicate = asset -> true;
+        for (var criterion : assetsSelector) {
+            var criterionPredicate = buildPredicate(criterion);
+            if (criterionPredicate == null) {
+                return null;
+            }
+            predicate = predicate.and(criterionPredicate);
+        }
+        return predicate;
+    }
+
+    private Predicate<Asset> buildPredicate(Criterion criterion) {
+        var property = String.valueOf(criterion.getOperandLeft());
+        var operandRight = criterion.getOperandRight();
+        return switch (criterion.getOperator().toLowerCase(Locale.ROOT)) {
+            case "=" -> asset -> matches(getProperty(asset, property), operandRight);
+            case "in" -> operandRight instanceof Collection<?> values ?
+                    asset -> values.stream().anyMatch(value -> matches(getProperty(asset, property), value)) :
+                    null;
+            case "like" -> {
+                var pattern = toPattern(String.valueOf(operandRight));
+                yield asset -> {
+                    var value = getProperty(asset, property);
+                    return value != null && pattern.matcher(value.toString()).matches();
+                };
+            }
+            default -> null;
+        };
+    }
+
+    private Object getProperty(Asset asset, String property) {
+        return Asset.PROPERTY_ID.equals(property) ? asset.getId() : asset.getProperty(property);
+    }
+
+    private boolean matches(Object value, Object operandRight) {
+        return value != null && operandRight != null && Objects.equals(value.toString(), operandRight.toString());
+    }
+
+    /**
+     * Translates a SQL LIKE pattern to a regular expression.
+     */
+    private Pattern toPattern(String likePattern) {
+        var regex = new StringBuilder();
+        var literal = new StringBuilder();
+        for (var c : likePattern.toCharArray()) {
+            if (c == '%' || c == '_') {
+                if (!literal.isEmpty()) {
+                    regex.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                regex.append(c == '%' ? ".*" : ".");
+            } else {
+                literal.append(c);
+            }
+        }
+        if (!literal.isEmpty()) {
+            regex.append(Pattern.quote(literal.toString()));
+        }
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+}
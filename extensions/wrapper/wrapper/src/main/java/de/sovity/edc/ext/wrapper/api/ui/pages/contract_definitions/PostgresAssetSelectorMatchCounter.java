@@ -0,0 +1,160 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.ext.wrapper.api.ui.pages.contract_definitions;
+
+import lombok.RequiredArgsConstructor;
+import org.eclipse.edc.connector.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.system.configuration.Config;
+import org.eclipse.edc.spi.types.domain.asset.Asset;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static java.util.stream.Collectors.joining;
+
+/**
+ * {@link AssetSelectorMatchCounter} that counts the matches of all assets selectors in a single scan of
+ * {@code edc_asset}, with one {@code COUNT(*) FILTER (WHERE ...)} column per contract definition.
+ * <p>
+ * Falls back to the given {@link AssetSelectorMatchCounter} if the EDC SQL asset index' datasource is not registered,
+ * e.g. when running with the in-memory stores.
+ */
+@RequiredArgsConstructor
+public class PostgresAssetSelectorMatchCounter implements AssetSelectorMatchCounter {
+    private static final String PROPERTY_CONDITION = "EXISTS (SELECT 1 FROM edc_asset_property p " +
+            "WHERE p.asset_id_fk = a.asset_id AND p.property_name = ? AND p.property_value %s)";
+
+    private final DataSourceRegistry dataSourceRegistry;
+    private final TransactionContext transactionContext;
+    private final Config config;
+    private final AssetSelectorMatchCounter fallback;
+
+    private record SqlCondition(String sql, List<String> parameters) {
+    }
+
+    private record Selector(String contractDefinitionId, SqlCondition condition) {
+    }
+
+    @Override
+    public Map<String, Long> countMatchingAssets(List<ContractDefinition> contractDefinitions) {
+        var dataSourceName = config.getString("edc.datasource.asset.name", DataSourceRegistry.DEFAULT_DATASOURCE);
+        var dataSource = dataSourceRegistry.resolve(dataSourceName);
+        if (dataSource == null) {
+            return fallback.countMatchingAssets(contractDefinitions);
+        }
+
+        var selectors = new ArrayList<Selector>();
+        for (var contractDefinition : contractDefinitions) {
+            var condition = buildCondition(contractDefinition.getAssetsSelector());
+            if (condition != null) {
+                selectors.add(new Selector(contractDefinition.getId(), condition));
+            }
+        }
+        if (selectors.isEmpty()) {
+            return Map.of();
+        }
+
+        var sql = selectors.stream()
+                .map(selector -> "COUNT(*) FILTER (WHERE %s)".formatted(selector.condition().sql()))
+                .collect(joining(", ", "SELECT ", " FROM edc_asset a"));
+
+        return transactionContext.execute(() -> {
+            try (var connection = dataSource.getConnection();
+                 var statement = connection.prepareStatement(sql)) {
+                var index = 1;
+                for (var selector : selectors) {
+                    for (var parameter : selector.condition().parameters()) {
+                        statement.setString(index++, parameter);
+                    }
+                }
+
+                var counts = new HashMap<String, Long>();
+                try (var resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    for (int i = 0; i < selectors.size(); i++) {
+                        counts.put(selectors.get(i).contractDefinitionId(), resultSet.getLong(i + 1));
+                    }
+                }
+                return counts;
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    /**
+     * Builds an SQL condition on {@code edc_asset a} for an assets selector.
+     *
+     * @param assetsSelector criteria, all of which must match
+     * @return condition or null if an operator is not supported
+     */
+    private SqlCondition buildCondition(List<Criterion> assetsSelector) {
+        if (assetsSelector.isEmpty()) {
+            return new SqlCondition("TRUE", List.of());
+        }
+
+        var conditions = new ArrayList<String>();
+        var parameters = new ArrayList<String>();
+        for (var criterion : assetsSelector) {
+            var condition = buildCondition(criterion);
+            if (condition == null) {
+                return null;
+            }
+            conditions.add(condition.sql());
+            parameters.addAll(condition.parameters());
+        }
+        return new SqlCondition(String.join(" AND ", conditions), parameters);
+    }
+
+    private SqlCondition buildCondition(Criterion criterion) {
+        var property = String.valueOf(criterion.getOperandLeft());
+        var operandRight = criterion.getOperandRight();
+        return switch (criterion.getOperator().toLowerCase(Locale.ROOT)) {
+            case "=" -> propertyCondition(property, "= ?", List.of(String.valueOf(operandRight)));
+            case "like" -> propertyCondition(property, "LIKE ?", List.of(String.valueOf(operandRight)));
+            case "in" -> {
+                if (!(operandRight instanceof Collection<?> values)) {
+                    yield null;
+                }
+                if (values.isEmpty()) {
+                    yield new SqlCondition("FALSE", List.of());
+                }
+                var placeholders = values.stream().map(value -> "?").collect(joining(", ", "IN (", ")"));
+                yield propertyCondition(property, placeholders, values.stream().map(String::valueOf).toList());
+            }
+            default -> null;
+        };
+    }
+
+    private SqlCondition propertyCondition(String property, String comparison, List<String> values) {
+        if (Asset.PROPERTY_ID.equals(property)) {
+            return new SqlCondition("a.asset_id " + comparison, values);
+        }
+
+        var parameters = new ArrayList<String>();
+        parameters.add(property);
+        parameters.addAll(values);
+        return new SqlCondition(PROPERTY_CONDITION.formatted(comparison), parameters);
+    }
+}
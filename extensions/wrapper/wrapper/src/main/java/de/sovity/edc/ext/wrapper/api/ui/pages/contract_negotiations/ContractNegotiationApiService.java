@@ -16,6 +16,7 @@ package de.sovity.edc.ext.wrapper.api.ui.pages.contract_negotiations;
 
 import de.sovity.edc.ext.wrapper.api.ui.model.ContractNegotiationRequest;
 import de.sovity.edc.ext.wrapper.api.ui.model.UiContractNegotiation;
+import de.sovity.edc.ext.wrapper.tracing.WrapperTracing;
 import lombok.RequiredArgsConstructor;
 import org.eclipse.edc.connector.contract.spi.types.agreement.ContractAgreement;
 import org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiation;
@@ -32,10 +33,16 @@ public class ContractNegotiationApiService {
     private final ContractNegotiationService contractNegotiationService;
     private final ContractNegotiationBuilder contractNegotiationBuilder;
     private final ContractNegotiationStateService contractNegotiationStateService;
+    private final WrapperTracing wrapperTracing;
 
     @NotNull
     public UiContractNegotiation initiateContractNegotiation(ContractNegotiationRequest request) {
-        var contractRequest = contractNegotiationBuilder.buildContractNegotiation(request);
+        var contractRequest = wrapperTracing.inSpan(
+                "ContractNegotiationBuilder.buildContractNegotiation",
+                "edc.connector.endpoint",
+                request.getCounterPartyAddress(),
+                () -> contractNegotiationBuilder.buildContractNegotiation(request)
+        );
         var contractNegotiation = contractNegotiationService.initiateNegotiation(contractRequest);
         return buildContractNegotiation(contractNegotiation);
     }
@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.ext.wrapper.api.ui.pages.dashboard.services;
+
+import org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiation;
+import org.eclipse.edc.connector.transfer.spi.types.TransferProcess;
+
+import java.util.List;
+
+/**
+ * Counts the entities backing the Dashboard Page counters without loading them.
+ * <p>
+ * The direction of a Contract Agreement is the type of its Contract Negotiations. Loopback agreements have both a
+ * provider and a consumer negotiation and are counted once per type, as are their Transfer Processes.
+ */
+public interface DashboardAggregator {
+
+    long countAssets();
+
+    /**
+     * Counts Contract Agreements grouped by the type of their Contract Negotiations.
+     *
+     * @return one entry per existing type
+     */
+    List<ContractAgreementCount> countContractAgreements();
+
+    /**
+     * Counts Transfer Processes grouped by the type of their Contract Agreement's Contract Negotiations and state.
+     *
+     * @return one entry per existing (type, state) combination
+     */
+    List<TransferProcessCount> countTransferProcesses();
+
+    /**
+     * Number of Contract Agreements negotiated as a given type.
+     *
+     * @param type  {@link ContractNegotiation#getType()}
+     * @param count number of Contract Agreements
+     */
+    record ContractAgreementCount(ContractNegotiation.Type type, long count) {
+    }
+
+    /**
+     * Number of Transfer Processes of Contract Agreements negotiated as a given type in a given state.
+     *
+     * @param type  {@link ContractNegotiation#getType()}
+     * @param state {@link TransferProcess#getState()}
+     * @param count number of Transfer Processes
+     */
+    record TransferProcessCount(ContractNegotiation.Type type, int state, long count) {
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.ext.wrapper.api.ui.pages.dashboard.services;
+
+import de.sovity.edc.ext.wrapper.api.ui.model.ContractAgreementDirection;
+import de.sovity.edc.ext.wrapper.api.ui.model.DashboardTransferAmounts;
+import de.sovity.edc.ext.wrapper.api.ui.model.TransferProcessSimplifiedState;
+import de.sovity.edc.ext.wrapper.api.ui.pages.transferhistory.TransferProcessStateService;
+import lombok.RequiredArgsConstructor;
+import org.eclipse.edc.connector.asset.spi.event.AssetCreated;
+import org.eclipse.edc.connector.asset.spi.event.AssetDeleted;
+import org.eclipse.edc.connector.contract.spi.event.contractnegotiation.ContractNegotiationFinalized;
+import org.eclipse.edc.connector.transfer.spi.event.TransferProcessEvent;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Caches the Dashboard counters, so the Dashboard Page does not need to count all Transfer Processes and Contract
+ * Negotiations on every request.
+ * <p>
+ * The counters are counted by the {@link DashboardAggregator} into a new snapshot, which then replaces the previous
+ * one. Readers always see a complete snapshot and only wait for a recount while there is no snapshot yet.
+ * <p>
+ * EDC events only mark the snapshot as outdated, so the next read recounts. The snapshot is also recounted
+ * periodically to pick up entities written to the stores directly without emitting events.
+ */
+@RequiredArgsConstructor
+public class DashboardCounterService implements EventSubscriber {
+    private final DashboardAggregator dashboardAggregator;
+    private final TransferProcessStateService transferProcessStateService;
+    private final Monitor monitor;
+
+    private final AtomicReference<DashboardCounts> counts = new AtomicReference<>();
+
+    /**
+     * Incremented for each relevant event. The snapshot is outdated while it has been counted at an earlier value.
+     */
+    private final AtomicLong changes = new AtomicLong();
+    private final Lock recountLock = new ReentrantLock();
+    private volatile long countedChanges = -1;
+    private ScheduledExecutorService reconciliationExecutor;
+
+    record TransferCounterKey(ContractAgreementDirection direction, TransferProcessSimplifiedState state) {
+    }
+
+    record DashboardCounts(
+            long numAssets,
+            Map<ContractAgreementDirection, Long> numContractAgreements,
+            Map<TransferCounterKey, Long> numTransferProcesses
+    ) {
+    }
+
+    public int getNumAssets() {
+        return Math.toIntExact(getCounts().numAssets());
+    }
+
+    public int getNumContractAgreements(ContractAgreementDirection direction) {
+        return Math.toIntExact(getCounts().numContractAgreements().getOrDefault(direction, 0L));
+    }
+
+    @NotNull
+    public DashboardTransferAmounts getTransferAmounts(ContractAgreementDirection direction) {
+        var current = getCounts();
+        var numRunning = getTransferCount(current, direction, TransferProcessSimplifiedState.RUNNING);
+        var numOk = getTransferCount(current, direction, TransferProcessSimplifiedState.OK);
+        var numError = getTransferCount(current, direction, TransferProcessSimplifiedState.ERROR);
+        return new DashboardTransferAmounts(numRunning + numOk + numError, numRunning, numOk, numError);
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> event) {
+        var payload = event.getPayload();
+        if (payload instanceof TransferProcessEvent || payload instanceof ContractNegotiationFinalized ||
+                payload instanceof AssetCreated || payload instanceof AssetDeleted) {
+            changes.incrementAndGet();
+        }
+    }
+
+    /**
+     * Schedules the periodic recounting of the counters.
+     *
+     * @param intervalSeconds interval in seconds, a non-positive value disables the reconciliation
+     */
+    public void startReconciliation(long intervalSeconds) {
+        if (intervalSeconds <= 0) {
+            return;
+        }
+        reconciliationExecutor = Executors.newSingleThreadScheduledExecutor();
+        reconciliationExecutor.scheduleWithFixedDelay(this::reconcile, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    public void stopReconciliation() {
+        if (reconciliationExecutor != null) {
+            reconciliationExecutor.shutdownNow();
+        }
+    }
+
+    void reconcile() {
+        if (counts.get() == null) {
+            // Nobody has looked at the dashboard yet
+            return;
+        }
+
+        recountLock.lock();
+        try {
+            recount();
+        } catch (Exception e) {
+            monitor.warning("Failed to reconcile the dashboard counters.", e);
+        } finally {
+            recountLock.unlock();
+        }
+    }
+
+    private DashboardCounts getCounts() {
+        var current = counts.get();
+        if (current != null && countedChanges == changes.get()) {
+            return current;
+        }
+
+        if (current == null) {
+            recountLock.lock();
+        } else if (!recountLock.tryLock()) {
+            // Already being recounted
+            return current;
+        }
+
+        try {
+            // Another reader might have recounted in the meantime
+            current = counts.get();
+            if (current != null && countedChanges == changes.get()) {
+                return current;
+            }
+            return recount();
+        } finally {
+            recountLock.unlock();
+        }
+    }
+
+    /**
+     * Counts into a new snapshot and swaps it in. Events received while counting leave the snapshot outdated, as they
+     * might not have been counted.
+     */
+    private DashboardCounts recount() {
+        var countedAt = changes.get();
+        var recounted = count();
+        counts.set(recounted);
+        countedChanges = countedAt;
+        return recounted;
+    }
+
+    private DashboardCounts count() {
+        var numContractAgreements = new HashMap<ContractAgreementDirection, Long>();
+        dashboardAggregator.countContractAgreements().forEach(it ->
+                numContractAgreements.merge(ContractAgreementDirection.fromType(it.type()), it.count(), Long::sum));
+
+        var numTransferProcesses = new HashMap<TransferCounterKey, Long>();
+        dashboardAggregator.countTransferProcesses().forEach(it -> {
+            var direction = ContractAgreementDirection.fromType(it.type());
+            var state = transferProcessStateService.getSimplifiedState(it.state());
+            numTransferProcesses.merge(new TransferCounterKey(direction, state), it.count(), Long::sum);
+        });
+
+        return new DashboardCounts(
+                dashboardAggregator.countAssets(),
+                Map.copyOf(numContractAgreements),
+                Map.copyOf(numTransferProcesses)
+        );
+    }
+
+    private long getTransferCount(
+            DashboardCounts current,
+            ContractAgreementDirection direction,
+            TransferProcessSimplifiedState state
+    ) {
+        return current.numTransferProcesses().getOrDefault(new TransferCounterKey(direction, state), 0L);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.ext.wrapper.api.ui.pages.dashboard.services;
+
+import de.sovity.edc.ext.wrapper.api.ServiceException;
+import lombok.RequiredArgsConstructor;
+import org.eclipse.edc.connector.contract.spi.negotiation.store.ContractNegotiationStore;
+import org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiation;
+import org.eclipse.edc.connector.spi.transferprocess.TransferProcessService;
+import org.eclipse.edc.spi.asset.AssetIndex;
+import org.eclipse.edc.spi.query.QuerySpec;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * {@link DashboardAggregator} for stores that can't aggregate, e.g. the in-memory stores.
+ * <p>
+ * Streams over each store once and only collects the Contract Agreement IDs.
+ */
+@RequiredArgsConstructor
+public class InMemoryDashboardAggregator implements DashboardAggregator {
+    private final ContractNegotiationStore contractNegotiationStore;
+    private final TransferProcessService transferProcessService;
+    private final AssetIndex assetIndex;
+
+    private record TypeAndState(ContractNegotiation.Type type, int state) {
+    }
+
+    @Override
+    public long countAssets() {
+        try (var assets = assetIndex.queryAssets(QuerySpec.max())) {
+            return assets.count();
+        }
+    }
+
+    @Override
+    public List<ContractAgreementCount> countContractAgreements() {
+        return getAgreementIdsByType().entrySet().stream()
+                .map(it -> new ContractAgreementCount(it.getKey(), it.getValue().size()))
+                .toList();
+    }
+
+    @Override
+    public List<TransferProcessCount> countTransferProcesses() {
+        var agreementIdsByType = getAgreementIdsByType();
+        Map<TypeAndState, Long> counts;
+        try (var transferProcesses = transferProcessService.query(QuerySpec.max()).orElseThrow(ServiceException::new)) {
+            counts = transferProcesses
+                    .flatMap(transferProcess -> Arrays.stream(ContractNegotiation.Type.values())
+                            .filter(type -> agreementIdsByType.getOrDefault(type, Set.of())
+                                    .contains(transferProcess.getDataRequest().getContractId()))
+                            .map(type -> new TypeAndState(type, transferProcess.getState())))
+                    .collect(groupingBy(it -> it, counting()));
+        }
+
+        return counts.entrySet().stream()
+                .map(it -> new TransferProcessCount(it.getKey().type(), it.getKey().state(), it.getValue()))
+                .toList();
+    }
+
+    private Map<ContractNegotiation.Type, Set<String>> getAgreementIdsByType() {
+        try (var negotiations = contractNegotiationStore.queryNegotiations(QuerySpec.max())) {
+            return negotiations
+                    .filter(it -> it.getContractAgreement() != null)
+                    .collect(groupingBy(ContractNegotiation::getType, mapping(it -> it.getContractAgreement().getId(), toSet())));
+        }
+    }
+}
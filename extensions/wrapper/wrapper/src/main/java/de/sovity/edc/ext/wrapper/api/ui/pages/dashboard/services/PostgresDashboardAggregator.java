@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.ext.wrapper.api.ui.pages.dashboard.services;
+
+import lombok.RequiredArgsConstructor;
+import org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiation;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.spi.system.configuration.Config;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * {@link DashboardAggregator} that lets PostgreSQL do the counting with {@code COUNT(*)} and {@code GROUP BY}.
+ * <p>
+ * Falls back to the given {@link DashboardAggregator} if the EDC SQL stores' datasources are not registered, e.g. when
+ * running with the in-memory stores. Transfer Processes are joined with Contract Negotiations, so they are only counted
+ * in PostgreSQL if both stores use the same datasource.
+ */
+@RequiredArgsConstructor
+public class PostgresDashboardAggregator implements DashboardAggregator {
+    private static final String AGREEMENTS_SQL = "SELECT type, COUNT(DISTINCT agreement_id) " +
+            "FROM edc_contract_negotiation WHERE agreement_id IS NOT NULL GROUP BY type";
+    private static final String TRANSFER_PROCESSES_SQL = "SELECT n.type, tp.state, COUNT(*) " +
+            "FROM edc_transfer_process tp " +
+            "JOIN edc_data_request dr ON dr.transfer_process_id = tp.transferprocess_id " +
+            "JOIN (SELECT DISTINCT type, agreement_id FROM edc_contract_negotiation WHERE agreement_id IS NOT NULL) n " +
+            "ON n.agreement_id = dr.contract_id " +
+            "GROUP BY n.type, tp.state";
+
+    private final DataSourceRegistry dataSourceRegistry;
+    private final TransactionContext transactionContext;
+    private final Config config;
+    private final DashboardAggregator fallback;
+
+    @Override
+    public long countAssets() {
+        return query("asset", "SELECT COUNT(*) FROM edc_asset", fallback::countAssets,
+                resultSet -> resultSet.next() ? resultSet.getLong(1) : 0L);
+    }
+
+    @Override
+    public List<ContractAgreementCount> countContractAgreements() {
+        return query("contractnegotiation", AGREEMENTS_SQL, fallback::countContractAgreements, resultSet -> {
+            var counts = new ArrayList<ContractAgreementCount>();
+            while (resultSet.next()) {
+                counts.add(new ContractAgreementCount(getType(resultSet), resultSet.getLong(2)));
+            }
+            return counts;
+        });
+    }
+
+    @Override
+    public List<TransferProcessCount> countTransferProcesses() {
+        if (!getDataSourceName("transferprocess").equals(getDataSourceName("contractnegotiation"))) {
+            return fallback.countTransferProcesses();
+        }
+
+        return query("transferprocess", TRANSFER_PROCESSES_SQL, fallback::countTransferProcesses, resultSet -> {
+            var counts = new ArrayList<TransferProcessCount>();
+            while (resultSet.next()) {
+                counts.add(new TransferProcessCount(getType(resultSet), resultSet.getInt(2), resultSet.getLong(3)));
+            }
+            return counts;
+        });
+    }
+
+    private ContractNegotiation.Type getType(ResultSet resultSet) throws SQLException {
+        return ContractNegotiation.Type.valueOf(resultSet.getString(1));
+    }
+
+    private <T> T query(String store, String sql, Supplier<T> fallbackQuery, ResultSetMapper<T> mapper) {
+        var dataSource = dataSourceRegistry.resolve(getDataSourceName(store));
+        if (dataSource == null) {
+            return fallbackQuery.get();
+        }
+
+        return transactionContext.execute(() -> {
+            try (var connection = dataSource.getConnection();
+                 var statement = connection.prepareStatement(sql);
+                 var resultSet = statement.executeQuery()) {
+                return mapper.map(resultSet);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    /**
+     * Same lookup as the EDC SQL stores, e.g. {@code edc.datasource.transferprocess.name}.
+     */
+    private String getDataSourceName(String store) {
+        return config.getString("edc.datasource.%s.name".formatted(store), DataSourceRegistry.DEFAULT_DATASOURCE);
+    }
+
+    @FunctionalInterface
+    private interface ResultSetMapper<T> {
+        T map(ResultSet resultSet) throws SQLException;
+    }
+}
@@ -20,21 +20,32 @@ import de.sovity.edc.ext.wrapper.api.common.mappers.PolicyMapper;
 import de.sovity.edc.ext.wrapper.api.common.model.PolicyDefinitionCreateRequest;
 import de.sovity.edc.ext.wrapper.api.common.model.PolicyDefinitionDto;
 import de.sovity.edc.ext.wrapper.api.ui.model.IdResponseDto;
+import de.sovity.edc.ext.wrapper.api.ui.model.PagedPolicyDefinitionPage;
+import de.sovity.edc.ext.wrapper.api.ui.model.PolicyDefinitionSortProperty;
+import de.sovity.edc.ext.wrapper.api.ui.model.UiPagination;
+import de.sovity.edc.ext.wrapper.api.ui.model.UiSortOrder;
+import de.sovity.edc.ext.wrapper.utils.QueryUtils;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
 import org.eclipse.edc.connector.policy.spi.PolicyDefinition;
 import org.eclipse.edc.connector.spi.policydefinition.PolicyDefinitionService;
+import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 
 
 @RequiredArgsConstructor
 public class PolicyDefinitionApiService {
+    private static final int MAX_PAGE_SIZE = 500;
 
     private final PolicyDefinitionService policyDefinitionService;
     private final PolicyMapper policyMapper;
+    private final UiPolicyCache uiPolicyCache;
 
     public List<PolicyDefinitionDto> getPolicyDefinitions() {
         var policyDefinitions = getAllPolicyDefinitions();
@@ -44,6 +55,49 @@ public class PolicyDefinitionApiService {
                 .toList();
     }
 
+    /**
+     * Fetches a single page of policy definitions, sorting and searching in the policy definition store.
+     *
+     * @param offset     number of policy definitions to skip
+     * @param limit      page size, at most {@value #MAX_PAGE_SIZE}
+     * @param sortBy     sort property, defaults to {@link PolicyDefinitionSortProperty#CREATED_DATE}
+     * @param sortOrder  sort order, defaults to {@link UiSortOrder#DESC}
+     * @param searchText optional search text, matched literally against the policy definition id
+     * @return {@link PagedPolicyDefinitionPage}
+     */
+    @NotNull
+    public PagedPolicyDefinitionPage getPagedPolicyDefinitions(
+            int offset,
+            int limit,
+            PolicyDefinitionSortProperty sortBy,
+            UiSortOrder sortOrder,
+            String searchText
+    ) {
+        offset = Math.max(offset, 0);
+        limit = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+
+        var filter = new ArrayList<Criterion>();
+        if (StringUtils.isNotBlank(searchText)) {
+            filter.add(new Criterion("id", "like", QueryUtils.likeContains(searchText.trim())));
+        }
+
+        // Query one more entry than requested to find out whether there is a next page
+        var querySpec = QuerySpec.Builder.newInstance()
+                .offset(offset)
+                .limit(limit + 1)
+                .sortField(getSortField(sortBy))
+                .sortOrder(sortOrder == UiSortOrder.ASC ? SortOrder.ASC : SortOrder.DESC)
+                .filter(filter)
+                .build();
+        var policyDefinitions = policyDefinitionService.query(querySpec).orElseThrow(ServiceException::new).toList();
+
+        var hasMore = policyDefinitions.size() > limit;
+        var page = hasMore ? policyDefinitions.subList(0, limit) : policyDefinitions;
+        var policies = page.stream().map(this::buildPolicyDefinitionDto).toList();
+
+        return new PagedPolicyDefinitionPage(policies, new UiPagination(offset, limit, hasMore));
+    }
+
     @NotNull
     public IdResponseDto createPolicyDefinition(PolicyDefinitionCreateRequest request) {
         var policyDefinition = buildPolicyDefinition(request);
@@ -60,8 +114,20 @@ public class PolicyDefinitionApiService {
     private List<PolicyDefinition> getAllPolicyDefinitions() {
         return policyDefinitionService.query(QuerySpec.max()).orElseThrow(ServiceException::new).toList();
     }
+
+    private String getSortField(PolicyDefinitionSortProperty sortBy) {
+        if (sortBy == null) {
+            return "createdAt";
+        }
+        return switch (sortBy) {
+            case POLICY_DEFINITION_ID -> "id";
+            default -> "createdAt";
+        };
+    }
+
     public PolicyDefinitionDto buildPolicyDefinitionDto(PolicyDefinition policyDefinition) {
-        var policy = policyMapper.buildUiPolicy(policyDefinition.getPolicy());
+        var policy = uiPolicyCache.computeIfAbsent(policyDefinition,
+                () -> policyMapper.buildUiPolicy(policyDefinition.getPolicy()));
         return PolicyDefinitionDto.builder()
                 .policyDefinitionId(policyDefinition.getId())
                 .policy(policy)
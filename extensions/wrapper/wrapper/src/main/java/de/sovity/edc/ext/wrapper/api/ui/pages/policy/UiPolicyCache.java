@@ -0,0 +1,125 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.ext.wrapper.api.ui.pages.policy;
+
+import de.sovity.edc.ext.wrapper.api.common.model.UiPolicy;
+import org.eclipse.edc.connector.policy.spi.PolicyDefinition;
+import org.eclipse.edc.connector.policy.spi.event.PolicyDefinitionDeleted;
+import org.eclipse.edc.connector.policy.spi.event.PolicyDefinitionUpdated;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded LRU cache for {@link UiPolicy}s built from {@link PolicyDefinition}s.
+ * <p>
+ * Policy Definitions are not edited by the UI, so entries are keyed by the policy definition id and its creation
+ * date: A Policy Definition that is deleted and re-created with the same id gets a new entry. Entries are
+ * additionally evicted on {@link PolicyDefinitionUpdated} and {@link PolicyDefinitionDeleted} events, which covers
+ * updates via the Management API.
+ */
+public class UiPolicyCache implements EventSubscriber {
+    private final int maxSize;
+
+    /**
+     * Access-ordered for LRU eviction, guarded by this.
+     */
+    private final Map<CacheKey, UiPolicy> entries;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private record CacheKey(String policyDefinitionId, long createdAt) {
+    }
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param maxSize maximum number of cached {@link UiPolicy}s, 0 disables the cache
+     */
+    public UiPolicyCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, UiPolicy> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached {@link UiPolicy} or builds and caches it.
+     *
+     * @param policyDefinition policy definition
+     * @param builder          builds the {@link UiPolicy} on cache misses
+     * @return {@link UiPolicy}
+     */
+    public UiPolicy computeIfAbsent(PolicyDefinition policyDefinition, Supplier<UiPolicy> builder) {
+        if (maxSize <= 0) {
+            return builder.get();
+        }
+
+        var key = new CacheKey(policyDefinition.getId(), policyDefinition.getCreatedAt());
+        var cached = get(key);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+
+        misses.incrementAndGet();
+        // Built outside the lock, concurrent misses for the same policy build it twice, which is fine
+        var uiPolicy = builder.get();
+        put(key, uiPolicy);
+        return uiPolicy;
+    }
+
+    public synchronized void invalidate(String policyDefinitionId) {
+        entries.keySet().removeIf(key -> key.policyDefinitionId().equals(policyDefinitionId));
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> event) {
+        var payload = event.getPayload();
+        if (payload instanceof PolicyDefinitionUpdated policyDefinitionUpdated) {
+            invalidate(policyDefinitionUpdated.getPolicyDefinitionId());
+        } else if (payload instanceof PolicyDefinitionDeleted policyDefinitionDeleted) {
+            invalidate(policyDefinitionDeleted.getPolicyDefinitionId());
+        }
+    }
+
+    private synchronized UiPolicy get(CacheKey key) {
+        return entries.get(key);
+    }
+
+    private synchronized void put(CacheKey key, UiPolicy uiPolicy) {
+        entries.put(key, uiPolicy);
+    }
+}
@@ -16,7 +16,12 @@ package de.sovity.edc.ext.wrapper.api.ui.pages.transferhistory;
 
 import de.sovity.edc.ext.wrapper.api.ServiceException;
 import de.sovity.edc.ext.wrapper.api.ui.model.ContractAgreementDirection;
+import de.sovity.edc.ext.wrapper.api.ui.model.PagedTransferHistoryPage;
 import de.sovity.edc.ext.wrapper.api.ui.model.TransferHistoryEntry;
+import de.sovity.edc.ext.wrapper.api.ui.model.TransferHistorySortProperty;
+import de.sovity.edc.ext.wrapper.api.ui.model.TransferProcessSimplifiedState;
+import de.sovity.edc.ext.wrapper.api.ui.model.UiPagination;
+import de.sovity.edc.ext.wrapper.api.ui.model.UiSortOrder;
 import de.sovity.edc.utils.jsonld.vocab.Prop;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
@@ -28,10 +33,13 @@ import org.eclipse.edc.connector.spi.contractagreement.ContractAgreementService;
 import org.eclipse.edc.connector.spi.transferprocess.TransferProcessService;
 import org.eclipse.edc.connector.transfer.spi.types.TransferProcess;
 import org.eclipse.edc.spi.entity.Entity;
+import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
 import org.eclipse.edc.spi.types.domain.asset.Asset;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -43,6 +51,7 @@ import static java.util.stream.Collectors.toMap;
 
 @RequiredArgsConstructor
 public class TransferHistoryPageApiService {
+    private static final int MAX_PAGE_SIZE = 500;
 
     private final AssetService assetService;
     private final ContractAgreementService contractAgreementService;
@@ -76,34 +85,172 @@ public class TransferHistoryPageApiService {
         var transferProcesses = getAllTransferProcesses();
 
         return transferProcesses.stream().map(process -> {
-            var agreement = agreementsById.get(process.getDataRequest().getContractId());
             var negotiation = negotiationsById.get(process.getDataRequest().getContractId());
+            var agreement = agreementsById.get(process.getDataRequest().getContractId());
             var asset = assetLookup(assetsById, process);
-            var direction = ContractAgreementDirection.fromType(negotiation.getType());
-            var transferHistoryEntry = new TransferHistoryEntry();
-            transferHistoryEntry.setAssetId(asset.getId());
-            if (direction == ContractAgreementDirection.CONSUMING) {
-                transferHistoryEntry.setAssetName(asset.getId());
-            } else {
-                transferHistoryEntry.setAssetName(
-                        StringUtils.isBlank((String) asset.getProperties().get(Prop.Dcterms.TITLE))
-                                ? asset.getId()
-                                : asset.getProperties().get(Prop.Dcterms.TITLE).toString()
-                );
-            }
-            transferHistoryEntry.setContractAgreementId(agreement.getId());
-            transferHistoryEntry.setCounterPartyConnectorEndpoint(negotiation.getCounterPartyAddress());
-            transferHistoryEntry.setCounterPartyParticipantId(negotiation.getCounterPartyId());
-            transferHistoryEntry.setCreatedDate(utcMillisToOffsetDateTime(negotiation.getCreatedAt()));
-            transferHistoryEntry.setDirection(direction);
-            transferHistoryEntry.setErrorMessage(process.getErrorDetail());
-            transferHistoryEntry.setLastUpdatedDate(utcMillisToOffsetDateTime(process.getUpdatedAt()));
-            transferHistoryEntry.setState(transferProcessStateService.buildTransferProcessState(process.getState()));
-            transferHistoryEntry.setTransferProcessId(process.getId());
-            return transferHistoryEntry;
+            return buildTransferHistoryEntry(process, negotiation, agreement, asset);
         }).sorted(Comparator.comparing(TransferHistoryEntry::getLastUpdatedDate).reversed()).toList();
     }
 
+    /**
+     * Fetches a single page of Transfer History entries.
+     * <p>
+     * Sorting, filtering and paging happen in the {@link TransferProcessService} query, the negotiations and assets
+     * are then only fetched for the transfer processes on the requested page.
+     *
+     * @param offset    number of entries to skip
+     * @param limit     maximum number of entries to return
+     * @param sortBy    sort property, defaults to {@link TransferHistorySortProperty#LAST_UPDATED_DATE}
+     * @param sortOrder sort order, defaults to {@link UiSortOrder#DESC}
+     * @param direction optional direction filter
+     * @param state     optional simplified state filter
+     * @param counterPartyParticipantId optional counter party participant id filter
+     * @return {@link PagedTransferHistoryPage}
+     */
+    @NotNull
+    public PagedTransferHistoryPage getPagedTransferHistoryEntries(
+            int offset,
+            int limit,
+            TransferHistorySortProperty sortBy,
+            UiSortOrder sortOrder,
+            ContractAgreementDirection direction,
+            TransferProcessSimplifiedState state,
+            String counterPartyParticipantId
+    ) {
+        offset = Math.max(offset, 0);
+        limit = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+
+        // Query one more entry than requested to find out whether there is a next page
+        var querySpec = QuerySpec.Builder.newInstance()
+                .offset(offset)
+                .limit(limit + 1)
+                .sortField(getSortField(sortBy))
+                .sortOrder(sortOrder == UiSortOrder.ASC ? SortOrder.ASC : SortOrder.DESC)
+                .filter(buildFilter(direction, state, counterPartyParticipantId))
+                .build();
+        var transferProcesses = transferProcessService.query(querySpec).orElseThrow(ServiceException::new).toList();
+
+        var hasMore = transferProcesses.size() > limit;
+        var pageProcesses = hasMore ? transferProcesses.subList(0, limit) : transferProcesses;
+
+        var negotiationsByAgreementId = getNegotiationsByAgreementId(pageProcesses);
+        var assetsById = getProvidedAssetsById(pageProcesses);
+
+        var entries = pageProcesses.stream().map(process -> {
+            var negotiation = negotiationsByAgreementId.get(process.getDataRequest().getContractId());
+            var asset = assetLookup(assetsById, process);
+            return buildTransferHistoryEntry(process, negotiation, negotiation.getContractAgreement(), asset);
+        }).toList();
+
+        return new PagedTransferHistoryPage(entries, new UiPagination(offset, limit, hasMore));
+    }
+
+    @NotNull
+    private TransferHistoryEntry buildTransferHistoryEntry(
+            TransferProcess process,
+            ContractNegotiation negotiation,
+            ContractAgreement agreement,
+            Asset asset
+    ) {
+        var direction = ContractAgreementDirection.fromType(negotiation.getType());
+        var transferHistoryEntry = new TransferHistoryEntry();
+        transferHistoryEntry.setAssetId(asset.getId());
+        if (direction == ContractAgreementDirection.CONSUMING) {
+            transferHistoryEntry.setAssetName(asset.getId());
+        } else {
+            transferHistoryEntry.setAssetName(
+                    StringUtils.isBlank((String) asset.getProperties().get(Prop.Dcterms.TITLE))
+                            ? asset.getId()
+                            : asset.getProperties().get(Prop.Dcterms.TITLE).toString()
+            );
+        }
+        transferHistoryEntry.setContractAgreementId(agreement.getId());
+        transferHistoryEntry.setCounterPartyConnectorEndpoint(negotiation.getCounterPartyAddress());
+        transferHistoryEntry.setCounterPartyParticipantId(negotiation.getCounterPartyId());
+        transferHistoryEntry.setCreatedDate(utcMillisToOffsetDateTime(negotiation.getCreatedAt()));
+        transferHistoryEntry.setDirection(direction);
+        transferHistoryEntry.setErrorMessage(process.getErrorDetail());
+        transferHistoryEntry.setLastUpdatedDate(utcMillisToOffsetDateTime(process.getUpdatedAt()));
+        transferHistoryEntry.setState(transferProcessStateService.buildTransferProcessState(process.getState()));
+        transferHistoryEntry.setTransferProcessId(process.getId());
+        return transferHistoryEntry;
+    }
+
+    @NotNull
+    private String getSortField(TransferHistorySortProperty sortBy) {
+        if (sortBy == null) {
+            return "updatedAt";
+        }
+        return switch (sortBy) {
+            case CREATED_DATE -> "createdAt";
+            case STATE -> "state";
+            default -> "updatedAt";
+        };
+    }
+
+    @NotNull
+    private List<Criterion> buildFilter(
+            ContractAgreementDirection direction,
+            TransferProcessSimplifiedState state,
+            String counterPartyParticipantId
+    ) {
+        var filter = new ArrayList<Criterion>();
+        if (direction != null) {
+            // TransferProcess.Type and ContractNegotiation.Type share their constant names
+            filter.add(new Criterion("type", "=", direction.getType().name()));
+        }
+        if (state != null) {
+            filter.add(new Criterion("state", "in", transferProcessStateService.getStateCodes(state)));
+        }
+        if (StringUtils.isNotBlank(counterPartyParticipantId)) {
+            filter.add(new Criterion("dataRequest.connectorId", "=", counterPartyParticipantId));
+        }
+        return filter;
+    }
+
+    @NotNull
+    private Map<String, ContractNegotiation> getNegotiationsByAgreementId(List<TransferProcess> transferProcesses) {
+        var agreementIds = transferProcesses.stream()
+                .map(process -> process.getDataRequest().getContractId())
+                .distinct()
+                .toList();
+        if (agreementIds.isEmpty()) {
+            return Map.of();
+        }
+
+        var querySpec = QuerySpec.Builder.newInstance()
+                .filter(List.of(new Criterion("contractAgreement.id", "in", agreementIds)))
+                .limit(Integer.MAX_VALUE)
+                .build();
+        return contractNegotiationStore.queryNegotiations(querySpec)
+                .filter(negotiation -> negotiation.getContractAgreement() != null)
+                .collect(toMap(
+                        it -> it.getContractAgreement().getId(),
+                        Function.identity(),
+                        BinaryOperator.maxBy(Comparator.comparing(Entity::getCreatedAt))
+                ));
+    }
+
+    @NotNull
+    private Map<String, Asset> getProvidedAssetsById(List<TransferProcess> transferProcesses) {
+        // Consuming transfer processes only know the asset id, so only the provided assets need to be fetched
+        var assetIds = transferProcesses.stream()
+                .filter(process -> process.getType() == TransferProcess.Type.PROVIDER)
+                .map(process -> process.getDataRequest().getAssetId())
+                .distinct()
+                .toList();
+        if (assetIds.isEmpty()) {
+            return Map.of();
+        }
+
+        var querySpec = QuerySpec.Builder.newInstance()
+                .filter(List.of(new Criterion(Asset.PROPERTY_ID, "in", assetIds)))
+                .limit(Integer.MAX_VALUE)
+                .build();
+        return assetService.query(querySpec).orElseThrow(ServiceException::new)
+                .collect(toMap(Asset::getId, Function.identity()));
+    }
+
     private Asset assetLookup(Map<String, Asset> assetsById, TransferProcess process) {
         var assetId = process.getDataRequest().getAssetId();
         var asset = assetsById.get(assetId);
@@ -13,6 +13,7 @@
 
 package de.sovity.edc.ext.wrapper.api.ui.pages.transferhistory;
 
+import de.sovity.edc.ext.wrapper.api.ServiceException;
 import de.sovity.edc.ext.wrapper.api.common.mappers.AssetMapper;
 import de.sovity.edc.ext.wrapper.api.common.model.UiAsset;
 import de.sovity.edc.ext.wrapper.api.ui.pages.contract_agreements.services.ContractNegotiationUtils;
@@ -23,9 +24,22 @@ import org.eclipse.edc.connector.spi.asset.AssetService;
 import org.eclipse.edc.connector.spi.transferprocess.TransferProcessService;
 import org.eclipse.edc.connector.transfer.spi.types.TransferProcess;
 import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.entity.Entity;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.types.domain.asset.Asset;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toMap;
+
 @RequiredArgsConstructor
 public class TransferHistoryPageAssetFetcherService {
     private final AssetService assetService;
@@ -44,6 +58,44 @@ public class TransferHistoryPageAssetFetcherService {
         return getAssetFromTransferProcess(transferProcessById);
     }
 
+    /**
+     * Batched version of {@link #getAssetForTransferHistoryPage(String)}: Fetches the transfer processes, assets and
+     * contract negotiations with one query each, regardless of the number of transfer processes.
+     *
+     * @param transferProcessIds transfer process ids
+     * @return assets by transfer process id. Unknown transfer processes and transfer processes without a contract
+     * negotiation are omitted.
+     */
+    @NotNull
+    public Map<String, UiAsset> getAssetsForTransferHistoryPage(List<String> transferProcessIds) {
+        var ids = transferProcessIds == null ? List.<String>of() : transferProcessIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        var transferProcesses = getTransferProcesses(ids);
+        var assetsById = getAssetsById(transferProcesses);
+        var negotiationsByAgreementId = getNegotiationsByAgreementId(transferProcesses);
+
+        var result = new LinkedHashMap<String, UiAsset>();
+        for (var process : transferProcesses) {
+            var negotiation = negotiationsByAgreementId.get(process.getContractId());
+            if (negotiation == null) {
+                continue;
+            }
+            var assetId = process.getDataRequest().getAssetId();
+            var asset = assetsById.get(assetId);
+            if (asset == null) {
+                asset = Asset.Builder.newInstance().id(assetId).build();
+            }
+            result.put(process.getId(), buildUiAsset(asset, negotiation));
+        }
+        return result;
+    }
+
     @NotNull
     private UiAsset getAssetFromTransferProcess(TransferProcess process) {
         var asset = getTransferProcessAsset(process);
@@ -62,6 +114,54 @@ public class TransferHistoryPageAssetFetcherService {
         return asset;
     }
 
+    private List<TransferProcess> getTransferProcesses(List<String> transferProcessIds) {
+        var querySpec = QuerySpec.Builder.newInstance()
+                .filter(List.of(new Criterion("id", "in", transferProcessIds)))
+                .limit(Integer.MAX_VALUE)
+                .build();
+        return transferProcessService.query(querySpec).orElseThrow(ServiceException::new).toList();
+    }
+
+    private Map<String, Asset> getAssetsById(List<TransferProcess> transferProcesses) {
+        var assetIds = transferProcesses.stream()
+                .map(process -> process.getDataRequest().getAssetId())
+                .distinct()
+                .toList();
+        if (assetIds.isEmpty()) {
+            return Map.of();
+        }
+
+        var querySpec = QuerySpec.Builder.newInstance()
+                .filter(List.of(new Criterion(Asset.PROPERTY_ID, "in", assetIds)))
+                .limit(Integer.MAX_VALUE)
+                .build();
+        return assetService.query(querySpec).orElseThrow(ServiceException::new)
+                .collect(toMap(Asset::getId, Function.identity()));
+    }
+
+    private Map<String, ContractNegotiation> getNegotiationsByAgreementId(List<TransferProcess> transferProcesses) {
+        var agreementIds = transferProcesses.stream()
+                .map(TransferProcess::getContractId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (agreementIds.isEmpty()) {
+            return Map.of();
+        }
+
+        var querySpec = QuerySpec.Builder.newInstance()
+                .filter(List.of(new Criterion("contractAgreement.id", "in", agreementIds)))
+                .limit(Integer.MAX_VALUE)
+                .build();
+        return contractNegotiationStore.queryNegotiations(querySpec)
+                .filter(negotiation -> negotiation.getContractAgreement() != null)
+                .collect(toMap(
+                        it -> it.getContractAgreement().getId(),
+                        Function.identity(),
+                        BinaryOperator.maxBy(Comparator.comparing(Entity::getCreatedAt))
+                ));
+    }
+
     private UiAsset buildUiAsset(Asset asset, ContractNegotiation negotiation) {
         var connectorEndpoint = contractNegotiationUtils.getProviderConnectorEndpoint(negotiation);
         var participantId = contractNegotiationUtils.getProviderParticipantId(negotiation);
@@ -21,6 +21,9 @@ import org.eclipse.edc.connector.transfer.spi.types.TransferProcess;
 import org.eclipse.edc.connector.transfer.spi.types.TransferProcessStates;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Arrays;
+import java.util.List;
+
 
 @RequiredArgsConstructor
 public class TransferProcessStateService {
@@ -72,6 +75,20 @@ public class TransferProcessStateService {
         return "CUSTOM";
     }
 
+    /**
+     * All known {@link TransferProcessStates} codes that map to the given simplified state.
+     *
+     * @param simplifiedState simplified state
+     * @return {@link TransferProcessStates#code()}s
+     */
+    @NotNull
+    public List<Integer> getStateCodes(TransferProcessSimplifiedState simplifiedState) {
+        return Arrays.stream(TransferProcessStates.values())
+                .map(TransferProcessStates::code)
+                .filter(code -> getSimplifiedState(code) == simplifiedState)
+                .toList();
+    }
+
     @NotNull
     public TransferProcessSimplifiedState getSimplifiedState(int code) {
         if (isError(code)) {
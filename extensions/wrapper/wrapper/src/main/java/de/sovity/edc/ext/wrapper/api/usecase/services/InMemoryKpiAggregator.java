@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.ext.wrapper.api.usecase.services;
+
+import de.sovity.edc.ext.wrapper.api.ServiceException;
+import lombok.RequiredArgsConstructor;
+import org.eclipse.edc.connector.contract.spi.offer.store.ContractDefinitionStore;
+import org.eclipse.edc.connector.policy.spi.store.PolicyDefinitionStore;
+import org.eclipse.edc.connector.spi.contractagreement.ContractAgreementService;
+import org.eclipse.edc.connector.transfer.spi.store.TransferProcessStore;
+import org.eclipse.edc.connector.transfer.spi.types.TransferProcess;
+import org.eclipse.edc.spi.asset.AssetIndex;
+import org.eclipse.edc.spi.query.QuerySpec;
+
+import java.util.List;
+
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+
+/**
+ * {@link KpiAggregator} for stores that can't aggregate, e.g. the in-memory stores.
+ * <p>
+ * Streams over each store once and counts without collecting the entities.
+ */
+@RequiredArgsConstructor
+public class InMemoryKpiAggregator implements KpiAggregator {
+    private final AssetIndex assetIndex;
+    private final PolicyDefinitionStore policyDefinitionStore;
+    private final ContractDefinitionStore contractDefinitionStore;
+    private final TransferProcessStore transferProcessStore;
+    private final ContractAgreementService contractAgreementService;
+
+    private record TypeAndState(TransferProcess.Type type, int state) {
+    }
+
+    @Override
+    public long countAssets() {
+        return assetIndex.queryAssets(QuerySpec.max()).count();
+    }
+
+    @Override
+    public long countPolicies() {
+        return policyDefinitionStore.findAll(QuerySpec.max()).count();
+    }
+
+    @Override
+    public long countContractDefinitions() {
+        return contractDefinitionStore.findAll(QuerySpec.max()).count();
+    }
+
+    @Override
+    public long countContractAgreements() {
+        return contractAgreementService.query(QuerySpec.max()).orElseThrow(ServiceException::new).count();
+    }
+
+    @Override
+    public List<TransferProcessCount> countTransferProcesses() {
+        var counts = transferProcessStore.findAll(QuerySpec.max())
+                .collect(groupingBy(it -> new TypeAndState(it.getType(), it.getState()), counting()));
+
+        return counts.entrySet().stream()
+                .map(it -> new TransferProcessCount(it.getKey().type(), it.getKey().state(), it.getValue()))
+                .toList();
+    }
+}
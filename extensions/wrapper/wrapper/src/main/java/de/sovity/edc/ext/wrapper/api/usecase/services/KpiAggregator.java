@@ -0,0 +1,50 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.ext.wrapper.api.usecase.services;
+
+import org.eclipse.edc.connector.transfer.spi.types.TransferProcess;
+
+import java.util.List;
+
+/**
+ * Counts the entities backing the KPI endpoint without loading them.
+ */
+public interface KpiAggregator {
+
+    long countAssets();
+
+    long countPolicies();
+
+    long countContractDefinitions();
+
+    long countContractAgreements();
+
+    /**
+     * Counts Transfer Processes grouped by type and state.
+     *
+     * @return one entry per existing (type, state) combination
+     */
+    List<TransferProcessCount> countTransferProcesses();
+
+    /**
+     * Number of Transfer Processes of a given type in a given state.
+     *
+     * @param type  {@link TransferProcess#getType()}
+     * @param state {@link TransferProcess#getState()}
+     * @param count number of Transfer Processes
+     */
+    record TransferProcessCount(TransferProcess.Type type, int state, long count) {
+    }
+}
@@ -14,40 +14,30 @@
 
 package de.sovity.edc.ext.wrapper.api.usecase.services;
 
-import de.sovity.edc.ext.wrapper.api.ServiceException;
 import de.sovity.edc.ext.wrapper.api.ui.model.TransferProcessSimplifiedState;
 import de.sovity.edc.ext.wrapper.api.ui.pages.transferhistory.TransferProcessStateService;
 import de.sovity.edc.ext.wrapper.api.usecase.model.KpiResult;
 import de.sovity.edc.ext.wrapper.api.usecase.model.TransferProcessStatesDto;
+import de.sovity.edc.ext.wrapper.api.usecase.services.KpiAggregator.TransferProcessCount;
 import lombok.RequiredArgsConstructor;
-import org.eclipse.edc.connector.contract.spi.offer.store.ContractDefinitionStore;
-import org.eclipse.edc.connector.policy.spi.store.PolicyDefinitionStore;
-import org.eclipse.edc.connector.spi.contractagreement.ContractAgreementService;
-import org.eclipse.edc.connector.transfer.spi.store.TransferProcessStore;
 import org.eclipse.edc.connector.transfer.spi.types.TransferProcess;
-import org.eclipse.edc.spi.asset.AssetIndex;
-import org.eclipse.edc.spi.query.QuerySpec;
 
 import java.util.List;
 import java.util.Map;
 
-import static java.util.stream.Collectors.counting;
 import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.summingLong;
 
 @RequiredArgsConstructor
 public class KpiApiService {
-    private final AssetIndex assetIndex;
-    private final PolicyDefinitionStore policyDefinitionStore;
-    private final ContractDefinitionStore contractDefinitionStore;
-    private final TransferProcessStore transferProcessStore;
-    private final ContractAgreementService contractAgreementService;
+    private final KpiAggregator kpiAggregator;
     private final TransferProcessStateService transferProcessStateService;
 
     public KpiResult getKpis() {
-        var assetsCount = getAssetsCount();
-        var policiesCount = getPoliciesCount();
-        var contractDefinitionsCount = getContractDefinitionsCount();
-        var contractAgreements = getContractAgreementsCount();
+        var assetsCount = Math.toIntExact(kpiAggregator.countAssets());
+        var policiesCount = Math.toIntExact(kpiAggregator.countPolicies());
+        var contractDefinitionsCount = Math.toIntExact(kpiAggregator.countContractDefinitions());
+        var contractAgreements = Math.toIntExact(kpiAggregator.countContractAgreements());
         var transferProcessDto = getTransferProcessesDto();
 
         return new KpiResult(
@@ -59,43 +49,21 @@ public class KpiApiService {
         );
     }
 
-    private int getContractAgreementsCount() {
-        return contractAgreementService.query(QuerySpec.max()).orElseThrow(ServiceException::new).toList().size();
-    }
-
     private TransferProcessStatesDto getTransferProcessesDto() {
-        var transferProcesses = transferProcessStore.findAll(QuerySpec.max()).toList();
-        return new TransferProcessStatesDto(getIncoming(transferProcesses), getOutgoing(transferProcesses));
-    }
-
-    private Map<TransferProcessSimplifiedState, Long> getIncoming(List<TransferProcess> transferProcesses) {
-        return transferProcesses.stream()
-                .filter(it -> it.getType() == TransferProcess.Type.CONSUMER)
-                .collect(groupingBy(this::getTransferProcessStates, counting()));
-    }
-
-    private Map<TransferProcessSimplifiedState, Long> getOutgoing(List<TransferProcess> transferProcesses) {
-        return transferProcesses.stream()
-                .filter(it -> it.getType() == TransferProcess.Type.PROVIDER)
-                .collect(groupingBy(this::getTransferProcessStates, counting()));
-    }
-
-    private TransferProcessSimplifiedState getTransferProcessStates(TransferProcess transferProcess) {
-        return transferProcessStateService.getSimplifiedState(transferProcess.getState());
-    }
-
-    private int getContractDefinitionsCount() {
-        var contractDefinitions = contractDefinitionStore.findAll(QuerySpec.max()).toList();
-        return contractDefinitions.size();
+        var transferProcessCounts = kpiAggregator.countTransferProcesses();
+        return new TransferProcessStatesDto(
+                getCounts(transferProcessCounts, TransferProcess.Type.CONSUMER),
+                getCounts(transferProcessCounts, TransferProcess.Type.PROVIDER)
+        );
     }
 
-    private int getPoliciesCount() {
-        var policies = policyDefinitionStore.findAll(QuerySpec.max()).toList();
-        return policies.size();
+    private Map<TransferProcessSimplifiedState, Long> getCounts(List<TransferProcessCount> transferProcessCounts, TransferProcess.Type type) {
+        return transferProcessCounts.stream()
+                .filter(it -> it.type() == type)
+                .collect(groupingBy(this::getTransferProcessState, summingLong(TransferProcessCount::count)));
     }
 
-    private int getAssetsCount() {
-        var assets = assetIndex.queryAssets(QuerySpec.max()).toList();
-        return assets.size();
+    private TransferProcessSimplifiedState getTransferProcessState(TransferProcessCount transferProcessCount) {
+        return transferProcessStateService.getSimplifiedState(transferProcessCount.state());
     }
 }
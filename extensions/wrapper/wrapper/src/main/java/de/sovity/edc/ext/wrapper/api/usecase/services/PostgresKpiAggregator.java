@@ -0,0 +1,112 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.ext.wrapper.api.usecase.services;
+
+import lombok.RequiredArgsConstructor;
+import org.eclipse.edc.connector.transfer.spi.types.TransferProcess;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.spi.system.configuration.Config;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * {@link KpiAggregator} that lets PostgreSQL do the counting with {@code COUNT(*)} and {@code GROUP BY}.
+ * <p>
+ * Falls back to the given {@link KpiAggregator} if the EDC SQL stores' datasources are not registered,
+ * e.g. when running with the in-memory stores.
+ */
+@RequiredArgsConstructor
+public class PostgresKpiAggregator implements KpiAggregator {
+    private final DataSourceRegistry dataSourceRegistry;
+    private final TransactionContext transactionContext;
+    private final Config config;
+    private final KpiAggregator fallback;
+
+    @Override
+    public long countAssets() {
+        return count("asset", "SELECT COUNT(*) FROM edc_asset", fallback::countAssets);
+    }
+
+    @Override
+    public long countPolicies() {
+        return count("policy", "SELECT COUNT(*) FROM edc_policydefinitions", fallback::countPolicies);
+    }
+
+    @Override
+    public long countContractDefinitions() {
+        return count("contractdefinition", "SELECT COUNT(*) FROM edc_contract_definitions", fallback::countContractDefinitions);
+    }
+
+    @Override
+    public long countContractAgreements() {
+        return count("contractnegotiation", "SELECT COUNT(*) FROM edc_contract_agreement", fallback::countContractAgreements);
+    }
+
+    @Override
+    public List<TransferProcessCount> countTransferProcesses() {
+        var sql = "SELECT type, state, COUNT(*) FROM edc_transfer_process GROUP BY type, state";
+        return query("transferprocess", sql, fallback::countTransferProcesses, resultSet -> {
+            var counts = new ArrayList<TransferProcessCount>();
+            while (resultSet.next()) {
+                var type = resultSet.getString(1);
+                counts.add(new TransferProcessCount(
+                        type == null ? null : TransferProcess.Type.valueOf(type),
+                        resultSet.getInt(2),
+                        resultSet.getLong(3)
+                ));
+            }
+            return counts;
+        });
+    }
+
+    private long count(String store, String sql, Supplier<Long> fallbackCount) {
+        return query(store, sql, fallbackCount, resultSet -> resultSet.next() ? resultSet.getLong(1) : 0L);
+    }
+
+    private <T> T query(String store, String sql, Supplier<T> fallbackQuery, ResultSetMapper<T> mapper) {
+        var dataSource = dataSourceRegistry.resolve(getDataSourceName(store));
+        if (dataSource == null) {
+            return fallbackQuery.get();
+        }
+
+        return transactionContext.execute(() -> {
+            try (var connection = dataSource.getConnection();
+                 var statement = connection.prepareStatement(sql);
+                 var resultSet = statement.executeQuery()) {
+                return mapper.map(resultSet);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    /**
+     * Same lookup as the EDC SQL stores, e.g. {@code edc.datasource.transferprocess.name}.
+     */
+    private String getDataSourceName(String store) {
+        return config.getString("edc.datasource.%s.name".formatted(store), DataSourceRegistry.DEFAULT_DATASOURCE);
+    }
+
+    @FunctionalInterface
+    private interface ResultSetMapper<T> {
+        T map(ResultSet resultSet) throws SQLException;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.ext.wrapper.metrics;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.eclipse.edc.service.spi.result.ServiceResult;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Dynamic proxies instrumenting EDC services and stores without touching the code that uses them.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+class MetricsProxies {
+    private static final List<String> QUERY_METHOD_PREFIXES = List.of("query", "find", "count", "search");
+
+    static <T> T countingQueries(Class<T> type, T delegate, String store) {
+        return proxy(type, delegate, (method, args) -> {
+            var requestMetrics = RequestMetrics.current();
+            if (requestMetrics == null || !isQueryMethod(method)) {
+                return invoke(delegate, method, args);
+            }
+
+            requestMetrics.recordQuery(store);
+            return countRows(invoke(delegate, method, args), requestMetrics, store);
+        });
+    }
+
+    static <T> T timingJsonLd(Class<T> type, T delegate, WrapperMetrics wrapperMetrics) {
+        return proxy(type, delegate, (method, args) -> {
+            var operation = method.getName();
+            if (!operation.equals("expand") && !operation.equals("compact")) {
+                return invoke(delegate, method, args);
+            }
+
+            var start = System.nanoTime();
+            try {
+                return invoke(delegate, method, args);
+            } finally {
+                wrapperMetrics.recordJsonLd(operation, System.nanoTime() - start);
+            }
+        });
+    }
+
+    /**
+     * Counts the rows of a query result. Streams are counted as they are consumed.
+     */
+    private static Object countRows(Object result, RequestMetrics requestMetrics, String store) {
+        if (result instanceof Stream<?> stream) {
+            return stream.peek(row -> requestMetrics.recordRows(store, 1));
+        }
+        if (result instanceof ServiceResult<?> serviceResult) {
+            if (serviceResult.failed()) {
+                return serviceResult;
+            }
+            var content = countRows(serviceResult.getContent(), requestMetrics, store);
+            return content == serviceResult.getContent() ? serviceResult : ServiceResult.success(content);
+        }
+        if (result instanceof Collection<?> collection) {
+            requestMetrics.recordRows(store, collection.size());
+        } else if (result != null) {
+            requestMetrics.recordRows(store, 1);
+        }
+        return result;
+    }
+
+    private static boolean isQueryMethod(Method method) {
+        return QUERY_METHOD_PREFIXES.stream().anyMatch(method.getName()::startsWith);
+    }
+
+    @FunctionalInterface
+    private interface Invocation {
+        Object invoke(Method method, Object[] args) throws Throwable;
+    }
+
+    private static <T> T proxy(Class<T> type, T delegate, Invocation invocation) {
+        return type.cast(Proxy.newProxyInstance(
+                type.getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    if (method.getDeclaringClass() == Object.class) {
+                        return switch (method.getName()) {
+                            case "equals" -> proxy == args[0];
+                            case "hashCode" -> System.identityHashCode(proxy);
+                            default -> "Instrumented " + delegate;
+                        };
+                    }
+                    return invocation.invoke(method, args);
+                }));
+    }
+
+    private static Object invoke(Object delegate, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(delegate, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.ext.wrapper.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Store queries and fetched rows of the API request currently handled by this thread.
+ * <p>
+ * Requests are handled synchronously, so the counts are collected in a thread local between the request and the
+ * response filter.
+ */
+public class RequestMetrics {
+    private static final ThreadLocal<RequestMetrics> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, StoreCounts> storeCounts = new LinkedHashMap<>();
+
+    static class StoreCounts {
+        long queries;
+        long rows;
+    }
+
+    static RequestMetrics start() {
+        var requestMetrics = new RequestMetrics();
+        CURRENT.set(requestMetrics);
+        return requestMetrics;
+    }
+
+    /**
+     * Metrics of the current request.
+     *
+     * @return request metrics, or null if this thread is not handling an API request
+     */
+    static RequestMetrics current() {
+        return CURRENT.get();
+    }
+
+    static RequestMetrics finish() {
+        var requestMetrics = CURRENT.get();
+        CURRENT.remove();
+        return requestMetrics;
+    }
+
+    void recordQuery(String store) {
+        storeCounts.computeIfAbsent(store, key -> new StoreCounts()).queries++;
+    }
+
+    void recordRows(String store, long rows) {
+        storeCounts.computeIfAbsent(store, key -> new StoreCounts()).rows += rows;
+    }
+
+    Map<String, StoreCounts> getStoreCounts() {
+        return storeCounts;
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.ext.wrapper.metrics;
+
+import de.sovity.edc.ext.wrapper.api.common.mappers.utils.UiAssetCache;
+import de.sovity.edc.ext.wrapper.api.ui.pages.catalog.CatalogCache;
+import de.sovity.edc.ext.wrapper.api.ui.pages.policy.UiPolicyCache;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.eclipse.edc.spi.monitor.Monitor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Meters of the Wrapper API.
+ * <p>
+ * Without a {@link MeterRegistry}, e.g. if the Micrometer Metrics extension is not present, all meters are no-ops and
+ * no services are instrumented.
+ */
+public class WrapperMetrics {
+    public static final String API_REQUESTS = "edc.wrapper.api.requests";
+    public static final String API_REQUEST_STORE_QUERIES = "edc.wrapper.api.request.store.queries";
+    public static final String API_REQUEST_STORE_ROWS = "edc.wrapper.api.request.store.rows";
+    public static final String JSON_LD = "edc.wrapper.jsonld";
+    public static final String CATALOG_FETCH = "edc.wrapper.catalog.fetch";
+    public static final String UI_ASSET_CACHE = "edc.wrapper.ui.asset.cache";
+    public static final String UI_POLICY_CACHE = "edc.wrapper.ui.policy.cache";
+    public static final String CATALOG_CACHE = "edc.wrapper.catalog.cache";
+
+    private final MeterRegistry registry;
+    private final Monitor monitor;
+    private final boolean enabled;
+
+    public WrapperMetrics(MeterRegistry registry, Monitor monitor) {
+        this.enabled = registry != null;
+        this.registry = enabled ? registry : new CompositeMeterRegistry();
+        this.monitor = monitor;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Counts the queries and fetched rows of the given service or store per API request.
+     *
+     * @param type service or store interface
+     * @param delegate service or store
+     * @param store name of the service or store in the meters' tags
+     * @param <T> service or store type
+     * @return instrumented service or store, or the delegate itself if metrics are disabled
+     */
+    public <T> T instrumentStore(Class<T> type, T delegate, String store) {
+        return enabled ? MetricsProxies.countingQueries(type, delegate, store) : delegate;
+    }
+
+    /**
+     * Times the expand and compact calls of the given JSON-LD service.
+     *
+     * @param type JSON-LD service interface
+     * @param delegate JSON-LD service
+     * @param <T> JSON-LD service type
+     * @return instrumented JSON-LD service, or the delegate itself if metrics are disabled
+     */
+    public <T> T instrumentJsonLd(Class<T> type, T delegate) {
+        return enabled ? MetricsProxies.timingJsonLd(type, delegate, this) : delegate;
+    }
+
+    /**
+     * Exports the hits, misses, evictions, size and weight of the UI asset cache.
+     *
+     * @param uiAssetCache UI asset cache
+     */
+    public void bindUiAssetCache(UiAssetCache uiAssetCache) {
+        if (!enabled) {
+            return;
+        }
+
+        FunctionCounter.builder(UI_ASSET_CACHE + ".hits", uiAssetCache, cache -> cache.getStats().hits())
+                .description("UI asset cache hits")
+                .register(registry);
+        FunctionCounter.builder(UI_ASSET_CACHE + ".misses", uiAssetCache, cache -> cache.getStats().misses())
+                .description("UI asset cache misses")
+                .register(registry);
+        FunctionCounter.builder(UI_ASSET_CACHE + ".evictions", uiAssetCache, cache -> cache.getStats().evictions())
+                .description("UI asset cache evictions")
+                .register(registry);
+        Gauge.builder(UI_ASSET_CACHE + ".size", uiAssetCache, cache -> cache.getStats().size())
+                .description("UI assets in the cache")
+                .register(registry);
+        Gauge.builder(UI_ASSET_CACHE + ".weight", uiAssetCache, cache -> cache.getStats().weight())
+                .description("Estimated size of the cached UI assets")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    /**
+     * Exports the hits, misses and size of the UI policy cache.
+     *
+     * @param uiPolicyCache UI policy cache
+     */
+    public void bindUiPolicyCache(UiPolicyCache uiPolicyCache) {
+        if (!enabled) {
+            return;
+        }
+
+        FunctionCounter.builder(UI_POLICY_CACHE + ".hits", uiPolicyCache, UiPolicyCache::getHits)
+                .description("UI policy cache hits")
+                .register(registry);
+        FunctionCounter.builder(UI_POLICY_CACHE + ".misses", uiPolicyCache, UiPolicyCache::getMisses)
+                .description("UI policy cache misses")
+                .register(registry);
+        Gauge.builder(UI_POLICY_CACHE + ".size", uiPolicyCache, UiPolicyCache::size)
+                .description("UI policies in the cache")
+                .register(registry);
+    }
+
+    /**
+     * Exports the hits, stale hits, misses and size of the catalog cache.
+     *
+     * @param catalogCache catalog cache
+     */
+    public void bindCatalogCache(CatalogCache catalogCache) {
+        if (!enabled) {
+            return;
+        }
+
+        FunctionCounter.builder(CATALOG_CACHE + ".hits", catalogCache, CatalogCache::getHits)
+                .description("Catalog requests served from fresh cache entries")
+                .register(registry);
+        FunctionCounter.builder(CATALOG_CACHE + ".stale.hits", catalogCache, CatalogCache::getStaleHits)
+                .description("Catalog requests served from stale cache entries")
+                .register(registry);
+        FunctionCounter.builder(CATALOG_CACHE + ".misses", catalogCache, CatalogCache::getMisses)
+                .description("Catalog requests that fetched the catalog")
+                .register(registry);
+        Gauge.builder(CATALOG_CACHE + ".size", catalogCache, CatalogCache::size)
+                .description("Connector endpoints in the catalog cache")
+                .register(registry);
+    }
+
+    /**
+     * Times a catalog request to another connector. The connector endpoint is not a tag, as it is user input and
+     * would create a new time series for every endpoint ever requested.
+     *
+     * @param fetch catalog request
+     * @param <T> result type
+     * @return result of the catalog request
+     */
+    public <T> T timeCatalogFetch(Supplier<T> fetch) {
+        var start = System.nanoTime();
+        var outcome = "error";
+        try {
+            var result = fetch.get();
+            outcome = "success";
+            return result;
+        } finally {
+            Timer.builder(CATALOG_FETCH)
+                    .description("Catalog requests to other connectors")
+                    .tag("outcome", outcome)
+                    .register(registry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    void recordJsonLd(String operation, long nanos) {
+        Timer.builder(JSON_LD)
+                .description("JSON-LD expand and compact calls")
+                .tag("operation", operation)
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordRequest(String endpoint, int status, long nanos, RequestMetrics requestMetrics) {
+        Timer.builder(API_REQUESTS)
+                .description("Wrapper API requests")
+                .tag("endpoint", endpoint)
+                .tag("status", Integer.toString(status))
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+
+        if (requestMetrics == null) {
+            return;
+        }
+
+        requestMetrics.getStoreCounts().forEach((store, counts) -> {
+            DistributionSummary.builder(API_REQUEST_STORE_QUERIES)
+                    .description("Store queries per Wrapper API request")
+                    .tag("endpoint", endpoint)
+                    .tag("store", store)
+                    .register(registry)
+                    .record(counts.queries);
+            DistributionSummary.builder(API_REQUEST_STORE_ROWS)
+                    .description("Rows fetched from stores per Wrapper API request")
+                    .tag("endpoint", endpoint)
+                    .tag("store", store)
+                    .register(registry)
+                    .record(counts.rows);
+            monitor.debug(() -> "%s: %s fetched %d rows in %d queries".formatted(endpoint, store, counts.rows, counts.queries));
+        });
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.ext.wrapper.metrics;
+
+import de.sovity.edc.ext.wrapper.utils.ResourceInfoUtils;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.ext.Provider;
+
+/**
+ * Times all Wrapper API resource methods, e.g. of the UI, Use Case and Enterprise Edition APIs, and records the store
+ * queries of each request.
+ */
+@Provider
+public class WrapperMetricsFilter implements ContainerRequestFilter, ContainerResponseFilter {
+    private static final String START_NANOS = WrapperMetricsFilter.class.getName() + ".startNanos";
+    private static final String ENDPOINT = WrapperMetricsFilter.class.getName() + ".endpoint";
+
+    private final WrapperMetrics wrapperMetrics;
+
+    @Context
+    private ResourceInfo resourceInfo;
+
+    public WrapperMetricsFilter(WrapperMetrics wrapperMetrics) {
+        this.wrapperMetrics = wrapperMetrics;
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        var endpoint = ResourceInfoUtils.getWrapperApiEndpoint(resourceInfo);
+        if (endpoint == null) {
+            return;
+        }
+
+        requestContext.setProperty(ENDPOINT, endpoint);
+        requestContext.setProperty(START_NANOS, System.nanoTime());
+        RequestMetrics.start();
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        if (!(requestContext.getProperty(START_NANOS) instanceof Long startNanos)) {
+            return;
+        }
+
+        var requestMetrics = RequestMetrics.finish();
+        var endpoint = (String) requestContext.getProperty(ENDPOINT);
+        wrapperMetrics.recordRequest(endpoint, responseContext.getStatus(), System.nanoTime() - startNanos, requestMetrics);
+    }
+}
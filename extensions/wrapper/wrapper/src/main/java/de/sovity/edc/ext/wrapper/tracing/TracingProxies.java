@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.ext.wrapper.tracing;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+
+/**
+ * Dynamic proxies creating a span around each call of EDC services and stores without touching the code that uses them.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+class TracingProxies {
+
+    static <T> T tracing(Class<T> type, T delegate, String name, WrapperTracing wrapperTracing) {
+        return type.cast(Proxy.newProxyInstance(
+                type.getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    if (method.getDeclaringClass() == Object.class) {
+                        return switch (method.getName()) {
+                            case "equals" -> proxy == args[0];
+                            case "hashCode" -> System.identityHashCode(proxy);
+                            default -> "Traced " + delegate;
+                        };
+                    }
+
+                    var span = wrapperTracing.startSpan(name + "." + method.getName());
+                    try (var scope = span.makeCurrent()) {
+                        return method.invoke(delegate, args);
+                    } catch (InvocationTargetException e) {
+                        WrapperTracing.recordError(span, e.getCause());
+                        throw e.getCause();
+                    } finally {
+                        span.end();
+                    }
+                }));
+    }
+}
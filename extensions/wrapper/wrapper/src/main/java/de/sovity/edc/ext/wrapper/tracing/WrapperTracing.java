@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.ext.wrapper.tracing;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * Spans of the Wrapper API.
+ * <p>
+ * Without an {@link OpenTelemetry}, e.g. if the OpenTelemetry Tracing extension is not present or has no exporter,
+ * no spans are created and no services are instrumented.
+ */
+public class WrapperTracing {
+    public static final String INSTRUMENTATION_SCOPE = "de.sovity.edc.ext.wrapper";
+
+    private final Tracer tracer;
+
+    public WrapperTracing(OpenTelemetry openTelemetry) {
+        this.tracer = openTelemetry == null ? null : openTelemetry.getTracer(INSTRUMENTATION_SCOPE);
+    }
+
+    public boolean isEnabled() {
+        return tracer != null;
+    }
+
+    /**
+     * Creates a span for each call of the given service or store, e.g. "transferProcessService.initiateTransfer".
+     *
+     * @param type service or store interface
+     * @param delegate service or store
+     * @param name name of the service or store in the span names
+     * @param <T> service or store type
+     * @return instrumented service or store, or the delegate itself if tracing is disabled
+     */
+    public <T> T instrument(Class<T> type, T delegate, String name) {
+        return isEnabled() ? TracingProxies.tracing(type, delegate, name, this) : delegate;
+    }
+
+    /**
+     * Propagates the current span to tasks submitted to the given executor.
+     *
+     * @param executorService executor
+     * @return executor propagating the trace context, or the executor itself if tracing is disabled
+     */
+    public ExecutorService propagating(ExecutorService executorService) {
+        return isEnabled() ? Context.taskWrapping(executorService) : executorService;
+    }
+
+    public <T> T inSpan(String spanName, Supplier<T> work) {
+        return inSpan(spanName, null, null, work);
+    }
+
+    public <T> T inSpan(String spanName, String attributeKey, String attributeValue, Supplier<T> work) {
+        if (!isEnabled()) {
+            return work.get();
+        }
+
+        var spanBuilder = tracer.spanBuilder(spanName);
+        if (attributeKey != null && attributeValue != null) {
+            spanBuilder.setAttribute(attributeKey, attributeValue);
+        }
+        var span = spanBuilder.startSpan();
+        try (var scope = span.makeCurrent()) {
+            return work.get();
+        } catch (RuntimeException e) {
+            recordError(span, e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    Span startServerSpan(String spanName) {
+        return tracer.spanBuilder(spanName).setSpanKind(SpanKind.SERVER).startSpan();
+    }
+
+    Span startSpan(String spanName) {
+        return tracer.spanBuilder(spanName).startSpan();
+    }
+
+    static void recordError(Span span, Throwable error) {
+        span.recordException(error);
+        span.setStatus(StatusCode.ERROR);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.ext.wrapper.tracing;
+
+import de.sovity.edc.ext.wrapper.utils.ResourceInfoUtils;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Scope;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.ext.Provider;
+
+/**
+ * Starts a server span for each Wrapper API request, which the spans of the called services and stores are children of.
+ */
+@Provider
+public class WrapperTracingFilter implements ContainerRequestFilter, ContainerResponseFilter {
+    private static final String SPAN = WrapperTracingFilter.class.getName() + ".span";
+    private static final String SCOPE = WrapperTracingFilter.class.getName() + ".scope";
+
+    private final WrapperTracing wrapperTracing;
+
+    @Context
+    private ResourceInfo resourceInfo;
+
+    public WrapperTracingFilter(WrapperTracing wrapperTracing) {
+        this.wrapperTracing = wrapperTracing;
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        var endpoint = ResourceInfoUtils.getWrapperApiEndpoint(resourceInfo);
+        if (endpoint == null) {
+            return;
+        }
+
+        var span = wrapperTracing.startServerSpan(endpoint);
+        span.setAttribute("http.request.method", requestContext.getMethod());
+        requestContext.setProperty(SPAN, span);
+        requestContext.setProperty(SCOPE, span.makeCurrent());
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        if (!(requestContext.getProperty(SPAN) instanceof Span span)) {
+            return;
+        }
+
+        var status = responseContext.getStatus();
+        span.setAttribute("http.response.status_code", status);
+        if (status >= 500) {
+            span.setStatus(StatusCode.ERROR);
+        }
+        ((Scope) requestContext.getProperty(SCOPE)).close();
+        span.end();
+    }
+}
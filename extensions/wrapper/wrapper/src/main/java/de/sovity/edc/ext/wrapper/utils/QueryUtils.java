@@ -0,0 +1,37 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.ext.wrapper.utils;
+
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+@NoArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+public class QueryUtils {
+
+    /**
+     * Builds a {@code like} operand matching values containing the given text literally.
+     * <p>
+     * {@code %}, {@code _} and the escape character {@code \}, PostgreSQL's default, are escaped.
+     *
+     * @param text text to search for
+     * @return {@code like} operand
+     */
+    public static String likeContains(@NonNull String text) {
+        var escaped = text.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.ext.wrapper.utils;
+
+import jakarta.ws.rs.container.ResourceInfo;
+import lombok.NoArgsConstructor;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+@NoArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+public class ResourceInfoUtils {
+    private static final String WRAPPER_API_PACKAGE = "de.sovity.edc.ext.wrapper.api";
+
+    /**
+     * Low-cardinality name of the called Wrapper API resource method, e.g. "UiResource.getTransferHistoryPage".
+     * <p>
+     * Covers all resources implementing a Wrapper API interface, e.g. of the UI, Use Case and Enterprise Edition APIs.
+     *
+     * @param resourceInfo matched JAX-RS resource
+     * @return endpoint name or null if the called resource is not a Wrapper API resource
+     */
+    public static String getWrapperApiEndpoint(ResourceInfo resourceInfo) {
+        var resourceClass = resourceInfo.getResourceClass();
+        var resourceMethod = resourceInfo.getResourceMethod();
+        if (resourceClass == null || resourceMethod == null) {
+            return null;
+        }
+
+        return Arrays.stream(resourceClass.getInterfaces())
+                .filter(it -> it.getPackageName().startsWith(WRAPPER_API_PACKAGE))
+                .filter(it -> declares(it, resourceMethod))
+                .findFirst()
+                .map(it -> it.getSimpleName() + "." + resourceMethod.getName())
+                .orElse(null);
+    }
+
+    private static boolean declares(Class<?> type, Method method) {
+        try {
+            type.getMethod(method.getName(), method.getParameterTypes());
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+}
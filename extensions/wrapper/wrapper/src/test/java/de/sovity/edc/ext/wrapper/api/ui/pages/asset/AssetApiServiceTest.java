@@ -90,6 +90,46 @@ public class AssetApiServiceTest {
                 .containsExactly("asset-3", "asset-2", "asset-1");
     }
 
+    @Test
+    void pagedAssetPage(AssetService assetService) {
+        // arrange
+        createAsset(assetService, "2023-06-01", Map.of(
+                Asset.PROPERTY_ID, "asset-1",
+                Prop.Dcterms.TITLE, "Traffic Counts Berlin",
+                Prop.Mobility.DATA_CATEGORY, "Traffic Information"
+        ));
+        createAsset(assetService, "2023-06-02", Map.of(
+                Asset.PROPERTY_ID, "asset-2",
+                Prop.Dcterms.TITLE, "Parking Spaces",
+                Prop.Dcterms.DESCRIPTION, "Free parking spaces in **Berlin**",
+                Prop.Mobility.DATA_CATEGORY, "Parking Information"
+        ));
+        createAsset(assetService, "2023-06-03", Map.of(
+                Asset.PROPERTY_ID, "asset-3",
+                Prop.Dcterms.TITLE, "Traffic Counts Hamburg",
+                Prop.Dcat.KEYWORDS, "berlin-adjacent",
+                Prop.Mobility.DATA_CATEGORY, "Traffic Information"
+        ));
+        createAsset(assetService, "2023-06-04", Map.of(
+                Asset.PROPERTY_ID, "asset-4",
+                Prop.Dcterms.TITLE, "Weather"
+        ));
+
+        // act
+        var search = client.uiApi().getPagedAssetPage(0, 20, "berlin", null, null, null, null, null, null);
+        var searchAndFilter = client.uiApi().getPagedAssetPage(0, 20, "BERLIN traffic", "Traffic Information", null, null, null, null, null);
+        var firstPage = client.uiApi().getPagedAssetPage(0, 3, null, null, null, null, null, null, null);
+        var secondPage = client.uiApi().getPagedAssetPage(3, 3, null, null, null, null, null, null, null);
+
+        // assert
+        assertThat(search.getAssets()).extracting(UiAsset::getAssetId).containsExactly("asset-3", "asset-2", "asset-1");
+        assertThat(searchAndFilter.getAssets()).extracting(UiAsset::getAssetId).containsExactly("asset-3", "asset-1");
+        assertThat(firstPage.getAssets()).extracting(UiAsset::getAssetId).containsExactly("asset-4", "asset-3", "asset-2");
+        assertThat(firstPage.getPagination().getHasMore()).isTrue();
+        assertThat(secondPage.getAssets()).extracting(UiAsset::getAssetId).containsExactly("asset-1");
+        assertThat(secondPage.getPagination().getHasMore()).isFalse();
+    }
+
     @Test
     void testAssetCreation(AssetService assetService) {
         // arrange
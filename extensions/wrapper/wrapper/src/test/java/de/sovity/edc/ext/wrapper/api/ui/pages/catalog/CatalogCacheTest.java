@@ -0,0 +1,293 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.ext.wrapper.api.ui.pages.catalog;
+
+import de.sovity.edc.ext.wrapper.api.ui.model.UiDataOffer;
+import lombok.SneakyThrows;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CatalogCacheTest {
+    private static final String ENDPOINT = "https://other-connector/api/dsp";
+
+    Clock clock;
+    ExecutorService refreshExecutor;
+    CatalogCache catalogCache;
+    AtomicInteger fetches;
+
+    @BeforeEach
+    void setUp() {
+        clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L);
+        refreshExecutor = Executors.newSingleThreadExecutor();
+        catalogCache = new CatalogCache(Duration.ofSeconds(60), Duration.ofSeconds(300), 2, mock(Monitor.class), clock, refreshExecutor);
+        fetches = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalogCache.shutdown();
+    }
+
+    @Test
+    void testFreshEntryIsReused() {
+        // act
+        var first = catalogCache.get(ENDPOINT, false, this::fetch);
+        when(clock.millis()).thenReturn(59_000L);
+        var second = catalogCache.get(ENDPOINT, false, this::fetch);
+
+        // assert
+        assertThat(second).isSameAs(first);
+        assertThat(fetches).hasValue(1);
+    }
+
+    @Test
+    void testForceRefresh() {
+        // act
+        catalogCache.get(ENDPOINT, false, this::fetch);
+        var refreshed = catalogCache.get(ENDPOINT, true, this::fetch);
+
+        // assert
+        assertThat(fetches).hasValue(2);
+        assertThat(refreshed.get(0).getParticipantId()).isEqualTo("fetch-2");
+    }
+
+    @Test
+    void testStaleEntryIsRefreshedInBackground() {
+        // arrange
+        catalogCache.get(ENDPOINT, false, this::fetch);
+        when(clock.millis()).thenReturn(61_000L);
+
+        // act
+        var stale = catalogCache.get(ENDPOINT, false, this::fetch);
+        awaitRefreshes();
+        var refreshed = catalogCache.get(ENDPOINT, false, this::fetch);
+
+        // assert
+        assertThat(stale.get(0).getParticipantId()).isEqualTo("fetch-1");
+        assertThat(refreshed.get(0).getParticipantId()).isEqualTo("fetch-2");
+        assertThat(fetches).hasValue(2);
+        assertThat(catalogCache.getMisses()).isEqualTo(1);
+        assertThat(catalogCache.getStaleHits()).isEqualTo(1);
+        assertThat(catalogCache.getHits()).isEqualTo(1);
+    }
+
+    @Test
+    @SneakyThrows
+    void testConcurrentStaleHitsRefreshOnce() {
+        // arrange
+        catalogCache.get(ENDPOINT, false, this::fetch);
+        when(clock.millis()).thenReturn(61_000L);
+
+        // Keep the refresh thread busy, so the refreshes of all stale hits would queue up
+        var releaseRefreshes = new CountDownLatch(1);
+        refreshExecutor.execute(() -> await(releaseRefreshes));
+
+        var start = new CountDownLatch(1);
+        var callers = Executors.newFixedThreadPool(10);
+        var stale = new ArrayList<Future<List<UiDataOffer>>>();
+
+        // act
+        for (int i = 0; i < 10; i++) {
+            stale.add(callers.submit(() -> {
+                start.await();
+                return catalogCache.get(ENDPOINT, false, this::fetch);
+            }));
+        }
+        start.countDown();
+        for (var future : stale) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+        releaseRefreshes.countDown();
+        awaitRefreshes();
+        var refreshed = catalogCache.get(ENDPOINT, false, this::fetch);
+
+        // assert
+        assertThat(fetches).hasValue(2);
+        assertThat(catalogCache.getStaleHits()).isEqualTo(10);
+        assertThat(refreshed.get(0).getParticipantId()).isEqualTo("fetch-2");
+        callers.shutdownNow();
+    }
+
+    @Test
+    void testExpiredEntryIsFetchedSynchronously() {
+        // arrange
+        catalogCache.get(ENDPOINT, false, this::fetch);
+        when(clock.millis()).thenReturn(361_000L);
+
+        // act
+        var actual = catalogCache.get(ENDPOINT, false, this::fetch);
+
+        // assert
+        assertThat(actual.get(0).getParticipantId()).isEqualTo("fetch-2");
+    }
+
+    @Test
+    void testLeastRecentlyUsedEndpointIsEvicted() {
+        // act
+        catalogCache.get("a", false, this::fetch);
+        catalogCache.get("b", false, this::fetch);
+        catalogCache.get("a", false, this::fetch);
+        catalogCache.get("c", false, this::fetch);
+        catalogCache.get("a", false, this::fetch);
+        catalogCache.get("b", false, this::fetch);
+
+        // assert
+        assertThat(fetches).hasValue(4);
+    }
+
+    @Test
+    void testFailuresAreNotCached() {
+        // act
+        assertThatThrownBy(() -> catalogCache.get(ENDPOINT, false, endpoint -> {
+            throw new IllegalStateException("Connector unreachable");
+        })).isInstanceOf(IllegalStateException.class);
+        var actual = catalogCache.get(ENDPOINT, false, this::fetch);
+
+        // assert
+        assertThat(actual).hasSize(1);
+        assertThat(fetches).hasValue(1);
+    }
+
+    @Test
+    @SneakyThrows
+    void testConcurrentRequestsShareOneFetch() {
+        // arrange
+        var fetchStarted = new CountDownLatch(1);
+        var releaseFetch = new CountDownLatch(1);
+        var callers = Executors.newFixedThreadPool(2);
+
+        // act
+        Future<List<UiDataOffer>> first = callers.submit(() -> catalogCache.get(ENDPOINT, false, endpoint -> {
+            fetchStarted.countDown();
+            await(releaseFetch);
+            return fetch(endpoint);
+        }));
+        fetchStarted.await();
+        Future<List<UiDataOffer>> second = callers.submit(() -> catalogCache.get(ENDPOINT, false, this::fetch));
+        Thread.sleep(100);
+        releaseFetch.countDown();
+
+        // assert
+        assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(first.get(5, TimeUnit.SECONDS));
+        assertThat(fetches).hasValue(1);
+        callers.shutdownNow();
+    }
+
+    @Test
+    @SneakyThrows
+    void testForceRefreshDoesNotJoinRunningFetch() {
+        // arrange
+        var fetchStarted = new CountDownLatch(1);
+        var releaseFetch = new CountDownLatch(1);
+        var callers = Executors.newFixedThreadPool(2);
+        Future<List<UiDataOffer>> running = callers.submit(() -> catalogCache.get(ENDPOINT, false, endpoint -> {
+            fetchStarted.countDown();
+            await(releaseFetch);
+            return fetch(endpoint);
+        }));
+        fetchStarted.await();
+
+        // act
+        when(clock.millis()).thenReturn(1_000L);
+        var forced = catalogCache.get(ENDPOINT, true, this::fetch);
+        releaseFetch.countDown();
+        running.get(5, TimeUnit.SECONDS);
+        var cached = catalogCache.get(ENDPOINT, false, this::fetch);
+
+        // assert
+        assertThat(forced.get(0).getParticipantId()).isEqualTo("fetch-1");
+        assertThat(running.get().get(0).getParticipantId()).isEqualTo("fetch-2");
+        // The older fetch finished last, but must not replace the forced refresh's result
+        assertThat(cached).isSameAs(forced);
+        assertThat(fetches).hasValue(2);
+        callers.shutdownNow();
+    }
+
+    @Test
+    @SneakyThrows
+    void testWaitingForSharedFetchIsInterruptible() {
+        // arrange
+        var fetchStarted = new CountDownLatch(1);
+        var releaseFetch = new CountDownLatch(1);
+        var callers = Executors.newFixedThreadPool(2);
+        callers.submit(() -> catalogCache.get(ENDPOINT, false, endpoint -> {
+            fetchStarted.countDown();
+            await(releaseFetch);
+            return fetch(endpoint);
+        }));
+        fetchStarted.await();
+
+        // act
+        Future<List<UiDataOffer>> waiting = callers.submit(() -> catalogCache.get(ENDPOINT, false, this::fetch));
+        Thread.sleep(100);
+        waiting.cancel(true);
+
+        // assert
+        // The interrupted caller's thread is free again while the shared fetch is still running
+        assertThat(callers.submit(() -> "free").get(5, TimeUnit.SECONDS)).isEqualTo("free");
+        releaseFetch.countDown();
+        callers.shutdownNow();
+    }
+
+    @Test
+    void testDisabled() {
+        // arrange
+        var disabled = new CatalogCache(Duration.ZERO, Duration.ZERO, 10, mock(Monitor.class), clock, refreshExecutor);
+
+        // act
+        disabled.get(ENDPOINT, false, this::fetch);
+        disabled.get(ENDPOINT, false, this::fetch);
+
+        // assert
+        assertThat(fetches).hasValue(2);
+    }
+
+    private List<UiDataOffer> fetch(String endpoint) {
+        var dataOffer = new UiDataOffer();
+        dataOffer.setEndpoint(endpoint);
+        dataOffer.setParticipantId("fetch-" + fetches.incrementAndGet());
+        return List.of(dataOffer);
+    }
+
+    @SneakyThrows
+    private void awaitRefreshes() {
+        refreshExecutor.shutdown();
+        assertThat(refreshExecutor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @SneakyThrows
+    private static void await(CountDownLatch latch) {
+        latch.await();
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.ext.wrapper.api.ui.pages.catalog;
+
+import de.sovity.edc.ext.wrapper.api.ui.model.MultiCatalogEndpointResult;
+import de.sovity.edc.ext.wrapper.api.ui.model.MultiCatalogEndpointStatus;
+import de.sovity.edc.ext.wrapper.api.ui.model.UiDataOffer;
+import de.sovity.edc.utils.catalog.DspCatalogServiceException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MultiCatalogApiServiceTest {
+    CatalogApiService catalogApiService;
+    MultiCatalogApiService multiCatalogApiService;
+
+    @BeforeEach
+    void setUp() {
+        catalogApiService = mock(CatalogApiService.class);
+        multiCatalogApiService = new MultiCatalogApiService(
+                catalogApiService,
+                Executors.newFixedThreadPool(4),
+                Duration.ofMillis(1000),
+                mock(Monitor.class)
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        multiCatalogApiService.shutdown();
+    }
+
+    @Test
+    void testPartialResults() {
+        // arrange
+        when(catalogApiService.fetchDataOffers("ok-1", false)).thenAnswer(invocation -> {
+            Thread.sleep(300);
+            return dataOffers("ok-1", 2);
+        });
+        when(catalogApiService.fetchDataOffers("ok-2", false)).thenAnswer(invocation -> {
+            Thread.sleep(300);
+            return dataOffers("ok-2", 1);
+        });
+        when(catalogApiService.fetchDataOffers("error", false)).thenThrow(new DspCatalogServiceException("Connection refused"));
+        when(catalogApiService.fetchDataOffers("slow", false)).thenAnswer(invocation -> {
+            Thread.sleep(10_000);
+            return dataOffers("slow", 1);
+        });
+
+        // act
+        var start = System.currentTimeMillis();
+        var actual = multiCatalogApiService.fetchDataOffers(Arrays.asList("ok-1", "error", "slow", "ok-2", "ok-1", " ", null), false);
+        var duration = System.currentTimeMillis() - start;
+
+        // assert
+        assertThat(duration).isLessThan(5_000);
+        assertThat(actual.getDataOffers()).extracting(UiDataOffer::getEndpoint).containsExactly("ok-1", "ok-1", "ok-2");
+        assertThat(actual.getEndpoints()).extracting(MultiCatalogEndpointResult::getConnectorEndpoint)
+                .containsExactly("ok-1", "error", "slow", "ok-2");
+        assertThat(actual.getEndpoints()).extracting(MultiCatalogEndpointResult::getStatus).containsExactly(
+                MultiCatalogEndpointStatus.OK,
+                MultiCatalogEndpointStatus.ERROR,
+                MultiCatalogEndpointStatus.TIMEOUT,
+                MultiCatalogEndpointStatus.OK
+        );
+        assertThat(actual.getEndpoints().get(0).getNumDataOffers()).isEqualTo(2);
+        assertThat(actual.getEndpoints().get(0).getLatencyMillis()).isGreaterThanOrEqualTo(300);
+        assertThat(actual.getEndpoints().get(1).getErrorMessage()).isEqualTo("Connection refused");
+        assertThat(actual.getEndpoints().get(2).getErrorMessage()).contains("timed out");
+    }
+
+    @Test
+    void testTimeoutStartsWithEachFetch() {
+        // arrange
+        var singleThreaded = new MultiCatalogApiService(
+                catalogApiService,
+                Executors.newSingleThreadExecutor(),
+                Duration.ofMillis(500),
+                mock(Monitor.class)
+        );
+        when(catalogApiService.fetchDataOffers("first", false)).thenAnswer(invocation -> {
+            Thread.sleep(300);
+            return dataOffers("first", 1);
+        });
+        when(catalogApiService.fetchDataOffers("second", false)).thenAnswer(invocation -> {
+            Thread.sleep(300);
+            return dataOffers("second", 1);
+        });
+
+        try {
+            // act
+            var actual = singleThreaded.fetchDataOffers(List.of("first", "second"), false);
+
+            // assert
+            assertThat(actual.getEndpoints()).extracting(MultiCatalogEndpointResult::getStatus)
+                    .containsExactly(MultiCatalogEndpointStatus.OK, MultiCatalogEndpointStatus.OK);
+            assertThat(actual.getDataOffers()).extracting(UiDataOffer::getEndpoint).containsExactly("first", "second");
+        } finally {
+            singleThreaded.shutdown();
+        }
+    }
+
+    @Test
+    void testTimedOutFetchIsInterrupted() throws InterruptedException {
+        // arrange
+        var interrupted = new CountDownLatch(1);
+        when(catalogApiService.fetchDataOffers("slow", false)).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return dataOffers("slow", 1);
+        });
+
+        // act
+        var actual = multiCatalogApiService.fetchDataOffers(List.of("slow"), false);
+
+        // assert
+        assertThat(actual.getEndpoints()).extracting(MultiCatalogEndpointResult::getStatus)
+                .containsExactly(MultiCatalogEndpointStatus.TIMEOUT);
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void testNoEndpoints() {
+        // act
+        var actual = multiCatalogApiService.fetchDataOffers(List.of(), false);
+
+        // assert
+        assertThat(actual.getDataOffers()).isEmpty();
+        assertThat(actual.getEndpoints()).isEmpty();
+    }
+
+    private List<UiDataOffer> dataOffers(String endpoint, int count) {
+        return IntStream.range(0, count).mapToObj(i -> {
+            var dataOffer = new UiDataOffer();
+            dataOffer.setEndpoint(endpoint);
+            return dataOffer;
+        }).toList();
+    }
+}
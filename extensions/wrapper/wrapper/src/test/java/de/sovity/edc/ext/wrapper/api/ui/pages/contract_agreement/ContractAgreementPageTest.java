@@ -15,9 +15,11 @@
 package de.sovity.edc.ext.wrapper.api.ui.pages.contract_agreement;
 
 import de.sovity.edc.client.EdcClient;
+import de.sovity.edc.client.gen.model.ContractAgreementCard;
 import de.sovity.edc.client.gen.model.ContractAgreementDirection;
 import de.sovity.edc.client.gen.model.OperatorDto;
 import de.sovity.edc.client.gen.model.TransferProcessSimplifiedState;
+import de.sovity.edc.client.gen.model.UiSortOrder;
 import de.sovity.edc.ext.wrapper.TestUtils;
 import de.sovity.edc.utils.jsonld.vocab.Prop;
 import org.eclipse.edc.connector.contract.spi.negotiation.store.ContractNegotiationStore;
@@ -47,6 +49,7 @@ import java.net.URI;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -114,6 +117,44 @@ class ContractAgreementPageTest {
         assertThat(constraint.getRight().getValue()).isEqualTo("true");
     }
 
+    @Test
+    void testPagedContractAgreementPage(
+            ContractNegotiationStore contractNegotiationStore,
+            TransferProcessStore transferProcessStore,
+            AssetIndex assetIndex
+    ) {
+        // arrange
+        assetIndex.create(asset(ASSET_ID)).orElseThrow(storeFailure -> new RuntimeException("Failed to create asset"));
+        contractNegotiationStore.save(contractDefinition(1));
+        contractNegotiationStore.save(contractDefinition(2, todayEpochSeconds - 60));
+        for (int transfer = 1; transfer <= 7; transfer++) {
+            transferProcessStore.updateOrCreate(transferProcess(1, transfer, TransferProcessStates.COMPLETED.code()));
+        }
+
+        // act
+        var firstPage = client.uiApi().getPagedContractAgreementPage(0, 1, UiSortOrder.ASC);
+        var secondPage = client.uiApi().getPagedContractAgreementPage(1, 1, UiSortOrder.ASC);
+        var transfers = client.uiApi().getContractAgreementTransferProcesses("my-contract-agreement-1", 0, 6);
+
+        // assert
+        assertThat(firstPage.getPagination().getHasMore()).isTrue();
+        assertThat(secondPage.getPagination().getHasMore()).isFalse();
+
+        var cards = new ArrayList<>(firstPage.getContractAgreements());
+        cards.addAll(secondPage.getContractAgreements());
+        assertThat(cards).extracting(ContractAgreementCard::getContractAgreementId)
+                .containsExactly("my-contract-agreement-2", "my-contract-agreement-1");
+
+        var card = cards.stream().filter(it -> it.getContractAgreementId().equals("my-contract-agreement-1")).findFirst().orElseThrow();
+        assertThat(card.getAsset().getAssetId()).isEqualTo(ASSET_ID);
+        assertThat(card.getAsset().getLandingPageUrl()).isEqualTo("X");
+        assertThat(card.getTransferProcessCount()).isEqualTo(7);
+        assertThat(card.getTransferProcesses()).hasSize(5);
+
+        assertThat(transfers.getTransferProcesses()).hasSize(6);
+        assertThat(transfers.getPagination().getHasMore()).isTrue();
+    }
+
     private DataAddress dataAddress() {
         return DataAddress.Builder.newInstance()
                 .type("HttpData")
@@ -143,10 +184,14 @@ class ContractAgreementPageTest {
     }
 
     private ContractNegotiation contractDefinition(int contract) {
+        return contractDefinition(contract, todayEpochSeconds);
+    }
+
+    private ContractNegotiation contractDefinition(int contract, long contractSigningDate) {
         var agreement = ContractAgreement.Builder.newInstance()
                 .id("my-contract-agreement-" + contract)
                 .assetId(ASSET_ID)
-                .contractSigningDate(todayEpochSeconds)
+                .contractSigningDate(contractSigningDate)
                 .policy(alwaysTrue())
                 .providerId(URI.create("http://other-connector").toString())
                 .consumerId(URI.create("http://my-connector").toString())
@@ -0,0 +1,141 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.ext.wrapper.api.ui.pages.contract_agreements.services;
+
+import org.eclipse.edc.connector.contract.spi.negotiation.store.ContractNegotiationStore;
+import org.eclipse.edc.connector.contract.spi.types.agreement.ContractAgreement;
+import org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiation;
+import org.eclipse.edc.connector.spi.contractagreement.ContractAgreementService;
+import org.eclipse.edc.connector.spi.transferprocess.TransferProcessService;
+import org.eclipse.edc.connector.transfer.spi.types.DataRequest;
+import org.eclipse.edc.connector.transfer.spi.types.TransferProcess;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.service.spi.result.ServiceResult;
+import org.eclipse.edc.spi.asset.AssetIndex;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ContractAgreementDataFetcherTest {
+    private static final int PREVIEW_SIZE = 5;
+
+    ContractAgreementService contractAgreementService;
+    ContractNegotiationStore contractNegotiationStore;
+    TransferProcessService transferProcessService;
+    TransferProcessCounter transferProcessCounter;
+    ContractAgreementDataFetcher contractAgreementDataFetcher;
+
+    @BeforeEach
+    void setUp() {
+        contractAgreementService = mock(ContractAgreementService.class);
+        contractNegotiationStore = mock(ContractNegotiationStore.class);
+        transferProcessService = mock(TransferProcessService.class);
+        transferProcessCounter = mock(TransferProcessCounter.class);
+        contractAgreementDataFetcher = new ContractAgreementDataFetcher(
+                contractAgreementService,
+                contractNegotiationStore,
+                transferProcessService,
+                mock(AssetIndex.class),
+                transferProcessCounter
+        );
+    }
+
+    @Test
+    void testPagedOnlyLoadsTransferProcessPreview() {
+        // arrange
+        var agreements = List.of(agreement(1), agreement(2));
+        when(contractAgreementService.query(any(QuerySpec.class)))
+                .thenAnswer(invocation -> ServiceResult.success(agreements.stream()));
+        when(contractNegotiationStore.queryNegotiations(any(QuerySpec.class)))
+                .thenAnswer(invocation -> agreements.stream().map(this::negotiation));
+        when(transferProcessCounter.countByContractAgreementId(anyList())).thenReturn(Map.of("agreement-1", 7L));
+
+        // The store of agreement-1 holds 7 transfer processes, most recently updated first
+        var transferProcesses = IntStream.rangeClosed(1, 7).mapToObj(this::transferProcess).toList();
+        when(transferProcessService.query(any(QuerySpec.class))).thenAnswer(invocation -> {
+            QuerySpec querySpec = invocation.getArgument(0);
+            return ServiceResult.success(transferProcesses.stream().limit(querySpec.getLimit()));
+        });
+
+        // act
+        var actual = contractAgreementDataFetcher.getContractAgreements(0, 10, SortOrder.DESC, PREVIEW_SIZE);
+
+        // assert
+        assertThat(actual).hasSize(2);
+        assertThat(actual.get(0).transfers()).hasSize(PREVIEW_SIZE);
+        assertThat(actual.get(0).transferCount()).isEqualTo(7);
+        assertThat(actual.get(1).transfers()).isEmpty();
+        assertThat(actual.get(1).transferCount()).isZero();
+
+        var querySpecs = ArgumentCaptor.forClass(QuerySpec.class);
+        verify(transferProcessService, atLeastOnce()).query(querySpecs.capture());
+        assertThat(querySpecs.getAllValues()).hasSize(1).allSatisfy(querySpec -> {
+            assertThat(querySpec.getLimit()).isEqualTo(PREVIEW_SIZE);
+            assertThat(querySpec.getSortField()).isEqualTo("updatedAt");
+            assertThat(querySpec.getSortOrder()).isEqualTo(SortOrder.DESC);
+        });
+    }
+
+    private ContractAgreement agreement(int i) {
+        return ContractAgreement.Builder.newInstance()
+                .id("agreement-" + i)
+                .providerId("provider")
+                .consumerId("consumer")
+                .assetId("asset-" + i)
+                .contractSigningDate(1_700_000_000L - i)
+                .policy(Policy.Builder.newInstance().build())
+                .build();
+    }
+
+    private ContractNegotiation negotiation(ContractAgreement agreement) {
+        return ContractNegotiation.Builder.newInstance()
+                .id("negotiation-" + agreement.getId())
+                .counterPartyId("provider")
+                .counterPartyAddress("https://provider/api/dsp")
+                .protocol("dataspace-protocol-http")
+                .type(ContractNegotiation.Type.CONSUMER)
+                .contractAgreement(agreement)
+                .build();
+    }
+
+    private TransferProcess transferProcess(int i) {
+        var dataRequest = DataRequest.Builder.newInstance()
+                .id("data-request-" + i)
+                .processId("transfer-" + i)
+                .contractId("agreement-1")
+                .assetId("asset-1")
+                .dataDestination(DataAddress.Builder.newInstance().type("HttpData").build())
+                .build();
+        return TransferProcess.Builder.newInstance()
+                .id("transfer-" + i)
+                .dataRequest(dataRequest)
+                .build();
+    }
+}
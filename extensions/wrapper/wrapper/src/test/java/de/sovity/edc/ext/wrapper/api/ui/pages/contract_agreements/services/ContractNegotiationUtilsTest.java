@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.ext.wrapper.api.ui.pages.contract_agreements.services;
+
+import de.sovity.edc.ext.wrapper.api.ui.pages.dashboard.services.SelfDescriptionService;
+import org.eclipse.edc.connector.contract.spi.event.contractnegotiation.ContractNegotiationFinalized;
+import org.eclipse.edc.connector.contract.spi.negotiation.store.ContractNegotiationStore;
+import org.eclipse.edc.connector.contract.spi.types.agreement.ContractAgreement;
+import org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiation;
+import org.eclipse.edc.connector.spi.contractnegotiation.ContractNegotiationService;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.service.spi.result.ServiceResult;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ContractNegotiationUtilsTest {
+    ContractNegotiationService contractNegotiationService;
+    ContractNegotiationStore contractNegotiationStore;
+    ContractNegotiationIdCache contractNegotiationIdCache;
+    ContractNegotiationUtils contractNegotiationUtils;
+
+    ContractNegotiation negotiation;
+
+    @BeforeEach
+    void setUp() {
+        contractNegotiationService = mock(ContractNegotiationService.class);
+        contractNegotiationStore = mock(ContractNegotiationStore.class);
+        contractNegotiationIdCache = new ContractNegotiationIdCache(contractNegotiationStore, 10);
+        contractNegotiationUtils = new ContractNegotiationUtils(
+                contractNegotiationService,
+                mock(SelfDescriptionService.class),
+                contractNegotiationIdCache
+        );
+
+        var agreement = ContractAgreement.Builder.newInstance()
+                .id("agreement-1")
+                .providerId("provider")
+                .consumerId("consumer")
+                .assetId("asset-1")
+                .policy(Policy.Builder.newInstance().build())
+                .build();
+        negotiation = ContractNegotiation.Builder.newInstance()
+                .id("negotiation-1")
+                .counterPartyId("provider")
+                .counterPartyAddress("https://provider/api/dsp")
+                .protocol("dataspace-protocol-http")
+                .contractAgreement(agreement)
+                .build();
+        when(contractNegotiationService.findbyId("negotiation-1")).thenReturn(negotiation);
+        when(contractNegotiationService.query(any(QuerySpec.class)))
+                .thenAnswer(invocation -> ServiceResult.success(Stream.of(negotiation)));
+    }
+
+    @Test
+    void testQueriesOnceThenUsesCache() {
+        // act
+        var first = contractNegotiationUtils.findByContractAgreementIdOrThrow("agreement-1");
+        var second = contractNegotiationUtils.findByContractAgreementIdOrThrow("agreement-1");
+
+        // assert
+        assertThat(first).isSameAs(negotiation);
+        assertThat(second).isSameAs(negotiation);
+        verify(contractNegotiationService, times(1)).query(any(QuerySpec.class));
+        verify(contractNegotiationService, times(1)).findbyId("negotiation-1");
+    }
+
+    @Test
+    void testCachePopulatedFromEvents() {
+        // arrange
+        when(contractNegotiationStore.findById("negotiation-1")).thenReturn(negotiation);
+        var finalized = mock(ContractNegotiationFinalized.class);
+        when(finalized.getContractNegotiationId()).thenReturn("negotiation-1");
+        @SuppressWarnings("unchecked")
+        EventEnvelope<ContractNegotiationFinalized> envelope = mock(EventEnvelope.class);
+        when(envelope.getPayload()).thenReturn(finalized);
+
+        // act
+        contractNegotiationIdCache.on(envelope);
+        var actual = contractNegotiationUtils.findByContractAgreementIdOrThrow("agreement-1");
+
+        // assert
+        assertThat(actual).isSameAs(negotiation);
+        verify(contractNegotiationService, never()).query(any(QuerySpec.class));
+    }
+
+    @Test
+    void testDisabledCache() {
+        // arrange
+        var disabledCache = new ContractNegotiationIdCache(contractNegotiationStore, 0);
+        var utils = new ContractNegotiationUtils(contractNegotiationService, mock(SelfDescriptionService.class), disabledCache);
+
+        // act
+        utils.findByContractAgreementIdOrThrow("agreement-1");
+        utils.findByContractAgreementIdOrThrow("agreement-1");
+
+        // assert
+        assertThat(disabledCache.size()).isZero();
+        verify(contractNegotiationService, times(2)).query(any(QuerySpec.class));
+    }
+}
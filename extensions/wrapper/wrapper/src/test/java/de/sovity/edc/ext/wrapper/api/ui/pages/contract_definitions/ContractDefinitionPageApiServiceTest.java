@@ -7,13 +7,17 @@ import de.sovity.edc.client.gen.model.UiCriterion;
 import de.sovity.edc.client.gen.model.UiCriterionLiteral;
 import de.sovity.edc.client.gen.model.UiCriterionLiteralType;
 import de.sovity.edc.client.gen.model.UiCriterionOperator;
+import de.sovity.edc.client.gen.model.UiSortOrder;
 import de.sovity.edc.ext.wrapper.TestUtils;
 import org.eclipse.edc.connector.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.connector.spi.asset.AssetService;
 import org.eclipse.edc.connector.spi.contractdefinition.ContractDefinitionService;
 import org.eclipse.edc.junit.annotations.ApiTest;
 import org.eclipse.edc.junit.extensions.EdcExtension;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.spi.types.domain.asset.Asset;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -95,6 +99,63 @@ class ContractDefinitionPageApiServiceTest {
 
     }
 
+    @Test
+    void pagedContractDefinitionPage(ContractDefinitionService contractDefinitionService, AssetService assetService) {
+        // arrange
+        createAsset(assetService, "asset-1", "abc");
+        createAsset(assetService, "asset-2", "abc");
+        createAsset(assetService, "asset-3", "xyz");
+        createContractDefinition(
+                contractDefinitionService,
+                "contractDefinition-id-1",
+                "contractPolicy-id-1",
+                "accessPolicy-id-1",
+                new Criterion("exampleLeft1", "=", "abc"),
+                1628956800000L);
+        createContractDefinition(
+                contractDefinitionService,
+                "contractDefinition-id-2",
+                "contractPolicy-id-2",
+                "accessPolicy-id-2",
+                new Criterion("exampleLeft1", "in", List.of("abc", "xyz")),
+                1628956801000L);
+        createContractDefinition(
+                contractDefinitionService,
+                "contractDefinition-id-3",
+                "contractPolicy-id-3",
+                "accessPolicy-id-3",
+                new Criterion("exampleLeft1", "like", "%y%"),
+                1628956802000L);
+        createContractDefinition(
+                contractDefinitionService,
+                "contractDefinition-id-4",
+                "contractPolicy-id-4",
+                "accessPolicy-id-4",
+                new Criterion("exampleLeft1", "=", "unknown"),
+                1628956803000L);
+
+        // act
+        var firstPage = client.uiApi().getPagedContractDefinitionPage(0, 3, null);
+        var secondPage = client.uiApi().getPagedContractDefinitionPage(3, 3, null);
+        var ascending = client.uiApi().getPagedContractDefinitionPage(0, 50, UiSortOrder.ASC);
+
+        // assert
+        assertThat(firstPage.getContractDefinitions())
+                .extracting(ContractDefinitionEntry::getContractDefinitionId)
+                .containsExactly("contractDefinition-id-4", "contractDefinition-id-3", "contractDefinition-id-2");
+        assertThat(firstPage.getContractDefinitions())
+                .extracting(ContractDefinitionEntry::getNumMatchingAssets)
+                .containsExactly(0L, 1L, 3L);
+        assertThat(firstPage.getPagination().getHasMore()).isTrue();
+        assertThat(secondPage.getContractDefinitions())
+                .extracting(ContractDefinitionEntry::getNumMatchingAssets)
+                .containsExactly(2L);
+        assertThat(secondPage.getPagination().getHasMore()).isFalse();
+        assertThat(ascending.getContractDefinitions())
+                .extracting(ContractDefinitionEntry::getContractDefinitionId)
+                .containsExactly("contractDefinition-id-1", "contractDefinition-id-2", "contractDefinition-id-3", "contractDefinition-id-4");
+    }
+
     @Test
     void testContractDefinitionCreation(ContractDefinitionService contractDefinitionService) {
         // arrange
@@ -147,6 +208,15 @@ class ContractDefinitionPageApiServiceTest {
         assertThat(contractDefinitionService.query(QuerySpec.max()).getContent()).isEmpty();
     }
 
+    private void createAsset(AssetService assetService, String assetId, String exampleLeft1) {
+        var asset = Asset.Builder.newInstance()
+                .id(assetId)
+                .property("exampleLeft1", exampleLeft1)
+                .dataAddress(DataAddress.Builder.newInstance().type("HttpData").build())
+                .build();
+        assetService.create(asset);
+    }
+
     private void createContractDefinition(
             ContractDefinitionService contractDefinitionService,
             String contractDefinitionId,
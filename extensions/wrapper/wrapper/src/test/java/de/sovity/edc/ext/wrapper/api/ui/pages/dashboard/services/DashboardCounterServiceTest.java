@@ -0,0 +1,171 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.ext.wrapper.api.ui.pages.dashboard.services;
+
+import de.sovity.edc.ext.wrapper.api.ui.pages.dashboard.services.DashboardAggregator.ContractAgreementCount;
+import de.sovity.edc.ext.wrapper.api.ui.pages.dashboard.services.DashboardAggregator.TransferProcessCount;
+import de.sovity.edc.ext.wrapper.api.ui.pages.transferhistory.TransferProcessStateService;
+import org.eclipse.edc.connector.asset.spi.event.AssetCreated;
+import org.eclipse.edc.connector.transfer.spi.event.TransferProcessEvent;
+import org.eclipse.edc.connector.transfer.spi.types.TransferProcessStates;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static de.sovity.edc.ext.wrapper.api.ui.model.ContractAgreementDirection.CONSUMING;
+import static de.sovity.edc.ext.wrapper.api.ui.model.ContractAgreementDirection.PROVIDING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiation.Type.CONSUMER;
+import static org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiation.Type.PROVIDER;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DashboardCounterServiceTest {
+    DashboardAggregator dashboardAggregator;
+    DashboardCounterService dashboardCounterService;
+
+    @BeforeEach
+    void setUp() {
+        dashboardAggregator = mock(DashboardAggregator.class);
+        dashboardCounterService = new DashboardCounterService(
+                dashboardAggregator,
+                new TransferProcessStateService(),
+                mock(Monitor.class)
+        );
+    }
+
+    @Test
+    void testCountOnlyOnce() {
+        // arrange
+        when(dashboardAggregator.countAssets()).thenReturn(3L);
+        when(dashboardAggregator.countContractAgreements()).thenReturn(List.of(
+                new ContractAgreementCount(PROVIDER, 2)
+        ));
+        when(dashboardAggregator.countTransferProcesses()).thenReturn(List.of(
+                new TransferProcessCount(PROVIDER, TransferProcessStates.STARTED.code(), 4),
+                new TransferProcessCount(PROVIDER, TransferProcessStates.REQUESTED.code(), 1),
+                new TransferProcessCount(PROVIDER, TransferProcessStates.COMPLETED.code(), 2),
+                new TransferProcessCount(PROVIDER, TransferProcessStates.TERMINATED.code(), 1)
+        ));
+
+        // act
+        var providing = dashboardCounterService.getTransferAmounts(PROVIDING);
+        var consuming = dashboardCounterService.getTransferAmounts(CONSUMING);
+        var numAssets = dashboardCounterService.getNumAssets();
+        var numProviding = dashboardCounterService.getNumContractAgreements(PROVIDING);
+        var numConsuming = dashboardCounterService.getNumContractAgreements(CONSUMING);
+
+        // assert
+        assertThat(providing.getNumTotal()).isEqualTo(8);
+        assertThat(providing.getNumRunning()).isEqualTo(5);
+        assertThat(providing.getNumOk()).isEqualTo(2);
+        assertThat(providing.getNumError()).isEqualTo(1);
+        assertThat(consuming.getNumTotal()).isZero();
+        assertThat(numAssets).isEqualTo(3);
+        assertThat(numProviding).isEqualTo(2);
+        assertThat(numConsuming).isZero();
+        verify(dashboardAggregator, times(1)).countTransferProcesses();
+    }
+
+    @Test
+    void testEventRecountsOnNextRead() {
+        // arrange
+        when(dashboardAggregator.countAssets()).thenReturn(0L, 1L);
+        when(dashboardAggregator.countContractAgreements()).thenReturn(List.of());
+        when(dashboardAggregator.countTransferProcesses()).thenReturn(
+                List.of(),
+                List.of(new TransferProcessCount(CONSUMER, TransferProcessStates.COMPLETED.code(), 1))
+        );
+        dashboardCounterService.getNumAssets();
+
+        // act
+        dashboardCounterService.on(envelope(mock(AssetCreated.class)));
+        dashboardCounterService.on(envelope(mock(TransferProcessEvent.class)));
+        var numAssets = dashboardCounterService.getNumAssets();
+        var consuming = dashboardCounterService.getTransferAmounts(CONSUMING);
+
+        // assert
+        assertThat(numAssets).isEqualTo(1);
+        assertThat(consuming.getNumTotal()).isEqualTo(1);
+        assertThat(consuming.getNumOk()).isEqualTo(1);
+        verify(dashboardAggregator, times(2)).countTransferProcesses();
+    }
+
+    @Test
+    void testEventDuringRecountIsNotLost() {
+        // arrange
+        var assetCreated = envelope(mock(AssetCreated.class));
+        when(dashboardAggregator.countContractAgreements()).thenReturn(List.of());
+        when(dashboardAggregator.countTransferProcesses()).thenReturn(List.of());
+        when(dashboardAggregator.countAssets()).thenAnswer(invocation -> {
+            // Asset created after its table has been counted
+            dashboardCounterService.on(assetCreated);
+            return 0L;
+        }).thenReturn(1L);
+
+        // act
+        var whileCounting = dashboardCounterService.getNumAssets();
+        var afterwards = dashboardCounterService.getNumAssets();
+
+        // assert
+        assertThat(whileCounting).isZero();
+        assertThat(afterwards).isEqualTo(1);
+        verify(dashboardAggregator, times(2)).countAssets();
+    }
+
+    @Test
+    void testOutdatedReadDuringRecountSeesPreviousCounts() throws Exception {
+        // arrange
+        var counting = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        when(dashboardAggregator.countContractAgreements()).thenReturn(List.of());
+        when(dashboardAggregator.countTransferProcesses()).thenReturn(List.of());
+        when(dashboardAggregator.countAssets()).thenReturn(3L).thenAnswer(invocation -> {
+            counting.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return 4L;
+        });
+        dashboardCounterService.getNumAssets();
+
+        // act
+        dashboardCounterService.on(envelope(mock(AssetCreated.class)));
+        var reconciliation = CompletableFuture.runAsync(dashboardCounterService::reconcile);
+        assertThat(counting.await(10, TimeUnit.SECONDS)).isTrue();
+        var duringReconciliation = dashboardCounterService.getNumAssets();
+        release.countDown();
+        reconciliation.get(10, TimeUnit.SECONDS);
+        var afterReconciliation = dashboardCounterService.getNumAssets();
+
+        // assert
+        assertThat(duringReconciliation).isEqualTo(3);
+        assertThat(afterReconciliation).isEqualTo(4);
+    }
+
+    @SuppressWarnings("unchecked")
+    private EventEnvelope<Event> envelope(Event event) {
+        var envelope = (EventEnvelope<Event>) mock(EventEnvelope.class);
+        when(envelope.getPayload()).thenReturn(event);
+        return envelope;
+    }
+}
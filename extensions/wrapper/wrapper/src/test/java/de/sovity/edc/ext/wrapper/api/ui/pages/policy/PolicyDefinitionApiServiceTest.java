@@ -19,10 +19,12 @@ import de.sovity.edc.client.EdcClient;
 import de.sovity.edc.client.gen.model.OperatorDto;
 import de.sovity.edc.client.gen.model.PolicyDefinitionCreateRequest;
 import de.sovity.edc.client.gen.model.PolicyDefinitionDto;
+import de.sovity.edc.client.gen.model.PolicyDefinitionSortProperty;
 import de.sovity.edc.client.gen.model.UiPolicyConstraint;
 import de.sovity.edc.client.gen.model.UiPolicyCreateRequest;
 import de.sovity.edc.client.gen.model.UiPolicyLiteral;
 import de.sovity.edc.client.gen.model.UiPolicyLiteralType;
+import de.sovity.edc.client.gen.model.UiSortOrder;
 import de.sovity.edc.ext.wrapper.TestUtils;
 import lombok.SneakyThrows;
 import org.eclipse.edc.connector.spi.policydefinition.PolicyDefinitionService;
@@ -95,6 +97,38 @@ class PolicyDefinitionApiServiceTest {
                 .containsExactly("always-true", "my-policy-def-2", "my-policy-def-1", "my-policy-def-0");
     }
 
+    @Test
+    void test_paged(PolicyDefinitionService policyDefinitionService) {
+        // arrange
+        createPolicyDefinition(policyDefinitionService, "my-policy-def-2", 1628956802000L);
+        createPolicyDefinition(policyDefinitionService, "my-policy-def-0", 1628956800000L);
+        createPolicyDefinition(policyDefinitionService, "my-policy-def-1", 1628956801000L);
+
+        // act
+        var firstPage = client.uiApi().getPagedPolicyDefinitionPage(0, 2, null, null, null);
+        var secondPage = client.uiApi().getPagedPolicyDefinitionPage(2, 2, null, null, null);
+        var byId = client.uiApi().getPagedPolicyDefinitionPage(0, 50, PolicyDefinitionSortProperty.POLICY_DEFINITION_ID, UiSortOrder.ASC, null);
+        var search = client.uiApi().getPagedPolicyDefinitionPage(0, 50, null, null, "def-1");
+
+        // assert
+        assertThat(firstPage.getPolicies())
+                .extracting(PolicyDefinitionDto::getPolicyDefinitionId)
+                .containsExactly("always-true", "my-policy-def-2");
+        assertThat(firstPage.getPagination().getHasMore()).isTrue();
+        assertThat(secondPage.getPolicies())
+                .extracting(PolicyDefinitionDto::getPolicyDefinitionId)
+                .containsExactly("my-policy-def-1", "my-policy-def-0");
+        assertThat(secondPage.getPagination().getHasMore()).isFalse();
+        assertThat(byId.getPolicies())
+                .extracting(PolicyDefinitionDto::getPolicyDefinitionId)
+                .containsExactly("always-true", "my-policy-def-0", "my-policy-def-1", "my-policy-def-2");
+        assertThat(search.getPolicies())
+                .extracting(PolicyDefinitionDto::getPolicyDefinitionId)
+                .containsExactly("my-policy-def-1");
+        assertThat(search.getPolicies().get(0).getPolicy().getConstraints().get(0))
+                .usingRecursiveComparison().isEqualTo(constraint);
+    }
+
     @Test
     void test_delete(PolicyDefinitionService policyDefinitionService) {
         // arrange
@@ -0,0 +1,120 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.ext.wrapper.api.ui.pages.policy;
+
+import de.sovity.edc.ext.wrapper.api.common.model.UiPolicy;
+import org.eclipse.edc.connector.policy.spi.PolicyDefinition;
+import org.eclipse.edc.connector.policy.spi.event.PolicyDefinitionDeleted;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UiPolicyCacheTest {
+
+    @Test
+    void testHitsAndMisses() {
+        // arrange
+        var cache = new UiPolicyCache(10);
+        var builds = new AtomicInteger();
+
+        // act
+        var first = cache.computeIfAbsent(policyDefinition("policy-1", 1000L), () -> uiPolicy(builds));
+        var second = cache.computeIfAbsent(policyDefinition("policy-1", 1000L), () -> uiPolicy(builds));
+        cache.computeIfAbsent(policyDefinition("policy-1", 2000L), () -> uiPolicy(builds));
+        cache.computeIfAbsent(policyDefinition("policy-2", 1000L), () -> uiPolicy(builds));
+
+        // assert
+        assertThat(second).isSameAs(first);
+        assertThat(builds).hasValue(3);
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getMisses()).isEqualTo(3);
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsed() {
+        // arrange
+        var cache = new UiPolicyCache(2);
+        var builds = new AtomicInteger();
+
+        // act
+        cache.computeIfAbsent(policyDefinition("policy-1", 1000L), () -> uiPolicy(builds));
+        cache.computeIfAbsent(policyDefinition("policy-2", 1000L), () -> uiPolicy(builds));
+        cache.computeIfAbsent(policyDefinition("policy-1", 1000L), () -> uiPolicy(builds));
+        cache.computeIfAbsent(policyDefinition("policy-3", 1000L), () -> uiPolicy(builds));
+        cache.computeIfAbsent(policyDefinition("policy-1", 1000L), () -> uiPolicy(builds));
+        cache.computeIfAbsent(policyDefinition("policy-2", 1000L), () -> uiPolicy(builds));
+
+        // assert
+        assertThat(builds).hasValue(4);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void testInvalidateOnPolicyDefinitionDeleted() {
+        // arrange
+        var cache = new UiPolicyCache(10);
+        var builds = new AtomicInteger();
+        cache.computeIfAbsent(policyDefinition("policy-1", 1000L), () -> uiPolicy(builds));
+
+        var policyDefinitionDeleted = mock(PolicyDefinitionDeleted.class);
+        when(policyDefinitionDeleted.getPolicyDefinitionId()).thenReturn("policy-1");
+        @SuppressWarnings("unchecked")
+        EventEnvelope<PolicyDefinitionDeleted> envelope = mock(EventEnvelope.class);
+        when(envelope.getPayload()).thenReturn(policyDefinitionDeleted);
+
+        // act
+        cache.on(envelope);
+        cache.computeIfAbsent(policyDefinition("policy-1", 1000L), () -> uiPolicy(builds));
+
+        // assert
+        assertThat(builds).hasValue(2);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void testDisabled() {
+        // arrange
+        var cache = new UiPolicyCache(0);
+        var builds = new AtomicInteger();
+
+        // act
+        cache.computeIfAbsent(policyDefinition("policy-1", 1000L), () -> uiPolicy(builds));
+        cache.computeIfAbsent(policyDefinition("policy-1", 1000L), () -> uiPolicy(builds));
+
+        // assert
+        assertThat(builds).hasValue(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    private PolicyDefinition policyDefinition(String id, long createdAt) {
+        return PolicyDefinition.Builder.newInstance()
+                .id(id)
+                .createdAt(createdAt)
+                .policy(Policy.Builder.newInstance().build())
+                .build();
+    }
+
+    private UiPolicy uiPolicy(AtomicInteger builds) {
+        builds.incrementAndGet();
+        return new UiPolicy();
+    }
+}
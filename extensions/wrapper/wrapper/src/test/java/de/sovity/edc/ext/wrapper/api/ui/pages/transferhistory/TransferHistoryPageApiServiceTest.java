@@ -16,6 +16,9 @@ package de.sovity.edc.ext.wrapper.api.ui.pages.transferhistory;
 
 import de.sovity.edc.client.EdcClient;
 import de.sovity.edc.client.gen.model.ContractAgreementDirection;
+import de.sovity.edc.client.gen.model.TransferHistoryEntry;
+import de.sovity.edc.client.gen.model.TransferHistorySortProperty;
+import de.sovity.edc.client.gen.model.UiSortOrder;
 import de.sovity.edc.ext.wrapper.TestUtils;
 import org.eclipse.edc.connector.contract.spi.negotiation.store.ContractNegotiationStore;
 import org.eclipse.edc.connector.spi.asset.AssetService;
@@ -81,6 +84,88 @@ class TransferHistoryPageApiServiceTest {
         assertThat(providingProcess.getErrorMessage()).isEqualTo("TransferProcessManager: attempt #8 failed to send transfer");
     }
 
+    @Test
+    void pagedTransferHistoryTest(
+            ContractNegotiationStore negotiationStore,
+            TransferProcessStore transferProcessStore,
+            AssetService assetStore
+    ) throws ParseException {
+        // arrange
+        createProvidingTransferProcesses(negotiationStore, transferProcessStore, assetStore);
+        createConsumingTransferProcesses(negotiationStore, transferProcessStore);
+
+        // act
+        var firstPage = client.uiApi().getPagedTransferHistoryPage(0, 1, null, null, null, null, null);
+        var secondPage = client.uiApi().getPagedTransferHistoryPage(1, 1, null, null, null, null, null);
+
+        // assert
+        assertThat(firstPage.getTransferEntries()).extracting(TransferHistoryEntry::getTransferProcessId)
+                .containsExactly(TransferProcessTestUtils.CONSUMING_TRANSFER_PROCESS_ID);
+        assertThat(firstPage.getPagination().getHasMore()).isTrue();
+        assertThat(secondPage.getTransferEntries()).extracting(TransferHistoryEntry::getTransferProcessId)
+                .containsExactly(TransferProcessTestUtils.PROVIDING_TRANSFER_PROCESS_ID);
+        assertThat(secondPage.getPagination().getHasMore()).isFalse();
+    }
+
+    @Test
+    void pagedTransferHistoryTest_filterAndSort(
+            ContractNegotiationStore negotiationStore,
+            TransferProcessStore transferProcessStore,
+            AssetService assetStore
+    ) throws ParseException {
+        // arrange
+        createProvidingTransferProcesses(negotiationStore, transferProcessStore, assetStore);
+        createConsumingTransferProcesses(negotiationStore, transferProcessStore);
+
+        // act
+        var providing = client.uiApi().getPagedTransferHistoryPage(0, 10, null, null, ContractAgreementDirection.PROVIDING, null, null);
+        var ascending = client.uiApi().getPagedTransferHistoryPage(0, 10, TransferHistorySortProperty.LAST_UPDATED_DATE, UiSortOrder.ASC, null, null, null);
+        var otherCounterParty = client.uiApi().getPagedTransferHistoryPage(0, 10, null, null, null, null, "unknown-connector");
+
+        // assert
+        assertThat(providing.getTransferEntries()).hasSize(1);
+        var providingProcess = providing.getTransferEntries().get(0);
+        assertThat(providingProcess.getTransferProcessId()).isEqualTo(TransferProcessTestUtils.PROVIDING_TRANSFER_PROCESS_ID);
+        assertThat(providingProcess.getAssetName()).isEqualTo(TransferProcessTestUtils.PROVIDING_ASSET_NAME);
+        assertThat(providingProcess.getContractAgreementId()).isEqualTo(TransferProcessTestUtils.PROVIDING_CONTRACT_ID);
+        assertThat(providingProcess.getDirection()).isEqualTo(ContractAgreementDirection.PROVIDING);
+
+        assertThat(ascending.getTransferEntries()).extracting(TransferHistoryEntry::getTransferProcessId).containsExactly(
+                TransferProcessTestUtils.PROVIDING_TRANSFER_PROCESS_ID,
+                TransferProcessTestUtils.CONSUMING_TRANSFER_PROCESS_ID
+        );
+        assertThat(otherCounterParty.getTransferEntries()).isEmpty();
+    }
+
+    @Test
+    void pagedTransferHistoryTest_filterByCounterParty(
+            ContractNegotiationStore negotiationStore,
+            TransferProcessStore transferProcessStore,
+            AssetService assetStore
+    ) throws ParseException {
+        // arrange
+        createProvidingTransferProcesses(negotiationStore, transferProcessStore, assetStore);
+        createConsumingTransferProcesses(negotiationStore, transferProcessStore);
+
+        // act
+        var counterParty = client.uiApi().getPagedTransferHistoryPage(0, 10, null, null, null, null,
+                TransferProcessTestUtils.COUNTER_PARTY_ID);
+        var consumingCounterParty = client.uiApi().getPagedTransferHistoryPage(0, 10, null, null,
+                ContractAgreementDirection.CONSUMING, null, TransferProcessTestUtils.COUNTER_PARTY_ID);
+
+        // assert
+        assertThat(counterParty.getTransferEntries()).extracting(TransferHistoryEntry::getTransferProcessId).containsExactly(
+                TransferProcessTestUtils.CONSUMING_TRANSFER_PROCESS_ID,
+                TransferProcessTestUtils.PROVIDING_TRANSFER_PROCESS_ID
+        );
+        assertThat(counterParty.getTransferEntries()).extracting(TransferHistoryEntry::getCounterPartyParticipantId)
+                .containsOnly(TransferProcessTestUtils.COUNTER_PARTY_ID);
+        assertThat(counterParty.getPagination().getHasMore()).isFalse();
+
+        assertThat(consumingCounterParty.getTransferEntries()).extracting(TransferHistoryEntry::getTransferProcessId)
+                .containsExactly(TransferProcessTestUtils.CONSUMING_TRANSFER_PROCESS_ID);
+    }
+
     @Test
     void transferProcessAssetTest_providing(
             ContractNegotiationStore negotiationStore,
@@ -27,6 +27,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.text.ParseException;
+import java.util.List;
 
 import static de.sovity.edc.ext.wrapper.api.ui.pages.transferhistory.TransferProcessTestUtils.createConsumingTransferProcesses;
 import static de.sovity.edc.ext.wrapper.api.ui.pages.transferhistory.TransferProcessTestUtils.createProvidingTransferProcesses;
@@ -76,4 +77,34 @@ class TransferProcessAssetApiServiceTest {
         assertThat(consumerAssetResult.getTitle()).isEqualTo(TransferProcessTestUtils.CONSUMING_ASSET_ID);
     }
 
+    @Test
+    void testBatchedTransferProcessAssets(
+            ContractNegotiationStore negotiationStore,
+            TransferProcessStore transferProcessStore,
+            AssetService assetStore
+    ) throws ParseException {
+        // arrange
+        createProvidingTransferProcesses(negotiationStore, transferProcessStore, assetStore);
+        createConsumingTransferProcesses(negotiationStore, transferProcessStore);
+
+        // act
+        var result = client.uiApi().getTransferProcessAssets(List.of(
+                TransferProcessTestUtils.PROVIDING_TRANSFER_PROCESS_ID,
+                TransferProcessTestUtils.CONSUMING_TRANSFER_PROCESS_ID,
+                "unknown-transfer-process"
+        ));
+
+        // assert
+        assertThat(result).containsOnlyKeys(
+                TransferProcessTestUtils.PROVIDING_TRANSFER_PROCESS_ID,
+                TransferProcessTestUtils.CONSUMING_TRANSFER_PROCESS_ID
+        );
+        var providerAsset = result.get(TransferProcessTestUtils.PROVIDING_TRANSFER_PROCESS_ID);
+        assertThat(providerAsset.getAssetId()).isEqualTo(TransferProcessTestUtils.PROVIDING_ASSET_ID);
+        assertThat(providerAsset.getTitle()).isEqualTo(TransferProcessTestUtils.PROVIDING_ASSET_NAME);
+        var consumerAsset = result.get(TransferProcessTestUtils.CONSUMING_TRANSFER_PROCESS_ID);
+        assertThat(consumerAsset.getAssetId()).isEqualTo(TransferProcessTestUtils.CONSUMING_ASSET_ID);
+        assertThat(consumerAsset.getTitle()).isEqualTo(TransferProcessTestUtils.CONSUMING_ASSET_ID);
+    }
+
 }
@@ -0,0 +1,60 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.ext.wrapper.api.usecase.services;
+
+import de.sovity.edc.ext.wrapper.api.ui.pages.transferhistory.TransferProcessStateService;
+import de.sovity.edc.ext.wrapper.api.usecase.services.KpiAggregator.TransferProcessCount;
+import org.eclipse.edc.connector.transfer.spi.types.TransferProcess;
+import org.eclipse.edc.connector.transfer.spi.types.TransferProcessStates;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static de.sovity.edc.ext.wrapper.api.ui.model.TransferProcessSimplifiedState.ERROR;
+import static de.sovity.edc.ext.wrapper.api.ui.model.TransferProcessSimplifiedState.OK;
+import static de.sovity.edc.ext.wrapper.api.ui.model.TransferProcessSimplifiedState.RUNNING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class KpiApiServiceTest {
+
+    @Test
+    void testTransferProcessCountsAreMergedBySimplifiedState() {
+        // arrange
+        var kpiAggregator = mock(KpiAggregator.class);
+        when(kpiAggregator.countAssets()).thenReturn(2L);
+        when(kpiAggregator.countTransferProcesses()).thenReturn(List.of(
+                new TransferProcessCount(TransferProcess.Type.CONSUMER, TransferProcessStates.REQUESTING.code(), 1),
+                new TransferProcessCount(TransferProcess.Type.CONSUMER, TransferProcessStates.STARTED.code(), 2),
+                new TransferProcessCount(TransferProcess.Type.CONSUMER, TransferProcessStates.TERMINATED.code(), 3),
+                new TransferProcessCount(TransferProcess.Type.PROVIDER, TransferProcessStates.COMPLETED.code(), 4)
+        ));
+        var kpiApiService = new KpiApiService(kpiAggregator, new TransferProcessStateService());
+
+        // act
+        var actual = kpiApiService.getKpis();
+
+        // assert
+        assertThat(actual.getAssetsCount()).isEqualTo(2);
+        assertThat(actual.getTransferProcessDto().getIncomingTransferProcessCounts())
+                .containsEntry(RUNNING, 3L)
+                .containsEntry(ERROR, 3L)
+                .doesNotContainKey(OK);
+        assertThat(actual.getTransferProcessDto().getOutgoingTransferProcessCounts())
+                .containsOnlyKeys(OK)
+                .containsEntry(OK, 4L);
+    }
+}
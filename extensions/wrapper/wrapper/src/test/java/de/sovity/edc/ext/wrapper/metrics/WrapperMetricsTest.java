@@ -0,0 +1,210 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.ext.wrapper.metrics;
+
+import de.sovity.edc.ext.wrapper.api.common.mappers.utils.UiAssetCache;
+import de.sovity.edc.ext.wrapper.api.common.model.UiAsset;
+import de.sovity.edc.ext.wrapper.api.common.model.UiPolicy;
+import de.sovity.edc.ext.wrapper.api.ui.pages.catalog.CatalogCache;
+import de.sovity.edc.ext.wrapper.api.ui.pages.policy.UiPolicyCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.edc.connector.policy.spi.PolicyDefinition;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.service.spi.result.ServiceResult;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.types.domain.asset.Asset;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class WrapperMetricsTest {
+    SimpleMeterRegistry registry;
+    WrapperMetrics wrapperMetrics;
+
+    interface TestStore {
+        Stream<String> queryRows(int count);
+
+        ServiceResult<List<String>> findRows(int count);
+
+        void deleteRow(String id);
+    }
+
+    static class TestStoreImpl implements TestStore {
+        @Override
+        public Stream<String> queryRows(int count) {
+            return Stream.generate(() -> "row").limit(count);
+        }
+
+        @Override
+        public ServiceResult<List<String>> findRows(int count) {
+            return ServiceResult.success(queryRows(count).toList());
+        }
+
+        @Override
+        public void deleteRow(String id) {
+            // nothing to delete
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        wrapperMetrics = new WrapperMetrics(registry, mock(Monitor.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestMetrics.finish();
+    }
+
+    @Test
+    void testStoreQueriesAreCountedPerRequest() {
+        // arrange
+        var store = wrapperMetrics.instrumentStore(TestStore.class, new TestStoreImpl(), "testStore");
+
+        // act
+        RequestMetrics.start();
+        assertThat(store.queryRows(48)).hasSize(48);
+        assertThat(store.findRows(2).getContent()).hasSize(2);
+        store.deleteRow("a");
+        wrapperMetrics.recordRequest("UiResource.getTransferHistoryPage", 200, 1_000_000, RequestMetrics.finish());
+
+        // assert
+        assertThat(registry.get(WrapperMetrics.API_REQUESTS).timer().count()).isEqualTo(1);
+        assertThat(registry.get(WrapperMetrics.API_REQUEST_STORE_QUERIES).tag("store", "testStore").summary().totalAmount())
+                .isEqualTo(2);
+        assertThat(registry.get(WrapperMetrics.API_REQUEST_STORE_ROWS).tag("store", "testStore").summary().totalAmount())
+                .isEqualTo(50);
+    }
+
+    @Test
+    void testQueriesOutsideOfRequestsAreNotCounted() {
+        // arrange
+        var store = wrapperMetrics.instrumentStore(TestStore.class, new TestStoreImpl(), "testStore");
+
+        // act
+        var actual = store.queryRows(3).toList();
+
+        // assert
+        assertThat(actual).hasSize(3);
+        assertThat(RequestMetrics.current()).isNull();
+    }
+
+    @Test
+    void testJsonLdCallsAreTimed() {
+        // arrange
+        var jsonLd = wrapperMetrics.instrumentJsonLd(TestJsonLd.class, () -> "expanded");
+
+        // act
+        var actual = jsonLd.expand();
+
+        // assert
+        assertThat(actual).isEqualTo("expanded");
+        assertThat(registry.get(WrapperMetrics.JSON_LD).tag("operation", "expand").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testCatalogFetchIsTimedWithoutEndpoint() {
+        // act
+        wrapperMetrics.timeCatalogFetch(() -> List.of());
+        wrapperMetrics.timeCatalogFetch(() -> List.of());
+
+        // assert
+        var timer = registry.get(WrapperMetrics.CATALOG_FETCH).tag("outcome", "success").timer();
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(timer.getId().getTag("endpoint")).isNull();
+    }
+
+    @Test
+    void testUiAssetCacheStatsAreExported() {
+        // arrange
+        var uiAssetCache = new UiAssetCache(1_000_000);
+        var asset = Asset.Builder.newInstance().id("asset-1").build();
+        wrapperMetrics.bindUiAssetCache(uiAssetCache);
+
+        // act
+        uiAssetCache.computeIfAbsent(asset, "https://a/api/dsp", "a", UiAsset::new);
+        uiAssetCache.computeIfAbsent(asset, "https://a/api/dsp", "a", UiAsset::new);
+
+        // assert
+        assertThat(registry.get(WrapperMetrics.UI_ASSET_CACHE + ".hits").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get(WrapperMetrics.UI_ASSET_CACHE + ".misses").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get(WrapperMetrics.UI_ASSET_CACHE + ".size").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void testUiPolicyCacheStatsAreExported() {
+        // arrange
+        var uiPolicyCache = new UiPolicyCache(10);
+        var policyDefinition = PolicyDefinition.Builder.newInstance()
+                .id("policy-1")
+                .policy(Policy.Builder.newInstance().build())
+                .build();
+        wrapperMetrics.bindUiPolicyCache(uiPolicyCache);
+
+        // act
+        uiPolicyCache.computeIfAbsent(policyDefinition, UiPolicy::new);
+        uiPolicyCache.computeIfAbsent(policyDefinition, UiPolicy::new);
+
+        // assert
+        assertThat(registry.get(WrapperMetrics.UI_POLICY_CACHE + ".hits").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get(WrapperMetrics.UI_POLICY_CACHE + ".misses").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get(WrapperMetrics.UI_POLICY_CACHE + ".size").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void testCatalogCacheStatsAreExported() {
+        // arrange
+        var catalogCache = new CatalogCache(Duration.ofSeconds(60), Duration.ZERO, 10, mock(Monitor.class));
+        wrapperMetrics.bindCatalogCache(catalogCache);
+
+        // act
+        catalogCache.get("https://a/api/dsp", false, endpoint -> List.of());
+        catalogCache.get("https://a/api/dsp", false, endpoint -> List.of());
+        catalogCache.shutdown();
+
+        // assert
+        assertThat(registry.get(WrapperMetrics.CATALOG_CACHE + ".hits").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get(WrapperMetrics.CATALOG_CACHE + ".misses").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get(WrapperMetrics.CATALOG_CACHE + ".stale.hits").functionCounter().count()).isZero();
+        assertThat(registry.get(WrapperMetrics.CATALOG_CACHE + ".size").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void testDisabled() {
+        // arrange
+        var disabled = new WrapperMetrics(null, mock(Monitor.class));
+        var store = new TestStoreImpl();
+
+        // act
+        var actual = disabled.instrumentStore(TestStore.class, store, "testStore");
+
+        // assert
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(actual).isSameAs(store);
+    }
+
+    @FunctionalInterface
+    interface TestJsonLd {
+        String expand();
+    }
+}
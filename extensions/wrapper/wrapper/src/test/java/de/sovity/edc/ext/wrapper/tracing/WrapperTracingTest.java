@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.ext.wrapper.tracing;
+
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WrapperTracingTest {
+    InMemorySpanExporter spanExporter;
+    OpenTelemetrySdk openTelemetry;
+    WrapperTracing wrapperTracing;
+
+    interface TestService {
+        String initiate(String id);
+    }
+
+    @BeforeEach
+    void setUp() {
+        spanExporter = InMemorySpanExporter.create();
+        openTelemetry = OpenTelemetrySdk.builder()
+                .setTracerProvider(SdkTracerProvider.builder().addSpanProcessor(SimpleSpanProcessor.create(spanExporter)).build())
+                .build();
+        wrapperTracing = new WrapperTracing(openTelemetry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        openTelemetry.close();
+    }
+
+    @Test
+    void testServiceCallsAreChildSpans() {
+        // arrange
+        TestService service = id -> "initiated-" + id;
+        var traced = wrapperTracing.instrument(TestService.class, service, "testService");
+
+        // act
+        var actual = wrapperTracing.inSpan("ContractNegotiationApiService.initiate", "edc.connector.endpoint", "https://a", () ->
+                traced.initiate("1"));
+
+        // assert
+        assertThat(actual).isEqualTo("initiated-1");
+        var spans = spanExporter.getFinishedSpanItems();
+        assertThat(spans).extracting(SpanData::getName).containsExactly("testService.initiate", "ContractNegotiationApiService.initiate");
+        assertThat(spans.get(0).getParentSpanId()).isEqualTo(spans.get(1).getSpanId());
+        assertThat(spans.get(1).getAttributes().asMap()).containsValue("https://a");
+    }
+
+    @Test
+    void testErrorsAreRecorded() {
+        // arrange
+        TestService service = id -> {
+            throw new IllegalStateException("Counter party unreachable");
+        };
+        var traced = wrapperTracing.instrument(TestService.class, service, "testService");
+
+        // act
+        assertThatThrownBy(() -> traced.initiate("1")).isInstanceOf(IllegalStateException.class);
+
+        // assert
+        var span = spanExporter.getFinishedSpanItems().get(0);
+        assertThat(span.getStatus().getStatusCode()).isEqualTo(StatusCode.ERROR);
+        assertThat(span.getEvents()).extracting(it -> it.getName()).containsExactly("exception");
+    }
+
+    @Test
+    void testExecutorPropagatesContext() throws Exception {
+        // arrange
+        var executor = wrapperTracing.propagating(Executors.newSingleThreadExecutor());
+
+        // act
+        wrapperTracing.inSpan("MultiCatalogApiService.fetchDataOffers", () -> {
+            try {
+                return executor.invokeAll(List.of(() -> wrapperTracing.inSpan("CatalogApiService.fetchDataOffers", () -> "ok")))
+                        .get(0).get(5, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        executor.shutdownNow();
+
+        // assert
+        var spans = spanExporter.getFinishedSpanItems();
+        assertThat(spans).hasSize(2);
+        assertThat(spans.get(0).getTraceId()).isEqualTo(spans.get(1).getTraceId());
+    }
+
+    @Test
+    void testDisabled() {
+        // arrange
+        var disabled = new WrapperTracing(null);
+        TestService service = id -> id;
+
+        // act
+        var actual = disabled.instrument(TestService.class, service, "testService");
+
+        // assert
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(actual).isSameAs(service);
+        assertThat(disabled.inSpan("span", () -> "ok")).isEqualTo("ok");
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.ext.wrapper.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryUtilsTest {
+
+    @Test
+    void likeContains() {
+        assertThat(QueryUtils.likeContains("def-1")).isEqualTo("%def-1%");
+    }
+
+    @Test
+    void likeContains_escapesWildcards() {
+        assertThat(QueryUtils.likeContains("100%_done")).isEqualTo("%100\\%\\_done%");
+    }
+
+    @Test
+    void likeContains_escapesEscapeCharacter() {
+        assertThat(QueryUtils.likeContains("a\\%")).isEqualTo("%a\\\\\\%%");
+    }
+}
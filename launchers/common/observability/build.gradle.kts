@@ -8,6 +8,12 @@ val edcGroup: String by project
 dependencies {
     // Logging
     api("${edcGroup}:monitor-jdk-logger:${edcVersion}")
+
+    // Metrics
+    api(project(":extensions:micrometer-metrics"))
+
+    // Tracing
+    api(project(":extensions:opentelemetry-tracing"))
 }
 
 val sovityEdcGroup: String by project
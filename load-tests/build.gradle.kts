@@ -0,0 +1,31 @@
+plugins {
+    `java-library`
+}
+
+val assertj: String by project
+
+dependencies {
+    api(project(":launchers:common:base"))
+    api(project(":launchers:common:auth-mock"))
+
+    testImplementation(project(":extensions:test-backend-controller"))
+    testImplementation(project(":utils:test-connector-remote"))
+    testImplementation(project(":extensions:wrapper:clients:java-client"))
+    testImplementation("org.assertj:assertj-core:${assertj}")
+    testImplementation("org.junit.jupiter:junit-jupiter-api:5.10.0")
+    testRuntimeOnly("org.junit.jupiter:junit-jupiter-engine:5.10.0")
+}
+
+tasks.withType<Test> {
+    // Load tests take minutes and only run on demand, e.g.:
+    // ./gradlew :load-tests:test -PloadTest -PloadTest.assets=5000 -PloadTest.transferProcesses=20000
+    onlyIf { project.hasProperty("loadTest") }
+    outputs.upToDateWhen { false }
+    maxParallelForks = 1
+    maxHeapSize = "4g"
+    systemProperties(project.properties.filterKeys { it.startsWith("loadTest.") })
+    systemProperty("loadTest.reportFile", layout.buildDirectory.file("reports/load-test/report.json").get().asFile.path)
+}
+
+val sovityEdcGroup: String by project
+group = sovityEdcGroup
@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.loadtest;
+
+/**
+ * Measurements of a single endpoint.
+ * <p>
+ * Heap and GC numbers are taken from the test JVM, which also runs both connectors, so they include the server side.
+ *
+ * @param endpoint endpoint name
+ * @param requests measured requests
+ * @param errors failed requests
+ * @param p50Millis median latency
+ * @param p95Millis 95th percentile latency
+ * @param p99Millis 99th percentile latency
+ * @param maxMillis maximum latency
+ * @param throughputPerSecond successful and failed requests per second
+ * @param heapUsedBeforeBytes used heap before the measurement
+ * @param heapUsedAfterBytes used heap after the measurement
+ * @param gcCount garbage collections during the measurement
+ * @param gcTimeMillis time spent in garbage collections during the measurement
+ */
+public record EndpointResult(
+        String endpoint,
+        int requests,
+        int errors,
+        double p50Millis,
+        double p95Millis,
+        double p99Millis,
+        double maxMillis,
+        double throughputPerSecond,
+        long heapUsedBeforeBytes,
+        long heapUsedAfterBytes,
+        long gcCount,
+        long gcTimeMillis
+) {
+}
@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.loadtest;
+
+/**
+ * Load test parameters, configurable via {@code -PloadTest.<name>=<value>}.
+ *
+ * @param assets number of assets seeded on the provider
+ * @param assetsPerContractDefinition number of assets offered by each seeded policy and contract definition
+ * @param agreements number of contract agreements negotiated by the consumer
+ * @param transferProcesses number of transfer processes initiated by the consumer
+ * @param threads number of concurrent clients
+ * @param warmupRequests requests per endpoint before measuring
+ * @param requests measured requests per endpoint
+ * @param reportFile path of the JSON report
+ */
+public record LoadTestConfig(
+        int assets,
+        int assetsPerContractDefinition,
+        int agreements,
+        int transferProcesses,
+        int threads,
+        int warmupRequests,
+        int requests,
+        String reportFile
+) {
+    public static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Integer.getInteger("loadTest.assets", 1000),
+                Integer.getInteger("loadTest.assetsPerContractDefinition", 100),
+                Integer.getInteger("loadTest.agreements", 10),
+                Integer.getInteger("loadTest.transferProcesses", 2000),
+                Integer.getInteger("loadTest.threads", 8),
+                Integer.getInteger("loadTest.warmupRequests", 20),
+                Integer.getInteger("loadTest.requests", 200),
+                System.getProperty("loadTest.reportFile", "build/reports/load-test/report.json")
+        );
+    }
+}
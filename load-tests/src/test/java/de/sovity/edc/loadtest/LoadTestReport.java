@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Machine-readable result of a load test run.
+ *
+ * @param startedAt ISO-8601 start of the run
+ * @param config load test parameters
+ * @param seedingMillis time needed to seed both connectors
+ * @param endpoints measurements per endpoint
+ */
+public record LoadTestReport(
+        String startedAt,
+        LoadTestConfig config,
+        long seedingMillis,
+        List<EndpointResult> endpoints
+) {
+    public void write(Path file) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(file.toFile(), this);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write load test report to %s".formatted(file), e);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.loadtest;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Calls one endpoint at a time from concurrent clients and measures latency percentiles, throughput and GC activity.
+ * <p>
+ * Endpoints are measured one after another, so heap and GC numbers can be attributed to a single endpoint.
+ */
+public class LoadTestRunner implements AutoCloseable {
+    private final LoadTestConfig config;
+    private final ExecutorService executor;
+
+    public LoadTestRunner(LoadTestConfig config) {
+        this.config = config;
+        this.executor = Executors.newFixedThreadPool(config.threads());
+    }
+
+    public EndpointResult run(String endpoint, Runnable request) {
+        execute(config.warmupRequests(), request, new long[config.warmupRequests()], new AtomicInteger());
+
+        var memory = ManagementFactory.getMemoryMXBean();
+        var gcCountBefore = gcCount();
+        var gcTimeBefore = gcTimeMillis();
+        var heapBefore = memory.getHeapMemoryUsage().getUsed();
+
+        var latencies = new long[config.requests()];
+        var errors = new AtomicInteger();
+        var start = System.nanoTime();
+        execute(config.requests(), request, latencies, errors);
+        var wallNanos = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        return new EndpointResult(
+                endpoint,
+                config.requests(),
+                errors.get(),
+                percentileMillis(latencies, 50),
+                percentileMillis(latencies, 95),
+                percentileMillis(latencies, 99),
+                percentileMillis(latencies, 100),
+                config.requests() / (wallNanos / 1e9),
+                heapBefore,
+                memory.getHeapMemoryUsage().getUsed(),
+                gcCount() - gcCountBefore,
+                gcTimeMillis() - gcTimeBefore
+        );
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private void execute(int requests, Runnable request, long[] latencies, AtomicInteger errors) {
+        var tasks = IntStream.range(0, requests).mapToObj(i -> (Callable<Void>) () -> {
+            var start = System.nanoTime();
+            try {
+                request.run();
+            } catch (Exception e) {
+                errors.incrementAndGet();
+            }
+            latencies[i] = System.nanoTime() - start;
+            return null;
+        }).toList();
+
+        try {
+            executor.invokeAll(tasks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while running load test.", e);
+        }
+    }
+
+    /**
+     * Nearest-rank percentile.
+     *
+     * @param sortedNanos sorted latencies
+     * @param percentile percentile between 1 and 100
+     * @return latency in milliseconds
+     */
+    static double percentileMillis(long[] sortedNanos, int percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        var rank = (int) Math.ceil(percentile / 100.0 * sortedNanos.length);
+        return sortedNanos[Math.max(rank, 1) - 1] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private static long gcCount() {
+        return garbageCollectors().stream().mapToLong(gc -> Math.max(gc.getCollectionCount(), 0)).sum();
+    }
+
+    private static long gcTimeMillis() {
+        return garbageCollectors().stream().mapToLong(gc -> Math.max(gc.getCollectionTime(), 0)).sum();
+    }
+
+    private static List<GarbageCollectorMXBean> garbageCollectors() {
+        return ManagementFactory.getGarbageCollectorMXBeans();
+    }
+}
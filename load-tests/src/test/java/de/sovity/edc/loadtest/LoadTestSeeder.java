@@ -0,0 +1,185 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.loadtest;
+
+import de.sovity.edc.client.EdcClient;
+import de.sovity.edc.client.gen.model.ContractDefinitionRequest;
+import de.sovity.edc.client.gen.model.ContractNegotiationRequest;
+import de.sovity.edc.client.gen.model.ContractNegotiationSimplifiedState;
+import de.sovity.edc.client.gen.model.InitiateTransferRequest;
+import de.sovity.edc.client.gen.model.PolicyDefinitionCreateRequest;
+import de.sovity.edc.client.gen.model.UiAssetCreateRequest;
+import de.sovity.edc.client.gen.model.UiCriterion;
+import de.sovity.edc.client.gen.model.UiCriterionLiteral;
+import de.sovity.edc.client.gen.model.UiCriterionLiteralType;
+import de.sovity.edc.client.gen.model.UiCriterionOperator;
+import de.sovity.edc.client.gen.model.UiDataOffer;
+import de.sovity.edc.client.gen.model.UiPolicyCreateRequest;
+import de.sovity.edc.extension.e2e.connector.MockDataAddressRemote;
+import de.sovity.edc.utils.jsonld.vocab.Prop;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Seeds the provider with assets, policies and contract definitions, and the consumer with contract agreements and
+ * transfer processes, all via the UI API.
+ */
+public class LoadTestSeeder {
+    private static final Duration NEGOTIATION_TIMEOUT = Duration.ofMinutes(2);
+
+    private final LoadTestConfig config;
+    private final EdcClient providerClient;
+    private final EdcClient consumerClient;
+    private final MockDataAddressRemote dataAddress;
+    private final String providerProtocolEndpoint;
+
+    public LoadTestSeeder(
+            LoadTestConfig config,
+            EdcClient providerClient,
+            EdcClient consumerClient,
+            MockDataAddressRemote dataAddress,
+            String providerProtocolEndpoint
+    ) {
+        this.config = config;
+        this.providerClient = providerClient;
+        this.consumerClient = consumerClient;
+        this.dataAddress = dataAddress;
+        this.providerProtocolEndpoint = providerProtocolEndpoint;
+    }
+
+    public void seed() {
+        parallel(config.assets(), this::createAsset);
+
+        var contractDefinitions = (config.assets() + config.assetsPerContractDefinition() - 1) / config.assetsPerContractDefinition();
+        parallel(contractDefinitions, this::createPolicyAndContractDefinition);
+
+        var dataOffers = consumerClient.uiApi().getCatalogPageDataOffers(providerProtocolEndpoint, true);
+        assertThat(dataOffers).hasSize(config.assets());
+
+        var agreementIds = negotiate(dataOffers.subList(0, Math.min(config.agreements(), dataOffers.size())));
+        parallel(config.transferProcesses(), i -> consumerClient.uiApi().initiateTransfer(InitiateTransferRequest.builder()
+                .contractAgreementId(agreementIds.get(i % agreementIds.size()))
+                .dataSinkProperties(dataAddress.getDataSinkProperties())
+                .build()));
+    }
+
+    private void createAsset(int i) {
+        providerClient.uiApi().createAsset(UiAssetCreateRequest.builder()
+                .id(assetId(i))
+                .title("Traffic Flow Data %d".formatted(i))
+                .description("# Traffic Flow %d\n\nUpdated every 15 minutes from **roadside sensors**.".formatted(i))
+                .licenseUrl("https://data-source.example.com/license")
+                .version("1.0.0")
+                .language("https://w3id.org/idsa/code/EN")
+                .mediaType("application/json")
+                .keywords(List.of("traffic", "mobility", "road-%d".formatted(i % 50)))
+                .publisherHomepage("https://data-source.example.com")
+                .dataCategory("Traffic Information")
+                .dataSubcategory("Traffic Flow Information")
+                .dataModel("DATEX II")
+                .geoReferenceMethod("OpenLR")
+                .transportMode("Road")
+                .nutsLocation(List.of("DE", "DEA"))
+                .temporalCoverageFrom(LocalDate.of(2023, 1, 1))
+                .dataAddressProperties(Map.of(
+                        Prop.Edc.TYPE, "HttpData",
+                        Prop.Edc.METHOD, "GET",
+                        Prop.Edc.BASE_URL, dataAddress.getDataSourceUrl("load-test-" + i)
+                ))
+                .build());
+    }
+
+    private void createPolicyAndContractDefinition(int i) {
+        var policyId = providerClient.uiApi().createPolicyDefinition(PolicyDefinitionCreateRequest.builder()
+                .policyDefinitionId("load-test-policy-%d".formatted(i))
+                .policy(UiPolicyCreateRequest.builder().constraints(List.of()).build())
+                .build()).getId();
+
+        var from = i * config.assetsPerContractDefinition();
+        var to = Math.min(from + config.assetsPerContractDefinition(), config.assets());
+        var assetIds = IntStream.range(from, to).mapToObj(LoadTestSeeder::assetId).toList();
+
+        providerClient.uiApi().createContractDefinition(ContractDefinitionRequest.builder()
+                .contractDefinitionId("load-test-cd-%d".formatted(i))
+                .accessPolicyId(policyId)
+                .contractPolicyId(policyId)
+                .assetSelector(List.of(UiCriterion.builder()
+                        .operandLeft(Prop.Edc.ID)
+                        .operator(UiCriterionOperator.IN)
+                        .operandRight(UiCriterionLiteral.builder()
+                                .type(UiCriterionLiteralType.VALUE_LIST)
+                                .valueList(assetIds)
+                                .build())
+                        .build()))
+                .build());
+    }
+
+    private List<String> negotiate(List<UiDataOffer> dataOffers) {
+        var negotiationIds = dataOffers.stream().map(dataOffer -> {
+            var contractOffer = dataOffer.getContractOffers().get(0);
+            return consumerClient.uiApi().initiateContractNegotiation(ContractNegotiationRequest.builder()
+                    .counterPartyAddress(dataOffer.getEndpoint())
+                    .counterPartyParticipantId(dataOffer.getParticipantId())
+                    .assetId(dataOffer.getAsset().getAssetId())
+                    .contractOfferId(contractOffer.getContractOfferId())
+                    .policyJsonLd(contractOffer.getPolicy().getPolicyJsonLd())
+                    .build()).getContractNegotiationId();
+        }).toList();
+
+        return negotiationIds.stream().map(negotiationId -> {
+            var negotiation = await().atMost(NEGOTIATION_TIMEOUT).until(
+                    () -> consumerClient.uiApi().getContractNegotiation(negotiationId),
+                    it -> it.getState().getSimplifiedState() != ContractNegotiationSimplifiedState.IN_PROGRESS
+            );
+            assertThat(negotiation.getState().getSimplifiedState()).isEqualTo(ContractNegotiationSimplifiedState.AGREED);
+            return negotiation.getContractAgreementId();
+        }).toList();
+    }
+
+    private void parallel(int count, IntConsumer action) {
+        var executor = Executors.newFixedThreadPool(config.threads());
+        try {
+            var tasks = IntStream.range(0, count).mapToObj(i -> (Callable<Void>) () -> {
+                action.accept(i);
+                return null;
+            }).toList();
+            for (var future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while seeding.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to seed load test data.", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static String assetId(int i) {
+        return "load-test-asset-%05d".formatted(i);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.loadtest;
+
+import de.sovity.edc.client.EdcClient;
+import de.sovity.edc.client.gen.model.ContractAgreementDirection;
+import de.sovity.edc.client.gen.model.UiSortOrder;
+import de.sovity.edc.extension.e2e.connector.MockDataAddressRemote;
+import de.sovity.edc.extension.e2e.connector.config.ConnectorConfig;
+import de.sovity.edc.extension.e2e.db.TestDatabase;
+import de.sovity.edc.extension.e2e.db.TestDatabaseFactory;
+import org.eclipse.edc.junit.extensions.EdcExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+
+import static de.sovity.edc.extension.e2e.connector.config.ConnectorConfigFactory.forTestDatabase;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Seeds a provider and a consumer connector and measures the UI API pages that scale with the number of assets,
+ * contract agreements and transfer processes.
+ * <p>
+ * Writes a JSON report, see {@link LoadTestReport}. Only runs with {@code -PloadTest}.
+ */
+class UiApiLoadTest {
+    private static final String PROVIDER_PARTICIPANT_ID = "provider";
+    private static final String CONSUMER_PARTICIPANT_ID = "consumer";
+
+    @RegisterExtension
+    static EdcExtension providerEdcContext = new EdcExtension();
+    @RegisterExtension
+    static EdcExtension consumerEdcContext = new EdcExtension();
+
+    @RegisterExtension
+    static final TestDatabase PROVIDER_DATABASE = TestDatabaseFactory.getTestDatabase(1);
+    @RegisterExtension
+    static final TestDatabase CONSUMER_DATABASE = TestDatabaseFactory.getTestDatabase(2);
+
+    private ConnectorConfig providerConfig;
+    private EdcClient providerClient;
+    private EdcClient consumerClient;
+    private MockDataAddressRemote dataAddress;
+
+    @BeforeEach
+    void setup() {
+        providerConfig = loadTestConfig(PROVIDER_PARTICIPANT_ID, 31000, PROVIDER_DATABASE);
+        providerEdcContext.setConfiguration(providerConfig.getProperties());
+        providerClient = client(providerConfig);
+
+        var consumerConfig = loadTestConfig(CONSUMER_PARTICIPANT_ID, 33000, CONSUMER_DATABASE);
+        consumerEdcContext.setConfiguration(consumerConfig.getProperties());
+        consumerClient = client(consumerConfig);
+
+        // The provider EDC serves as data source and data sink (it has the test-backend-controller extension)
+        dataAddress = new MockDataAddressRemote(providerConfig.getDefaultEndpoint());
+    }
+
+    @Test
+    void uiApiLoadTest() {
+        // arrange
+        var config = LoadTestConfig.fromSystemProperties();
+        var startedAt = OffsetDateTime.now();
+        var seedingStart = System.currentTimeMillis();
+        new LoadTestSeeder(config, providerClient, consumerClient, dataAddress,
+                providerConfig.getProtocolEndpoint().getUri().toString()).seed();
+        var seedingMillis = System.currentTimeMillis() - seedingStart;
+
+        // act
+        var results = new ArrayList<EndpointResult>();
+        try (var runner = new LoadTestRunner(config)) {
+            results.add(runner.run("consumer/dashboard-page", () -> consumerClient.uiApi().getDashboardPage()));
+            results.add(runner.run("consumer/transfer-history-page", () -> consumerClient.uiApi().getTransferHistoryPage()));
+            results.add(runner.run("consumer/transfer-history-page/transfer-processes",
+                    () -> consumerClient.uiApi().getPagedTransferHistoryPage(0, 50, null, null, null, null, null)));
+            results.add(runner.run("consumer/transfer-history-page/transfer-processes?direction=CONSUMING",
+                    () -> consumerClient.uiApi().getPagedTransferHistoryPage(0, 50, null, UiSortOrder.ASC,
+                            ContractAgreementDirection.CONSUMING, null, null)));
+            results.add(runner.run("consumer/contract-agreement-page", () -> consumerClient.uiApi().getContractAgreementPage()));
+            results.add(runner.run("consumer/contract-agreement-page/contract-agreements",
+                    () -> consumerClient.uiApi().getPagedContractAgreementPage(0, 50, UiSortOrder.DESC)));
+            results.add(runner.run("consumer/use-case-api/kpis", () -> consumerClient.useCaseApi().getKpis()));
+            results.add(runner.run("provider/dashboard-page", () -> providerClient.uiApi().getDashboardPage()));
+            results.add(runner.run("provider/asset-page/assets?searchText=traffic",
+                    () -> providerClient.uiApi().getPagedAssetPage(0, 20, "traffic", null, null, null, null, null, null)));
+            results.add(runner.run("provider/contract-definition-page/contract-definitions",
+                    () -> providerClient.uiApi().getPagedContractDefinitionPage(0, 50, null)));
+        }
+
+        var report = new LoadTestReport(startedAt.toString(), config, seedingMillis, results);
+        report.write(Path.of(config.reportFile()));
+
+        // assert
+        assertThat(results).allSatisfy(result -> assertThat(result.errors()).as(result.endpoint()).isZero());
+    }
+
+    private ConnectorConfig loadTestConfig(String participantId, int firstPort, TestDatabase database) {
+        var config = forTestDatabase(participantId, firstPort, database);
+        // Keep all seeded transfer processes
+        config.setProperty("edc.transfer.retention.max-rows", "0");
+        return config;
+    }
+
+    private EdcClient client(ConnectorConfig config) {
+        return EdcClient.builder()
+                .managementApiUrl(config.getManagementEndpoint().getUri().toString())
+                .managementApiKey(config.getProperties().get("edc.api.auth.key"))
+                .build();
+    }
+}
@@ -1,8 +1,13 @@
 rootProject.name = "edc-extensions"
 
+include(":benchmarks")
 include(":extensions:edc-ui-config")
 include(":extensions:last-commit-info")
+include(":extensions:micrometer-metrics")
+include(":extensions:opentelemetry-tracing")
 include(":extensions:policy-always-true")
+include(":extensions:policy-evaluation-cache")
+include(":extensions:policy-evaluation-cache-spi")
 include(":extensions:policy-referring-connector")
 include(":extensions:policy-time-interval")
 include(":extensions:postgres-flyway")
@@ -25,6 +30,7 @@ include(":launchers:connectors:mds-ce")
 include(":launchers:connectors:sovity-ce")
 include(":launchers:connectors:sovity-dev")
 include(":launchers:connectors:test-backend")
+include(":load-tests")
 include(":tests")
 include(":utils:catalog-parser")
 include(":utils:json-and-jsonld-utils")
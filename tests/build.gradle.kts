@@ -7,6 +7,7 @@ val edcVersion: String by project
 val edcGroup: String by project
 val mockitoVersion: String by project
 val assertj: String by project
+val postgresVersion: String by project
 
 dependencies {
     api(project(":launchers:common:base"))
@@ -15,6 +16,9 @@ dependencies {
     testImplementation(project(":extensions:test-backend-controller"))
     testImplementation(project(":utils:test-connector-remote"))
     testImplementation(project(":extensions:wrapper:clients:java-client"))
+    testImplementation("${edcGroup}:transaction-spi:${edcVersion}")
+    testImplementation("${edcGroup}:transaction-datasource-spi:${edcVersion}")
+    testImplementation("org.postgresql:postgresql:${postgresVersion}")
     testImplementation("org.mockito:mockito-core:${mockitoVersion}")
     testImplementation("org.assertj:assertj-core:${assertj}")
     testImplementation("org.junit.jupiter:junit-jupiter-api:5.10.0")
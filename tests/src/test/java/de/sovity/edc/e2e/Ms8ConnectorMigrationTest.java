@@ -98,7 +98,7 @@ class Ms8ConnectorMigrationTest {
         var providerEndpoint = endpoint(providerConnector);
 
         // act
-        var dataOffers = consumerClient.uiApi().getCatalogPageDataOffers(providerEndpoint);
+        var dataOffers = consumerClient.uiApi().getCatalogPageDataOffers(providerEndpoint, false);
         var asset = first(dataOffers, it -> it.getAsset().getAssetId().equals("first-asset-1.0")).getAsset();
 
         // assert
@@ -0,0 +1,209 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.e2e;
+
+import de.sovity.edc.ext.wrapper.api.usecase.services.KpiAggregator;
+import de.sovity.edc.ext.wrapper.api.usecase.services.KpiAggregator.TransferProcessCount;
+import de.sovity.edc.ext.wrapper.api.usecase.services.PostgresKpiAggregator;
+import de.sovity.edc.extension.e2e.db.TestDatabase;
+import de.sovity.edc.extension.e2e.db.TestDatabaseFactory;
+import de.sovity.edc.extension.postgresql.connection.MigrationDataSources;
+import de.sovity.edc.extension.postgresql.migration.DatabaseMigrationManager;
+import de.sovity.edc.extension.postgresql.migration.FlywayService;
+import de.sovity.edc.extension.postgresql.migration.MigrationChecksumMarker;
+import org.eclipse.edc.connector.transfer.spi.types.TransferProcess;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.configuration.ConfigFactory;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.datasource.spi.DefaultDataSourceRegistry;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.postgresql.ds.PGSimpleDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs the {@link PostgresKpiAggregator}'s queries against the schema migrated by the Postgres Flyway extension.
+ */
+class PostgresKpiAggregatorTest {
+    private static final List<String> DATASOURCE_NAMES = List.of(
+            "asset",
+            "contractdefinition",
+            "policy",
+            "contractnegotiation",
+            "transferprocess",
+            "dataplaneinstance",
+            DataSourceRegistry.DEFAULT_DATASOURCE
+    );
+
+    @RegisterExtension
+    static final TestDatabase DATABASE = TestDatabaseFactory.getTestDatabase(1);
+
+    KpiAggregator fallback;
+    PostgresKpiAggregator postgresKpiAggregator;
+
+    @BeforeAll
+    static void migrate() {
+        var credentials = DATABASE.getJdbcCredentials();
+        var properties = new HashMap<String, String>();
+        DATASOURCE_NAMES.forEach(datasourceName -> {
+            properties.put("edc.datasource.%s.url".formatted(datasourceName), credentials.jdbcUrl());
+            properties.put("edc.datasource.%s.user".formatted(datasourceName), credentials.jdbcUser());
+            properties.put("edc.datasource.%s.password".formatted(datasourceName), credentials.jdbcPassword());
+        });
+
+        try (var migrationDataSources = new MigrationDataSources()) {
+            var monitor = mock(Monitor.class);
+            var flywayService = new FlywayService(monitor, false, false, false, migrationDataSources, new MigrationChecksumMarker(), false);
+            new DatabaseMigrationManager(ConfigFactory.fromMap(properties), flywayService, monitor, false).migrateAllDataSources();
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        try (var connection = connect(); var statement = connection.createStatement()) {
+            statement.execute("delete from edc_asset");
+            statement.execute("delete from edc_policydefinitions");
+            statement.execute("delete from edc_contract_definitions");
+            statement.execute("delete from edc_contract_negotiation");
+            statement.execute("delete from edc_contract_agreement");
+            statement.execute("delete from edc_transfer_process");
+        }
+
+        fallback = mock(KpiAggregator.class);
+        postgresKpiAggregator = new PostgresKpiAggregator(
+                dataSourceRegistry(),
+                new NoopTransactionContext(),
+                ConfigFactory.fromMap(Map.of()),
+                fallback
+        );
+    }
+
+    @Test
+    void testCountsPerTable() throws SQLException {
+        // arrange
+        execute("""
+                insert into edc_asset (asset_id, created_at) values ('asset-1', 0), ('asset-2', 0), ('asset-3', 0);
+                insert into edc_policydefinitions (policy_id, policy_type, created_at)
+                values ('policy-1', 'set', 0), ('policy-2', 'set', 0);
+                insert into edc_contract_definitions (contract_definition_id, access_policy_id, contract_policy_id,
+                        assets_selector, created_at)
+                values ('contract-definition-1', 'policy-1', 'policy-2', '[]'::json, 0);
+                insert into edc_contract_agreement (agr_id, asset_id)
+                values ('agreement-1', 'asset-1'), ('agreement-2', 'asset-2');
+                """);
+
+        // act
+        var assets = postgresKpiAggregator.countAssets();
+        var policies = postgresKpiAggregator.countPolicies();
+        var contractDefinitions = postgresKpiAggregator.countContractDefinitions();
+        var contractAgreements = postgresKpiAggregator.countContractAgreements();
+
+        // assert
+        assertThat(assets).isEqualTo(3);
+        assertThat(policies).isEqualTo(2);
+        assertThat(contractDefinitions).isEqualTo(1);
+        assertThat(contractAgreements).isEqualTo(2);
+        verifyNoInteractions(fallback);
+    }
+
+    @Test
+    void testTransferProcessCountsPerTypeAndState() throws SQLException {
+        // arrange
+        execute("""
+                insert into edc_transfer_process (transferprocess_id, type, state, created_at, updated_at)
+                values ('tp-1', 'CONSUMER', 800, 0, 0),
+                       ('tp-2', 'CONSUMER', 800, 0, 0),
+                       ('tp-3', 'CONSUMER', 600, 0, 0),
+                       ('tp-4', 'PROVIDER', 800, 0, 0),
+                       ('tp-5', 'PROVIDER', 900, 0, 0);
+                """);
+
+        // act
+        var actual = postgresKpiAggregator.countTransferProcesses();
+
+        // assert
+        assertThat(actual).containsExactlyInAnyOrder(
+                new TransferProcessCount(TransferProcess.Type.CONSUMER, 800, 2),
+                new TransferProcessCount(TransferProcess.Type.CONSUMER, 600, 1),
+                new TransferProcessCount(TransferProcess.Type.PROVIDER, 800, 1),
+                new TransferProcessCount(TransferProcess.Type.PROVIDER, 900, 1)
+        );
+        verifyNoInteractions(fallback);
+    }
+
+    @Test
+    void testEmptyTables() {
+        // act
+        var assets = postgresKpiAggregator.countAssets();
+        var transferProcesses = postgresKpiAggregator.countTransferProcesses();
+
+        // assert
+        assertThat(assets).isZero();
+        assertThat(transferProcesses).isEmpty();
+    }
+
+    @Test
+    void testFallbackWithoutDataSource() {
+        // arrange
+        when(fallback.countAssets()).thenReturn(7L);
+        var withoutDataSources = new PostgresKpiAggregator(
+                new DefaultDataSourceRegistry(),
+                new NoopTransactionContext(),
+                ConfigFactory.fromMap(Map.of()),
+                fallback
+        );
+
+        // act
+        var actual = withoutDataSources.countAssets();
+
+        // assert
+        assertThat(actual).isEqualTo(7);
+    }
+
+    private static DataSourceRegistry dataSourceRegistry() {
+        var credentials = DATABASE.getJdbcCredentials();
+        var dataSource = new PGSimpleDataSource();
+        dataSource.setUrl(credentials.jdbcUrl());
+        dataSource.setUser(credentials.jdbcUser());
+        dataSource.setPassword(credentials.jdbcPassword());
+
+        var dataSourceRegistry = new DefaultDataSourceRegistry();
+        dataSourceRegistry.register(DataSourceRegistry.DEFAULT_DATASOURCE, dataSource);
+        return dataSourceRegistry;
+    }
+
+    private static void execute(String sql) throws SQLException {
+        try (var connection = connect(); var statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static Connection connect() throws SQLException {
+        return dataSourceRegistry().resolve(DataSourceRegistry.DEFAULT_DATASOURCE).getConnection();
+    }
+}
@@ -13,31 +13,32 @@
 
 package de.sovity.edc.utils.catalog;
 
-import de.sovity.edc.utils.JsonUtils;
-import de.sovity.edc.utils.catalog.mapper.DspDataOfferBuilder;
+import de.sovity.edc.utils.catalog.mapper.DspCatalogStreamParser;
+import de.sovity.edc.utils.catalog.mapper.DspDataOfferStream;
 import de.sovity.edc.utils.catalog.model.DspCatalog;
-import jakarta.json.JsonObject;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.eclipse.edc.connector.spi.catalog.CatalogService;
 import org.eclipse.edc.spi.query.QuerySpec;
 
-import java.nio.charset.StandardCharsets;
-
 @RequiredArgsConstructor
 public class DspCatalogService {
     private final CatalogService catalogService;
-    private final DspDataOfferBuilder dspDataOfferBuilder;
+    private final DspCatalogStreamParser dspCatalogStreamParser;
 
     public DspCatalog fetchDataOffers(String endpoint) throws DspCatalogServiceException {
-        var catalogJson = fetchDcatResponse(endpoint);
-        return dspDataOfferBuilder.buildDataOffers(endpoint, catalogJson);
+        return streamDataOffers(endpoint).toCatalog();
     }
 
-    private JsonObject fetchDcatResponse(String connectorEndpoint) {
-        var raw = fetchDcatRaw(connectorEndpoint);
-        var string = new String(raw, StandardCharsets.UTF_8);
-        return JsonUtils.parseJsonObj(string);
+    /**
+     * Fetches a catalog and returns its Data Offers as they are parsed, so only one expanded dataset is held at a time.
+     *
+     * @param endpoint connector endpoint
+     * @return data offers, must be closed if not fully iterated
+     */
+    public DspDataOfferStream streamDataOffers(String endpoint) throws DspCatalogServiceException {
+        var raw = fetchDcatRaw(endpoint);
+        return dspCatalogStreamParser.parse(endpoint, raw);
     }
 
     @SneakyThrows
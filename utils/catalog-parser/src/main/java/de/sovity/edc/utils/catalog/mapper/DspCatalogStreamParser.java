@@ -0,0 +1,273 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.utils.catalog.mapper;
+
+import de.sovity.edc.utils.catalog.DspCatalogServiceException;
+import de.sovity.edc.utils.catalog.model.DspDataOffer;
+import de.sovity.edc.utils.jsonld.JsonLdUtils;
+import de.sovity.edc.utils.jsonld.vocab.Prop;
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReaderFactory;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
+import jakarta.json.stream.JsonParserFactory;
+import lombok.RequiredArgsConstructor;
+import org.eclipse.edc.jsonld.spi.JsonLd;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Parses a DSP Catalog Response directly from its bytes, expanding the datasets one at a time.
+ * <p>
+ * Unlike {@link DspDataOfferBuilder#buildDataOffers(String, JsonObject)}, the catalog is never held as a whole
+ * {@link JsonObject}, neither compacted nor expanded. The byte array is read in three passes:
+ * <ol>
+ *     <li>Find the {@code @context} and the top-level keys, which might be in any order.</li>
+ *     <li>Read and expand all top-level properties but the datasets, e.g. for the participant id.</li>
+ *     <li>Lazily read, expand and map one dataset per iteration step.</li>
+ * </ol>
+ */
+@RequiredArgsConstructor
+public class DspCatalogStreamParser {
+    private static final JsonParserFactory PARSER_FACTORY = Json.createParserFactory(Map.of());
+    private static final JsonReaderFactory READER_FACTORY = Json.createReaderFactory(Map.of());
+    private static final String KEY_PLACEHOLDER_PREFIX = "urn:sovity:dsp-catalog-parser:top-level-key:";
+
+    private final JsonLd jsonLd;
+    private final DspDataOfferBuilder dspDataOfferBuilder;
+
+    public DspDataOfferStream parse(String endpoint, byte[] catalogJson) {
+        var topLevel = readTopLevelKeys(catalogJson);
+        var datasetKeys = findDatasetKeys(topLevel);
+        if (datasetKeys == null) {
+            // The keys could not be resolved individually, e.g. due to keyword aliases in the context
+            var catalog = dspDataOfferBuilder.buildDataOffers(endpoint, readObject(catalogJson));
+            return new DspDataOfferStream(catalog.getEndpoint(), catalog.getParticipantId(), catalog.getDataOffers().iterator(), () -> {
+            });
+        }
+
+        var header = readHeader(catalogJson, datasetKeys);
+        var participantId = JsonLdUtils.string(header, Prop.Edc.PARTICIPANT_ID);
+
+        var datasets = new DatasetIterator(openTopLevel(catalogJson), datasetKeys, topLevel.context());
+        return new DspDataOfferStream(endpoint, participantId, datasets, datasets::close);
+    }
+
+    private TopLevelKeys readTopLevelKeys(byte[] catalogJson) {
+        JsonValue context = null;
+        var keys = new ArrayList<String>();
+
+        try (var parser = openTopLevel(catalogJson)) {
+            while (parser.next() == Event.KEY_NAME) {
+                var key = parser.getString();
+                var event = parser.next();
+                if (key.equals(Prop.CONTEXT)) {
+                    context = parser.getValue();
+                } else {
+                    skipValue(parser, event);
+                    if (!key.startsWith("@")) {
+                        keys.add(key);
+                    }
+                }
+            }
+        }
+
+        return new TopLevelKeys(context, keys);
+    }
+
+    /**
+     * Finds the compacted top-level keys that expand to {@link Prop.Dcat#DATASET} by expanding placeholders.
+     *
+     * @param topLevel context and top-level keys
+     * @return compacted keys or null, if the placeholders could not be expanded
+     */
+    private Set<String> findDatasetKeys(TopLevelKeys topLevel) {
+        var probe = Json.createObjectBuilder();
+        if (topLevel.context() != null) {
+            probe.add(Prop.CONTEXT, topLevel.context());
+        }
+        for (int i = 0; i < topLevel.keys().size(); i++) {
+            probe.add(topLevel.keys().get(i), Json.createObjectBuilder().add(Prop.ID, KEY_PLACEHOLDER_PREFIX + i));
+        }
+
+        var expanded = jsonLd.expand(probe.build());
+        if (expanded.failed()) {
+            return null;
+        }
+
+        var datasetKeys = new HashSet<String>();
+        for (var placeholder : JsonLdUtils.listOfObjects(expanded.getContent(), Prop.Dcat.DATASET)) {
+            var id = JsonLdUtils.id(placeholder);
+            if (id == null || !id.startsWith(KEY_PLACEHOLDER_PREFIX)) {
+                return null;
+            }
+            datasetKeys.add(topLevel.keys().get(Integer.parseInt(id.substring(KEY_PLACEHOLDER_PREFIX.length()))));
+        }
+        return datasetKeys;
+    }
+
+    private JsonObject readHeader(byte[] catalogJson, Set<String> datasetKeys) {
+        var header = Json.createObjectBuilder();
+        try (var parser = openTopLevel(catalogJson)) {
+            while (parser.next() == Event.KEY_NAME) {
+                var key = parser.getString();
+                var event = parser.next();
+                if (datasetKeys.contains(key)) {
+                    skipValue(parser, event);
+                } else {
+                    header.add(key, parser.getValue());
+                }
+            }
+        }
+        return jsonLd.expand(header.build()).orElseThrow(DspCatalogServiceException::ofFailure);
+    }
+
+    private JsonObject readObject(byte[] catalogJson) {
+        try (var reader = READER_FACTORY.createReader(new ByteArrayInputStream(catalogJson), StandardCharsets.UTF_8)) {
+            return reader.readObject();
+        }
+    }
+
+    private static JsonParser openTopLevel(byte[] catalogJson) {
+        var parser = PARSER_FACTORY.createParser(new ByteArrayInputStream(catalogJson), StandardCharsets.UTF_8);
+        if (!parser.hasNext() || parser.next() != Event.START_OBJECT) {
+            parser.close();
+            throw new DspCatalogServiceException("Catalog response is not a JSON object.");
+        }
+        return parser;
+    }
+
+    private static void skipValue(JsonParser parser, Event event) {
+        if (event == Event.START_OBJECT) {
+            parser.skipObject();
+        } else if (event == Event.START_ARRAY) {
+            parser.skipArray();
+        }
+    }
+
+    private record TopLevelKeys(JsonValue context, List<String> keys) {
+    }
+
+    /**
+     * Reads the datasets of the top-level dataset keys, which may be single objects or arrays.
+     */
+    @RequiredArgsConstructor
+    private class DatasetIterator implements Iterator<DspDataOffer> {
+        private final JsonParser parser;
+        private final Set<String> datasetKeys;
+        private final JsonValue context;
+
+        private JsonObject nextDataset;
+        private boolean inDatasetArray = false;
+        private boolean done = false;
+
+        @Override
+        public boolean hasNext() {
+            if (nextDataset == null && !done) {
+                nextDataset = readNextDataset();
+                if (nextDataset == null) {
+                    close();
+                }
+            }
+            return nextDataset != null;
+        }
+
+        @Override
+        public DspDataOffer next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            var dataset = nextDataset;
+            nextDataset = null;
+            return dspDataOfferBuilder.buildDataOffer(expand(dataset));
+        }
+
+        void close() {
+            if (!done) {
+                done = true;
+                parser.close();
+            }
+        }
+
+        private JsonObject readNextDataset() {
+            while (true) {
+                var event = parser.next();
+                if (inDatasetArray) {
+                    if (event == Event.END_ARRAY) {
+                        inDatasetArray = false;
+                    } else if (event == Event.START_OBJECT) {
+                        return parser.getObject();
+                    } else {
+                        skipValue(parser, event);
+                    }
+                } else if (event == Event.KEY_NAME) {
+                    var key = parser.getString();
+                    event = parser.next();
+                    if (!datasetKeys.contains(key)) {
+                        skipValue(parser, event);
+                    } else if (event == Event.START_OBJECT) {
+                        return parser.getObject();
+                    } else if (event == Event.START_ARRAY) {
+                        inDatasetArray = true;
+                    }
+                } else {
+                    // END_OBJECT of the catalog
+                    return null;
+                }
+            }
+        }
+
+        private JsonObject expand(JsonObject dataset) {
+            var withContext = Json.createObjectBuilder();
+            var datasetContext = dataset.get(Prop.CONTEXT);
+            if (context != null && datasetContext != null) {
+                var contexts = Json.createArrayBuilder();
+                addContexts(contexts::add, context);
+                addContexts(contexts::add, datasetContext);
+                withContext.add(Prop.CONTEXT, contexts);
+            } else if (context != null) {
+                withContext.add(Prop.CONTEXT, context);
+            }
+
+            dataset.forEach((key, value) -> {
+                if (!key.equals(Prop.CONTEXT) || context == null) {
+                    withContext.add(key, value);
+                }
+            });
+
+            return jsonLd.expand(withContext.build()).orElseThrow(DspCatalogServiceException::ofFailure);
+        }
+
+        private void addContexts(Consumer<JsonValue> consumer, JsonValue value) {
+            if (value instanceof JsonArray array) {
+                array.forEach(consumer);
+            } else {
+                consumer.accept(value);
+            }
+        }
+    }
+}
@@ -43,7 +43,13 @@ public class DspDataOfferBuilder {
         );
     }
 
-    private DspDataOffer buildDataOffer(JsonObject dataset) {
+    /**
+     * Builds a Data Offer from a single, already expanded dataset.
+     *
+     * @param dataset expanded dataset
+     * @return data offer
+     */
+    public DspDataOffer buildDataOffer(JsonObject dataset) {
         var contractOffers = JsonLdUtils.listOfObjects(dataset, Prop.Odrl.HAS_POLICY).stream()
                 .map(this::buildContractOffer)
                 .toList();
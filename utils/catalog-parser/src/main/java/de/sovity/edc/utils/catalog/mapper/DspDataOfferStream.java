@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.utils.catalog.mapper;
+
+import de.sovity.edc.utils.catalog.model.DspCatalog;
+import de.sovity.edc.utils.catalog.model.DspDataOffer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+
+/**
+ * Data Offers of a catalog that are parsed and expanded one dataset at a time while iterating.
+ * <p>
+ * Must be closed if not fully iterated.
+ */
+@RequiredArgsConstructor
+public class DspDataOfferStream implements Iterator<DspDataOffer>, AutoCloseable {
+    @Getter
+    private final String endpoint;
+
+    @Getter
+    private final String participantId;
+
+    private final Iterator<DspDataOffer> dataOffers;
+    private final Runnable onClose;
+
+    @Override
+    public boolean hasNext() {
+        return dataOffers.hasNext();
+    }
+
+    @Override
+    public DspDataOffer next() {
+        return dataOffers.next();
+    }
+
+    @Override
+    public void close() {
+        onClose.run();
+    }
+
+    /**
+     * Collects all remaining Data Offers.
+     *
+     * @return catalog
+     */
+    public DspCatalog toCatalog() {
+        try {
+            var list = new ArrayList<DspDataOffer>();
+            forEachRemaining(list::add);
+            return new DspCatalog(endpoint, participantId, list);
+        } finally {
+            close();
+        }
+    }
+}
@@ -14,7 +14,10 @@
 
 package de.sovity.edc.utils.catalog;
 
+import de.sovity.edc.utils.catalog.mapper.DspCatalogStreamParser;
 import de.sovity.edc.utils.catalog.mapper.DspDataOfferBuilder;
+import de.sovity.edc.utils.catalog.model.DspContractOffer;
+import de.sovity.edc.utils.catalog.model.DspDataOffer;
 import de.sovity.edc.utils.jsonld.JsonLdUtils;
 import de.sovity.edc.utils.jsonld.vocab.Prop;
 import lombok.SneakyThrows;
@@ -27,6 +30,7 @@ import org.eclipse.edc.spi.response.StatusResult;
 import org.junit.jupiter.api.Test;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 
@@ -45,9 +49,11 @@ class DspCatalogServiceTest {
 
         var result = CompletableFuture.completedFuture(StatusResult.success(catalogJson.getBytes(StandardCharsets.UTF_8)));
         when(catalogService.requestCatalog(eq(endpoint), eq("dataspace-protocol-http"), eq(QuerySpec.max()))).thenReturn(result);
-        var dataOfferBuilder = new DspDataOfferBuilder(new TitaniumJsonLd(mock(Monitor.class)));
+        var jsonLd = new TitaniumJsonLd(mock(Monitor.class));
+        var dataOfferBuilder = new DspDataOfferBuilder(jsonLd);
+        var streamParser = new DspCatalogStreamParser(jsonLd, dataOfferBuilder);
 
-        return new DspCatalogService(catalogService, dataOfferBuilder);
+        return new DspCatalogService(catalogService, streamParser);
     }
 
     @Test
@@ -78,6 +84,35 @@ class DspCatalogServiceTest {
         assertThat(JsonLdUtils.id(offer.getDistributions().get(0))).isEqualTo("dummy-distribution");
     }
 
+    @Test
+    void testStreamingMultipleDatasets() {
+        // arrange
+        var dspCatalogService = newDspCatalogService("catalogResponseMultipleDatasets.json");
+
+        // act
+        var offers = new ArrayList<DspDataOffer>();
+        String participantId;
+        try (var stream = dspCatalogService.streamDataOffers(endpoint)) {
+            participantId = stream.getParticipantId();
+            stream.forEachRemaining(offers::add);
+        }
+
+        // assert
+        assertThat(participantId).isEqualTo("provider");
+        assertThat(offers).extracting(offer -> JsonLdUtils.id(offer.getAssetPropertiesJsonLd()))
+                .containsExactly("asset-1", "asset-2", "asset-3");
+
+        var first = offers.get(0).getAssetPropertiesJsonLd();
+        assertThat(JsonLdUtils.string(first, "http://purl.org/dc/terms/title")).isEqualTo("Asset 1");
+        assertThat(offers.get(0).getContractOffers()).extracting(DspContractOffer::getContractOfferId).containsExactly("policy-1");
+
+        assertThat(offers.get(1).getContractOffers()).extracting(DspContractOffer::getContractOfferId)
+                .containsExactly("policy-2a", "policy-2b");
+        assertThat(offers.get(1).getDistributions()).hasSize(1);
+
+        var third = offers.get(2).getAssetPropertiesJsonLd();
+        assertThat(JsonLdUtils.string(third, "https://example.com/custom/property")).isEqualTo("Custom Value");
+    }
 
     @SneakyThrows
     private String readFile(String fileName) {
@@ -14,10 +14,7 @@
 package de.sovity.edc.utils.jsonld;
 
 import com.apicatalog.jsonld.JsonLdError;
-import com.apicatalog.jsonld.document.JsonDocument;
 import de.sovity.edc.utils.JsonUtils;
-import de.sovity.edc.utils.jsonld.vocab.Prop;
-import jakarta.json.Json;
 import jakarta.json.JsonNumber;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonString;
@@ -31,10 +28,6 @@ import java.util.List;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class JsonLdUtils {
-    private static final JsonDocument EMPTY_CONTEXT_DOCUMENT = JsonDocument.of(Json.createObjectBuilder()
-            .add(Prop.CONTEXT, Json.createObjectBuilder())
-            .build());
-
     /**
      * Compact JSON-LD, but don't compact property names to namespaces.
      *
@@ -43,28 +36,24 @@ public class JsonLdUtils {
      */
     public static JsonObject tryCompact(JsonObject json) {
         try {
-            return com.apicatalog.jsonld.JsonLd.compact(JsonDocument.of(json), EMPTY_CONTEXT_DOCUMENT).get();
+            return OfflineJsonLdCompactor.compact(json);
         } catch (JsonLdError e) {
             return json;
         }
     }
 
     /**
-     * Compact JSON-LD, but don't compact property names to namespaces.
+     * Expand JSON-LD property names, but don't expand values into their verbose forms.
+     * <p>
+     * Compaction expands the input first, so this is a compaction with the empty context.
      *
      * @param json json-ld
-     * @return compacted values
+     * @return json-ld with expanded property names
      */
     public static JsonObject expandKeysOnly(JsonObject json) {
-        try {
-            var expanded = com.apicatalog.jsonld.JsonLd.expand(JsonDocument.of(json)).get();
-            return com.apicatalog.jsonld.JsonLd.compact(JsonDocument.of(expanded), EMPTY_CONTEXT_DOCUMENT).get();
-        } catch (JsonLdError e) {
-            return json;
-        }
+        return tryCompact(json);
     }
 
-
     /**
      * Get the ID value of an object
      *
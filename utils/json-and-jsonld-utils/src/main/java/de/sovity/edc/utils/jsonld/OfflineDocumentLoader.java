@@ -0,0 +1,55 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.utils.jsonld;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdErrorCode;
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.jsonld.loader.DocumentLoader;
+import com.apicatalog.jsonld.loader.DocumentLoaderOptions;
+import jakarta.json.JsonObject;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Serves pre-parsed JSON-LD documents by IRI and fails for all other IRIs, so JSON-LD processing never fetches remote
+ * contexts.
+ */
+public class OfflineDocumentLoader implements DocumentLoader {
+    private final Map<URI, Document> documents;
+
+    public OfflineDocumentLoader(Map<String, JsonObject> documentsByIri) {
+        var parsed = new HashMap<URI, Document>();
+        documentsByIri.forEach((iri, json) -> {
+            var uri = URI.create(iri);
+            var document = JsonDocument.of(json);
+            document.setDocumentUrl(uri);
+            parsed.put(uri, document);
+        });
+        this.documents = Map.copyOf(parsed);
+    }
+
+    @Override
+    public Document loadDocument(URI url, DocumentLoaderOptions options) throws JsonLdError {
+        var document = documents.get(url);
+        if (document == null) {
+            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Remote JSON-LD document %s is not loaded offline.".formatted(url));
+        }
+        return document;
+    }
+}
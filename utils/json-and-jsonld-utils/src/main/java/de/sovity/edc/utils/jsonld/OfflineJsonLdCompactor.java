@@ -0,0 +1,156 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.utils.jsonld;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdOptions;
+import com.apicatalog.jsonld.compaction.Compaction;
+import com.apicatalog.jsonld.context.ActiveContext;
+import com.apicatalog.jsonld.expansion.Expansion;
+import de.sovity.edc.utils.jsonld.vocab.Prop;
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonBuilderFactory;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * JSON-LD compaction with the empty context that never fetches remote contexts.
+ * <p>
+ * Runs Titanium's expansion and compaction algorithms with pre-processed active contexts instead of processing the
+ * contexts on every call:
+ * <ul>
+ *     <li>The empty compaction context is processed once, including its inverse context.</li>
+ *     <li>The {@code @context} of an input is processed on first use and cached by value, e.g. the EDC vocabulary
+ *     context of {@link Prop.Edc}, which is pre-processed.</li>
+ * </ul>
+ * Contexts referenced by IRI fail to load via an {@link OfflineDocumentLoader} without any known documents. Titanium's
+ * {@link JsonLdOptions} and active contexts are not thread-safe, so each thread has its own.
+ */
+public class OfflineJsonLdCompactor {
+    private static final int MAX_CACHED_CONTEXTS = 64;
+
+    /**
+     * {@link Json#createObjectBuilder()} looks up the JSON provider on every call.
+     */
+    private static final JsonBuilderFactory JSON = Json.createBuilderFactory(Map.of());
+
+    private static final OfflineDocumentLoader DOCUMENT_LOADER = new OfflineDocumentLoader(Map.of());
+
+    private static final ThreadLocal<OfflineJsonLdCompactor> INSTANCE = ThreadLocal.withInitial(OfflineJsonLdCompactor::new);
+
+    private final ActiveContext initialContext;
+    private final ActiveContext compactionContext;
+
+    /**
+     * Processed {@code @context} values of inputs, access-ordered for LRU eviction.
+     */
+    private final Map<JsonValue, ActiveContext> inputContexts = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<JsonValue, ActiveContext> eldest) {
+            return size() > MAX_CACHED_CONTEXTS;
+        }
+    };
+
+    private OfflineJsonLdCompactor() {
+        initialContext = new ActiveContext(new JsonLdOptions(DOCUMENT_LOADER));
+        try {
+            compactionContext = initialContext.newContext().create(JsonValue.EMPTY_JSON_OBJECT, null);
+            compactionContext.createInverseContext();
+            getInputContext(JSON.createObjectBuilder().add(Prop.Edc.CTX_ALIAS, Prop.Edc.CTX).build());
+        } catch (JsonLdError e) {
+            throw new IllegalStateException("Failed to process built-in JSON-LD contexts.", e);
+        }
+    }
+
+    /**
+     * Compact JSON-LD with the empty context, so property names stay full IRIs.
+     *
+     * @param json json-ld
+     * @return compacted json-ld
+     * @throws JsonLdError if the json-ld is invalid or references remote contexts
+     */
+    public static JsonObject compact(JsonObject json) throws JsonLdError {
+        return INSTANCE.get().compactWithEmptyContext(json);
+    }
+
+    /**
+     * Same steps as Titanium's {@code CompactionProcessor} with the empty context, without a base IRI and with
+     * compacted arrays.
+     */
+    private JsonObject compactWithEmptyContext(JsonObject json) throws JsonLdError {
+        var compacted = Compaction.with(compactionContext)
+                .compactArrays(true)
+                .ordered(false)
+                .compact(expand(json));
+
+        if (compacted.getValueType() == JsonValue.ValueType.ARRAY) {
+            var array = compacted.asJsonArray();
+            if (array.isEmpty()) {
+                return JsonValue.EMPTY_JSON_OBJECT;
+            }
+            return JSON.createObjectBuilder().add(Prop.GRAPH, array).build();
+        }
+
+        if (compacted.getValueType() != JsonValue.ValueType.OBJECT) {
+            return JsonValue.EMPTY_JSON_OBJECT;
+        }
+        return compacted.asJsonObject();
+    }
+
+    /**
+     * Same steps as Titanium's {@code ExpansionProcessor}, but with the input's top-level {@code @context} taken from
+     * the cache.
+     */
+    private JsonArray expand(JsonObject json) throws JsonLdError {
+        var activeContext = initialContext;
+        var element = json;
+        var context = json.get(Prop.CONTEXT);
+        if (context != null) {
+            activeContext = getInputContext(context);
+            element = JSON.createObjectBuilder(json).remove(Prop.CONTEXT).build();
+        }
+
+        var expanded = Expansion.with(activeContext, element, null, null)
+                .frameExpansion(false)
+                .ordered(false)
+                .compute();
+
+        if (expanded.getValueType() == JsonValue.ValueType.OBJECT) {
+            var object = expanded.asJsonObject();
+            if (object.size() == 1 && object.containsKey(Prop.GRAPH)) {
+                expanded = object.get(Prop.GRAPH);
+            }
+        }
+
+        return switch (expanded.getValueType()) {
+            case NULL -> JsonValue.EMPTY_JSON_ARRAY;
+            case ARRAY -> expanded.asJsonArray();
+            default -> JSON.createArrayBuilder().add(expanded).build();
+        };
+    }
+
+    private ActiveContext getInputContext(JsonValue context) throws JsonLdError {
+        var activeContext = inputContexts.get(context);
+        if (activeContext == null) {
+            activeContext = initialContext.newContext().create(context, null);
+            inputContexts.put(context, activeContext);
+        }
+        return activeContext;
+    }
+}
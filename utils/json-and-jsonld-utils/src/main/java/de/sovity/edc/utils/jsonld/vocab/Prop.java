@@ -21,6 +21,7 @@ public class Prop {
     public final String TYPE = "@type";
     public final String VALUE = "@value";
     public final String CONTEXT = "@context";
+    public final String GRAPH = "@graph";
     public final String LANGUAGE = "@language";
     public final String PROPERTIES = "properties";
 
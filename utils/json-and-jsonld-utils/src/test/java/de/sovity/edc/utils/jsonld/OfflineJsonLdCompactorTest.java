@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2024 sovity GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       sovity GmbH - initial API and implementation
+ *
+ */
+
+package de.sovity.edc.utils.jsonld;
+
+import com.apicatalog.jsonld.JsonLd;
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.document.JsonDocument;
+import de.sovity.edc.utils.jsonld.vocab.Prop;
+import jakarta.json.Json;
+import jakarta.json.JsonValue;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OfflineJsonLdCompactorTest {
+
+    @Test
+    void testCompactKeepsFullIris() throws JsonLdError {
+        // arrange
+        var json = Json.createObjectBuilder()
+                .add(Prop.CONTEXT, Json.createObjectBuilder().add(Prop.Edc.CTX_ALIAS, Prop.Edc.CTX))
+                .add("edc:baseUrl", "https://example.com")
+                .build();
+
+        // act
+        var actual = OfflineJsonLdCompactor.compact(json);
+
+        // assert
+        assertThat(actual).containsOnlyKeys(Prop.Edc.BASE_URL);
+        assertThat(JsonLdUtils.string(actual, Prop.Edc.BASE_URL)).isEqualTo("https://example.com");
+    }
+
+    @Test
+    void testSameResultAsTitanium() throws JsonLdError {
+        // arrange
+        var context = Json.createObjectBuilder()
+                .add(Prop.Edc.CTX_ALIAS, Prop.Edc.CTX)
+                .add("dcterms", Prop.Dcterms.CTX)
+                .add("keywords", Json.createObjectBuilder().add("@id", Prop.Dcat.KEYWORDS).add("@container", "@set"));
+        var asset = Json.createObjectBuilder()
+                .add(Prop.CONTEXT, context)
+                .add("@id", "asset-1")
+                .add("edc:properties", Json.createObjectBuilder()
+                        .add("dcterms:title", Json.createObjectBuilder().add("@value", "Asset").add("@language", "en"))
+                        .add("keywords", Json.createArrayBuilder().add("a").add("b"))
+                        .add("http://unknown/custom", "value"))
+                .build();
+        var graph = Json.createObjectBuilder()
+                .add(Prop.CONTEXT, context)
+                .add("@graph", Json.createArrayBuilder()
+                        .add(Json.createObjectBuilder().add("@id", "a").add("edc:baseUrl", "https://a"))
+                        .add(Json.createObjectBuilder().add("@id", "b").add("edc:baseUrl", "https://b")))
+                .build();
+        var nestedContext = Json.createObjectBuilder()
+                .add("edc:dataAddress", Json.createObjectBuilder()
+                        .add(Prop.CONTEXT, Json.createObjectBuilder().add("@vocab", Prop.Edc.CTX))
+                        .add("baseUrl", "https://example.com"))
+                .build();
+
+        for (var json : List.of(asset, graph, nestedContext, JsonValue.EMPTY_JSON_OBJECT)) {
+            // act
+            var actual = OfflineJsonLdCompactor.compact(json);
+            var cached = OfflineJsonLdCompactor.compact(json);
+
+            // assert
+            var expected = JsonLd.compact(JsonDocument.of(json), JsonDocument.of(Json.createObjectBuilder()
+                    .add(Prop.CONTEXT, Json.createObjectBuilder())
+                    .build())).get();
+            assertThat(actual).isEqualTo(expected);
+            assertThat(cached).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void testRemoteContextsAreNotFetched() {
+        // arrange
+        var json = Json.createObjectBuilder()
+                .add(Prop.CONTEXT, "https://example.com/context.jsonld")
+                .add("title", "Example Asset")
+                .build();
+
+        // act
+        assertThatThrownBy(() -> OfflineJsonLdCompactor.compact(json)).isInstanceOf(JsonLdError.class);
+        var actual = JsonLdUtils.tryCompact(json);
+
+        // assert
+        assertThat(actual).isSameAs(json);
+    }
+}